@@ -8,7 +8,7 @@
  * SPDX-License-Identifier: EPL-2.0
  */
 import {
-  AdapterData, App, arrays, BooleanColumn, Cell, ChildModelOf, Column, ColumnModel, ColumnUserFilter, defaultValues, Event, Filter, ModelAdapter, NumberColumn, ObjectOrModel, objects, RemoteEvent, scout, Table,
+  AdapterData, App, arrays, BooleanColumn, Cell, ChildModelOf, Column, ColumnModel, ColumnUserFilter, defaultValues, Event, Filter, ModelAdapter, NumberColumn, ObjectOrModel, objects, Range, RemoteEvent, scout, Table,
   TableAggregationFunctionChangedEvent, TableAppLinkActionEvent, TableCancelCellEditEvent, TableColumnBackgroundEffectChangedEvent, TableColumnMovedEvent, TableColumnOrganizeActionEvent, TableColumnResizedEvent, TableCompleteCellEditEvent,
   TableDropEvent, TableFilterAddedEvent, TableFilterRemovedEvent, TableGroupEvent, TableModel, TablePrepareCellEditEvent, TableReloadEvent, TableRow, TableRowActionEvent, TableRowClickEvent, TableRowModel, TableRowsCheckedEvent,
   TableRowsExpandedEvent, TableRowsSelectedEvent, TableSortEvent, TableUserFilter, ValueField
@@ -20,9 +20,12 @@ export class TableAdapter extends ModelAdapter {
 
   /** @internal */
   _rebuildingTable: boolean;
+  /** Ids of lazy rows whose cells have been requested but not received yet. */
+  protected _requestedRowIds: Set<string>;
 
   constructor() {
     super();
+    this._requestedRowIds = new Set();
     this._addRemoteProperties(['contextColumn']);
   }
 
@@ -64,6 +67,57 @@ export class TableAdapter extends ModelAdapter {
     this._send('rowClick', data);
   }
 
+  /**
+   * Requests the cells of the given rows from the server if they are placeholders (see {@link TableRow.lazy}).
+   * The server answers with a 'rowsUpdated' event.
+   * @internal
+   */
+  _requestLazyRows(rows: TableRow[]) {
+    let rowIds = rows
+      .filter(row => row.lazy && !this._requestedRowIds.has(row.id))
+      .map(row => row.id);
+    if (rowIds.length === 0) {
+      return;
+    }
+    rowIds.forEach(rowId => this._requestedRowIds.add(rowId));
+    // Send the ids of all pending rows and only the latest event. The server ignores rows it has already sent.
+    this._send('rowsRequested', {
+      rowIds: Array.from(this._requestedRowIds)
+    }, {
+      delay: 100,
+      coalesce: function(previous) {
+        return this.target === previous.target && this.type === previous.type;
+      }
+    });
+    this.session.onRequestsDone(this._onLazyRowsRequestDone.bind(this), rowIds);
+  }
+
+  /**
+   * The server ignores rows which are not placeholders anymore (e.g. because they were deleted). Therefore, the requested
+   * ids are forgotten as soon as the response to the request has been processed, whether the cells were sent or not.
+   */
+  protected _onLazyRowsRequestDone(rowIds: string[]) {
+    let requestQueued = this.session.asyncEvents.some(event => event.target === this.id && event.type === 'rowsRequested');
+    if (requestQueued) {
+      // The request has not been sent yet (e.g. because another request was pending) -> wait for its response
+      this.session.onRequestsDone(this._onLazyRowsRequestDone.bind(this), rowIds);
+      return;
+    }
+    rowIds.forEach(rowId => this._requestedRowIds.delete(rowId));
+  }
+
+  /**
+   * Requests the cells of all placeholder rows. Necessary if the table needs all cells, e.g. to filter or group the rows.
+   */
+  protected _requestAllLazyRows() {
+    this._requestLazyRows(this.widget.rows);
+  }
+
+  /** @internal */
+  _hasLazyRows(): boolean {
+    return this.widget.rows.some(row => row.lazy);
+  }
+
   protected _onWidgetRowsSelected(event: TableRowsSelectedEvent) {
     let rowIds = this.widget.rowsToIds(this.widget.selectedRows);
     this._sendRowsSelected(rowIds, event.debounce);
@@ -83,6 +137,8 @@ export class TableAdapter extends ModelAdapter {
     if (!(filter instanceof TableUserFilter) || (filter instanceof ColumnUserFilter && filter.column.guiOnly)) {
       return;
     }
+    // the filter is applied again to the placeholder rows when their cells are received
+    this._requestAllLazyRows();
     this._send('filterAdded', filter.createFilterAddedEventData());
   }
 
@@ -288,6 +344,7 @@ export class TableAdapter extends ModelAdapter {
     if (event.column.guiOnly) {
       return;
     }
+    this._requestAllLazyRows();
     this._send('group', {
       columnId: event.column.id,
       groupAscending: event.groupAscending,
@@ -407,17 +464,20 @@ export class TableAdapter extends ModelAdapter {
   }
 
   protected _onRowsDeleted(rowIds: string[]) {
+    rowIds.forEach(rowId => this._requestedRowIds.delete(rowId));
     let rows = this.widget.rowsByIds(rowIds);
     this.addFilterForWidgetEventType('rowsSelected');
     this.widget.deleteRows(rows);
   }
 
   protected _onAllRowsDeleted() {
+    this._requestedRowIds.clear();
     this.addFilterForWidgetEventType('rowsSelected');
     this.widget.deleteAllRows();
   }
 
   protected _onRowsUpdated(rows: TableRow | TableRow[]) {
+    arrays.ensure(rows).forEach(row => this._requestedRowIds.delete(row.id));
     this.widget.updateRows(rows);
   }
 
@@ -685,13 +745,14 @@ export class TableAdapter extends ModelAdapter {
     }, true);
 
     // uiSortPossible
-    objects.replacePrototypeFunction(Table, '_isSortingPossible', function(this: Table & { uiSortPossible: boolean; _isSortingPossibleOrig }, sortColumns: Column<any>[]) {
+    objects.replacePrototypeFunction(Table, '_isSortingPossible', function(this: Table & { modelAdapter: TableAdapter; uiSortPossible: boolean; _isSortingPossibleOrig }, sortColumns: Column<any>[]) {
       if (this.modelAdapter) {
         // In a JS only app the flag 'uiSortPossible' is never set and thus defaults to true. Additionally, we check if each column can install
         // its comparator used to sort. If installation failed for some reason, sorting is not possible. In a remote app the server sets the
         // 'uiSortPossible' flag, which decides if the column must be sorted by the server or can be sorted by the client.
+        // Placeholder rows have no cells, so the server has to sort as long as there are any.
         let uiSortPossible = scout.nvl(this.uiSortPossible, true);
-        return uiSortPossible && this._isSortingPossibleOrig(sortColumns);
+        return uiSortPossible && !this.modelAdapter._hasLazyRows() && this._isSortingPossibleOrig(sortColumns);
       }
       return this._isSortingPossibleOrig(sortColumns);
     }, true);
@@ -704,6 +765,15 @@ export class TableAdapter extends ModelAdapter {
       this.sortOrig(column, direction, multiSort, remove);
     }, true);
 
+    // _renderRowsInRange
+    objects.replacePrototypeFunction(Table, '_renderRowsInRange', function(this: Table & { modelAdapter: TableAdapter; _renderRowsInRangeOrig }, range: Range) {
+      this._renderRowsInRangeOrig(range);
+      if (this.modelAdapter) {
+        // load the cells of placeholder rows as soon as they are rendered
+        this.modelAdapter._requestLazyRows(this.visibleRows.slice(range.from, range.to));
+      }
+    }, true);
+
     // no js default tileTableHeader in classic mode
     objects.replacePrototypeFunction(Table, '_createTileTableHeader', function(this: Table & { _createTileTableHeaderOrig }) {
       if (this.modelAdapter) {
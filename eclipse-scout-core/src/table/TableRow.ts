@@ -27,6 +27,10 @@ export class TableRow implements TableRowModel, ObjectWithType {
   id: string;
   initialized: boolean;
   iconId: string;
+  /**
+   * True if the row is only a placeholder whose cells are loaded on demand (Scout Classic).
+   */
+  lazy: boolean;
   parentRow: TableRow;
   parent: Table;
   childRows: TableRow[];
@@ -54,6 +58,7 @@ export class TableRow implements TableRowModel, ObjectWithType {
     this.hasError = false;
     this.id = null;
     this.initialized = false;
+    this.lazy = false;
     this.parentRow = null;
     this.parent = null;
     this.childRows = [];
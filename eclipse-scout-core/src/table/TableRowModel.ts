@@ -22,6 +22,10 @@ export interface TableRowModel extends ObjectModel<TableRow> {
   parentRow?: string | ObjectOrModel<TableRow>;
   expanded?: boolean;
   lookupRow?: LookupRow<any>;
+  /**
+   * True if the row is only a placeholder whose cells are loaded on demand (Scout Classic).
+   */
+  lazy?: boolean;
 
   [property: string]: any; // allow custom properties
 }
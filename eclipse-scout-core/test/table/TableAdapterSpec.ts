@@ -177,6 +177,72 @@ describe('TableAdapter', () => {
 
   });
 
+  describe('lazy rows', () => {
+
+    function createLazyModel() {
+      let model = helper.createModelFixture(2, 5);
+      model.rows.slice(2).forEach(row => {
+        delete row.cells;
+        row.lazy = true;
+      });
+      return model;
+    }
+
+    it('sends rowsRequested event containing the ids of the placeholder rows', () => {
+      let model = createLazyModel();
+      let adapter = helper.createTableAdapter(model);
+      let table = adapter.createWidget(model, session.desktop) as Table;
+      expect(table.rows[1].lazy).toBe(false);
+      expect(table.rows[2].lazy).toBe(true);
+
+      adapter._requestLazyRows(table.rows);
+      // rows already requested are not requested again
+      adapter._requestLazyRows(table.rows);
+      sendQueuedAjaxCalls(null, 100);
+      expect(jasmine.Ajax.requests.count()).toBe(1);
+
+      let event = new RemoteEvent(table.id, 'rowsRequested', {
+        rowIds: helper.getRowIds(table.rows.slice(2))
+      });
+      expect(mostRecentJsonRequest()).toContainEvents(event);
+    });
+
+    it('requests rows again if the server did not send them', () => {
+      let model = createLazyModel();
+      let adapter = helper.createTableAdapter(model);
+      let table = adapter.createWidget(model, session.desktop) as Table;
+
+      adapter._requestLazyRows(table.rows);
+      sendQueuedAjaxCalls(null, 100);
+      expect(jasmine.Ajax.requests.count()).toBe(1);
+
+      // the response did not contain the rows -> they are requested again
+      adapter._requestLazyRows(table.rows);
+      sendQueuedAjaxCalls(null, 100);
+      expect(jasmine.Ajax.requests.count()).toBe(2);
+      let event = new RemoteEvent(table.id, 'rowsRequested', {
+        rowIds: helper.getRowIds(table.rows.slice(2))
+      });
+      expect(mostRecentJsonRequest()).toContainEvents(event);
+    });
+
+    it('replaces the placeholder rows when the cells are received', () => {
+      let model = createLazyModel();
+      let adapter = helper.createTableAdapter(model);
+      let table = adapter.createWidget(model, session.desktop) as Table;
+      adapter._requestLazyRows(table.rows);
+      expect(adapter._hasLazyRows()).toBe(true);
+
+      let rows = table.rows.slice(2).map(row => helper.createModelRow(row.id, ['a', 'b']));
+      adapter.onModelAction(new RemoteEvent(model.id, 'rowsUpdated', {
+        rows: rows
+      }));
+      expect(adapter._hasLazyRows()).toBe(false);
+      expect(table.cellValue(table.columns[0], table.rows[2])).toBe('a');
+    });
+
+  });
+
   describe('onModelAction', () => {
 
     function createRowsInsertedEvent(model, rows) {
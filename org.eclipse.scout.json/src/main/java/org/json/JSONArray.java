@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -34,6 +37,7 @@ import org.json.JSONStringer.Scope;
  * -----------------------------
  * - Applied Scout code formatting rules
  * - equals() method changed to be symmetric
+ * - Added write(Writer) to encode without building the string in memory
  *
  * Copyright (c) 2015 BSI Business Systems Integration AG.
  */
@@ -606,6 +610,22 @@ public class JSONArray {
     return stringer.toString();
   }
 
+  /**
+   * Encodes this array as a compact JSON string (same as {@link #toString()}) directly into the given writer. Unlike
+   * {@link #toString()}, the encoded string is not built in memory and encoding errors are not swallowed.
+   *
+   * @throws JSONException
+   *           if this array contains values which cannot be encoded (e.g. {@link Double#isNaN() NaNs})
+   */
+  public void write(Writer writer) throws IOException {
+    try {
+      writeTo(new JSONStringer(writer));
+    }
+    catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
   void writeTo(JSONStringer stringer) {
     stringer.array();
     for (Object value : m_values) {
@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -40,6 +43,7 @@ import org.json.JSONStringer.Scope;
  * - Changed getString()/optString() to return null for JSON values "null" instead of the string "null".
  * - Replaced task markers from the original source code with 'TO.DO'.
  * - Suppress sonar warnings where necessary
+ * - Added write(Writer) to encode without building the string in memory
  *
  * Copyright (c) 2015 BSI Business Systems Integration AG.
  */
@@ -709,6 +713,22 @@ public class JSONObject {
     return stringer.toString();
   }
 
+  /**
+   * Encodes this object as a compact JSON string (same as {@link #toString()}) directly into the given writer. Unlike
+   * {@link #toString()}, the encoded string is not built in memory and encoding errors are not swallowed.
+   *
+   * @throws JSONException
+   *           if this object contains values which cannot be encoded (e.g. {@link Double#isNaN() NaNs})
+   */
+  public void write(Writer writer) throws IOException {
+    try {
+      writeTo(new JSONStringer(writer));
+    }
+    catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
   void writeTo(JSONStringer stringer) {
     stringer.object();
     for (Entry<String, Object> entry : m_nameValuePairs.entrySet()) {
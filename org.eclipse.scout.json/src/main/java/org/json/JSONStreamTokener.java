@@ -0,0 +1,510 @@
+/*
+ * Copyright (c) 2005-2010 The Android Open Source Project
+ * Copyright (c) 2015-2023 BSI Business Systems Integration AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contributors:
+ *     The Android Open Source Project - initial implementation
+ *     BSI Business Systems Integration AG - changes and improvements
+ */
+package org.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses JSON directly from a {@link Reader} into the corresponding object, without reading the whole input into a
+ * string first. Accepts the same (lenient) syntax and yields the same values as {@link JSONTokener}.
+ * <p>
+ * The input may be limited in length (number of characters) and nesting depth. Exceeding a limit fails with a
+ * {@link JSONException}. Example usage:
+ *
+ * <pre>
+ * try (Reader in = request.getReader()) {
+ *   JSONObject object = new JSONStreamTokener(in, 1024 * 1024).nextObject();
+ * }
+ * </pre>
+ * <p>
+ * Each tokener may be used to parse a single JSON value. The reader is not closed. Instances of this class are not
+ * thread safe.
+ *
+ * @since 24.1
+ */
+public class JSONStreamTokener {
+
+  public static final int DEFAULT_MAX_DEPTH = 512;
+  public static final long UNLIMITED_LENGTH = -1;
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final Reader m_in;
+  private final long m_maxLength;
+  private final int m_maxDepth;
+
+  private final char[] m_buf = new char[BUFFER_SIZE];
+  /** Index of the next character in {@link #m_buf}. */
+  private int m_bufPos;
+  /** Number of valid characters in {@link #m_buf}. */
+  private int m_bufLen;
+  /** Number of characters read before the first character in {@link #m_buf}. */
+  private long m_offset;
+  private boolean m_eof;
+  private int m_depth;
+
+  /** Reused to collect strings and literals. */
+  private final StringBuilder m_builder = new StringBuilder();
+
+  /**
+   * Creates a tokener without length limit and with a nesting depth limit of {@link #DEFAULT_MAX_DEPTH}.
+   */
+  public JSONStreamTokener(Reader in) {
+    this(in, UNLIMITED_LENGTH, DEFAULT_MAX_DEPTH);
+  }
+
+  /**
+   * @param maxLength
+   *          maximum number of characters to read or {@link #UNLIMITED_LENGTH}
+   */
+  public JSONStreamTokener(Reader in, long maxLength) {
+    this(in, maxLength, DEFAULT_MAX_DEPTH);
+  }
+
+  /**
+   * @param maxLength
+   *          maximum number of characters to read or {@link #UNLIMITED_LENGTH}
+   * @param maxDepth
+   *          maximum nesting depth of objects and arrays
+   */
+  public JSONStreamTokener(Reader in, long maxLength, int maxDepth) {
+    if (in == null) {
+      throw new NullPointerException("in == null");
+    }
+    if (maxDepth <= 0) {
+      throw new IllegalArgumentException("maxDepth must be > 0");
+    }
+    m_in = in;
+    m_maxLength = maxLength;
+    m_maxDepth = maxDepth;
+  }
+
+  /**
+   * Creates a tokener reading UTF-8 encoded JSON from the given stream.
+   *
+   * @param maxLength
+   *          maximum number of characters to read or {@link #UNLIMITED_LENGTH}
+   */
+  public JSONStreamTokener(InputStream in, long maxLength) {
+    this(new InputStreamReader(in, StandardCharsets.UTF_8), maxLength, DEFAULT_MAX_DEPTH);
+  }
+
+  /**
+   * Returns the next value from the input.
+   *
+   * @return a {@link JSONObject}, {@link JSONArray}, String, Boolean, Integer, Long, Double or {@link JSONObject#NULL}.
+   * @throws JSONException
+   *           if the input is malformed or exceeds a limit.
+   */
+  public Object nextValue() throws IOException {
+    if (m_offset == 0 && m_bufPos == 0 && peek() == '\ufeff') {
+      // consume an optional byte order mark (BOM)
+      m_bufPos++;
+    }
+    return readValue();
+  }
+
+  /**
+   * Returns the next value from the input, which must be a {@link JSONObject}.
+   *
+   * @throws JSONException
+   *           if the input is malformed, exceeds a limit or doesn't yield a {@link JSONObject}.
+   */
+  public JSONObject nextObject() throws IOException {
+    Object object = nextValue();
+    if (object instanceof JSONObject) {
+      return (JSONObject) object;
+    }
+    throw JSON.typeMismatch(object, "JSONObject");
+  }
+
+  private Object readValue() throws IOException {
+    int c = nextCleanInternal();
+    switch (c) {
+      case -1:
+        throw syntaxError("End of input");
+
+      case '{':
+        return readObject();
+
+      case '[':
+        return readArray();
+
+      case '\'':
+      case '"':
+        return readString((char) c);
+
+      default:
+        back();
+        return readLiteral();
+    }
+  }
+
+  /**
+   * Reads the next character.
+   *
+   * @return the character or -1 if the input is exhausted
+   */
+  private int read() throws IOException {
+    if (m_bufPos == m_bufLen && !fill()) {
+      return -1;
+    }
+    return m_buf[m_bufPos++];
+  }
+
+  /**
+   * @return the next character without consuming it or -1 if the input is exhausted
+   */
+  private int peek() throws IOException {
+    if (m_bufPos == m_bufLen && !fill()) {
+      return -1;
+    }
+    return m_buf[m_bufPos];
+  }
+
+  /**
+   * Unreads the most recent character. Must only be called once after a successful {@link #read()}.
+   */
+  private void back() {
+    m_bufPos--;
+  }
+
+  /**
+   * Reads the next chunk of input into the buffer. The most recent character is kept at the beginning of the buffer so
+   * that {@link #back()} remains possible.
+   */
+  private boolean fill() throws IOException {
+    if (m_eof) {
+      return false;
+    }
+    int keep = m_bufLen > 0 ? 1 : 0;
+    if (keep > 0) {
+      m_buf[0] = m_buf[m_bufLen - 1];
+    }
+    int n;
+    do {
+      n = m_in.read(m_buf, keep, m_buf.length - keep);
+    }
+    while (n == 0);
+    m_offset += m_bufLen - keep;
+    m_bufPos = keep;
+    if (n < 0) {
+      m_eof = true;
+      m_bufLen = keep;
+      return false;
+    }
+    m_bufLen = keep + n;
+    if (m_maxLength >= 0 && m_offset + m_bufLen > m_maxLength) {
+      throw new JSONException("Input exceeds the maximum length of " + m_maxLength + " characters");
+    }
+    return true;
+  }
+
+  @SuppressWarnings("squid:S128")
+  private int nextCleanInternal() throws IOException {
+    int c;
+    while ((c = read()) != -1) {
+      switch (c) {
+        case '\t':
+        case ' ':
+        case '\n':
+        case '\r':
+          continue;
+
+        case '/':
+          int peek = peek();
+          switch (peek) {
+            case '*':
+              // skip a /* c-style comment */
+              m_bufPos++;
+              skipComment();
+              continue;
+
+            case '/':
+              // skip a // end-of-line comment
+              m_bufPos++;
+              skipToEndOfLine();
+              continue;
+
+            default:
+              return c;
+          }
+
+        case '#':
+          // skip a # hash end-of-line comment (see JSONTokener)
+          skipToEndOfLine();
+          continue;
+
+        default:
+          return c;
+      }
+    }
+    return -1;
+  }
+
+  private void skipComment() throws IOException {
+    int c = read();
+    while (c != -1) {
+      int next = read();
+      if (c == '*' && next == '/') {
+        return;
+      }
+      c = next;
+    }
+    throw syntaxError("Unterminated comment");
+  }
+
+  private void skipToEndOfLine() throws IOException {
+    int c;
+    while ((c = read()) != -1) {
+      if (c == '\r' || c == '\n') {
+        break;
+      }
+    }
+  }
+
+  /**
+   * Returns the string up to but not including {@code quote}, unescaping any character escape sequences encountered
+   * along the way. The opening quote has already been read, the closing quote is consumed.
+   */
+  private String readString(char quote) throws IOException {
+    StringBuilder builder = m_builder;
+    builder.setLength(0);
+    while (true) {
+      if (m_bufPos == m_bufLen && !fill()) {
+        throw syntaxError("Unterminated string");
+      }
+      // append runs of unescaped characters directly from the buffer
+      int start = m_bufPos;
+      while (m_bufPos < m_bufLen) {
+        char c = m_buf[m_bufPos++];
+        if (c == quote) {
+          builder.append(m_buf, start, m_bufPos - 1 - start);
+          return builder.toString();
+        }
+        if (c == '\\') {
+          builder.append(m_buf, start, m_bufPos - 1 - start);
+          builder.append(readEscapeCharacter());
+          start = -1;
+          break;
+        }
+      }
+      if (start >= 0) {
+        builder.append(m_buf, start, m_bufPos - start);
+      }
+    }
+  }
+
+  /**
+   * Unescapes the character identified by the character or characters that immediately follow a backslash (see
+   * {@link JSONTokener}).
+   */
+  private char readEscapeCharacter() throws IOException {
+    int escaped = read();
+    switch (escaped) {
+      case -1:
+        throw syntaxError("Unterminated escape sequence");
+
+      case 'u':
+        char[] hex = new char[4];
+        for (int i = 0; i < hex.length; i++) {
+          int c = read();
+          if (c == -1) {
+            throw syntaxError("Unterminated escape sequence");
+          }
+          hex[i] = (char) c;
+        }
+        try {
+          return (char) Integer.parseInt(new String(hex), 16);
+        }
+        catch (NumberFormatException nfe) {
+          throw syntaxError("Invalid escape sequence: " + new String(hex));
+        }
+
+      case 't':
+        return '\t';
+
+      case 'b':
+        return '\b';
+
+      case 'n':
+        return '\n';
+
+      case 'r':
+        return '\r';
+
+      case 'f':
+        return '\f';
+
+      default:
+        return (char) escaped;
+    }
+  }
+
+  /**
+   * Reads a null, boolean, numeric or unquoted string literal value (see {@link JSONTokener}).
+   */
+  private Object readLiteral() throws IOException {
+    StringBuilder builder = m_builder;
+    builder.setLength(0);
+    int c;
+    while ((c = peek()) != -1) {
+      if (c == '\r' || c == '\n' || "{}[]/\\:,=;# \t\f".indexOf(c) != -1) {
+        break;
+      }
+      builder.append((char) c);
+      m_bufPos++;
+    }
+    if (builder.length() == 0) {
+      throw syntaxError("Expected literal value");
+    }
+    return JSONTokener.literalValue(builder.toString());
+  }
+
+  /**
+   * Reads a sequence of key/value pairs and the trailing closing brace '}' of an object. The opening brace '{' has
+   * already been read.
+   */
+  private JSONObject readObject() throws IOException {
+    enter();
+    JSONObject result = new JSONObject();
+
+    /* Peek to see if this is the empty object. */
+    int first = nextCleanInternal();
+    if (first == '}') {
+      m_depth--;
+      return result;
+    }
+    else if (first != -1) {
+      back();
+    }
+
+    while (true) {
+      Object name = readValue();
+      if (!(name instanceof String)) {
+        if (name == null) {
+          throw syntaxError("Names cannot be null");
+        }
+        else {
+          throw syntaxError("Names must be strings, but " + name
+              + " is of type " + name.getClass().getName());
+        }
+      }
+
+      /*
+       * Expect the name/value separator to be either a colon ':', an
+       * equals sign '=', or an arrow "=>" (see JSONTokener).
+       */
+      int separator = nextCleanInternal();
+      if (separator != ':' && separator != '=') {
+        throw syntaxError("Expected ':' after " + name);
+      }
+      if (peek() == '>') {
+        m_bufPos++;
+      }
+
+      result.put((String) name, readValue());
+
+      switch (nextCleanInternal()) {
+        case '}':
+          m_depth--;
+          return result;
+        case ';':
+        case ',': // NOSONAR
+          continue;
+        default:
+          throw syntaxError("Unterminated object");
+      }
+    }
+  }
+
+  /**
+   * Reads a sequence of values and the trailing closing brace ']' of an array. The opening brace '[' has already been
+   * read.
+   */
+  private JSONArray readArray() throws IOException {
+    enter();
+    JSONArray result = new JSONArray();
+
+    /* to cover input that ends with ",]". */
+    boolean hasTrailingSeparator = false;
+
+    while (true) {
+      switch (nextCleanInternal()) {
+        case -1:
+          throw syntaxError("Unterminated array");
+        case ']':
+          if (hasTrailingSeparator) {
+            result.put(null);
+          }
+          m_depth--;
+          return result;
+        case ',':
+        case ';': // NOSONAR
+          /* A separator without a value first means "null". */
+          result.put(null);
+          hasTrailingSeparator = true;
+          continue;
+        default:
+          back();
+      }
+
+      result.put(readValue());
+
+      switch (nextCleanInternal()) {
+        case ']':
+          m_depth--;
+          return result;
+        case ',':
+        case ';': // NOSONAR
+          hasTrailingSeparator = true;
+          continue;
+        default:
+          throw syntaxError("Unterminated array");
+      }
+    }
+  }
+
+  private void enter() {
+    if (++m_depth > m_maxDepth) {
+      throw syntaxError("Nesting depth exceeds the maximum of " + m_maxDepth);
+    }
+  }
+
+  /**
+   * Returns an exception containing the given message plus the current position.
+   */
+  public JSONException syntaxError(String message) {
+    return new JSONException(message + this);
+  }
+
+  /**
+   * Returns the current position (unlike {@link JSONTokener}, the input is not available as a whole).
+   */
+  @Override
+  public String toString() {
+    return " at character " + (m_offset + m_bufPos);
+  }
+}
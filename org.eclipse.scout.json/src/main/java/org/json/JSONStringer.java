@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -30,6 +33,7 @@ import java.util.List;
  * Changes to the original code:
  * -----------------------------
  * - Applied Scout code formatting rules
+ * - Added streaming mode writing directly into a {@link Writer}
  *
  * Copyright (c) 2015 BSI Business Systems Integration AG.
  */
@@ -71,6 +75,16 @@ public class JSONStringer {
   @SuppressWarnings("squid:S00116")
   final StringBuilder out = new StringBuilder();
 
+  /**
+   * Target of the streaming mode or <code>null</code> if the output is collected in {@link #out}.
+   */
+  private final Writer m_writer;
+
+  /**
+   * <code>true</code> if data was written to {@link #m_writer}.
+   */
+  private boolean m_written;
+
   /**
    * Lexical scoping elements within this stringer, necessary to insert the appropriate separator characters (ie. commas
    * and colons) and to detect nesting errors.
@@ -121,12 +135,23 @@ public class JSONStringer {
 
   public JSONStringer() {
     m_indent = null;
+    m_writer = null;
   }
 
   JSONStringer(int indentSpaces) {
     char[] indentChars = new char[indentSpaces];
     Arrays.fill(indentChars, ' ');
     m_indent = new String(indentChars);
+    m_writer = null;
+  }
+
+  /**
+   * Creates a stringer which writes the encoded JSON directly into the given writer instead of collecting it in memory.
+   * I/O errors are rethrown as {@link UncheckedIOException}, {@link #toString()} always returns <code>null</code>.
+   */
+  JSONStringer(Writer writer) {
+    m_indent = null;
+    m_writer = writer;
   }
 
   /**
@@ -169,12 +194,12 @@ public class JSONStringer {
    * Enters a new scope by appending any necessary whitespace and the given bracket.
    */
   JSONStringer open(Scope empty, String openBracket) {
-    if (m_stack.isEmpty() && out.length() > 0) {
+    if (m_stack.isEmpty() && (out.length() > 0 || m_written)) {
       throw new JSONException("Nesting problem: multiple top-level roots");
     }
     beforeValue();
     m_stack.add(empty);
-    out.append(openBracket);
+    append(openBracket);
     return this;
   }
 
@@ -191,7 +216,7 @@ public class JSONStringer {
     if (context == nonempty) {
       newline();
     }
-    out.append(closeBracket);
+    append(closeBracket);
     return this;
   }
 
@@ -240,11 +265,11 @@ public class JSONStringer {
     if (value == null
         || value instanceof Boolean
         || value == JSONObject.NULL) {
-      out.append(value);
+      append(String.valueOf(value));
 
     }
     else if (value instanceof Number) {
-      out.append(JSONObject.numberToString((Number) value));
+      append(JSONObject.numberToString((Number) value));
 
     }
     else {
@@ -264,7 +289,7 @@ public class JSONStringer {
       throw new JSONException("Nesting problem");
     }
     beforeValue();
-    out.append(value);
+    append(String.valueOf(value));
     return this;
   }
 
@@ -280,7 +305,7 @@ public class JSONStringer {
       throw new JSONException("Nesting problem");
     }
     beforeValue();
-    out.append(JSONObject.numberToString(value));
+    append(JSONObject.numberToString(value));
     return this;
   }
 
@@ -294,12 +319,14 @@ public class JSONStringer {
       throw new JSONException("Nesting problem");
     }
     beforeValue();
-    out.append(value);
+    append(String.valueOf(value));
     return this;
   }
 
   private void string(String value) {
-    out.append("\"");
+    append('"');
+    // unescaped characters are appended in runs
+    int runStart = 0;
     for (int i = 0, length = value.length(); i < length; i++) {
       char c = value.charAt(i);
 
@@ -309,45 +336,53 @@ public class JSONStringer {
        * quotation mark, reverse solidus, and the control characters
        * (U+0000 through U+001F)."
        */
+      String escaped;
       switch (c) {
         case '"':
+          escaped = "\\\"";
+          break;
+
         case '\\':
+          escaped = "\\\\";
+          break;
+
         case '/':
-          out.append('\\').append(c);
+          escaped = "\\/";
           break;
 
         case '\t':
-          out.append("\\t");
+          escaped = "\\t";
           break;
 
         case '\b':
-          out.append("\\b");
+          escaped = "\\b";
           break;
 
         case '\n':
-          out.append("\\n");
+          escaped = "\\n";
           break;
 
         case '\r':
-          out.append("\\r");
+          escaped = "\\r";
           break;
 
         case '\f':
-          out.append("\\f");
+          escaped = "\\f";
           break;
 
         default:
-          if (c <= 0x1F) {
-            out.append(String.format("\\u%04x", (int) c));
-          }
-          else {
-            out.append(c);
-          }
+          escaped = c <= 0x1F ? String.format("\\u%04x", (int) c) : null;
           break;
       }
 
+      if (escaped != null) {
+        append(value, runStart, i);
+        append(escaped);
+        runStart = i + 1;
+      }
     }
-    out.append("\"");
+    append(value, runStart, value.length());
+    append('"');
   }
 
   private void newline() {
@@ -355,9 +390,9 @@ public class JSONStringer {
       return;
     }
 
-    out.append("\n");
+    append("\n");
     for (int i = 0; i < m_stack.size(); i++) {
-      out.append(m_indent);
+      append(m_indent);
     }
   }
 
@@ -383,7 +418,7 @@ public class JSONStringer {
   private void beforeKey() {
     Scope context = peek();
     if (context == Scope.NONEMPTY_OBJECT) { // first in object
-      out.append(',');
+      append(',');
     }
     else if (context != Scope.EMPTY_OBJECT) { // not in an object!
       throw new JSONException("Nesting problem");
@@ -407,11 +442,11 @@ public class JSONStringer {
       newline();
     }
     else if (context == Scope.NONEMPTY_ARRAY) { // another in array
-      out.append(',');
+      append(',');
       newline();
     }
     else if (context == Scope.DANGLING_KEY) { // value for key
-      out.append(m_indent == null ? ":" : ": ");
+      append(m_indent == null ? ":" : ": ");
       replaceTop(Scope.NONEMPTY_OBJECT);
     }
     else if (context != Scope.NULL) {
@@ -419,6 +454,41 @@ public class JSONStringer {
     }
   }
 
+  private void append(char c) {
+    if (m_writer == null) {
+      out.append(c);
+      return;
+    }
+    try {
+      m_writer.write(c);
+      m_written = true;
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void append(String s) {
+    append(s, 0, s.length());
+  }
+
+  private void append(String s, int start, int end) {
+    if (start == end) {
+      return;
+    }
+    if (m_writer == null) {
+      out.append(s, start, end);
+      return;
+    }
+    try {
+      m_writer.write(s, start, end - start);
+      m_written = true;
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   /**
    * Returns the encoded JSON string.
    * <p>
@@ -27,6 +27,7 @@ package org.json;
  * -----------------------------
  * - Applied Scout code formatting rules
  * - Added lenient mode to allow parsing of certain invalid JSON strings (missing null value)
+ * - Extracted literalValue() to share it with JSONStreamTokener
  *
  * Copyright (c) 2015 BSI Business Systems Integration AG.
  */
@@ -313,7 +314,15 @@ public class JSONTokener {
       }
       throw syntaxError("Expected literal value");
     }
-    else if ("null".equalsIgnoreCase(literal)) {
+    return literalValue(literal);
+  }
+
+  /**
+   * Converts a non-empty literal to a null, boolean, numeric or unquoted string value. Numeric values will be returned
+   * as an Integer, Long, or Double, in that order of preference.
+   */
+  static Object literalValue(String literal) {
+    if ("null".equalsIgnoreCase(literal)) {
       return JSONObject.NULL;
     }
     else if ("true".equalsIgnoreCase(literal)) {
@@ -20,6 +20,7 @@
  */
 package org.json;
 
+import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -1133,4 +1134,15 @@ public class JSONObjectTest extends TestCase {
     catch (JSONException expected) {
     }
   }
+
+  public void testWrite() throws Exception {
+    JSONObject object = new JSONObject();
+    object.put("foo", "a\"b\\c/d\n\u0001e");
+    object.put("bar", new JSONArray().put(1).put(2.5).put(JSONObject.NULL).put(true));
+    object.put("nested", new JSONObject().put("empty", new JSONObject()));
+    StringWriter writer = new StringWriter();
+    object.write(writer);
+    assertEquals(object.toString(), writer.toString());
+    assertEquals("{\"foo\":\"a\\\"b\\\\c\\/d\\n\\u0001e\",\"bar\":[1,2.5,null,true],\"nested\":{\"empty\":{}}}", writer.toString());
+  }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2005-2010 The Android Open Source Project
+ * Copyright (c) 2015-2023 BSI Business Systems Integration AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contributors:
+ *     The Android Open Source Project - initial implementation
+ *     BSI Business Systems Integration AG - changes and improvements
+ */
+package org.json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+/**
+ * Compares parsing a large request from a {@link Reader} with {@link JSONStreamTokener} against reading it into a string
+ * and parsing it with {@link JSONTokener}.
+ */
+public class JSONStreamTokenerPerfTest extends TestCase {
+
+  private static final int ROW_COUNT = 2000;
+  private static final int WARMUP_RUNS = 5;
+  private static final int RUNS = 10;
+
+  public void testStreamTokenerPerformance() throws IOException {
+    String json = createLargeJson();
+    assertEquals(json, parseWithStreamTokener(json).toString());
+    assertEquals(parseWithStringTokener(json).toString(), parseWithStreamTokener(json).toString());
+
+    for (int i = 0; i < WARMUP_RUNS; i++) {
+      parseWithStringTokener(json);
+      parseWithStreamTokener(json);
+    }
+
+    long stringNanos = 0;
+    long streamNanos = 0;
+    for (int i = 0; i < RUNS; i++) {
+      long start = System.nanoTime();
+      parseWithStringTokener(json);
+      stringNanos += System.nanoTime() - start;
+
+      start = System.nanoTime();
+      parseWithStreamTokener(json);
+      streamNanos += System.nanoTime() - start;
+    }
+    long stringMeanMillis = TimeUnit.NANOSECONDS.toMillis(stringNanos / RUNS);
+    long streamMeanMillis = TimeUnit.NANOSECONDS.toMillis(streamNanos / RUNS);
+    String message = "Parsing " + json.length() + " characters took " + streamMeanMillis + "ms (stream) / " + stringMeanMillis + "ms (string) on average";
+    // only detects a pathological slowdown, timings of single runs vary on build servers
+    assertTrue(message, streamMeanMillis <= 10 * stringMeanMillis + 1000);
+  }
+
+  protected JSONObject parseWithStringTokener(String json) throws IOException {
+    return new JSONObject(readString(new StringReader(json)));
+  }
+
+  protected JSONObject parseWithStreamTokener(String json) throws IOException {
+    return new JSONStreamTokener(new StringReader(json)).nextObject();
+  }
+
+  protected String readString(Reader in) throws IOException {
+    StringWriter buffer = new StringWriter();
+    char[] b = new char[8192];
+    int k;
+    while ((k = in.read(b)) > 0) {
+      buffer.write(b, 0, k);
+    }
+    return buffer.toString();
+  }
+
+  protected String createLargeJson() {
+    JSONArray rows = new JSONArray();
+    for (int i = 0; i < ROW_COUNT; i++) {
+      rows.put(new JSONObject()
+          .put("id", "row-" + i)
+          .put("text", "Row " + i + " with \"quotes\" and \\backslashes\\")
+          .put("value", i * 0.5)
+          .put("checked", i % 2 == 0));
+    }
+    return new JSONObject()
+        .put("events", new JSONArray().put(new JSONObject().put("type", "rowsSelected").put("rows", rows)))
+        .toString();
+  }
+}
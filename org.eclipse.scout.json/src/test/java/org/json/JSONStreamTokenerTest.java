@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2005-2010 The Android Open Source Project
+ * Copyright (c) 2015-2023 BSI Business Systems Integration AG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Contributors:
+ *     The Android Open Source Project - initial implementation
+ *     BSI Business Systems Integration AG - changes and improvements
+ */
+package org.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link JSONStreamTokener}. Results are compared with {@link JSONTokener}.
+ */
+public class JSONStreamTokenerTest extends TestCase {
+
+  private static final String[] INPUTS = {
+      "{\"a\":1,\"b\":[1,2.5,true,null,\"x\\\"y\\u00e4\\/\"],\"c\":{}}",
+      "\ufeff{\"a\":1}",
+      "{a:1, 'b'=>2; c=3}",
+      "[1,,2,]",
+      "/* comment */ {\"a\" // comment\n : 12345678901, # comment\n \"b\":1e5}",
+      "[0x1F, 017, -0, 1.0]",
+      "[]",
+      "\"text\"",
+      "true",
+  };
+
+  public void testSameResultAsJSONTokener() throws IOException {
+    for (String input : INPUTS) {
+      String expected = String.valueOf(new JSONTokener(input).nextValue());
+      assertEquals(input, expected, String.valueOf(new JSONStreamTokener(new StringReader(input)).nextValue()));
+      // force many buffer refills
+      assertEquals(input, expected, String.valueOf(new JSONStreamTokener(new P_ChunkedReader(input, 1)).nextValue()));
+    }
+  }
+
+  public void testLongString() throws IOException {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 10000; i++) {
+      sb.append("abc\\n");
+    }
+    String input = "{\"k\":\"" + sb + "\"}";
+    assertEquals(new JSONObject(input).toString(), new JSONStreamTokener(new P_ChunkedReader(input, 7)).nextObject().toString());
+  }
+
+  public void testInputStream() throws IOException {
+    String input = "{\"text\":\"Gr\u00fcezi \ud83d\ude00\"}";
+    JSONObject object = new JSONStreamTokener(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), JSONStreamTokener.UNLIMITED_LENGTH).nextObject();
+    assertEquals("Gr\u00fcezi \ud83d\ude00", object.getString("text"));
+  }
+
+  public void testMalformed() throws IOException {
+    for (String input : new String[]{"", "  ", "{\"a\":", "[1 2]", "\"unterminated", "{/x}", "/* unterminated", "[\"\\u12\"]"}) {
+      try {
+        new JSONStreamTokener(new StringReader(input)).nextValue();
+        fail(input);
+      }
+      catch (JSONException expected) {
+      }
+    }
+  }
+
+  public void testNextObjectTypeMismatch() throws IOException {
+    try {
+      new JSONStreamTokener(new StringReader("[1]")).nextObject();
+      fail();
+    }
+    catch (JSONException expected) {
+    }
+  }
+
+  public void testMaxDepth() throws IOException {
+    assertEquals("[[[]]]", new JSONStreamTokener(new StringReader("[[[]]]"), JSONStreamTokener.UNLIMITED_LENGTH, 3).nextValue().toString());
+    try {
+      new JSONStreamTokener(new StringReader("[[[[]]]]"), JSONStreamTokener.UNLIMITED_LENGTH, 3).nextValue();
+      fail();
+    }
+    catch (JSONException expected) {
+    }
+  }
+
+  public void testMaxLength() throws IOException {
+    assertEquals(1, new JSONStreamTokener(new StringReader("{\"a\":1}"), 7).nextObject().getInt("a"));
+    try {
+      new JSONStreamTokener(new StringReader("{\"a\":12}"), 7).nextObject();
+      fail();
+    }
+    catch (JSONException expected) {
+    }
+  }
+
+  /**
+   * Returns at most the given number of characters per read.
+   */
+  private static class P_ChunkedReader extends Reader {
+    private final Reader m_delegate;
+    private final int m_chunkSize;
+
+    P_ChunkedReader(String s, int chunkSize) {
+      m_delegate = new StringReader(s);
+      m_chunkSize = chunkSize;
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+      return m_delegate.read(cbuf, off, Math.min(len, m_chunkSize));
+    }
+
+    @Override
+    public void close() {
+      // nop
+    }
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.basic.table;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractIntegerColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link TableRowSortKeyComparator}.
+ */
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class TableRowSortKeyComparatorTest {
+
+  private static final String[] TEXTS = {null, "", "a", "A", "b", "\u00e4", "\u00c4rger", "arg", "a b", "a-b", "a_b", "z", "Zebra", "10", "9"};
+
+  @Test
+  public void testSameOrderAsTableRowComparator() {
+    P_Table table = createTable(2000);
+    for (boolean ascending : new boolean[]{true, false}) {
+      table.getColumnSet().setSortColumn(table.getTextColumn(), ascending);
+      List<IColumn<?>> columns = Arrays.asList(table.getTextColumn(), table.getNumberColumn());
+
+      List<ITableRow> expected = new ArrayList<>(table.getRows());
+      expected.sort(new TableRowComparator(columns));
+
+      TableRowSortKeyComparator comparator = TableRowSortKeyComparator.create(columns);
+      assertNotNull(comparator);
+      List<ITableRow> actual = new ArrayList<>(table.getRows());
+      comparator.sort(actual);
+      assertEquals(expected, actual);
+
+      // parallel sort
+      TableRowSortKeyComparator parallelComparator = new TableRowSortKeyComparator(
+          Arrays.asList(table.getTextColumn().createSortKeyFunction(), table.getNumberColumn().createSortKeyFunction()),
+          new boolean[]{!ascending, false}, 1);
+      actual = new ArrayList<>(table.getRows());
+      parallelComparator.sort(actual);
+      assertEquals(expected, actual);
+    }
+  }
+
+  @Test
+  public void testOverriddenCompareTableRows() {
+    P_Table table = createTable(10);
+    assertNull(table.getCustomColumn().createSortKeyFunction());
+    Collection<IColumn<?>> columns = Arrays.asList(table.getTextColumn(), table.getCustomColumn());
+    assertNull(TableRowSortKeyComparator.create(columns));
+    assertTrue(table.createSortComparator(columns) instanceof TableRowComparator);
+  }
+
+  @Test
+  public void testSortManyRows() {
+    P_Table table = createTable(50_000);
+    table.getColumnSet().setSortColumn(table.getTextColumn(), true);
+    long start = System.nanoTime();
+    table.sort();
+    long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    List<ITableRow> rows = table.getRows();
+    TableRowComparator comparator = new TableRowComparator(Arrays.asList(table.getTextColumn()));
+    for (int i = 1; i < rows.size(); i++) {
+      assertTrue(comparator.compare(rows.get(i - 1), rows.get(i)) <= 0);
+    }
+    // should be ok on a slow machine
+    assertTrue("Sorting " + rows.size() + " rows took " + durationMillis + "ms", durationMillis < 10_000);
+  }
+
+  protected P_Table createTable(int rowCount) {
+    Random random = new Random(42);
+    Object[][] rows = new Object[rowCount][3];
+    for (int i = 0; i < rowCount; i++) {
+      String text = TEXTS[random.nextInt(TEXTS.length)];
+      rows[i][0] = text != null && random.nextBoolean() ? text + random.nextInt(100) : text;
+      rows[i][1] = random.nextInt(10);
+      rows[i][2] = "c" + i;
+    }
+    P_Table table = new P_Table();
+    table.addRowsByMatrix(rows);
+    return table;
+  }
+
+  public static class P_Table extends AbstractTable {
+
+    public TextColumn getTextColumn() {
+      return getColumnSet().getColumnByClass(TextColumn.class);
+    }
+
+    public NumberColumn getNumberColumn() {
+      return getColumnSet().getColumnByClass(NumberColumn.class);
+    }
+
+    public CustomColumn getCustomColumn() {
+      return getColumnSet().getColumnByClass(CustomColumn.class);
+    }
+
+    @Order(10)
+    public class TextColumn extends AbstractStringColumn {
+    }
+
+    @Order(20)
+    public class NumberColumn extends AbstractIntegerColumn {
+    }
+
+    @Order(30)
+    public class CustomColumn extends AbstractStringColumn {
+      @Override
+      public int compareTableRows(ITableRow r1, ITableRow r2) {
+        return -super.compareTableRows(r1, r2);
+      }
+    }
+  }
+}
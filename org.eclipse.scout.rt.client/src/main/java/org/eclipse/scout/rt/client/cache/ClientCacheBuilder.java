@@ -14,7 +14,6 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Order;
-import org.eclipse.scout.rt.platform.cache.BasicCache;
 import org.eclipse.scout.rt.platform.cache.CacheBuilder;
 import org.eclipse.scout.rt.platform.cache.ICache;
 import org.eclipse.scout.rt.platform.cache.ICacheValueResolver;
@@ -27,12 +26,11 @@ import org.eclipse.scout.rt.shared.cache.IRemoteCacheService;
 public class ClientCacheBuilder<K, V> extends CacheBuilder<K, V> {
 
   @Override
-  protected ICache<K, V> createBasicCache(Map<K, V> cacheMap) {
-    ICacheValueResolver<K, V> valueResolver = getValueResolver();
+  protected ICacheValueResolver<K, V> createValueResolver() {
     if (isSharedAndRemoteAvailable() && isRemoteValueResolverEnabled()) {
-      valueResolver = new RemoteCacheValueResolver<>(getCacheId());
+      return new RemoteCacheValueResolver<>(getCacheId());
     }
-    return new BasicCache<>(getCacheId(), getLabelSupplier(), valueResolver, cacheMap);
+    return super.createValueResolver();
   }
 
   @Override
@@ -26,8 +26,8 @@ import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.chain.callable.CallableChain;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
-import org.eclipse.scout.rt.platform.logger.DiagnosticContextValueProcessor;
 import org.eclipse.scout.rt.platform.logger.DiagnosticContextValueProcessor.IDiagnosticContextValueProvider;
+import org.eclipse.scout.rt.platform.logger.DiagnosticContextValueProcessorCache;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.platform.transaction.ITransactionMember;
 import org.eclipse.scout.rt.platform.transaction.TransactionScope;
@@ -59,10 +59,11 @@ public class ClientRunContext extends RunContext {
 
   @Override
   protected <RESULT> void interceptCallableChain(final CallableChain<RESULT> callableChain) {
+    final DiagnosticContextValueProcessorCache diagnosticProcessors = BEANS.get(DiagnosticContextValueProcessorCache.class);
     callableChain
         .add(new ThreadLocalProcessor<>(ISession.CURRENT, m_session))
-        .add(new DiagnosticContextValueProcessor(BEANS.get(UserIdContextValueProvider.class)))
-        .add(new DiagnosticContextValueProcessor(BEANS.get(ScoutSessionIdContextValueProvider.class)))
+        .add(diagnosticProcessors.get(UserIdContextValueProvider.class))
+        .add(diagnosticProcessors.get(ScoutSessionIdContextValueProvider.class))
         .add(new ThreadLocalProcessor<>(UserAgent.CURRENT, m_userAgent))
         .add(new ThreadLocalProcessor<>(IDesktop.CURRENT, m_desktop))
         .add(new ThreadLocalProcessor<>(IOutline.CURRENT, m_outline))
@@ -3742,7 +3742,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
             // add all visible columns (not already added, thus LinkedHashSet)
             // as fallback sorting to guarantee same sorting as in JS.
             sortCols.addAll(getColumnSet().getVisibleColumns());
-            comparator = new TableRowComparator(sortCols);
+            comparator = createSortComparator(sortCols);
           }
           // first make sure decorations and lookups are up-to-date
           processDecorationBuffer();
@@ -3755,6 +3755,19 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     }
   }
 
+  /**
+   * Creates the comparator used by {@link #sort()}. If all columns provide sort keys (see
+   * {@link IColumn#createSortKeyFunction()}), the rows are sorted by keys computed once per row and sort. Otherwise
+   * the rows are compared by {@link IColumn#compareTableRows(ITableRow, ITableRow)}.
+   */
+  protected Comparator<ITableRow> createSortComparator(Collection<IColumn<?>> sortColumns) {
+    TableRowSortKeyComparator comparator = TableRowSortKeyComparator.create(sortColumns);
+    if (comparator != null) {
+      return comparator;
+    }
+    return new TableRowComparator(sortColumns);
+  }
+
   protected List<ITableRow> sortRows(List<? extends ITableRow> rows, Comparator<ITableRow> comparator) {
     List<ITableRow> rootNodes = new ArrayList<>();
     Map<ITableRow/*parent*/, List<ITableRow> /*child rows*/> parentToChildren = new HashMap<>();
@@ -3771,18 +3784,27 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
 
     CollectingVisitor<ITableRow> collector = new CollectingVisitor<>();
     if (comparator != null) {
-      rootNodes.sort(comparator);
+      sortRowList(rootNodes, comparator);
     }
     rootNodes.forEach(root -> TreeTraversals.create(collector, node -> {
       List<ITableRow> childRows = parentToChildren.get(node);
       if (comparator != null && CollectionUtility.hasElements(childRows)) {
-        childRows.sort(comparator);
+        sortRowList(childRows, comparator);
       }
       return childRows;
     }).traverse(root));
     return collector.getCollection();
   }
 
+  private static void sortRowList(List<ITableRow> rows, Comparator<ITableRow> comparator) {
+    if (comparator instanceof TableRowSortKeyComparator) {
+      ((TableRowSortKeyComparator) comparator).sort(rows);
+    }
+    else {
+      rows.sort(comparator);
+    }
+  }
+
   @Override
   public void sort(List<? extends ITableRow> rowsInNewOrder) {
     List<ITableRow> resolvedRows = resolveRows(rowsInNewOrder);
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.basic.table;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import org.eclipse.scout.rt.client.ClientConfigProperties.TableParallelSortThresholdProperty;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+
+/**
+ * Compares table rows by the sort keys of one or more columns (see {@link IColumn#createSortKeyFunction()}). The order
+ * is the same as the one of {@link TableRowComparator}.
+ * <p>
+ * {@link #sort(List)} computes the keys of each row once, e.g. a {@link java.text.CollationKey} for a text, instead of
+ * resolving and comparing the values for each comparison. Because the keys are computed beforehand in the calling
+ * thread, the rows can be sorted in parallel if there are at least {@link TableParallelSortThresholdProperty} rows.
+ */
+public class TableRowSortKeyComparator implements Comparator<ITableRow> {
+  private final List<Function<ITableRow, Comparable<?>>> m_keyFunctions;
+  private final boolean[] m_descending;
+  private final int m_parallelThreshold;
+
+  protected TableRowSortKeyComparator(List<Function<ITableRow, Comparable<?>>> keyFunctions, boolean[] descending, int parallelThreshold) {
+    m_keyFunctions = keyFunctions;
+    m_descending = descending;
+    m_parallelThreshold = parallelThreshold;
+  }
+
+  /**
+   * @return a comparator for the given columns or <code>null</code> if one of the columns does not support sort keys
+   */
+  public static TableRowSortKeyComparator create(Collection<IColumn<?>> columns) {
+    List<Function<ITableRow, Comparable<?>>> keyFunctions = new ArrayList<>(columns.size());
+    boolean[] descending = new boolean[columns.size()];
+    for (IColumn<?> col : columns) {
+      Function<ITableRow, Comparable<?>> keyFunction = col.createSortKeyFunction();
+      if (keyFunction == null) {
+        return null;
+      }
+      // only consider sortAscending flag when sort is active (see TableRowComparator)
+      descending[keyFunctions.size()] = col.isSortActive() && !col.getHeaderCell().isSortAscending();
+      keyFunctions.add(keyFunction);
+    }
+    return new TableRowSortKeyComparator(keyFunctions, descending, CONFIG.getPropertyValue(TableParallelSortThresholdProperty.class));
+  }
+
+  /**
+   * Sorts the given rows in place. The sort is stable.
+   */
+  public void sort(List<ITableRow> rows) {
+    if (rows.size() < 2) {
+      return;
+    }
+    SortEntry[] entries = new SortEntry[rows.size()];
+    for (int i = 0; i < entries.length; i++) {
+      ITableRow row = rows.get(i);
+      entries[i] = new SortEntry(row, createKeys(row));
+    }
+    Comparator<SortEntry> comparator = (e1, e2) -> compareKeys(e1.m_keys, e2.m_keys);
+    if (entries.length >= m_parallelThreshold) {
+      Arrays.parallelSort(entries, comparator);
+    }
+    else {
+      Arrays.sort(entries, comparator);
+    }
+    for (int i = 0; i < entries.length; i++) {
+      rows.set(i, entries[i].m_row);
+    }
+  }
+
+  @Override
+  public int compare(ITableRow row1, ITableRow row2) {
+    return compareKeys(createKeys(row1), createKeys(row2));
+  }
+
+  protected Comparable<?>[] createKeys(ITableRow row) {
+    Comparable<?>[] keys = new Comparable<?>[m_keyFunctions.size()];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = m_keyFunctions.get(i).apply(row);
+    }
+    return keys;
+  }
+
+  @SuppressWarnings("unchecked")
+  protected int compareKeys(Comparable<?>[] keys1, Comparable<?>[] keys2) {
+    for (int i = 0; i < keys1.length; i++) {
+      Comparable<Object> key1 = (Comparable<Object>) keys1[i];
+      Comparable<?> key2 = keys2[i];
+      int c;
+      if (key1 == key2) {
+        c = 0;
+      }
+      else if (key1 == null) {
+        c = -1;
+      }
+      else if (key2 == null) {
+        c = 1;
+      }
+      else {
+        c = key1.compareTo(key2);
+      }
+      if (m_descending[i]) {
+        c = -c;
+      }
+      if (c != 0) {
+        return c;
+      }
+    }
+    return 0;
+  }
+
+  protected static final class SortEntry {
+    private final ITableRow m_row;
+    private final Comparable<?>[] m_keys;
+
+    SortEntry(ITableRow row, Comparable<?>[] keys) {
+      m_row = row;
+      m_keys = keys;
+    }
+  }
+}
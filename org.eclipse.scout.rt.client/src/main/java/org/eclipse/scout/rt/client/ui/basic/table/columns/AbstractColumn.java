@@ -10,11 +10,14 @@
 package org.eclipse.scout.rt.client.ui.basic.table.columns;
 
 import java.security.Permission;
+import java.text.Collator;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 import org.eclipse.scout.rt.client.extension.ui.basic.table.columns.ColumnChains.ColumnCompleteEditChain;
@@ -48,6 +51,7 @@ import org.eclipse.scout.rt.client.ui.form.fields.ParsingFailedStatus;
 import org.eclipse.scout.rt.client.ui.form.fields.ValidationFailedStatus;
 import org.eclipse.scout.rt.client.ui.form.fields.stringfield.IStringField;
 import org.eclipse.scout.rt.client.ui.form.fields.tablefield.AbstractTableField;
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.IOrdered;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.Replace;
@@ -56,6 +60,8 @@ import org.eclipse.scout.rt.platform.annotations.ConfigProperty;
 import org.eclipse.scout.rt.platform.classid.ClassId;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.holders.IHolder;
+import org.eclipse.scout.rt.platform.nls.CollationService;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
 import org.eclipse.scout.rt.platform.reflect.AbstractPropertyObserver;
 import org.eclipse.scout.rt.platform.reflect.ConfigurationUtility;
 import org.eclipse.scout.rt.platform.status.IMultiStatus;
@@ -1578,6 +1584,53 @@ public abstract class AbstractColumn<VALUE> extends AbstractPropertyObserver imp
     return c;
   }
 
+  /**
+   * Sort keys are only supported if {@link #compareTableRows(ITableRow, ITableRow)} is not overridden and the data type
+   * of the column is {@link Comparable}. The key of a row is its value.
+   */
+  @Override
+  public Function<ITableRow, Comparable<?>> createSortKeyFunction() {
+    if (isCompareTableRowsOverridden(AbstractColumn.class)) {
+      return null;
+    }
+    return createValueSortKeyFunction();
+  }
+
+  /**
+   * @return a function returning the value of a row as sort key or <code>null</code> if the data type of this column is
+   *         not {@link Comparable}
+   */
+  protected Function<ITableRow, Comparable<?>> createValueSortKeyFunction() {
+    Class<VALUE> dataType = getDataType();
+    if (dataType == null || !Comparable.class.isAssignableFrom(dataType)) {
+      return null;
+    }
+    return row -> (Comparable<?>) getValue(row);
+  }
+
+  /**
+   * @return a function returning the {@link java.text.CollationKey} of the given text of a row as sort key. The keys
+   *         are in the same order as if the texts were compared by {@link StringUtility#compareIgnoreCase(String, String)}.
+   */
+  protected Function<ITableRow, Comparable<?>> createCollationSortKeyFunction(Function<ITableRow, String> textFunction) {
+    CollationService collationService = BEANS.get(CollationService.class);
+    Locale locale = NlsLocale.get();
+    return row -> collationService.getCollationKey(Collator.SECONDARY, locale, textFunction.apply(row));
+  }
+
+  /**
+   * @return <code>true</code> if {@link #compareTableRows(ITableRow, ITableRow)} is declared by another class than the
+   *         given one, i.e. sort keys created by the given class would not reflect the order of this column.
+   */
+  protected boolean isCompareTableRowsOverridden(Class<?> declaringClass) {
+    try {
+      return getClass().getMethod("compareTableRows", ITableRow.class, ITableRow.class).getDeclaringClass() != declaringClass;
+    }
+    catch (NoSuchMethodException e) { // NOSONAR
+      return true;
+    }
+  }
+
   /**
    * Refresh all column values to trigger re-validate and re-format
    */
@@ -11,6 +11,7 @@ package org.eclipse.scout.rt.client.ui.basic.table.columns;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 import org.eclipse.scout.rt.client.extension.ui.basic.table.columns.IColumnExtension;
 import org.eclipse.scout.rt.client.extension.ui.basic.table.columns.ISmartColumnExtension;
@@ -459,6 +460,27 @@ public abstract class AbstractSmartColumn<VALUE> extends AbstractColumn<VALUE> i
     }
   }
 
+  @Override
+  public Function<ITableRow, Comparable<?>> createSortKeyFunction() {
+    if (isCompareTableRowsOverridden(AbstractSmartColumn.class)) {
+      return null;
+    }
+    ICodeType<?, VALUE> codeType = getCodeTypeClass() != null ? BEANS.opt(getCodeTypeClass()) : null;
+    if (codeType != null) {
+      if (isSortCodesByDisplayText()) {
+        return createCollationSortKeyFunction(this::getDisplayText);
+      }
+      return row -> {
+        VALUE value = getValue(row);
+        return value != null ? codeType.getCodeIndex(value) : -1;
+      };
+    }
+    else if (getLookupCall() != null) {
+      return createCollationSortKeyFunction(this::getDisplayText);
+    }
+    return createValueSortKeyFunction();
+  }
+
   protected final void interceptPrepareLookup(ILookupCall<VALUE> call, ITableRow row) {
     List<? extends IColumnExtension<VALUE, ? extends AbstractColumn<VALUE>>> extensions = getAllExtensions();
     SmartColumnPrepareLookupChain<VALUE> chain = new SmartColumnPrepareLookupChain<>(extensions);
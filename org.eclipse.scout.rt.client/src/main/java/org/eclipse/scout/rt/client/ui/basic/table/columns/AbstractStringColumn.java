@@ -9,6 +9,8 @@
  */
 package org.eclipse.scout.rt.client.ui.basic.table.columns;
 
+import java.util.function.Function;
+
 import org.eclipse.scout.rt.client.extension.ui.basic.table.columns.IStringColumnExtension;
 import org.eclipse.scout.rt.client.ui.basic.table.ITable;
 import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
@@ -234,6 +236,14 @@ public abstract class AbstractStringColumn extends AbstractColumn<String> implem
     return StringUtility.compareIgnoreCase(s1, s2);
   }
 
+  @Override
+  public Function<ITableRow, Comparable<?>> createSortKeyFunction() {
+    if (isCompareTableRowsOverridden(AbstractStringColumn.class)) {
+      return null;
+    }
+    return createCollationSortKeyFunction(this::getValue);
+  }
+
   protected static class LocalStringColumnExtension<OWNER extends AbstractStringColumn> extends LocalColumnExtension<String, OWNER> implements IStringColumnExtension<OWNER> {
 
     public LocalStringColumnExtension(OWNER owner) {
@@ -12,6 +12,7 @@ package org.eclipse.scout.rt.client.ui.basic.table.columns;
 import java.security.Permission;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
 
 import org.eclipse.scout.rt.client.ui.IHtmlCapable;
 import org.eclipse.scout.rt.client.ui.IStyleable;
@@ -141,6 +142,19 @@ public interface IColumn<VALUE> extends IPropertyObserver, ITypeWithClassId, IOr
 
   int compareTableRows(ITableRow r1, ITableRow r2);
 
+  /**
+   * Creates a function computing the sort key of a row for this column. Rows ordered by the natural order of their keys
+   * (<code>null</code> keys first) must be in the same order as if compared by
+   * {@link #compareTableRows(ITableRow, ITableRow)}. This allows a table to compute the keys once per row and sort
+   * instead of once per comparison.
+   *
+   * @return the function or <code>null</code> if this column does not support sort keys, rows are then compared by
+   *         {@link #compareTableRows(ITableRow, ITableRow)}. The default implementation returns <code>null</code>.
+   */
+  default Function<ITableRow, Comparable<?>> createSortKeyFunction() {
+    return null;
+  }
+
   VALUE getValue(int rowIndex);
 
   VALUE getValue(ITableRow r);
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.jackson.dataobject;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestComplexEntityDo;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestItemDo;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests the serialization order and throughput of {@link DoEntitySerializer} using precomputed entity plans.
+ */
+public class DoEntitySerializerPerfTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(DoEntitySerializerPerfTest.class);
+
+  private static final int WARMUP_RUNS = 20;
+  private static final int RUNS = 50;
+  private static final int ITEM_COUNT = 1000;
+
+  private static ObjectMapper s_dataObjectMapper;
+
+  @BeforeClass
+  public static void beforeClass() {
+    s_dataObjectMapper = BEANS.get(JacksonDataObjectMapper.class).getObjectMapper();
+  }
+
+  @Test
+  public void testDeclaredAttributesAreSorted() throws JsonProcessingException {
+    TestComplexEntityDo entity = BEANS.get(TestComplexEntityDo.class)
+        .withStringAttribute("foo")
+        .withIntegerAttribute(42)
+        .withId("id-1");
+    assertEquals("{\"_type\":\"TestComplexEntity\",\"id\":\"id-1\",\"integerAttribute\":42,\"stringAttribute\":\"foo\"}", s_dataObjectMapper.writeValueAsString(entity));
+  }
+
+  @Test
+  public void testDynamicAttributesAreSorted() throws JsonProcessingException {
+    TestComplexEntityDo entity = BEANS.get(TestComplexEntityDo.class)
+        .withStringAttribute("foo")
+        .withId("id-1");
+    entity.put("aaaDynamicAttribute", "bar");
+    entity.put("zzzDynamicAttribute", "baz");
+    assertEquals("{\"_type\":\"TestComplexEntity\",\"aaaDynamicAttribute\":\"bar\",\"id\":\"id-1\",\"stringAttribute\":\"foo\",\"zzzDynamicAttribute\":\"baz\"}", s_dataObjectMapper.writeValueAsString(entity));
+
+    // same class without dynamic attributes still uses the declared order
+    entity.remove("aaaDynamicAttribute");
+    entity.remove("zzzDynamicAttribute");
+    assertEquals("{\"_type\":\"TestComplexEntity\",\"id\":\"id-1\",\"stringAttribute\":\"foo\"}", s_dataObjectMapper.writeValueAsString(entity));
+  }
+
+  @Test
+  public void testSerializationPerformance() throws JsonProcessingException {
+    TestComplexEntityDo entity = createLargeEntity();
+    String expected = s_dataObjectMapper.writeValueAsString(entity);
+    for (int i = 0; i < WARMUP_RUNS; i++) {
+      s_dataObjectMapper.writeValueAsString(entity);
+    }
+
+    long totalNanos = 0;
+    for (int i = 0; i < RUNS; i++) {
+      long start = System.nanoTime();
+      String json = s_dataObjectMapper.writeValueAsString(entity);
+      totalNanos += System.nanoTime() - start;
+      assertEquals(expected.length(), json.length());
+    }
+    long meanMillis = TimeUnit.NANOSECONDS.toMillis(totalNanos / RUNS);
+    LOG.info("Serializing {} items took {}ms on average", ITEM_COUNT, meanMillis);
+  }
+
+  protected TestComplexEntityDo createLargeEntity() {
+    List<TestItemDo> items = new ArrayList<>();
+    for (int i = 0; i < ITEM_COUNT; i++) {
+      items.add(BEANS.get(TestItemDo.class)
+          .withId("item-" + i)
+          .withStringAttribute("value-" + i));
+    }
+    return BEANS.get(TestComplexEntityDo.class)
+        .withId("root")
+        .withStringAttribute("foo")
+        .withLongAttribute(42L)
+        .withItemAttribute(BEANS.get(TestItemDo.class).withId("single"))
+        .withItemsAttribute(items);
+  }
+}
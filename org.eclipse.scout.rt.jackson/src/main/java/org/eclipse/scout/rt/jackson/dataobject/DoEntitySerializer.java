@@ -12,12 +12,17 @@ package org.eclipse.scout.rt.jackson.dataobject;
 import static org.eclipse.scout.rt.platform.util.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.scout.rt.dataobject.DataObjectInventory;
 import org.eclipse.scout.rt.dataobject.DoEntity;
@@ -50,6 +55,16 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
 
   protected final ScoutDataObjectModuleContext m_context;
 
+  /**
+   * Serialization plans by entity class, see {@link #getEntityPlan(Class)}.
+   */
+  protected final ConcurrentMap<Class<?>, EntityPlan> m_entityPlans = new ConcurrentHashMap<>();
+
+  /**
+   * Types of the declared attributes of {@link #handledType()} by attribute name, see {@link #getAttributeType(String)}.
+   */
+  protected final LazyValue<Map<String, Optional<AttributeType>>> m_attributeTypes = new LazyValue<>(this::createAttributeTypes);
+
   public DoEntitySerializer(ScoutDataObjectModuleContext context, JavaType type) {
     super(type);
     m_context = context;
@@ -74,17 +89,46 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
    */
   protected void serializeAttributes(IDoEntity entity, JsonGenerator gen, SerializerProvider provider) throws IOException {
     serializeTypeVersion(gen, entity);
-    TreeMap<String, DoNode<?>> sortedMap = new TreeMap<>(m_context.getComparator());
-    sortedMap.putAll(entity.allNodes());
-    for (Map.Entry<String, DoNode<?>> e : sortedMap.entrySet()) {
-      gen.setCurrentValue(entity);
-      serializeAttribute(e.getKey(), e.getValue(), gen, provider);
+    Map<String, DoNode<?>> nodes = entity.allNodes();
+    EntityPlan plan = getEntityPlan(entity.getClass());
+    if (plan.isApplicable(nodes)) {
+      // fast path: all attributes are declared, use the precomputed order
+      for (String attributeName : plan.getSortedAttributeNames()) {
+        DoNode<?> node = nodes.get(attributeName);
+        if (node != null) {
+          gen.setCurrentValue(entity);
+          serializeAttribute(attributeName, node, gen, provider);
+        }
+      }
+    }
+    else {
+      // dynamic attributes
+      TreeMap<String, DoNode<?>> sortedMap = new TreeMap<>(m_context.getComparator());
+      sortedMap.putAll(nodes);
+      for (Map.Entry<String, DoNode<?>> e : sortedMap.entrySet()) {
+        gen.setCurrentValue(entity);
+        serializeAttribute(e.getKey(), e.getValue(), gen, provider);
+      }
     }
     serializeContributions(gen, entity, provider);
   }
 
+  /**
+   * @return the cached serialization plan of the given entity class
+   */
+  protected EntityPlan getEntityPlan(Class<? extends IDoEntity> entityClass) {
+    return m_entityPlans.computeIfAbsent(entityClass, c -> createEntityPlan(entityClass));
+  }
+
+  protected EntityPlan createEntityPlan(Class<? extends IDoEntity> entityClass) {
+    DataObjectInventory inventory = m_dataObjectInventory.get();
+    String[] attributeNames = inventory.getAttributesDescription(entityClass).keySet().toArray(new String[0]);
+    Arrays.sort(attributeNames, m_context.getComparator());
+    return new EntityPlan(inventory.getTypeVersion(entityClass), attributeNames);
+  }
+
   protected void serializeTypeVersion(JsonGenerator gen, IDoEntity entity) throws IOException {
-    NamespaceVersion typeVersion = m_dataObjectInventory.get().getTypeVersion(entity.getClass());
+    NamespaceVersion typeVersion = getEntityPlan(entity.getClass()).getTypeVersion();
     if (typeVersion != null) {
       gen.writeFieldName(m_context.getTypeVersionAttributeName());
       gen.writeString(typeVersion.unwrap());
@@ -230,6 +274,23 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
   }
 
   protected Optional<AttributeType> getAttributeType(String attributeName) {
+    Optional<AttributeType> attributeType = m_attributeTypes.get().get(attributeName);
+    if (attributeType != null) {
+      return attributeType;
+    }
+    // undeclared (dynamic) attribute: not cached, the attribute names are not bounded
+    return resolveAttributeType(attributeName);
+  }
+
+  protected Map<String, Optional<AttributeType>> createAttributeTypes() {
+    Map<String, Optional<AttributeType>> attributeTypes = new HashMap<>();
+    for (String attributeName : m_dataObjectInventory.get().getAttributesDescription(handledType()).keySet()) {
+      attributeTypes.put(attributeName, resolveAttributeType(attributeName));
+    }
+    return attributeTypes;
+  }
+
+  protected Optional<AttributeType> resolveAttributeType(String attributeName) {
     return m_dataObjectInventory.get().getAttributeDescription(handledType(), attributeName)
         .map(a -> TypeFactoryUtility.toAttributeType(a.getType()))
         .filter(AttributeType::isKnown); // filter completely unknown types, forcing to use the default behavior for unknown types
@@ -242,4 +303,43 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
       assertTrue(containerClasses.stream().anyMatch(containerClass -> containerClass.isInstance(doEntity)), "{} is not a valid container class of {}", doEntity.getClass().getSimpleName(), contributionClass.getSimpleName());
     }
   }
+
+  /**
+   * Precomputed serialization data of an {@link IDoEntity} class: the type version and the declared attribute names in
+   * serialization order.
+   */
+  protected static class EntityPlan {
+    private final NamespaceVersion m_typeVersion;
+    private final String[] m_sortedAttributeNames;
+    private final Set<String> m_attributeNames;
+
+    public EntityPlan(NamespaceVersion typeVersion, String[] sortedAttributeNames) {
+      m_typeVersion = typeVersion;
+      m_sortedAttributeNames = sortedAttributeNames;
+      m_attributeNames = new HashSet<>(Arrays.asList(sortedAttributeNames));
+    }
+
+    public NamespaceVersion getTypeVersion() {
+      return m_typeVersion;
+    }
+
+    public String[] getSortedAttributeNames() {
+      return m_sortedAttributeNames;
+    }
+
+    /**
+     * @return {@code true} if all given nodes are declared attributes, i.e. the precomputed order can be used
+     */
+    public boolean isApplicable(Map<String, DoNode<?>> nodes) {
+      if (nodes.size() > m_sortedAttributeNames.length) {
+        return false;
+      }
+      for (String attributeName : nodes.keySet()) {
+        if (!m_attributeNames.contains(attributeName)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
 }
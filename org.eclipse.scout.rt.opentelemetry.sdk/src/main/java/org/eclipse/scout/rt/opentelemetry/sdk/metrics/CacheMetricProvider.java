@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.opentelemetry.sdk.metrics;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.cache.CacheStatistics;
+import org.eclipse.scout.rt.platform.cache.ICache;
+import org.eclipse.scout.rt.platform.cache.ICacheBuilder;
+import org.eclipse.scout.rt.platform.cache.ICacheRegistryService;
+import org.eclipse.scout.rt.platform.opentelemetry.IMetricProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.BatchCallback;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * {@link IMetricProvider} which serves the statistics of all caches built with
+ * {@link ICacheBuilder#withStatistics(boolean)}.
+ * <p>
+ * The resolve duration histogram is recorded directly by {@link CacheStatistics}.
+ */
+public class CacheMetricProvider implements IMetricProvider {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CacheMetricProvider.class);
+
+  protected static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
+  protected static final AttributeKey<String> ORIGIN = AttributeKey.stringKey("origin");
+
+  private BatchCallback m_batchCallback;
+
+  @Override
+  public void register(OpenTelemetry openTelemetry) {
+    Meter meter = openTelemetry.getMeter(getClass().getName());
+
+    ObservableLongMeasurement requests = meter.counterBuilder("scout.cache.requests")
+        .setDescription("The number of cache lookups, differentiated by the result attribute (hit or miss).")
+        .setUnit("{request}")
+        .buildObserver();
+    ObservableLongMeasurement resolves = meter.counterBuilder("scout.cache.resolves")
+        .setDescription("The number of value resolve operations.")
+        .setUnit("{resolve}")
+        .buildObserver();
+    ObservableLongMeasurement evictions = meter.counterBuilder("scout.cache.evictions")
+        .setDescription("The number of entries evicted because of the size bound or time to live.")
+        .setUnit("{entry}")
+        .buildObserver();
+    ObservableLongMeasurement invalidations = meter.counterBuilder("scout.cache.invalidations")
+        .setDescription("The number of invalidations, differentiated by the origin attribute (local or cluster).")
+        .setUnit("{invalidation}")
+        .buildObserver();
+    ObservableLongMeasurement size = meter.upDownCounterBuilder("scout.cache.size")
+        .setDescription("The number of entries in the cache.")
+        .setUnit("{entry}")
+        .buildObserver();
+
+    m_batchCallback = meter.batchCallback(() -> {
+      for (ICache<?, ?> cache : BEANS.get(ICacheRegistryService.class).getAll()) {
+        CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+        if (statistics == null) {
+          continue;
+        }
+        Attributes attributes = Attributes.of(CacheStatistics.CACHE_ID, statistics.getCacheId());
+        requests.record(statistics.getHitCount(), attributes.toBuilder().put(RESULT, "hit").build());
+        requests.record(statistics.getMissCount(), attributes.toBuilder().put(RESULT, "miss").build());
+        resolves.record(statistics.getResolveCount(), attributes);
+        evictions.record(statistics.getEvictionCount(), attributes);
+        invalidations.record(statistics.getLocalInvalidationCount(), attributes.toBuilder().put(ORIGIN, "local").build());
+        invalidations.record(statistics.getClusterInvalidationCount(), attributes.toBuilder().put(ORIGIN, "cluster").build());
+        size.record(cache.getUnmodifiableMap().size(), attributes);
+      }
+    },
+        requests,
+        resolves,
+        evictions,
+        invalidations,
+        size);
+  }
+
+  @Override
+  public void close() {
+    if (m_batchCallback == null) {
+      return;
+    }
+    try {
+      m_batchCallback.close();
+    }
+    catch (Exception e) {
+      LOG.warn("Failed to close metric observable", e);
+    }
+    m_batchCallback = null;
+  }
+}
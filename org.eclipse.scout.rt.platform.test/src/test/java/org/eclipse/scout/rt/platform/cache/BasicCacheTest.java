@@ -11,13 +11,17 @@ package org.eclipse.scout.rt.platform.cache;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
@@ -27,6 +31,9 @@ import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledError;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
+import org.eclipse.scout.rt.testing.platform.job.JobTestUtil;
 import org.junit.Test;
 
 /**
@@ -220,6 +227,219 @@ public class BasicCacheTest {
         999, "value_999"), cache.getUnmodifiableMap());
   }
 
+  /**
+   * Concurrent misses for the same key must only resolve the value once (including overlapping getAll calls).
+   */
+  @Test
+  public void testConcurrentResolveIsCoalesced() throws InterruptedException {
+    AtomicInteger resolveCount = new AtomicInteger();
+    CountDownLatch resolvingLatch = new CountDownLatch(1);
+    CountDownLatch resolvingBlockingLatch = new CountDownLatch(1);
+
+    @SuppressWarnings("unchecked")
+    ICache<Integer, String> cache = BEANS.get(ICacheBuilder.class)
+        .withCacheId("BasicCacheTestCacheId#testConcurrentResolveIsCoalesced")
+        .withValueResolver(new ICacheValueResolver<Integer, String>() {
+          @Override
+          public String resolve(Integer key) {
+            resolveCount.incrementAndGet();
+            resolvingLatch.countDown();
+            try {
+              resolvingBlockingLatch.await();
+            }
+            catch (InterruptedException e) {
+              throw new RuntimeException(e);
+            }
+            return "value_" + key;
+          }
+
+          @Override
+          public Map<Integer, String> resolveAll(Set<Integer> keys) {
+            Map<Integer, String> map = new HashMap<>();
+            for (Integer key : keys) {
+              resolveCount.incrementAndGet();
+              map.put(key, "value_" + key);
+            }
+            return map;
+          }
+        })
+        .withReplaceIfExists(true)
+        .build();
+
+    IFuture<String> first = Jobs.schedule(() -> cache.get(1), Jobs.newInput());
+    resolvingLatch.await();
+
+    List<IFuture<String>> futures = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      futures.add(Jobs.schedule(() -> cache.get(1), Jobs.newInput()));
+    }
+    IFuture<Map<Integer, String>> getAllFuture = Jobs.schedule(() -> cache.getAll(Arrays.asList(1, 2)), Jobs.newInput());
+    // key 2 is resolved independently of the running resolve of key 1
+    assertEquals("value_2", RunContexts.empty().call(() -> cache.getAll(Arrays.asList(2)).get(2)));
+
+    resolvingBlockingLatch.countDown();
+    assertEquals("value_1", first.awaitDoneAndGet());
+    for (IFuture<String> future : futures) {
+      assertEquals("value_1", future.awaitDoneAndGet());
+    }
+    assertEquals(Map.of(1, "value_1", 2, "value_2"), getAllFuture.awaitDoneAndGet());
+    assertEquals(2, resolveCount.get());
+  }
+
+  /**
+   * Concurrent misses of different transactions must only resolve the value once as well.
+   */
+  @Test
+  public void testConcurrentResolveIsCoalescedAcrossTransactions() throws InterruptedException {
+    AtomicInteger resolveCount = new AtomicInteger();
+    CountDownLatch resolvingLatch = new CountDownLatch(1);
+    CountDownLatch resolvingBlockingLatch = new CountDownLatch(1);
+
+    @SuppressWarnings("unchecked")
+    ICache<Integer, String> cache = BEANS.get(ICacheBuilder.class)
+        .withCacheId("BasicCacheTestCacheId#testConcurrentResolveIsCoalescedAcrossTransactions")
+        .withValueResolver((ICacheValueResolver<Integer, String>) key -> {
+          resolveCount.incrementAndGet();
+          resolvingLatch.countDown();
+          try {
+            resolvingBlockingLatch.await();
+          }
+          catch (InterruptedException e) {
+            throw new RuntimeException(e);
+          }
+          return "value_" + key;
+        })
+        .withReplaceIfExists(true)
+        .withTransactional(true)
+        .withTransactionalFastForward(false)
+        .build();
+
+    IFuture<String> first = Jobs.schedule(() -> cache.get(1), Jobs.newInput().withRunContext(RunContexts.empty()));
+    resolvingLatch.await();
+    IFuture<String> second = Jobs.schedule(() -> {
+      String value = cache.get(1);
+      // the shared value is stored in the transaction of the waiting caller as well
+      assertEquals(value, cache.getCachedValue(1));
+      return value;
+    }, Jobs.newInput().withRunContext(RunContexts.empty()));
+    IFuture<Map<Integer, String>> third = Jobs.schedule(() -> cache.getAll(Arrays.asList(1)), Jobs.newInput().withRunContext(RunContexts.empty()));
+    BasicCache.ResolveFlight<Integer, String> flight = ((BasicCache<Integer, String>) cache).m_resolveFlights.get(1);
+    JobTestUtil.waitForCondition(() -> flight.getNumberOfWaiters() == 2);
+
+    resolvingBlockingLatch.countDown();
+    assertEquals("value_1", first.awaitDoneAndGet());
+    assertEquals("value_1", second.awaitDoneAndGet());
+    assertEquals(Map.of(1, "value_1"), third.awaitDoneAndGet());
+    assertEquals(1, resolveCount.get());
+  }
+
+  /**
+   * A transaction which invalidated a key does not share its resolve of the key with other transactions and does not
+   * join their resolve.
+   */
+  @Test
+  public void testResolveOfInvalidatingTransactionIsNotShared() throws InterruptedException {
+    AtomicReference<String> prefix = new AtomicReference<>("committed_");
+    CountDownLatch resolvingLatch = new CountDownLatch(1);
+    CountDownLatch resolvingBlockingLatch = new CountDownLatch(1);
+
+    @SuppressWarnings("unchecked")
+    ICache<Integer, String> cache = BEANS.get(ICacheBuilder.class)
+        .withCacheId("BasicCacheTestCacheId#testResolveOfInvalidatingTransactionIsNotShared")
+        .withValueResolver((ICacheValueResolver<Integer, String>) key -> {
+          String value = prefix.get() + key;
+          if (value.startsWith("uncommitted_")) {
+            resolvingLatch.countDown();
+            try {
+              resolvingBlockingLatch.await();
+            }
+            catch (InterruptedException e) {
+              throw new RuntimeException(e);
+            }
+          }
+          return value;
+        })
+        .withReplaceIfExists(true)
+        .withTransactional(true)
+        .build();
+
+    IFuture<String> changingTransaction = Jobs.schedule(() -> {
+      cache.invalidate(new KeyCacheEntryFilter<>(Collections.singleton(1)), true);
+      prefix.set("uncommitted_");
+      return cache.get(1);
+    }, Jobs.newInput().withRunContext(RunContexts.empty()));
+    resolvingLatch.await();
+
+    prefix.set("committed_");
+    assertEquals("committed_1", RunContexts.empty().call(() -> cache.get(1)));
+
+    resolvingBlockingLatch.countDown();
+    assertEquals("uncommitted_1", changingTransaction.awaitDoneAndGet());
+  }
+
+  @Test
+  public void testAwaitResolveFlight() {
+    BasicCache.ResolveFlight<Integer, String> flight = new BasicCache.ResolveFlight<>(1);
+    assertThrows(TimedOutError.class, () -> flight.await(10));
+
+    // waiting is aborted if the run monitor of the waiting caller is cancelled
+    AtomicReference<Throwable> error = new AtomicReference<>();
+    IFuture<Void> future = Jobs.schedule(() -> {
+      try {
+        flight.await(TimeUnit.MINUTES.toMillis(1));
+      }
+      catch (FutureCancelledError e) {
+        error.set(e);
+      }
+    }, Jobs.newInput());
+    JobTestUtil.waitForCondition(() -> flight.getNumberOfWaiters() == 1);
+    future.cancel(false);
+    future.awaitDone(10, TimeUnit.SECONDS);
+    JobTestUtil.waitForCondition(() -> error.get() != null);
+
+    flight.complete("value_1");
+    assertEquals("value_1", flight.await(10));
+  }
+
+  @Test
+  public void testInvalidateDetachesRunningResolve() throws InterruptedException {
+    AtomicReference<String> prefix = new AtomicReference<>("oldValue_");
+    CountDownLatch resolvingLatch = new CountDownLatch(1);
+    CountDownLatch resolvingBlockingLatch = new CountDownLatch(1);
+
+    @SuppressWarnings("unchecked")
+    ICache<Integer, String> cache = BEANS.get(ICacheBuilder.class)
+        .withCacheId("BasicCacheTestCacheId#testInvalidateDetachesRunningResolve")
+        .withValueResolver((ICacheValueResolver<Integer, String>) key -> {
+          String value = prefix.get() + key;
+          if (resolvingLatch.getCount() > 0) {
+            resolvingLatch.countDown();
+            try {
+              resolvingBlockingLatch.await();
+            }
+            catch (InterruptedException e) {
+              throw new RuntimeException(e);
+            }
+          }
+          return value;
+        })
+        .withReplaceIfExists(true)
+        .build();
+
+    IFuture<String> future = Jobs.schedule(() -> cache.get(1), Jobs.newInput());
+    resolvingLatch.await();
+    prefix.set("newValue_");
+    cache.invalidate(new KeyCacheEntryFilter<>(Collections.singleton(1)), true);
+
+    // a new caller does not join the outdated resolve
+    assertEquals("newValue_1", cache.get(1));
+
+    // the outdated resolve does not replace the new value
+    resolvingBlockingLatch.countDown();
+    future.awaitDone();
+    assertEquals("newValue_1", cache.get(1));
+  }
+
   @Test
   public void testCacheTransactional() {
     testCacheTransactional(true);
@@ -12,7 +12,10 @@ package org.eclipse.scout.rt.platform.cache;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.mock;
 
+import java.util.Arrays;
+
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap.EvictionPolicy;
 import org.junit.Test;
 
 /**
@@ -46,6 +49,53 @@ public class CacheBuilderTest {
     assertTrue(cacheDelegate instanceof BasicCache);
   }
 
+  @Test
+  public void testCacheStatistics() {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    ICache<Integer, String> cache = cacheBuilder
+        .withCacheId(CACHE_ID + "#testCacheStatistics")
+        .withValueResolver(key -> key == 13 ? null : "value_" + key)
+        .withSizeBound(2, EvictionPolicy.SAMPLED_LRU)
+        .withStatistics(true)
+        .withReplaceIfExists(true)
+        .build();
+
+    CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+    assertNotNull(statistics);
+    assertSame(cache, BEANS.get(ICacheRegistryService.class).get(cache.getCacheId()));
+    assertTrue(BEANS.get(ICacheRegistryService.class).getAll().contains(cache));
+
+    assertEquals("value_1", cache.get(1)); // miss
+    assertEquals("value_1", cache.get(1)); // hit
+    assertNull(cache.get(13)); // miss
+    assertEquals(2, cache.getAll(Arrays.asList(1, 2)).size()); // 1 hit, 1 miss
+    assertEquals(2, statistics.getHitCount());
+    assertEquals(3, statistics.getMissCount());
+    assertEquals(3, statistics.getResolveCount());
+    assertEquals(0.4d, statistics.getHitRatio(), 0.0001d);
+
+    cache.get(3); // exceeds size bound
+    assertEquals(1, statistics.getEvictionCount());
+
+    cache.invalidate(new AllCacheEntryFilter<>(), true);
+    cache.invalidate(new AllCacheEntryFilter<>(), false);
+    assertEquals(1, statistics.getLocalInvalidationCount());
+    assertEquals(1, statistics.getClusterInvalidationCount());
+  }
+
+  @Test
+  public void testCacheStatisticsDisabled() {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    ICache<Integer, String> cache = cacheBuilder
+        .withCacheId(CACHE_ID + "#testCacheStatisticsDisabled")
+        .withValueResolver(key -> "value_" + key)
+        .withReplaceIfExists(true)
+        .build();
+    assertNull(cache.getAdapter(CacheStatistics.class));
+  }
+
   protected static class TestCacheWrapper extends AbstractCacheWrapper<Integer, String> {
 
     public TestCacheWrapper(ICache<Integer, String> delegate) {
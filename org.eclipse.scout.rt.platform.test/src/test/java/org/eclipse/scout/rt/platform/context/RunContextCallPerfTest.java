@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.context;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.eclipse.scout.rt.testing.platform.util.ThreadAllocationUtility;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the time and the allocated memory per {@link RunContext#call(java.util.concurrent.Callable)}.
+ */
+@RunWith(PlatformTestRunner.class)
+public class RunContextCallPerfTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(RunContextCallPerfTest.class);
+
+  private static final int WARMUP_CALLS = 20_000;
+  private static final int CALLS = 100_000;
+  private static final int NESTING = 4;
+
+  @Test
+  public void testInterceptorProducersAreShared() {
+    RunContextChainIntercepterRegistry registry = BEANS.get(RunContextChainIntercepterRegistry.class);
+    assertSame(registry.getRunContextInterceptorProducer(RunContext.class), registry.getRunContextInterceptorProducer(RunContext.class));
+  }
+
+  /**
+   * Only logs the measurement, the numbers depend on the machine executing the test.
+   */
+  @Test
+  @Category(ResourceIntensiveTest.class)
+  public void testCallPerformance() {
+    RunContext runContext = RunContexts.empty();
+    for (int i = 0; i < WARMUP_CALLS; i++) {
+      callNested(runContext, NESTING);
+    }
+
+    long allocatedBefore = ThreadAllocationUtility.getAllocatedBytes();
+    long start = System.nanoTime();
+    for (int i = 0; i < CALLS; i++) {
+      assertEquals(Integer.valueOf(NESTING), callNested(runContext, NESTING));
+    }
+    long nanosPerCall = (System.nanoTime() - start) / ((long) CALLS * NESTING);
+    long allocatedBytes = ThreadAllocationUtility.getAllocatedBytes() - allocatedBefore;
+
+    if (allocatedBefore >= 0 && allocatedBytes >= 0) {
+      LOG.info("RunContext.call: {} ns per call, {} bytes allocated per call", nanosPerCall, allocatedBytes / ((long) CALLS * NESTING));
+    }
+    else {
+      LOG.info("RunContext.call: {} ns per call", nanosPerCall);
+    }
+  }
+
+  /**
+   * Nests run contexts like a REST request passing through several layers.
+   */
+  protected Integer callNested(RunContext runContext, int depth) {
+    if (depth == 0) {
+      return 0;
+    }
+    return runContext.call(() -> callNested(runContext, depth - 1) + 1);
+  }
+}
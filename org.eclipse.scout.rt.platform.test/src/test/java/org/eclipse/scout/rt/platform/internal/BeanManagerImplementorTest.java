@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.IBeanDecorationFactory;
+import org.eclipse.scout.rt.platform.SimpleBeanDecorationFactory;
+import org.eclipse.scout.rt.platform.interceptor.IBeanDecorator;
+import org.junit.Test;
+
+/**
+ * Tests for the query cache of {@link BeanManagerImplementor}.
+ */
+public class BeanManagerImplementorTest {
+
+  private static final int THREAD_COUNT = 32;
+  private static final int LOOKUPS_PER_THREAD = 200_000;
+
+  @Test
+  public void testQueryResultIsCached() {
+    BeanManagerImplementor beanManager = new BeanManagerImplementor(new SimpleBeanDecorationFactory());
+    beanManager.registerClass(FixtureServiceA.class);
+
+    List<IBean<IFixtureService>> beans = beanManager.getBeans(IFixtureService.class);
+    assertEquals(1, beans.size());
+    assertSame(beans, beanManager.getBeans(IFixtureService.class));
+    assertSame(beanManager.getBean(IFixtureService.class), beanManager.getBean(IFixtureService.class));
+
+    // registering a bean discards the cached results
+    IBean<FixtureServiceB> beanB = beanManager.registerClass(FixtureServiceB.class);
+    assertEquals(2, beanManager.getBeans(IFixtureService.class).size());
+    assertEquals(FixtureServiceB.class, beanManager.getBean(FixtureServiceB.class).getBeanClazz());
+
+    beanManager.unregisterBean(beanB);
+    assertEquals(1, beanManager.getBeans(IFixtureService.class).size());
+    assertNull(beanManager.optBean(FixtureServiceB.class));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testQueryResultIsUnmodifiable() {
+    BeanManagerImplementor beanManager = new BeanManagerImplementor(new CountingBeanDecorationFactory());
+    beanManager.registerClass(FixtureServiceA.class);
+    beanManager.getBeans(IFixtureService.class).clear();
+  }
+
+  @Test
+  public void testDecoratedBeansAreCached() {
+    CountingBeanDecorationFactory decorationFactory = new CountingBeanDecorationFactory();
+    BeanManagerImplementor beanManager = new BeanManagerImplementor(decorationFactory);
+    beanManager.registerClass(FixtureServiceA.class);
+
+    IBean<IFixtureService> bean = beanManager.getBean(IFixtureService.class);
+    assertSame(bean, beanManager.getBean(IFixtureService.class));
+    assertEquals(1, decorationFactory.getCount());
+    assertEquals("decorated", bean.getInstance().ping());
+
+    // changing the decoration factory discards the cached results
+    beanManager.setBeanDecorationFactory(new SimpleBeanDecorationFactory());
+    assertEquals("a", beanManager.getBean(IFixtureService.class).getInstance().ping());
+  }
+
+  /**
+   * Looks up a bean on {@value #THREAD_COUNT} threads while beans are registered and unregistered concurrently.
+   */
+  @Test
+  public void testConcurrentLookup() throws Exception {
+    BeanManagerImplementor beanManager = new BeanManagerImplementor(new SimpleBeanDecorationFactory());
+    beanManager.registerClass(FixtureServiceA.class);
+
+    ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT + 1);
+    AtomicBoolean stop = new AtomicBoolean();
+    CountDownLatch startLatch = new CountDownLatch(1);
+    try {
+      Future<?> writer = executor.submit(() -> {
+        while (!stop.get()) {
+          beanManager.unregisterBean(beanManager.registerBean(new BeanMetaData(FixtureServiceC.class)));
+          Thread.sleep(1);
+        }
+        return null;
+      });
+
+      List<Future<?>> readers = new ArrayList<>();
+      for (int i = 0; i < THREAD_COUNT; i++) {
+        readers.add(executor.submit(() -> {
+          startLatch.await();
+          for (int j = 0; j < LOOKUPS_PER_THREAD; j++) {
+            IBean<IFixtureService> bean = beanManager.getBean(IFixtureService.class);
+            assertEquals(FixtureServiceA.class, bean.getBeanClazz());
+          }
+          return null;
+        }));
+      }
+
+      long start = System.nanoTime();
+      startLatch.countDown();
+      for (Future<?> reader : readers) {
+        reader.get(1, TimeUnit.MINUTES);
+      }
+      long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+      stop.set(true);
+      writer.get(1, TimeUnit.MINUTES);
+
+      long lookups = (long) THREAD_COUNT * LOOKUPS_PER_THREAD;
+      assertTrue(lookups + " lookups on " + THREAD_COUNT + " threads took " + durationMillis + "ms", durationMillis < TimeUnit.SECONDS.toMillis(30));
+    }
+    finally {
+      stop.set(true);
+      executor.shutdownNow();
+    }
+  }
+
+  public interface IFixtureService {
+    String ping();
+  }
+
+  public static class FixtureServiceA implements IFixtureService {
+    @Override
+    public String ping() {
+      return "a";
+    }
+  }
+
+  public static class FixtureServiceB extends FixtureServiceA {
+    @Override
+    public String ping() {
+      return "b";
+    }
+  }
+
+  /**
+   * Not an {@link IFixtureService}, used to change the registered beans.
+   */
+  public static class FixtureServiceC {
+  }
+
+  private static final class CountingBeanDecorationFactory implements IBeanDecorationFactory {
+    private final AtomicInteger m_count = new AtomicInteger();
+
+    @Override
+    public <T> IBeanDecorator<T> decorate(IBean<T> bean, Class<? extends T> queryType) {
+      m_count.incrementAndGet();
+      return context -> "decorated";
+    }
+
+    public int getCount() {
+      return m_count.get();
+    }
+  }
+}
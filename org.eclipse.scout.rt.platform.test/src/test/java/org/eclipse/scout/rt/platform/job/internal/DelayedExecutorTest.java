@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests the timing wheel of {@link DelayedExecutor}.
+ */
+@RunWith(PlatformTestRunner.class)
+public class DelayedExecutorTest {
+
+  private ExecutorService m_executor;
+  private DelayedExecutor m_delayedExecutor;
+
+  @Before
+  public void before() {
+    m_executor = Executors.newCachedThreadPool(new NamedThreadFactory("delayed-executor-test"));
+    m_delayedExecutor = new DelayedExecutor(m_executor, "delayed-executor-test");
+  }
+
+  @After
+  public void after() {
+    m_executor.shutdownNow();
+  }
+
+  @Test
+  public void testFireOrder() throws InterruptedException {
+    final int taskCount = 300;
+    final Random random = new Random(42);
+    final long now = System.currentTimeMillis();
+    final List<Long> fireTimes = Collections.synchronizedList(new ArrayList<>());
+    final List<String> errors = Collections.synchronizedList(new ArrayList<>());
+    final CountDownLatch latch = new CountDownLatch(taskCount);
+
+    // delays span the lowest two wheels
+    for (int i = 0; i < taskCount; i++) {
+      final long fireTime = now + 50 + random.nextInt(650);
+      m_delayedExecutor.schedule(() -> {
+        if (System.currentTimeMillis() < fireTime) {
+          errors.add("fired too early [fireTime=" + fireTime + "]");
+        }
+        fireTimes.add(fireTime);
+        latch.countDown();
+      }, new Date(fireTime));
+    }
+
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    assertEquals(Collections.emptyList(), errors);
+
+    final List<Long> sortedFireTimes = new ArrayList<>(fireTimes);
+    Collections.sort(sortedFireTimes);
+    assertEquals(sortedFireTimes, fireTimes);
+    assertEquals(0, m_delayedExecutor.size());
+  }
+
+  @Test
+  public void testSameFireTimeInScheduleOrder() throws InterruptedException {
+    final Date fireTime = new Date(System.currentTimeMillis() + 300);
+    final List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+    final CountDownLatch latch = new CountDownLatch(3);
+
+    m_delayedExecutor.schedule(() -> {
+      order.add(1);
+      latch.countDown();
+    }, fireTime);
+    Thread.sleep(100);
+    m_delayedExecutor.schedule(() -> {
+      order.add(2);
+      latch.countDown();
+    }, fireTime);
+    m_delayedExecutor.schedule(() -> {
+      order.add(3);
+      latch.countDown();
+    }, fireTime);
+
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    assertEquals(List.of(1, 2, 3), order);
+  }
+
+  @Test
+  public void testCancel() throws InterruptedException {
+    final AtomicBoolean cancelledRun = new AtomicBoolean();
+    final CountDownLatch latch = new CountDownLatch(1);
+
+    final IRegistrationHandle handle = m_delayedExecutor.schedule(() -> cancelledRun.set(true), new Date(System.currentTimeMillis() + 200));
+    m_delayedExecutor.schedule(latch::countDown, new Date(System.currentTimeMillis() + 400));
+    assertEquals(2, m_delayedExecutor.size());
+
+    handle.dispose();
+    assertEquals(1, m_delayedExecutor.size());
+    handle.dispose(); // no effect if already disposed
+    assertEquals(1, m_delayedExecutor.size());
+
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    assertFalse(cancelledRun.get());
+  }
+
+  @Test
+  public void testFarFuture() {
+    final long now = System.currentTimeMillis();
+    final List<IRegistrationHandle> handles = new ArrayList<>();
+    handles.add(m_delayedExecutor.schedule(() -> fail("must not run"), new Date(now + TimeUnit.HOURS.toMillis(1))));
+    handles.add(m_delayedExecutor.schedule(() -> fail("must not run"), new Date(now + TimeUnit.DAYS.toMillis(1000))));
+    handles.add(m_delayedExecutor.schedule(() -> fail("must not run"), new Date(Long.MAX_VALUE)));
+    assertEquals(3, m_delayedExecutor.size());
+
+    for (final IRegistrationHandle handle : handles) {
+      handle.dispose();
+    }
+    assertEquals(0, m_delayedExecutor.size());
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class FairJobQueueTest {
+
+  @Test
+  public void testFifoWithinGroup() {
+    FairJobQueue queue = new P_FairJobQueue(100);
+    List<P_Runnable> runnables = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      P_Runnable runnable = new P_Runnable("a");
+      runnables.add(runnable);
+      assertTrue(queue.offer(runnable));
+    }
+    for (P_Runnable runnable : runnables) {
+      assertSame(runnable, unwrap(queue.poll()));
+    }
+    assertNull(queue.poll());
+  }
+
+  @Test
+  public void testGroupsTakeTurns() {
+    FairJobQueue queue = new P_FairJobQueue(100);
+    P_Runnable a1 = new P_Runnable("a");
+    P_Runnable a2 = new P_Runnable("a");
+    P_Runnable a3 = new P_Runnable("a");
+    P_Runnable b1 = new P_Runnable("b");
+    P_Runnable b2 = new P_Runnable("b");
+    P_Runnable c1 = new P_Runnable("c");
+    queue.offer(a1);
+    queue.offer(a2);
+    queue.offer(a3);
+    queue.offer(b1);
+    queue.offer(b2);
+    assertSame(a1, unwrap(queue.poll()));
+
+    // queued after a burst of a and b, but not executed last
+    queue.offer(c1);
+    assertSame(b1, unwrap(queue.poll()));
+    assertSame(a2, unwrap(queue.poll()));
+    assertSame(b2, unwrap(queue.poll()));
+    assertSame(c1, unwrap(queue.poll()));
+    assertSame(a3, unwrap(queue.poll()));
+  }
+
+  @Test
+  public void testCapacity() {
+    FairJobQueue queue = new P_FairJobQueue(2);
+    P_Runnable runnable = new P_Runnable("a");
+    assertTrue(queue.offer(runnable));
+    assertTrue(queue.offer(new P_Runnable("a")));
+    assertFalse(queue.offer(new P_Runnable("b")));
+
+    // the executor removes the runnable it has offered
+    assertTrue(queue.remove(runnable));
+    assertEquals(1, queue.size());
+    assertTrue(queue.offer(new P_Runnable("b")));
+  }
+
+  @Test
+  public void testReject() {
+    FairJobQueue queue = new P_FairJobQueue(2);
+    P_Runnable runnable = new P_Runnable("a");
+    queue.offer(runnable);
+    ((IRejectableRunnable) queue.poll()).reject();
+    assertTrue(runnable.m_rejected);
+  }
+
+  @Test
+  public void testDrainTo() {
+    FairJobQueue queue = new P_FairJobQueue(100);
+    queue.offer(new P_Runnable("a"));
+    queue.offer(new P_Runnable("a"));
+    List<Runnable> drained = new ArrayList<>();
+    assertEquals(2, queue.drainTo(drained));
+    assertEquals(2, drained.size());
+    assertTrue(queue.isEmpty());
+
+    // the virtual time advanced, a new group is not executed before the next job of group a
+    P_Runnable a3 = new P_Runnable("a");
+    P_Runnable b1 = new P_Runnable("b");
+    queue.offer(a3);
+    queue.offer(b1);
+    assertSame(a3, unwrap(queue.poll()));
+    assertSame(b1, unwrap(queue.poll()));
+  }
+
+  private static Runnable unwrap(Runnable entry) {
+    // run the entry to find out which runnable it wraps
+    P_Runnable.s_lastRun = null;
+    entry.run();
+    return P_Runnable.s_lastRun;
+  }
+
+  private static class P_FairJobQueue extends FairJobQueue {
+    private static final long serialVersionUID = 1L;
+
+    P_FairJobQueue(int capacity) {
+      super(capacity);
+    }
+
+    @Override
+    protected Object getGroup(Runnable runnable) {
+      return ((P_Runnable) runnable).m_group;
+    }
+  }
+
+  private static class P_Runnable implements IRejectableRunnable {
+    private static P_Runnable s_lastRun;
+
+    private final String m_group;
+    private boolean m_rejected;
+
+    P_Runnable(String group) {
+      m_group = group;
+    }
+
+    @Override
+    public void run() {
+      s_lastRun = this;
+    }
+
+    @Override
+    public void reject() {
+      m_rejected = true;
+    }
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.IJobManager;
+import org.eclipse.scout.rt.platform.job.JobState;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.job.filter.future.ExecutionHintFutureFilter;
+import org.eclipse.scout.rt.platform.job.filter.future.JobNameFutureFilter;
+import org.eclipse.scout.rt.platform.job.filter.future.JobStateFutureFilter;
+import org.eclipse.scout.rt.platform.util.concurrent.IRunnable;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.util.BlockingCountDownLatch;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests the index of {@link FutureSet} used to answer filter queries.
+ */
+@RunWith(PlatformTestRunner.class)
+public class FutureSetIndexTest {
+
+  private static final String HINT = "future-set-index-test";
+
+  @Test
+  public void testLookupIndex() {
+    FutureSet futureSet = getFutureSet();
+    assertNull(futureSet.lookupIndex(null));
+    assertNull(futureSet.lookupIndex(new JobNameFutureFilter("name")));
+    assertNotNull(futureSet.lookupIndex(new ExecutionHintFutureFilter(HINT)));
+    assertNotNull(futureSet.lookupIndex(Jobs.newFutureFilterBuilder()
+        .andMatchName("name")
+        .andMatchExecutionHint(HINT)
+        .toFilter()));
+    assertNull(futureSet.lookupIndex(Jobs.newFutureFilterBuilder()
+        .andMatchNotExecutionHint(HINT)
+        .andMatchName("name")
+        .toFilter()));
+  }
+
+  @Test
+  public void testExecutionHintAndState() throws InterruptedException {
+    IJobManager jobManager = BEANS.get(IJobManager.class);
+    BlockingCountDownLatch latch = new BlockingCountDownLatch(2);
+    IRunnable runnable = latch::countDownAndBlock;
+    IFuture<Void> future1 = Jobs.schedule(runnable, Jobs.newInput()
+        .withExecutionHint(HINT));
+    IFuture<Void> future2 = Jobs.schedule(runnable, Jobs.newInput());
+    try {
+      assertTrue(latch.await());
+      assertEquals(Collections.singleton(future1), jobManager.getFutures(new ExecutionHintFutureFilter(HINT)));
+
+      // changing execution hints
+      future2.addExecutionHint(HINT);
+      assertEquals(asSet(future1, future2), jobManager.getFutures(new ExecutionHintFutureFilter(HINT)));
+      future1.removeExecutionHint(HINT);
+      assertEquals(Collections.singleton(future2), jobManager.getFutures(new ExecutionHintFutureFilter(HINT)));
+
+      // state combined with execution hint
+      assertEquals(Collections.singleton(future2), jobManager.getFutures(Jobs.newFutureFilterBuilder()
+          .andMatchState(JobState.RUNNING)
+          .andMatchExecutionHint(HINT)
+          .toFilter()));
+      assertTrue(jobManager.getFutures(Jobs.newFutureFilterBuilder()
+          .andMatchState(JobState.SCHEDULED, JobState.PENDING)
+          .andMatchExecutionHint(HINT)
+          .toFilter()).isEmpty());
+    }
+    finally {
+      latch.unblock();
+    }
+
+    jobManager.awaitDone(new ExecutionHintFutureFilter(HINT), 10, TimeUnit.SECONDS);
+    future1.awaitDone(10, TimeUnit.SECONDS);
+    jobManager.awaitFinished(Jobs.newFutureFilterBuilder()
+        .andMatchFuture(future1, future2)
+        .toFilter(), 10, TimeUnit.SECONDS);
+
+    // finished futures are removed from the index
+    assertTrue(jobManager.getFutures(new ExecutionHintFutureFilter(HINT)).isEmpty());
+    assertFalse(contains(getFutureSet().lookupIndex(new JobStateFutureFilter(JobState.DONE)), future1, future2));
+    assertFalse(contains(getFutureSet().lookupIndex(new JobStateFutureFilter(JobState.RUNNING)), future1, future2));
+  }
+
+  @Test
+  public void testExecutionSemaphore() throws InterruptedException {
+    IJobManager jobManager = BEANS.get(IJobManager.class);
+    IExecutionSemaphore semaphore = Jobs.newExecutionSemaphore(1);
+    BlockingCountDownLatch latch = new BlockingCountDownLatch(1);
+    IRunnable runnable = latch::countDownAndBlock;
+    IFuture<Void> future1 = Jobs.schedule(runnable, Jobs.newInput()
+        .withExecutionSemaphore(semaphore));
+    IFuture<Void> future2 = Jobs.schedule(runnable, Jobs.newInput()
+        .withExecutionSemaphore(semaphore));
+    try {
+      assertTrue(latch.await());
+      Predicate<IFuture<?>> filter = Jobs.newFutureFilterBuilder()
+          .andMatchExecutionSemaphore(semaphore)
+          .toFilter();
+      assertEquals(asSet(future1, future2), jobManager.getFutures(filter));
+      assertEquals(Collections.singleton(future2), jobManager.getFutures(Jobs.newFutureFilterBuilder()
+          .andMatchExecutionSemaphore(semaphore)
+          .andMatchState(JobState.WAITING_FOR_PERMIT)
+          .toFilter()));
+    }
+    finally {
+      latch.unblock();
+    }
+    future1.awaitDone(10, TimeUnit.SECONDS);
+    future2.awaitDone(10, TimeUnit.SECONDS);
+  }
+
+  protected FutureSet getFutureSet() {
+    return ((JobManager) BEANS.get(IJobManager.class)).m_futures;
+  }
+
+  protected static Set<IFuture<?>> asSet(IFuture<?>... futures) {
+    Set<IFuture<?>> set = new HashSet<>();
+    Collections.addAll(set, futures);
+    return set;
+  }
+
+  protected static boolean contains(Collection<JobFutureTask<?>> candidates, IFuture<?>... futures) {
+    for (IFuture<?> future : futures) {
+      if (candidates.contains(future)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerCorePoolSizeProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerExecutorModeProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerMaximumPoolSizeProperty;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.IJobManager;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.job.internal.JobManager.ExecutorMode;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.job.JobTestUtil;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.util.BlockingCountDownLatch;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Runs jobs with the executors of the different {@link ExecutorMode}s.
+ */
+@RunWith(PlatformTestRunner.class)
+public class JobManagerExecutorModeTest {
+
+  private static final int JOB_COUNT = 500;
+
+  @Test
+  public void testQueued() throws InterruptedException {
+    runJobs(ExecutorMode.QUEUED);
+  }
+
+  /**
+   * Jobs blocking the core threads until a job scheduled after them is executed must not block forever, hence new
+   * threads are created before jobs are queued.
+   */
+  @Test
+  public void testQueuedCreatesThreadsBeforeQueueing() throws InterruptedException {
+    List<IBean<?>> propertyBeans = new ArrayList<>();
+    propertyBeans.add(BeanTestingHelper.get().mockConfigProperty(JobManagerExecutorModeProperty.class, ExecutorMode.QUEUED));
+    propertyBeans.add(BeanTestingHelper.get().mockConfigProperty(JobManagerCorePoolSizeProperty.class, 2));
+    propertyBeans.add(BeanTestingHelper.get().mockConfigProperty(JobManagerMaximumPoolSizeProperty.class, 10));
+    IBean<IJobManager> jobManagerBean = null;
+    try {
+      jobManagerBean = JobTestUtil.replaceCurrentJobManager(new JobManager() {
+        // must be a subclass in order to replace JobManager
+      });
+
+      CountDownLatch unblockLatch = new CountDownLatch(1);
+      List<IFuture<?>> blockingFutures = new ArrayList<>();
+      for (int i = 0; i < 2; i++) {
+        blockingFutures.add(Jobs.schedule(() -> {
+          unblockLatch.await();
+        }, Jobs.newInput()));
+      }
+      Jobs.schedule(() -> {
+        unblockLatch.countDown();
+      }, Jobs.newInput());
+
+      for (IFuture<?> future : blockingFutures) {
+        future.awaitDone(10, TimeUnit.SECONDS);
+      }
+    }
+    finally {
+      if (jobManagerBean != null) {
+        JobTestUtil.unregisterAndShutdownJobManager(jobManagerBean);
+      }
+      propertyBeans.forEach(BeanTestingHelper.get()::unregisterBean);
+    }
+  }
+
+  @Test
+  public void testVirtualThreads() throws InterruptedException {
+    Assume.assumeTrue("Virtual threads require Java 21", VirtualThreadFactory.isSupported());
+    runJobs(ExecutorMode.VIRTUAL_THREADS);
+  }
+
+  protected void runJobs(ExecutorMode executorMode) throws InterruptedException {
+    IBean<?> propertyBean = BeanTestingHelper.get().mockConfigProperty(JobManagerExecutorModeProperty.class, executorMode);
+    IBean<IJobManager> jobManagerBean = null;
+    try {
+      // Use dedicated job manager because the executor is created by the constructor.
+      jobManagerBean = JobTestUtil.replaceCurrentJobManager(new JobManager() {
+        // must be a subclass in order to replace JobManager
+      });
+
+      // thread name decoration
+      String threadName = Jobs.schedule(() -> Thread.currentThread().getName(), Jobs.newInput()
+          .withThreadName("executor-mode-test"))
+          .awaitDoneAndGet(10, TimeUnit.SECONDS);
+      assertTrue(threadName, threadName.startsWith("executor-mode-test-"));
+
+      // execution permits
+      IExecutionSemaphore semaphore = Jobs.newExecutionSemaphore(2);
+      AtomicInteger running = new AtomicInteger();
+      AtomicInteger maxRunning = new AtomicInteger();
+      AtomicInteger done = new AtomicInteger();
+      List<IFuture<?>> futures = new ArrayList<>();
+      for (int i = 0; i < JOB_COUNT; i++) {
+        final boolean limited = i % 2 == 0;
+        futures.add(Jobs.schedule(() -> {
+          if (limited) {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+          }
+          Thread.sleep(1);
+          if (limited) {
+            running.decrementAndGet();
+          }
+          done.incrementAndGet();
+        }, Jobs.newInput()
+            .withExecutionSemaphore(limited ? semaphore : null)
+            .withExecutionHint("hint-" + (i % 3))));
+      }
+      for (IFuture<?> future : futures) {
+        future.awaitDone(30, TimeUnit.SECONDS);
+      }
+      assertEquals(JOB_COUNT, done.get());
+      assertTrue(maxRunning.get() <= 2);
+
+      // cancellation
+      BlockingCountDownLatch latch = new BlockingCountDownLatch(1);
+      IFuture<Void> future = Jobs.schedule(() -> {
+        latch.countDownAndBlock();
+      }, Jobs.newInput());
+      assertTrue(latch.await());
+      assertTrue(future.cancel(true));
+      latch.unblock();
+      future.awaitDone(10, TimeUnit.SECONDS);
+      assertTrue(future.isCancelled());
+    }
+    finally {
+      if (jobManagerBean != null) {
+        JobTestUtil.unregisterAndShutdownJobManager(jobManagerBean);
+      }
+      BeanTestingHelper.get().unregisterBean(propertyBean);
+    }
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.logger;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.context.CorrelationIdContextValueProvider;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.slf4j.MDC;
+
+/**
+ * Tests for {@link DiagnosticContextValueProcessorCache}.
+ */
+@RunWith(PlatformTestRunner.class)
+public class DiagnosticContextValueProcessorCacheTest {
+
+  @Test
+  public void testProcessorIsShared() {
+    DiagnosticContextValueProcessorCache cache = BEANS.get(DiagnosticContextValueProcessorCache.class);
+    assertSame(cache.get(CorrelationIdContextValueProvider.class), cache.get(CorrelationIdContextValueProvider.class));
+  }
+
+  @Test
+  public void testReplacedProviderBean() throws Exception {
+    RunContext runContext = RunContexts.empty().withCorrelationId("cid");
+    assertEquals("cid", runContext.call(() -> MDC.get(CorrelationIdContextValueProvider.KEY)));
+
+    CorrelationIdContextValueProvider replacement = new CorrelationIdContextValueProvider() {
+      @Override
+      public String value() {
+        return "replaced";
+      }
+    };
+    IBean<?> bean = BEANS.get(BeanTestingHelper.class).registerBean(new BeanMetaData(CorrelationIdContextValueProvider.class, replacement).withReplace(true).withOrder(-Long.MAX_VALUE));
+    try {
+      assertEquals("replaced", runContext.call(() -> MDC.get(CorrelationIdContextValueProvider.KEY)));
+    }
+    finally {
+      BEANS.get(BeanTestingHelper.class).unregisterBean(bean);
+    }
+    assertEquals("cid", runContext.call(() -> MDC.get(CorrelationIdContextValueProvider.KEY)));
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.nls;
+
+import static org.junit.Assert.*;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.util.ThreadAllocationUtility;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Measures sorting 100'000 strings with {@link StringUtility#compare(int, Locale, String, String)} and with the
+ * collation keys of {@link CollationService#sort(List, Function, int, Locale)}.
+ */
+@RunWith(PlatformTestRunner.class)
+public class CollationServicePerfTest {
+
+  private static final int STRING_COUNT = 100_000;
+  private static final String CHARS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ \u00e0\u00e2\u00e4\u00e7\u00e8\u00e9\u00ea\u00f4\u00f6\u00fc\u00c4\u00d6\u00dc-_";
+
+  @Test
+  public void testSortDeCh() {
+    runSort(new Locale("de", "CH"));
+  }
+
+  @Test
+  public void testSortFrCh() {
+    runSort(new Locale("fr", "CH"));
+  }
+
+  protected void runSort(Locale locale) {
+    List<String> strings = createStrings(STRING_COUNT, new Random(1));
+
+    // warm up
+    List<String> warmup = new ArrayList<>(strings.subList(0, STRING_COUNT / 10));
+    warmup.sort((a, b) -> StringUtility.compare(Collator.TERTIARY, locale, a, b));
+    BEANS.get(CollationService.class).sort(new ArrayList<>(warmup), Function.identity(), Collator.TERTIARY, locale);
+
+    // comparison of strings
+    List<String> compared = new ArrayList<>(strings);
+    long allocatedBefore = ThreadAllocationUtility.getAllocatedBytes();
+    long start = System.nanoTime();
+    compared.sort((a, b) -> StringUtility.compare(Collator.TERTIARY, locale, a, b));
+    long compareMillis = (System.nanoTime() - start) / 1_000_000;
+    long compareBytes = ThreadAllocationUtility.getAllocatedBytes() - allocatedBefore;
+
+    // comparison of collation keys
+    List<String> keySorted = new ArrayList<>(strings);
+    start = System.nanoTime();
+    BEANS.get(CollationService.class).sort(keySorted, Function.identity(), Collator.TERTIARY, locale);
+    long keyMillis = (System.nanoTime() - start) / 1_000_000;
+
+    assertEquals(compared, keySorted);
+
+    String message = String.format("%s: %d ms with compare, %d ms with collation keys", locale, compareMillis, keyMillis);
+    if (allocatedBefore >= 0 && compareBytes >= 0) {
+      // a collator is no longer created per comparison (about 1.7 million comparisons)
+      message += String.format(", %d bytes allocated per string with compare", compareBytes / STRING_COUNT);
+      assertTrue(message, compareBytes / STRING_COUNT < 4 * 1024);
+    }
+    assertTrue(message, compareMillis < 30_000);
+    assertTrue(message, keyMillis < 30_000);
+  }
+
+  protected List<String> createStrings(int count, Random random) {
+    List<String> strings = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int length = 3 + random.nextInt(12);
+      StringBuilder sb = new StringBuilder(length);
+      for (int j = 0; j < length; j++) {
+        sb.append(CHARS.charAt(random.nextInt(CHARS.length())));
+      }
+      strings.add(sb.toString());
+    }
+    return strings;
+  }
+}
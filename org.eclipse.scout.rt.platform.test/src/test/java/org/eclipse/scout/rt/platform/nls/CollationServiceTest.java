@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.nls;
+
+import static org.junit.Assert.*;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link CollationService}
+ */
+@RunWith(PlatformTestRunner.class)
+public class CollationServiceTest {
+
+  private static final Locale DE_CH = new Locale("de", "CH");
+
+  @Test
+  public void testCompare() {
+    CollationService service = BEANS.get(CollationService.class);
+    assertEquals(0, service.compare(Collator.TERTIARY, DE_CH, null, ""));
+    assertTrue(service.compare(Collator.TERTIARY, DE_CH, null, "a") < 0);
+    assertTrue(service.compare(Collator.TERTIARY, DE_CH, "a", "") > 0);
+    assertTrue(service.compare(Collator.TERTIARY, DE_CH, "a", "A") < 0);
+    assertEquals(0, service.compare(Collator.SECONDARY, DE_CH, "a", "A"));
+    assertTrue(service.compare(Collator.SECONDARY, DE_CH, "a", "\u00e4") < 0);
+    assertEquals(0, service.compare(Collator.PRIMARY, DE_CH, "a", "\u00e4"));
+
+    // strength of one thread-local collator must not affect the others
+    assertTrue(service.compare(Collator.TERTIARY, DE_CH, "a", "A") < 0);
+  }
+
+  @Test
+  public void testComparatorAndCollationKey() {
+    CollationService service = BEANS.get(CollationService.class);
+    Comparator<String> comparator = service.getComparator(Collator.TERTIARY, DE_CH);
+    assertTrue(comparator.compare("\u00e4pfel", "Birnen") < 0);
+    assertTrue(service.getCollationKey(Collator.TERTIARY, DE_CH, "\u00e4pfel").compareTo(service.getCollationKey(Collator.TERTIARY, DE_CH, "Birnen")) < 0);
+    assertNull(service.getCollationKey(Collator.TERTIARY, DE_CH, ""));
+  }
+
+  @Test
+  public void testSort() {
+    List<String> input = Arrays.asList("c", null, "\u00e4", "B", "", "a", "A", "b");
+    CollationService service = BEANS.get(CollationService.class);
+
+    List<String> expected = new ArrayList<>(input);
+    expected.sort(service.getComparator(Collator.SECONDARY, DE_CH));
+
+    List<String> actual = new ArrayList<>(input);
+    service.sort(actual, Function.identity(), Collator.SECONDARY, DE_CH);
+    assertEquals(expected, actual);
+    assertEquals(Arrays.asList(null, "", "a", "A", "\u00e4", "B", "b", "c"), actual); // stable
+  }
+
+  @Test
+  public void testConcurrentComparator() throws Exception {
+    CollationService service = BEANS.get(CollationService.class);
+    Comparator<String> comparator = service.getComparator(Collator.TERTIARY, DE_CH);
+    List<String> input = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      input.add((i % 2 == 0 ? "\u00e4" : "a") + Integer.toString(i * 7919 % 2000, 36));
+    }
+    List<String> expected = new ArrayList<>(input);
+    expected.sort(BEANS.get(CollatorProvider.class).getInstance(DE_CH));
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<List<String>>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(executor.submit((Callable<List<String>>) () -> {
+          List<String> list = new ArrayList<>(input);
+          Collections.shuffle(list);
+          list.sort(comparator);
+          return list;
+        }));
+      }
+      for (Future<List<String>> future : futures) {
+        assertEquals(expected, future.get());
+      }
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.text;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Test for {@link TextTable}
+ */
+public class TextTableTest {
+
+  @Test
+  public void testPutAndIndexOf() {
+    TextTable table = new TextTable(1000);
+    for (int i = 0; i < 1000; i++) {
+      table.put("key" + i, "text" + i, i % 3);
+    }
+    table.put("key1", "other", 5); // first text wins
+    assertEquals(1000, table.size());
+
+    for (int i = 0; i < 1000; i++) {
+      int slot = table.indexOf("key" + i);
+      assertTrue(slot >= 0);
+      assertEquals("text" + i, table.getText(slot));
+      assertEquals(i % 3, table.getProviderIndex(slot));
+    }
+    assertEquals(-1, table.indexOf("key1000"));
+    assertEquals(-1, table.indexOf(""));
+
+    Map<String, String> map = new HashMap<>();
+    table.forEach(map::put);
+    assertEquals(1000, map.size());
+    assertEquals("text1", map.get("key1"));
+  }
+
+  @Test
+  public void testCollidingKeys() {
+    // "Aa" and "BB" have the same hash code
+    TextTable table = new TextTable(2);
+    table.put("Aa", "text1", 0);
+    table.put("BB", "text2", 1);
+    assertEquals("text1", table.getText(table.indexOf("Aa")));
+    assertEquals("text2", table.getText(table.indexOf("BB")));
+    assertEquals(1, table.getProviderIndex(table.indexOf("BB")));
+  }
+
+  @Test
+  public void testEmpty() {
+    TextTable table = new TextTable(0);
+    assertEquals(0, table.size());
+    assertEquals(-1, table.indexOf("key"));
+  }
+}
@@ -13,10 +13,17 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
 import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -50,5 +57,74 @@ public class TextsTest {
   public void testGetTextMap() {
     Map<String, String> textMap = BEANS.get(ScoutTexts.class).getTextMap(Locale.ENGLISH);
     assertNotNull(textMap);
+    assertEquals("Value 1", textMap.get("key1"));
+    assertEquals("value {0}", textMap.get("key6"));
+  }
+
+  @Test
+  public void testTextProviderWithHigherPrecedence() {
+    IBean<?> bean = BeanTestingHelper.get().registerBean(new BeanMetaData(P_OverridingTextProviderService.class).withOrder(-1000));
+    try {
+      BEANS.get(ScoutTexts.class).reloadTextProviders();
+      assertEquals("Overridden 1", TEXTS.get("key1"));
+      assertEquals("Value 2", TEXTS.get("key2"));
+      assertEquals("value X", TEXTS.get("key6", "X"));
+      assertEquals("{undefined text anyKey}", TEXTS.get("anyKey"));
+    }
+    finally {
+      BeanTestingHelper.get().unregisterBean(bean);
+      BEANS.get(ScoutTexts.class).reloadTextProviders();
+    }
+    assertEquals("Value 1", TEXTS.get("key1"));
+  }
+
+  @Test
+  public void testInvalidateTextTables() {
+    AtomicReference<String> compiledText = new AtomicReference<>("Compiled 1");
+    ScoutTexts texts = new ScoutTexts() {
+      @Override
+      protected TextTable compileTextTable(List<? extends ITextProviderService> providers, boolean[] compilable, Locale locale) {
+        TextTable table = super.compileTextTable(providers, compilable, locale);
+        for (int i = 0; i < compilable.length; i++) {
+          if (compilable[i]) {
+            TextTable changedTable = new TextTable(1);
+            changedTable.put("key1", compiledText.get(), i);
+            return changedTable;
+          }
+        }
+        return table;
+      }
+    };
+    AtomicInteger invalidations = new AtomicInteger();
+    texts.addInvalidationListener(invalidations::incrementAndGet);
+
+    assertEquals("Compiled 1", texts.getText(Locale.GERMAN, "key1"));
+    compiledText.set("Compiled 2");
+    assertEquals("Compiled 1", texts.getText(Locale.GERMAN, "key1"));
+
+    texts.invalidateTextTables();
+    assertEquals(1, invalidations.get());
+    assertEquals("Compiled 2", texts.getText(Locale.GERMAN, "key1"));
+
+    compiledText.set("Compiled 3");
+    texts.reloadTextProviders();
+    assertEquals(2, invalidations.get());
+    assertEquals("Compiled 3", texts.getText(Locale.GERMAN, "key1"));
+  }
+
+  /**
+   * Text provider which is not compiled into the text tables.
+   */
+  public static class P_OverridingTextProviderService implements ITextProviderService {
+
+    @Override
+    public String getText(Locale locale, String key, String... messageArguments) {
+      return "key1".equals(key) ? "Overridden 1" : null;
+    }
+
+    @Override
+    public Map<String, String> getTextMap(Locale locale) {
+      return Collections.singletonMap("key1", "Overridden 1");
+    }
   }
 }
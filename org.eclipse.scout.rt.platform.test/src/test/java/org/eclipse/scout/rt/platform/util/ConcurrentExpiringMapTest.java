@@ -15,10 +15,12 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.platform.holders.IntegerHolder;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap.EvictionPolicy;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap.ExpiringElement;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -258,6 +260,34 @@ public class ConcurrentExpiringMapTest {
     assertEquals(Integer.valueOf(overflowSize), countEvicted.getValue());
   }
 
+  @Test
+  public void testBoundedSizeSampledEviction() {
+    int targetSize = 10;
+    final IntegerHolder countEvicted = new IntegerHolder(0);
+
+    TestConcurrentExpiringMap map = new TestConcurrentExpiringMap(0, targetSize, EvictionPolicy.SAMPLED_LRU) {
+
+      @Override
+      protected void execEntryEvicted(Integer key, String value) {
+        Integer currentCount = countEvicted.getValue();
+        countEvicted.setValue(currentCount + 1);
+      }
+    };
+    assertEquals(EvictionPolicy.SAMPLED_LRU, map.getEvictionPolicy());
+
+    for (int i = 0; i < 100; i++) {
+      map.m_timestamp = (long) i;
+      map.put(i, String.valueOf(i));
+      // evicted as soon as the target size is exceeded, never the most recent entry
+      assertEquals(Math.min(i + 1, targetSize), map.size());
+      assertTrue(map.containsKey(i));
+    }
+    assertEquals(Integer.valueOf(100 - targetSize), countEvicted.getValue());
+
+    // copy constructor keeps the policy
+    assertEquals(EvictionPolicy.SAMPLED_LRU, new ConcurrentExpiringMap<>(map, 20).getEvictionPolicy());
+  }
+
   @Test
   public void testCopyConstructorDivisionByZero() {
     TestConcurrentExpiringMap map = new TestConcurrentExpiringMap(0, TimeUnit.MILLISECONDS, 0);
@@ -304,6 +334,10 @@ public class ConcurrentExpiringMapTest {
       super(timeToLiveDuration, timeToLiveUnit, targetSize);
     }
 
+    public TestConcurrentExpiringMap(long timeToLiveMillis, int targetSize, EvictionPolicy evictionPolicy) {
+      super(new ConcurrentHashMap<>(), timeToLiveMillis, true, targetSize, evictionPolicy);
+    }
+
     /**
      * Set timestamp for all elements
      */
@@ -12,16 +12,37 @@ package org.eclipse.scout.rt.platform.cache;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.CacheResolveWaitTimeoutProperty;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.transaction.AbstractTransactionMember;
+import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.collection.AbstractTransactionalMap;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledError;
+import org.eclipse.scout.rt.platform.util.concurrent.ICancellable;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Basic implementation of {@link ICache}.
@@ -29,13 +50,26 @@ import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
  * Note:
  * <ul>
  * <li>This cache is only thread safe if the provided cacheMap is thread safe.
- * <li>There might be multiple concurrent resolve operations running for the same key unless one is using
- * {@link BoundedResolveCacheWrapper} to limit these operations.
+ * <li>Concurrent misses for the same key are coalesced: only one thread resolves the value, the others wait for its
+ * result (single-flight). This applies to {@link #getAll(Collection)} as well, where only keys not already being
+ * resolved are passed to {@link ICacheValueResolver#resolveAll(Set)}. For transactional caches, resolve operations are
+ * shared across transactions and each waiting transaction stores the shared value in its own transaction member.
+ * Transactions which invalidated values themselves resolve without sharing, as they might see uncommitted changes of
+ * the source.
+ * <li>An invalidation during a resolve detaches the running resolve operation: later callers start a new resolve and
+ * the outdated value is not kept in a non-transactional cache (transactional caches rely on
+ * {@link AbstractTransactionalMap#markInsertsDirty()}). In a transaction, running resolve operations are detached
+ * again when the invalidating transaction is committed.
+ * <li>A caller waits at most <tt>scout.cache.resolveWaitTimeout</tt> for a concurrent resolve before resolving the
+ * value itself. Waiting is aborted if the {@link RunMonitor} of the caller is cancelled.
+ * <li>A value resolver must not (directly or indirectly through another thread) wait for a key whose resolve operation
+ * is waiting for its own key. Recursive lookups in the same thread are resolved without coalescing.
  * </ul>
  *
  * @since 5.2
  */
 public class BasicCache<K, V> implements ICache<K, V> {
+  private static final Logger LOG = LoggerFactory.getLogger(BasicCache.class);
 
   protected final String m_cacheId;
   protected final Supplier<String> m_labelSupplier;
@@ -43,6 +77,8 @@ public class BasicCache<K, V> implements ICache<K, V> {
   protected final Map<K, V> m_cacheMap;
 
   protected final AbstractTransactionalMap<K, ?> m_transactionalMap; // is null if not transactional cache
+  protected final ConcurrentMap<Object, ResolveFlight<K, V>> m_resolveFlights = new ConcurrentHashMap<>();
+  protected final String m_detachResolveFlightsMemberId = BasicCache.class.getName() + ".detachResolveFlights." + System.identityHashCode(this);
 
   /**
    * @deprecated Use constructor including label supplier as second argument. Label supplier can be retrieved via
@@ -118,17 +154,36 @@ public class BasicCache<K, V> implements ICache<K, V> {
       return null;
     }
     V value = m_cacheMap.get(key);
-    if (value == null) {
-      if (m_transactionalMap != null) {
-        m_transactionalMap.getTransactionMember(true); // enforce creation of transaction member before resolve
+    if (value != null) {
+      return value;
+    }
+    Object scope = getResolveFlightScope();
+    ResolveFlight<K, V> flight = new ResolveFlight<>(key);
+    ResolveFlight<K, V> runningFlight = m_resolveFlights.putIfAbsent(createFlightKey(scope, key), flight);
+    if (runningFlight != null) {
+      if (runningFlight.isOwnedByCurrentThread()) {
+        // recursive lookup, resolve without coalescing
+        return putResolvedValue(key, m_resolver.resolve(key), null);
       }
-      value = m_resolver.resolve(key);
-      if (value != null) {
-        V alreadySetValue = m_cacheMap.putIfAbsent(key, value);
-        value = alreadySetValue != null ? alreadySetValue : value;
+      return awaitResolveFlight(runningFlight);
+    }
+
+    try {
+      // a concurrent flight might have completed between the lookup above and the registration of this flight
+      value = m_cacheMap.get(key);
+      if (value == null) {
+        value = putResolvedValue(key, m_resolver.resolve(key), flight);
       }
+      flight.complete(value);
+      return value;
+    }
+    catch (RuntimeException | Error e) {
+      flight.completeExceptionally(e);
+      throw e;
+    }
+    finally {
+      m_resolveFlights.remove(createFlightKey(scope, key), flight);
     }
-    return value;
   }
 
   @Override
@@ -151,30 +206,167 @@ public class BasicCache<K, V> implements ICache<K, V> {
       return result;
     }
 
-    if (m_transactionalMap != null) {
-      m_transactionalMap.getTransactionMember(true); // enforce creation of transaction member before resolve
-    }
-    Map<K, V> resolvedValues = m_resolver.resolveAll(keys);
-    for (Iterator<Entry<K, V>> iterator = resolvedValues.entrySet().iterator(); iterator.hasNext();) {
-      Entry<K, V> entry = iterator.next();
-      // remove any null values from the resolved values map
-      if (entry.getKey() == null || entry.getValue() == null) {
-        iterator.remove();
+    Object scope = getResolveFlightScope();
+
+    // register a flight for each key not yet being resolved, join the running flights for the other keys
+    Map<K, ResolveFlight<K, V>> ownFlights = new HashMap<>();
+    Map<K, ResolveFlight<K, V>> joinedFlights = new HashMap<>();
+    for (K key : keys) {
+      ResolveFlight<K, V> flight = new ResolveFlight<>(key);
+      ResolveFlight<K, V> runningFlight = m_resolveFlights.putIfAbsent(createFlightKey(scope, key), flight);
+      if (runningFlight == null) {
+        ownFlights.put(key, flight);
+      }
+      else if (runningFlight.isOwnedByCurrentThread()) {
+        // recursive lookup, resolve without coalescing
+        ownFlights.put(key, null);
       }
       else {
-        V alreadySetValue = m_cacheMap.putIfAbsent(entry.getKey(), entry.getValue());
-        if (alreadySetValue != null) {
-          entry.setValue(alreadySetValue);
+        joinedFlights.put(key, runningFlight);
+      }
+    }
+
+    // resolve own keys before waiting for others, so that concurrent getAll calls with overlapping keys cannot block each other
+    try {
+      if (!ownFlights.isEmpty()) {
+        Map<K, V> resolvedValues = m_resolver.resolveAll(new HashSet<>(ownFlights.keySet()));
+        for (Iterator<Entry<K, V>> iterator = resolvedValues.entrySet().iterator(); iterator.hasNext();) {
+          Entry<K, V> entry = iterator.next();
+          // remove any null values from the resolved values map
+          if (entry.getKey() == null || entry.getValue() == null) {
+            iterator.remove();
+          }
+          else {
+            entry.setValue(putResolvedValue(entry.getKey(), entry.getValue(), ownFlights.get(entry.getKey())));
+          }
+        }
+        for (ResolveFlight<K, V> flight : ownFlights.values()) {
+          if (flight != null) {
+            flight.complete(resolvedValues.get(flight.getKey()));
+          }
+        }
+        result.putAll(resolvedValues);
+      }
+    }
+    catch (RuntimeException | Error e) {
+      for (ResolveFlight<K, V> flight : ownFlights.values()) {
+        if (flight != null) {
+          flight.completeExceptionally(e);
+        }
+      }
+      throw e;
+    }
+    finally {
+      for (ResolveFlight<K, V> flight : ownFlights.values()) {
+        if (flight != null) {
+          m_resolveFlights.remove(createFlightKey(scope, flight.getKey()), flight);
         }
       }
     }
-    result.putAll(resolvedValues);
+
+    for (Entry<K, ResolveFlight<K, V>> entry : joinedFlights.entrySet()) {
+      V value = awaitResolveFlight(entry.getValue());
+      if (value != null) {
+        result.put(entry.getKey(), value);
+      }
+    }
     return result;
   }
 
+  /**
+   * Stores a resolved value in the cache map.
+   *
+   * @param flight
+   *          the resolve operation which produced the value or <code>null</code>
+   * @return the value now associated with the key (the already cached value, if one was set concurrently)
+   */
+  protected V putResolvedValue(K key, V value, ResolveFlight<K, V> flight) {
+    if (value == null) {
+      return null;
+    }
+    V alreadySetValue = m_cacheMap.putIfAbsent(key, value);
+    if (alreadySetValue != null) {
+      return alreadySetValue;
+    }
+    if (flight != null && flight.isDetached() && m_transactionalMap == null) {
+      // invalidated while resolving: the value might be outdated and must not be kept
+      m_cacheMap.remove(key, value);
+    }
+    return value;
+  }
+
+  /**
+   * Waits for the result of a resolve operation of another thread.
+   * <p>
+   * In a transactional cache, the value is stored in the transaction member of the current transaction as well. If
+   * the resolve operation does not complete within <tt>scout.cache.resolveWaitTimeout</tt>, the value is resolved
+   * without coalescing.
+   */
+  protected V awaitResolveFlight(ResolveFlight<K, V> flight) {
+    V value;
+    try {
+      value = flight.await(CONFIG.getPropertyValue(CacheResolveWaitTimeoutProperty.class));
+    }
+    catch (TimedOutError e) {
+      LOG.warn("Concurrent resolve of key {} in cache {} did not complete in time, resolving the value without waiting for it.", flight.getKey(), m_cacheId);
+      return putResolvedValue(flight.getKey(), m_resolver.resolve(flight.getKey()), null);
+    }
+    if (m_transactionalMap != null && !flight.isDetached()) {
+      value = putResolvedValue(flight.getKey(), value, null);
+    }
+    return value;
+  }
+
+  /**
+   * @return the scope in which resolve operations are shared, <code>null</code> if they are shared by all callers
+   */
+  protected Object getResolveFlightScope() {
+    if (m_transactionalMap == null) {
+      return null;
+    }
+    AbstractTransactionalMap<K, ?>.AbstractMapTransactionMember transactionMember = m_transactionalMap.getTransactionMember(true); // enforce creation of transaction member before resolve
+    if (transactionMember != null && transactionMember.hasRemovesOrDirtyMarks()) {
+      // the transaction changed the source, its values must not be visible to other transactions before commit
+      return transactionMember;
+    }
+    return null;
+  }
+
+  protected Object createFlightKey(Object scope, K key) {
+    if (scope == null) {
+      return key;
+    }
+    return new ScopedFlightKey(scope, key);
+  }
+
+  /**
+   * Detaches running resolve operations affected by an invalidation.
+   */
+  protected void detachResolveFlights(ICacheEntryFilter<K, V> filter) {
+    if (m_resolveFlights.isEmpty()) {
+      return;
+    }
+    Set<K> keys = null;
+    if (filter instanceof KeyCacheEntryFilter) {
+      keys = CollectionUtility.hashSetWithoutNullElements(((KeyCacheEntryFilter<K, V>) filter).getKeys());
+    }
+    for (Iterator<ResolveFlight<K, V>> iterator = m_resolveFlights.values().iterator(); iterator.hasNext();) {
+      ResolveFlight<K, V> flight = iterator.next();
+      // the value of a running resolve is unknown, therefore custom filters detach all flights
+      if (keys == null || keys.contains(flight.getKey())) {
+        flight.detach();
+        iterator.remove();
+      }
+    }
+  }
+
   @Override
   public void invalidate(ICacheEntryFilter<K, V> filter, boolean propagate) {
     boolean markInsertsDirty = true;
+    if (filter != null) {
+      // detach before removing values, see putResolvedValue
+      detachResolveFlights(filter);
+    }
 
     if (filter instanceof AllCacheEntryFilter) {
       m_cacheMap.clear();
@@ -194,10 +386,197 @@ public class BasicCache<K, V> implements ICache<K, V> {
     if (markInsertsDirty && m_transactionalMap != null) {
       m_transactionalMap.markInsertsDirty();
     }
+    if (filter != null) {
+      detachResolveFlightsOnCommit(filter);
+    }
+  }
+
+  /**
+   * Resolve operations started after the invalidation but before the current transaction is committed read the
+   * source without the changes of the current transaction. They are detached again when the transaction is committed,
+   * so they are not joined by callers arriving after the commit.
+   */
+  protected void detachResolveFlightsOnCommit(ICacheEntryFilter<K, V> filter) {
+    if (m_transactionalMap == null) {
+      return;
+    }
+    ITransaction transaction = ITransaction.CURRENT.get();
+    if (transaction == null) {
+      return;
+    }
+    transaction.registerMemberIfAbsent(m_detachResolveFlightsMemberId, DetachResolveFlightsTransactionMember::new).addFilter(filter);
   }
 
   @Override
   public <T> T getAdapter(Class<T> clazz) {
     return null;
   }
+
+  /**
+   * A running resolve operation for a single key.
+   */
+  protected static class ResolveFlight<K, V> {
+    private final K m_key;
+    private final Thread m_owner = Thread.currentThread();
+    private final CompletableFuture<V> m_future = new CompletableFuture<>();
+    private volatile boolean m_detached;
+
+    protected ResolveFlight(K key) {
+      m_key = key;
+    }
+
+    public K getKey() {
+      return m_key;
+    }
+
+    /**
+     * @return the estimated number of callers waiting for the result
+     */
+    public int getNumberOfWaiters() {
+      return m_future.getNumberOfDependents();
+    }
+
+    public boolean isOwnedByCurrentThread() {
+      return m_owner == Thread.currentThread();
+    }
+
+    public boolean isDetached() {
+      return m_detached;
+    }
+
+    protected void detach() {
+      m_detached = true;
+    }
+
+    protected void complete(V value) {
+      m_future.complete(value);
+    }
+
+    protected void completeExceptionally(Throwable t) {
+      m_future.completeExceptionally(t);
+    }
+
+    /**
+     * Waits for the result of the resolve operation. A failure of the resolve operation is thrown in the waiting thread
+     * as well.
+     *
+     * @throws TimedOutError
+     *           if the resolve operation did not complete within the given time
+     * @throws FutureCancelledError
+     *           if the {@link RunMonitor} of the waiting thread was cancelled
+     */
+    public V await(long timeoutMillis) {
+      // cancelling the copy does not affect the resolve operation and its other waiters
+      CompletableFuture<V> future = m_future.copy();
+      ICancellable cancellable = new ICancellable() {
+        @Override
+        public boolean cancel(boolean interruptIfRunning) {
+          return future.cancel(interruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() {
+          return future.isCancelled();
+        }
+      };
+      RunMonitor monitor = RunMonitor.CURRENT.get();
+      if (monitor != null) {
+        monitor.registerCancellable(cancellable);
+      }
+      try {
+        return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+      }
+      catch (CancellationException e) {
+        throw new FutureCancelledError("Cancelled while waiting for concurrent resolve of cache value", e);
+      }
+      catch (TimeoutException e) {
+        throw new TimedOutError("Timeout while waiting for concurrent resolve of cache value", e);
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ThreadInterruptedError("Interrupted while waiting for concurrent resolve of cache value", e);
+      }
+      catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+        throw new PlatformException("Concurrent resolve of cache value failed", cause);
+      }
+      finally {
+        if (monitor != null) {
+          monitor.unregisterCancellable(cancellable);
+        }
+      }
+    }
+  }
+
+  /**
+   * Detaches the resolve operations affected by the invalidations of a transaction when the transaction is committed.
+   */
+  protected class DetachResolveFlightsTransactionMember extends AbstractTransactionMember {
+    private final Set<K> m_keys = new HashSet<>();
+    private boolean m_allKeys;
+
+    protected DetachResolveFlightsTransactionMember(String transactionMemberId) {
+      super(transactionMemberId);
+    }
+
+    protected synchronized void addFilter(ICacheEntryFilter<K, V> filter) {
+      if (filter instanceof KeyCacheEntryFilter) {
+        m_keys.addAll(CollectionUtility.hashSetWithoutNullElements(((KeyCacheEntryFilter<K, V>) filter).getKeys()));
+      }
+      else {
+        m_allKeys = true;
+      }
+    }
+
+    @Override
+    public boolean needsCommit() {
+      return true;
+    }
+
+    @Override
+    public synchronized void commitPhase2() {
+      if (m_allKeys) {
+        detachResolveFlights(new AllCacheEntryFilter<>());
+      }
+      else if (!m_keys.isEmpty()) {
+        detachResolveFlights(new KeyCacheEntryFilter<>(m_keys));
+      }
+    }
+  }
+
+  /**
+   * Key of a resolve operation which is only shared within a scope (the transaction member of a transactional cache).
+   */
+  private static final class ScopedFlightKey {
+    private final Object m_scope;
+    private final Object m_key;
+
+    private ScopedFlightKey(Object scope, Object key) {
+      m_scope = scope;
+      m_key = key;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * System.identityHashCode(m_scope) + m_key.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof ScopedFlightKey)) {
+        return false;
+      }
+      ScopedFlightKey other = (ScopedFlightKey) obj;
+      return m_scope == other.m_scope && Objects.equals(m_key, other.m_key);
+    }
+  }
 }
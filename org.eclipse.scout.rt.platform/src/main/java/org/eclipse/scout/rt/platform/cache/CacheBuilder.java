@@ -21,9 +21,13 @@ import java.util.function.Supplier;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.cache.StatisticsCacheWrapper.StatisticsValueResolver;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.CacheStatisticsEnabledProperty;
 import org.eclipse.scout.rt.platform.util.BeanUtility;
 import org.eclipse.scout.rt.platform.util.NumberUtility;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap.EvictionPolicy;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentTransactionalMap;
 import org.eclipse.scout.rt.platform.util.collection.CopyOnWriteTransactionalMap;
 
@@ -48,9 +52,12 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   private Long m_timeToLive;
   private boolean m_touchOnGet;
   private Integer m_sizeBound;
+  private EvictionPolicy m_evictionPolicy;
   private Integer m_maxConcurrentResolve;
   private boolean m_throwIfExists;
   private boolean m_replaceIfExists;
+  private boolean m_statisticsEnabled;
+  private CacheStatistics m_statistics;
 
   public CacheBuilder() {
     m_customWrappers = new ArrayList<>();
@@ -58,6 +65,7 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     m_threadSafe = true;
     m_throwIfExists = true;
     m_replaceIfExists = false;
+    m_statisticsEnabled = CONFIG.getPropertyValue(CacheStatisticsEnabledProperty.class);
   }
 
   @Override
@@ -65,6 +73,7 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     if (getCacheId() == null) {
       throw new IllegalStateException("cacheId is null");
     }
+    m_statistics = isStatisticsEnabled() ? createStatistics() : null;
     Map<K, V> cacheMap = createCacheMap();
     ICache<K, V> cache = createBasicCache(cacheMap);
     cache = addBeforeCustomWrappers(cache);
@@ -101,7 +110,16 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
       boolean touchOnGet = isTouchOnGet() || getSizeBound() != null;
       long timeToLive = NumberUtility.nvl(getTimeToLive(), -1L);
       int targetSize = NumberUtility.nvl(getSizeBound(), -1);
-      return new ConcurrentExpiringMap<>(createConcurrentMap(), timeToLive, touchOnGet, targetSize);
+      CacheStatistics statistics = getStatistics();
+      if (statistics != null) {
+        return new ConcurrentExpiringMap<>(createConcurrentMap(), timeToLive, touchOnGet, targetSize, getEvictionPolicy()) {
+          @Override
+          protected void execEntryEvicted(K key, V value) {
+            statistics.recordEviction();
+          }
+        };
+      }
+      return new ConcurrentExpiringMap<>(createConcurrentMap(), timeToLive, touchOnGet, targetSize, getEvictionPolicy());
     }
     else if (isThreadSafe() || isTransactional()) {
       return createConcurrentMap();
@@ -123,13 +141,28 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   }
 
   protected ICache<K, V> createBasicCache(Map<K, V> cacheMap) {
-    return new BasicCache<>(getCacheId(), getLabelSupplier(), getValueResolver(), cacheMap);
+    ICacheValueResolver<K, V> valueResolver = createValueResolver();
+    if (getStatistics() != null) {
+      valueResolver = new StatisticsValueResolver<>(valueResolver, getStatistics());
+    }
+    return new BasicCache<>(getCacheId(), getLabelSupplier(), valueResolver, cacheMap);
+  }
+
+  protected ICacheValueResolver<K, V> createValueResolver() {
+    return getValueResolver();
+  }
+
+  protected CacheStatistics createStatistics() {
+    return new CacheStatistics(getCacheId());
   }
 
   protected ICache<K, V> addBeforeCustomWrappers(ICache<K, V> cache) {
     if (getMaxConcurrentResolve() != null) {
       cache = new BoundedResolveCacheWrapper<>(cache, getMaxConcurrentResolve());
     }
+    if (getStatistics() != null) {
+      cache = new StatisticsCacheWrapper<>(cache, getStatistics());
+    }
     return cache;
   }
 
@@ -313,6 +346,34 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     return m_sizeBound;
   }
 
+  @Override
+  public CacheBuilder<K, V> withSizeBound(Integer sizeBound, EvictionPolicy evictionPolicy) {
+    m_sizeBound = sizeBound;
+    m_evictionPolicy = evictionPolicy;
+    return this;
+  }
+
+  public EvictionPolicy getEvictionPolicy() {
+    return m_evictionPolicy;
+  }
+
+  @Override
+  public CacheBuilder<K, V> withStatistics(boolean statisticsEnabled) {
+    m_statisticsEnabled = statisticsEnabled;
+    return this;
+  }
+
+  public boolean isStatisticsEnabled() {
+    return m_statisticsEnabled;
+  }
+
+  /**
+   * @return the statistics of the cache currently being built or <code>null</code> if statistics are disabled
+   */
+  protected CacheStatistics getStatistics() {
+    return m_statistics;
+  }
+
   @Override
   public CacheBuilder<K, V> withMaxConcurrentResolve(Integer maxConcurrentResolve) {
     if (maxConcurrentResolve != null && maxConcurrentResolve < 0) {
@@ -9,6 +9,9 @@
  */
 package org.eclipse.scout.rt.platform.cache;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -50,6 +53,15 @@ public class CacheRegistryService implements ICacheRegistryService {
     return getMap().get(cacheId);
   }
 
+  @Override
+  public Collection<ICache<?, ?>> getAll() {
+    List<ICache<?, ?>> caches = new ArrayList<>();
+    for (ICache<?, ?> cache : getMap().values()) {
+      caches.add(cache);
+    }
+    return caches;
+  }
+
   protected Map<String, ICache> getMap() {
     return m_map;
   }
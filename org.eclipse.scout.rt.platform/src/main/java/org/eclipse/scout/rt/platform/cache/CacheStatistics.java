@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.scout.rt.platform.opentelemetry.IHistogramViewHintProvider;
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+
+/**
+ * Statistics of a cache built with {@link ICacheBuilder#withStatistics(boolean)}. Available through
+ * {@link ICache#getAdapter(Class)}.
+ * <p>
+ * Counters are published by the metric provider of the OpenTelemetry SDK module, the resolve duration is recorded in
+ * the histogram {@value #OTEL_METRIC_RESOLVE_DURATION}.
+ *
+ * @see StatisticsCacheWrapper
+ */
+public class CacheStatistics {
+
+  public static final String OTEL_METRIC_RESOLVE_DURATION = "scout.cache.resolve.duration";
+  public static final AttributeKey<String> CACHE_ID = AttributeKey.stringKey("scout.cache.id");
+
+  private final String m_cacheId;
+  private final LongAdder m_hitCount = new LongAdder();
+  private final LongAdder m_missCount = new LongAdder();
+  private final LongAdder m_resolveCount = new LongAdder();
+  private final LongAdder m_resolveFailureCount = new LongAdder();
+  private final LongAdder m_resolveTimeNanos = new LongAdder();
+  private final LongAdder m_evictionCount = new LongAdder();
+  private final LongAdder m_localInvalidationCount = new LongAdder();
+  private final LongAdder m_clusterInvalidationCount = new LongAdder();
+
+  private volatile DoubleHistogram m_resolveDuration;
+  private final Attributes m_attributes;
+
+  public CacheStatistics(String cacheId) {
+    m_cacheId = Assertions.assertNotNullOrEmpty(cacheId);
+    m_attributes = Attributes.of(CACHE_ID, cacheId);
+  }
+
+  public String getCacheId() {
+    return m_cacheId;
+  }
+
+  public void recordHits(int count) {
+    m_hitCount.add(count);
+  }
+
+  public void recordMisses(int count) {
+    m_missCount.add(count);
+  }
+
+  /**
+   * @param durationNanos
+   *          duration of a call to {@link ICacheValueResolver#resolve(Object)} or
+   *          {@link ICacheValueResolver#resolveAll(java.util.Set)}
+   */
+  public void recordResolve(long durationNanos, boolean success) {
+    m_resolveCount.increment();
+    if (!success) {
+      m_resolveFailureCount.increment();
+    }
+    m_resolveTimeNanos.add(durationNanos);
+    getResolveDurationHistogram().record(durationNanos / 1_000_000d, m_attributes);
+  }
+
+  public void recordEviction() {
+    m_evictionCount.increment();
+  }
+
+  /**
+   * @param cluster
+   *          <code>true</code> if the invalidation was received from another cluster node (not propagated any further),
+   *          <code>false</code> if it was triggered locally
+   */
+  public void recordInvalidation(boolean cluster) {
+    if (cluster) {
+      m_clusterInvalidationCount.increment();
+    }
+    else {
+      m_localInvalidationCount.increment();
+    }
+  }
+
+  protected DoubleHistogram getResolveDurationHistogram() {
+    // created lazily: caches may be built before OpenTelemetry is initialized
+    DoubleHistogram histogram = m_resolveDuration;
+    if (histogram == null) {
+      histogram = GlobalOpenTelemetry.get().getMeter(CacheStatistics.class.getName())
+          .histogramBuilder(OTEL_METRIC_RESOLVE_DURATION)
+          .setUnit("ms")
+          .setDescription("The time it took to resolve values of a cache.")
+          .build();
+      m_resolveDuration = histogram;
+    }
+    return histogram;
+  }
+
+  public long getHitCount() {
+    return m_hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return m_missCount.sum();
+  }
+
+  /**
+   * @return hits / (hits + misses) or 0 if there were no requests yet
+   */
+  public double getHitRatio() {
+    long hits = getHitCount();
+    long requests = hits + getMissCount();
+    return requests == 0 ? 0d : (double) hits / requests;
+  }
+
+  public long getResolveCount() {
+    return m_resolveCount.sum();
+  }
+
+  public long getResolveFailureCount() {
+    return m_resolveFailureCount.sum();
+  }
+
+  public long getResolveTime(TimeUnit unit) {
+    return unit.convert(m_resolveTimeNanos.sum(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * @return average resolve duration in milliseconds or 0 if no value was resolved yet
+   */
+  public double getAverageResolveMillis() {
+    long count = getResolveCount();
+    return count == 0 ? 0d : m_resolveTimeNanos.sum() / 1_000_000d / count;
+  }
+
+  public long getEvictionCount() {
+    return m_evictionCount.sum();
+  }
+
+  public long getLocalInvalidationCount() {
+    return m_localInvalidationCount.sum();
+  }
+
+  public long getClusterInvalidationCount() {
+    return m_clusterInvalidationCount.sum();
+  }
+
+  @Override
+  public String toString() {
+    return "CacheStatistics [cacheId=" + m_cacheId
+        + ", hits=" + getHitCount()
+        + ", misses=" + getMissCount()
+        + ", resolves=" + getResolveCount()
+        + ", resolveFailures=" + getResolveFailureCount()
+        + ", avgResolveMillis=" + String.format("%.2f", getAverageResolveMillis())
+        + ", evictions=" + getEvictionCount()
+        + ", localInvalidations=" + getLocalInvalidationCount()
+        + ", clusterInvalidations=" + getClusterInvalidationCount() + "]";
+  }
+
+  /**
+   * Custom histogram buckets for {@value #OTEL_METRIC_RESOLVE_DURATION} (time unit: milliseconds).
+   */
+  public static class ResolveDurationHistogramViewHintProvider implements IHistogramViewHintProvider {
+
+    @Override
+    public String getInstrumentName() {
+      return OTEL_METRIC_RESOLVE_DURATION;
+    }
+
+    @Override
+    public List<Double> getExplicitBuckets() {
+      return List.of(0.1d, 0.5d, 1d, 5d, 10d, 25d, 50d, 100d, 500d, 1_000d, 5_000d);
+    }
+  }
+}
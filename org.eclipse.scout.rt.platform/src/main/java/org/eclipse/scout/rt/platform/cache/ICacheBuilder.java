@@ -16,6 +16,7 @@ import java.util.function.Supplier;
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 import org.eclipse.scout.rt.platform.util.BeanUtility;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap.EvictionPolicy;
 
 /**
  * All caches should be build through this builder. After building a cache, <b>do not</b> surround it with another
@@ -181,6 +182,28 @@ public interface ICacheBuilder<K, V> {
    */
   ICacheBuilder<K, V> withSizeBound(Integer sizeBound);
 
+  /**
+   * Like {@link #withSizeBound(Integer)} but with an explicit policy to choose the entries to evict.
+   * {@link EvictionPolicy#SAMPLED_LRU} has a bounded cost per write operation and is recommended for large caches.
+   *
+   * @param sizeBound
+   *          the target size that map should have approximately.
+   * @param evictionPolicy
+   *          policy used to evict entries, <code>null</code> for the default {@link EvictionPolicy#LRU}
+   * @return this builder
+   */
+  ICacheBuilder<K, V> withSizeBound(Integer sizeBound, EvictionPolicy evictionPolicy);
+
+  /**
+   * If set to true, hits, misses, resolve durations, evictions and invalidations of the cache are recorded in
+   * {@link CacheStatistics} which are available through {@link ICache#getAdapter(Class)} and published as metrics.
+   * <p>
+   * The default value is given by the config property <tt>scout.cache.statisticsEnabled</tt>.
+   *
+   * @return this builder
+   */
+  ICacheBuilder<K, V> withStatistics(boolean statisticsEnabled);
+
   /**
    * <b>Warning: Potential deadlock</b>
    * <p>
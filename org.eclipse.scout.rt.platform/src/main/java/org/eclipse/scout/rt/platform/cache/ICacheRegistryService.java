@@ -9,6 +9,9 @@
  */
 package org.eclipse.scout.rt.platform.cache;
 
+import java.util.Collection;
+import java.util.Collections;
+
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 
@@ -59,4 +62,11 @@ public interface ICacheRegistryService {
    */
   <K, V> ICache<K, V> opt(String cacheId);
 
+  /**
+   * @return a snapshot of all registered caches, empty if the registry does not support listing its caches
+   */
+  default Collection<ICache<?, ?>> getAll() {
+    return Collections.emptyList();
+  }
+
 }
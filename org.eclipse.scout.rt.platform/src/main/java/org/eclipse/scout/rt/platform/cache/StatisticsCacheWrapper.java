@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * This wrapper records hits, misses and invalidations of a cache in {@link CacheStatistics}. Resolve durations and
+ * evictions are recorded by {@link StatisticsValueResolver} and the cache map (see {@link CacheBuilder}).
+ * <p>
+ * An invalidation which is not propagated any further is counted as cluster invalidation (it was received from another
+ * node, see {@link InvalidateCacheNotification}).
+ *
+ * @since 24.1
+ */
+public class StatisticsCacheWrapper<K, V> extends AbstractCacheWrapper<K, V> {
+  private final CacheStatistics m_statistics;
+
+  public StatisticsCacheWrapper(ICache<K, V> delegate, CacheStatistics statistics) {
+    super(delegate);
+    m_statistics = Assertions.assertNotNull(statistics);
+  }
+
+  public CacheStatistics getStatistics() {
+    return m_statistics;
+  }
+
+  @Override
+  public V get(K key) {
+    if (key == null) {
+      return null;
+    }
+    V value = getCachedValue(key);
+    if (value != null) {
+      m_statistics.recordHits(1);
+      return value;
+    }
+    m_statistics.recordMisses(1);
+    return super.get(key);
+  }
+
+  @Override
+  public Map<K, V> getAll(Collection<? extends K> keys) {
+    if (keys == null || keys.isEmpty()) {
+      return super.getAll(keys);
+    }
+    Map<K, V> result = new HashMap<>();
+    List<K> missingKeys = new ArrayList<>();
+    for (K key : keys) {
+      if (key == null || result.containsKey(key)) {
+        continue;
+      }
+      V value = getCachedValue(key);
+      if (value != null) {
+        result.put(key, value);
+      }
+      else {
+        missingKeys.add(key);
+      }
+    }
+    m_statistics.recordHits(result.size());
+    if (missingKeys.isEmpty()) {
+      return result;
+    }
+    m_statistics.recordMisses(missingKeys.size());
+    result.putAll(super.getAll(missingKeys));
+    return result;
+  }
+
+  @Override
+  public void invalidate(ICacheEntryFilter<K, V> filter, boolean propagate) {
+    m_statistics.recordInvalidation(!propagate);
+    super.invalidate(filter, propagate);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> T getAdapter(Class<T> clazz) {
+    if (clazz == CacheStatistics.class) {
+      return (T) m_statistics;
+    }
+    return super.getAdapter(clazz);
+  }
+
+  /**
+   * Value resolver recording the duration of resolve operations.
+   */
+  public static class StatisticsValueResolver<K, V> implements ICacheValueResolver<K, V> {
+    private final ICacheValueResolver<K, V> m_delegate;
+    private final CacheStatistics m_statistics;
+
+    public StatisticsValueResolver(ICacheValueResolver<K, V> delegate, CacheStatistics statistics) {
+      m_delegate = Assertions.assertNotNull(delegate);
+      m_statistics = Assertions.assertNotNull(statistics);
+    }
+
+    @Override
+    public V resolve(K key) {
+      long start = System.nanoTime();
+      boolean success = false;
+      try {
+        V value = m_delegate.resolve(key);
+        success = true;
+        return value;
+      }
+      finally {
+        m_statistics.recordResolve(System.nanoTime() - start, success);
+      }
+    }
+
+    @Override
+    public Map<K, V> resolveAll(Set<K> keys) {
+      long start = System.nanoTime();
+      boolean success = false;
+      try {
+        Map<K, V> values = m_delegate.resolveAll(keys);
+        success = true;
+        return values;
+      }
+      finally {
+        m_statistics.recordResolve(System.nanoTime() - start, success);
+      }
+    }
+  }
+}
@@ -9,10 +9,13 @@
  */
 package org.eclipse.scout.rt.platform.config;
 
+import java.util.concurrent.TimeUnit;
+
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.internal.PlatformImplementor;
 import org.eclipse.scout.rt.platform.inventory.internal.JandexInventoryBuilder.RebuildStrategy;
+import org.eclipse.scout.rt.platform.job.internal.JobManager.ExecutorMode;
 import org.eclipse.scout.rt.platform.serialization.DefaultSerializerBlacklist;
 import org.eclipse.scout.rt.platform.serialization.DefaultSerializerWhitelist;
 
@@ -240,6 +243,58 @@ public final class PlatformConfigProperties {
     }
   }
 
+  public static class JobManagerExecutorModeProperty extends AbstractConfigProperty<ExecutorMode, String> {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.executorMode";
+    }
+
+    @Override
+    @SuppressWarnings("findbugs:VA_FORMAT_STRING_USES_NEWLINE")
+    public String description() {
+      return String.format("Specifies how the job manager executes jobs. Supported values:\n"
+          + "THREAD_POOL: Jobs are handed over to a pool thread directly. New threads are created until '%s' is reached, further jobs are rejected.\n"
+          + "QUEUED: Like THREAD_POOL, but once '%s' is reached, jobs wait in a queue of capacity '%s' instead of being rejected. Queued jobs with different execution hints are executed alternately, so a burst of similar jobs does not delay all others. "
+          + "Only if the queue is full, further jobs are rejected.\n"
+          + "VIRTUAL_THREADS: Every job runs in a new virtual thread. Requires Java 21 or newer, otherwise THREAD_POOL is used.\n"
+          + "The default value is THREAD_POOL.",
+          BEANS.get(JobManagerMaximumPoolSizeProperty.class).getKey(),
+          BEANS.get(JobManagerMaximumPoolSizeProperty.class).getKey(),
+          BEANS.get(JobManagerQueueCapacityProperty.class).getKey());
+    }
+
+    @Override
+    public ExecutorMode getDefaultValue() {
+      return ExecutorMode.THREAD_POOL;
+    }
+
+    @Override
+    protected ExecutorMode parse(String value) {
+      // throws IllegalArgumentException when invalid
+      return ExecutorMode.valueOf(value.trim().toUpperCase());
+    }
+  }
+
+  public static class JobManagerQueueCapacityProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.queueCapacity";
+    }
+
+    @Override
+    public String description() {
+      return String.format("The maximal number of jobs waiting for a thread if the property '%s' is QUEUED. The default value is 10000.",
+          BEANS.get(JobManagerExecutorModeProperty.class).getKey());
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 10000;
+    }
+  }
+
   public static class DevelopmentTextsFileWatcherEnabledProperty extends AbstractBooleanConfigProperty {
 
     @Override
@@ -370,4 +425,48 @@ public final class PlatformConfigProperties {
       return 500;
     }
   }
+
+  /**
+   * @since 24.1
+   */
+  public static class CacheStatisticsEnabledProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.cache.statisticsEnabled";
+    }
+
+    @Override
+    public String description() {
+      return "Specifies if statistics (hits, misses, resolve durations, evictions and invalidations) are recorded for all caches built by the CacheBuilder. "
+          + "Single caches may enable statistics using ICacheBuilder#withStatistics. The default value is false.";
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  public static class CacheResolveWaitTimeoutProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.cache.resolveWaitTimeout";
+    }
+
+    @Override
+    public String description() {
+      return "The maximal time (in milliseconds) a cache lookup waits for a concurrent resolve of the same key. "
+          + "If the concurrent resolve does not complete within this time, the value is resolved by the waiting lookup itself. The default value is 1 minute.";
+    }
+
+    @Override
+    public Long getDefaultValue() {
+      return TimeUnit.MINUTES.toMillis(1);
+    }
+  }
 }
@@ -31,6 +31,7 @@ import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator
 import org.eclipse.scout.rt.platform.exception.IExceptionTranslator;
 import org.eclipse.scout.rt.platform.logger.DiagnosticContextValueProcessor;
 import org.eclipse.scout.rt.platform.logger.DiagnosticContextValueProcessor.IDiagnosticContextValueProvider;
+import org.eclipse.scout.rt.platform.logger.DiagnosticContextValueProcessorCache;
 import org.eclipse.scout.rt.platform.nls.NlsLocale;
 import org.eclipse.scout.rt.platform.security.SubjectProcessor;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
@@ -182,18 +183,19 @@ public class RunContext implements IAdaptable {
         .withNewTransactionSupplier(m_newTransactionSupplier)
         .withTransactionMembers(m_transactionMembers);
 
+    final DiagnosticContextValueProcessorCache diagnosticProcessors = BEANS.get(DiagnosticContextValueProcessorCache.class);
     return new CallableChain<RESULT>()
         .add(new RunMonitorCancellableProcessor(m_parentRunMonitor, m_runMonitor))
         .add(new ThreadLocalProcessor<>(CURRENT, this))
         .add(new ThreadLocalProcessor<>(CorrelationId.CURRENT, m_correlationId))
         .add(new ThreadLocalProcessor<>(RunMonitor.CURRENT, Assertions.assertNotNull(m_runMonitor)))
         .add(new SubjectProcessor<>(m_subject))
-        .add(new DiagnosticContextValueProcessor(BEANS.get(PrinicpalContextValueProvider.class)))
-        .add(new DiagnosticContextValueProcessor(BEANS.get(CorrelationIdContextValueProvider.class)))
+        .add(diagnosticProcessors.get(PrinicpalContextValueProvider.class))
+        .add(diagnosticProcessors.get(CorrelationIdContextValueProvider.class))
         .add(new ThreadLocalProcessor<>(NlsLocale.CURRENT, m_locale))
         .add(new ThreadLocalProcessor<>(PropertyMap.CURRENT, m_propertyMap))
         .addAll(m_threadLocalProcessors.values())
-        .addAll(contributions.asList())
+        .addAll(contributions.values())
         .addAll(m_diagnosticProcessors.values())
         .add(transactionProcessor)
         .addAll(m_interceptors);
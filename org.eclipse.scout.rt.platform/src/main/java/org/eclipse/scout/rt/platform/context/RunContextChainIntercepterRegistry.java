@@ -10,7 +10,10 @@
 package org.eclipse.scout.rt.platform.context;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.annotation.PostConstruct;
 
@@ -27,11 +30,17 @@ public class RunContextChainIntercepterRegistry {
 
   private final TypeParameterBeanRegistry<IRunContextChainInterceptorProducer> m_runContextInterceptorProducers = new TypeParameterBeanRegistry<>(IRunContextChainInterceptorProducer.class);
 
+  /**
+   * Producers per run context class, computed upon the first lookup.
+   */
+  private final Map<Class<?>, List<IRunContextChainInterceptorProducer>> m_producersByRunContextClass = new ConcurrentHashMap<>();
+
   private IRegistrationHandle m_registrationHandle;
 
   @PostConstruct
   protected void buildProducerLinking() {
     m_registrationHandle = m_runContextInterceptorProducers.registerBeans(BEANS.all(IRunContextChainInterceptorProducer.class));
+    m_producersByRunContextClass.clear();
   }
 
   /**
@@ -42,13 +51,14 @@ public class RunContextChainIntercepterRegistry {
     buildProducerLinking();
   }
 
+  /**
+   * @return the unmodifiable list of producers for the given run context class. This method is called for every
+   *         {@link RunContext} created, hence the result is computed only once per class.
+   */
   @SuppressWarnings("unchecked")
   public <T extends RunContext> List<IRunContextChainInterceptorProducer<T>> getRunContextInterceptorProducer(Class<?> runContextClass) {
-    List<IRunContextChainInterceptorProducer<T>> result = new ArrayList<>();
-    List<IRunContextChainInterceptorProducer> beans = m_runContextInterceptorProducers.getBeans(runContextClass);
-    for (IRunContextChainInterceptorProducer iRunContextChainInterceptorProducer : beans) {
-      result.add(iRunContextChainInterceptorProducer);
-    }
-    return result;
+    List<IRunContextChainInterceptorProducer> producers = m_producersByRunContextClass.computeIfAbsent(runContextClass,
+        k -> Collections.unmodifiableList(new ArrayList<>(m_runContextInterceptorProducers.getBeans(k))));
+    return (List<IRunContextChainInterceptorProducer<T>>) (List<?>) producers;
   }
 }
@@ -10,6 +10,7 @@
 package org.eclipse.scout.rt.platform.filter;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -35,6 +36,13 @@ public class AndFilter<ELEMENT> implements Predicate<ELEMENT> {
     m_filters = CollectionUtility.arrayList(filters);
   }
 
+  /**
+   * @return the Filters combined by this filter.
+   */
+  public List<Predicate<ELEMENT>> getFilters() {
+    return Collections.unmodifiableList(m_filters);
+  }
+
   @Override
   public boolean test(final ELEMENT element) {
     for (final Predicate<ELEMENT> filter : m_filters) {
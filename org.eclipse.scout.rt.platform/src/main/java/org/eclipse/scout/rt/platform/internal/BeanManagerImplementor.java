@@ -19,6 +19,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
@@ -45,6 +46,11 @@ public class BeanManagerImplementor implements IBeanManager {
    * BeanHierarchies are only accessed when we have acquired {@link #m_lock}.
    */
   private final Map<Class<?>, BeanHierarchy> m_beanHierarchies;
+  /**
+   * Snapshot of the (decorated) query results per bean class. It is replaced by an empty one whenever beans are
+   * registered or unregistered, hence queries for already resolved bean classes don't need to acquire {@link #m_lock}.
+   */
+  private volatile QueryCache m_queryCache;
   private IBeanDecorationFactory m_beanDecorationFactory;
 
   public BeanManagerImplementor() {
@@ -54,6 +60,7 @@ public class BeanManagerImplementor implements IBeanManager {
   public BeanManagerImplementor(IBeanDecorationFactory f) {
     m_lock = new ReentrantReadWriteLock(true);
     m_beanHierarchies = new HashMap<>();
+    m_queryCache = new QueryCache();
     m_beanDecorationFactory = f;
   }
 
@@ -67,38 +74,49 @@ public class BeanManagerImplementor implements IBeanManager {
 
   protected <T> List<IBean<T>> querySingle(Class<T> beanClazz) {
     checkAccess();
+    return query(beanClazz, true);
+  }
+
+  protected <T> List<IBean<T>> queryAll(Class<T> beanClazz) {
+    checkAccess();
+    return query(beanClazz, false);
+  }
+
+  /**
+   * @return the unmodifiable (decorated) result of {@link BeanHierarchy#querySingle()} or
+   *         {@link BeanHierarchy#queryAll()} from the {@link #m_queryCache}. The lock is only acquired if the bean class
+   *         has not been queried since the last change of the registered beans.
+   */
+  @SuppressWarnings("unchecked")
+  protected <T> List<IBean<T>> query(Class<T> beanClazz, boolean querySingle) {
+    List<IBean<T>> result = (List<IBean<T>>) m_queryCache.get(beanClazz, querySingle);
+    if (result != null) {
+      return result;
+    }
+
     m_lock.readLock().lock();
     try {
-      @SuppressWarnings("unchecked")
       BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
       if (h == null) {
-        return Collections.emptyList();
+        result = Collections.emptyList();
       }
       else {
-        List<IBean<T>> singleBean = h.querySingle();
-        return getDecoratedBeans(singleBean, beanClazz);
+        result = Collections.unmodifiableList(getDecoratedBeans(querySingle ? h.querySingle() : h.queryAll(), beanClazz));
       }
+      // the cache is only replaced while holding the write lock: read it again to not add the result to an outdated one
+      m_queryCache.put(beanClazz, querySingle, result);
+      return result;
     }
     finally {
       m_lock.readLock().unlock();
     }
   }
 
-  protected <T> List<IBean<T>> queryAll(Class<T> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      checkAccess();
-      @SuppressWarnings("unchecked")
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return Collections.emptyList();
-      }
-      List<IBean<T>> allBeans = h.queryAll();
-      return getDecoratedBeans(allBeans, beanClazz);
-    }
-    finally {
-      m_lock.readLock().unlock();
-    }
+  /**
+   * Discards all cached query results. Must be called whenever the result of a query may change.
+   */
+  protected void invalidateQueryCache() {
+    m_queryCache = new QueryCache();
   }
 
   protected Collection<Class<?>> listImplementedTypes(IBean<?> bean) {
@@ -164,6 +182,7 @@ public class BeanManagerImplementor implements IBeanManager {
         BeanHierarchy h = m_beanHierarchies.computeIfAbsent(type, k -> new BeanHierarchy(type));
         h.addBean(bean);
       }
+      invalidateQueryCache();
       return bean;
     }
     finally {
@@ -183,6 +202,7 @@ public class BeanManagerImplementor implements IBeanManager {
           h.removeBean(bean);
         }
       }
+      invalidateQueryCache();
       if (bean instanceof BeanImplementor) {
         ((BeanImplementor) bean).dispose();
       }
@@ -325,7 +345,14 @@ public class BeanManagerImplementor implements IBeanManager {
   }
 
   protected void setBeanDecorationFactory(IBeanDecorationFactory f) {
-    m_beanDecorationFactory = f;
+    m_lock.writeLock().lock();
+    try {
+      m_beanDecorationFactory = f;
+      invalidateQueryCache();
+    }
+    finally {
+      m_lock.writeLock().unlock();
+    }
   }
 
   protected IBeanDecorationFactory getBeanDecorationFactory() {
@@ -363,4 +390,20 @@ public class BeanManagerImplementor implements IBeanManager {
   public static boolean isApplicationScoped(IBean<?> bean) {
     return bean.hasAnnotation(ApplicationScoped.class);
   }
+
+  /**
+   * Resolved query results per bean class, filled lazily.
+   */
+  protected static class QueryCache {
+    private final Map<Class<?>, List<? extends IBean<?>>> m_single = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<? extends IBean<?>>> m_all = new ConcurrentHashMap<>();
+
+    public List<? extends IBean<?>> get(Class<?> beanClazz, boolean querySingle) {
+      return (querySingle ? m_single : m_all).get(beanClazz);
+    }
+
+    public void put(Class<?> beanClazz, boolean querySingle, List<? extends IBean<?>> beans) {
+      (querySingle ? m_single : m_all).put(beanClazz, beans);
+    }
+  }
 }
@@ -9,7 +9,8 @@
  */
 package org.eclipse.scout.rt.platform.job.filter.future;
 
-import java.util.function.Predicate;
+import java.util.Collections;
+import java.util.Set;
 
 import org.eclipse.scout.rt.platform.job.IFuture;
 
@@ -18,7 +19,7 @@ import org.eclipse.scout.rt.platform.job.IFuture;
  *
  * @since 5.2
  */
-public class ExecutionHintFutureFilter implements Predicate<IFuture<?>> {
+public class ExecutionHintFutureFilter implements IIndexedFutureFilter {
 
   private final String m_hint;
 
@@ -30,4 +31,9 @@ public class ExecutionHintFutureFilter implements Predicate<IFuture<?>> {
   public boolean test(final IFuture<?> future) {
     return future.containsExecutionHint(m_hint);
   }
+
+  @Override
+  public Set<FutureIndexKey> getIndexKeys() {
+    return Collections.singleton(FutureIndexKey.executionHint(m_hint));
+  }
 }
@@ -9,7 +9,8 @@
  */
 package org.eclipse.scout.rt.platform.job.filter.future;
 
-import java.util.function.Predicate;
+import java.util.Collections;
+import java.util.Set;
 
 import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
 import org.eclipse.scout.rt.platform.job.IFuture;
@@ -20,7 +21,7 @@ import org.eclipse.scout.rt.platform.util.ObjectUtility;
  *
  * @since 5.1
  */
-public class ExecutionSemaphoreFutureFilter implements Predicate<IFuture<?>> {
+public class ExecutionSemaphoreFutureFilter implements IIndexedFutureFilter {
 
   private final IExecutionSemaphore m_semaphore;
 
@@ -32,4 +33,12 @@ public class ExecutionSemaphoreFutureFilter implements Predicate<IFuture<?>> {
   public boolean test(final IFuture<?> future) {
     return ObjectUtility.equals(m_semaphore, future.getJobInput().getExecutionSemaphore());
   }
+
+  @Override
+  public Set<FutureIndexKey> getIndexKeys() {
+    if (m_semaphore == null) {
+      return null; // Futures without a semaphore are not indexed
+    }
+    return Collections.singleton(FutureIndexKey.executionSemaphore(m_semaphore));
+  }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.filter.future;
+
+import java.util.Objects;
+
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.JobState;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.ToStringBuilder;
+
+/**
+ * Key under which a Future is indexed by the job manager, so that {@link IIndexedFutureFilter}s do not need to scan
+ * all Futures. A key consists of a kind, which identifies the property the key is built from, and the property's
+ * value.
+ *
+ * @since 24.1
+ * @see IIndexedFutureFilter
+ * @see IFutureIndexKeyContributor
+ */
+public final class FutureIndexKey {
+
+  private final Object m_kind;
+  private final Object m_value;
+  private final int m_hashCode;
+
+  private FutureIndexKey(final Object kind, final Object value) {
+    m_kind = Assertions.assertNotNull(kind, "kind must not be null");
+    m_value = value;
+    m_hashCode = 31 * kind.hashCode() + Objects.hashCode(value);
+  }
+
+  public Object getKind() {
+    return m_kind;
+  }
+
+  public Object getValue() {
+    return m_value;
+  }
+
+  /**
+   * Key for Futures tagged with the given execution hint.
+   */
+  public static FutureIndexKey executionHint(final String hint) {
+    return new FutureIndexKey(Kind.EXECUTION_HINT, hint);
+  }
+
+  /**
+   * Key for Futures assigned to the given {@link IExecutionSemaphore}.
+   */
+  public static FutureIndexKey executionSemaphore(final IExecutionSemaphore semaphore) {
+    return new FutureIndexKey(Kind.EXECUTION_SEMAPHORE, semaphore);
+  }
+
+  /**
+   * Key for Futures in the given {@link JobState}.
+   */
+  public static FutureIndexKey state(final JobState state) {
+    return new FutureIndexKey(Kind.STATE, state);
+  }
+
+  /**
+   * Key for Futures with the given value of a property contributed by an {@link IFutureIndexKeyContributor}. The
+   * <code>kind</code> is typically the type of the value, e.g. <code>ISession.class</code>.
+   */
+  public static FutureIndexKey of(final Class<?> kind, final Object value) {
+    return new FutureIndexKey(kind, value);
+  }
+
+  @Override
+  public int hashCode() {
+    return m_hashCode;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    final FutureIndexKey other = (FutureIndexKey) obj;
+    return m_kind.equals(other.m_kind) && Objects.equals(m_value, other.m_value);
+  }
+
+  @Override
+  public String toString() {
+    final ToStringBuilder builder = new ToStringBuilder(this);
+    builder.attr("kind", m_kind);
+    builder.attr("value", m_value);
+    return builder.toString();
+  }
+
+  private enum Kind {
+    EXECUTION_HINT, EXECUTION_SEMAPHORE, STATE
+  }
+}
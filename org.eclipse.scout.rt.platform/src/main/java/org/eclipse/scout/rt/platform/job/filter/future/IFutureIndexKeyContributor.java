@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.filter.future;
+
+import java.util.Collection;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.job.IFuture;
+
+/**
+ * Contributes additional {@link FutureIndexKey}s under which a Future is indexed by the job manager.
+ * <p>
+ * The keys are computed once when the Future is scheduled, and must therefore be derived from properties which do not
+ * change during the lifetime of the Future, e.g. its {@link IFuture#getJobInput()}.
+ *
+ * @since 24.1
+ */
+@ApplicationScoped
+public interface IFutureIndexKeyContributor {
+
+  /**
+   * Adds the index keys of the given Future to the given collection.
+   */
+  void contributeIndexKeys(IFuture<?> future, Collection<FutureIndexKey> keys);
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.filter.future;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.IJobManager;
+
+/**
+ * Future filter which can be answered by the job manager's index instead of scanning all Futures.
+ * <p>
+ * The filter may only accept Futures which are indexed by at least one of the keys returned by
+ * {@link #getIndexKeys()}. The Futures found that way are still tested against this filter, so the keys only have to
+ * narrow down the candidates.
+ *
+ * @since 24.1
+ * @see IJobManager#getFutures(Predicate)
+ */
+public interface IIndexedFutureFilter extends Predicate<IFuture<?>> {
+
+  /**
+   * @return keys of which a Future must have one at minimum to be accepted by this filter, or <code>null</code> if
+   *         this filter cannot be answered by the index, e.g. because it also accepts Futures without such a key.
+   */
+  Set<FutureIndexKey> getIndexKeys();
+}
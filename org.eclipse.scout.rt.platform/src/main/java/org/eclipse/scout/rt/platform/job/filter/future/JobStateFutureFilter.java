@@ -12,7 +12,6 @@ package org.eclipse.scout.rt.platform.job.filter.future;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.function.Predicate;
 
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.JobState;
@@ -22,7 +21,7 @@ import org.eclipse.scout.rt.platform.job.JobState;
  *
  * @since 5.2
  */
-public class JobStateFutureFilter implements Predicate<IFuture<?>> {
+public class JobStateFutureFilter implements IIndexedFutureFilter {
 
   private final Set<JobState> m_states;
 
@@ -34,4 +33,13 @@ public class JobStateFutureFilter implements Predicate<IFuture<?>> {
   public boolean test(final IFuture<?> future) {
     return m_states.contains(future.getState());
   }
+
+  @Override
+  public Set<FutureIndexKey> getIndexKeys() {
+    final Set<FutureIndexKey> keys = new HashSet<>(m_states.size());
+    for (final JobState state : m_states) {
+      keys.add(FutureIndexKey.state(state));
+    }
+    return keys;
+  }
 }
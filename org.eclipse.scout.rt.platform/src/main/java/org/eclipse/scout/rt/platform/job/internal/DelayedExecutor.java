@@ -9,17 +9,22 @@
  */
 package org.eclipse.scout.rt.platform.job.internal;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Date;
-import java.util.concurrent.DelayQueue;
-import java.util.concurrent.Delayed;
+import java.util.List;
+import java.util.PriorityQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.scout.rt.platform.job.internal.NamedThreadFactory.ThreadInfo;
 import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,6 +39,13 @@ import org.slf4j.LoggerFactory;
  * <p>
  * Also, this executor is used over Quartz Scheduler because of its better performance when having more than 10'000 jobs
  * running simultaneously.
+ * <p>
+ * Runnables are kept in a hierarchical timing wheel: every wheel consists of {@link #WHEEL_SIZE} buckets, and each
+ * bucket of a wheel spans the whole range of the wheel below. Scheduling and cancelling a Runnable is therefore done in
+ * constant time, and a cancelled Runnable is removed immediately. Only the non-empty buckets are ordered by their
+ * expiration, so that the dispatch loop can sleep until the next bucket expires. Once a bucket of an upper wheel
+ * expires, its Runnables are distributed to the wheels below. All Runnables expired at the same time are run as one
+ * batch in the order of their fire time.
  *
  * @since 5.1
  */
@@ -41,10 +53,25 @@ class DelayedExecutor {
 
   private static final Logger LOG = LoggerFactory.getLogger(DelayedExecutor.class);
 
+  /**
+   * Number of buckets per wheel.
+   */
+  static final int WHEEL_SIZE = 256;
+
+  /**
+   * Time span of a bucket of the lowest wheel.
+   */
+  static final long TICK_MILLIS = 1;
+
   private final ExecutorService m_executor;
   private final String m_threadName;
   private final AtomicLong m_sequencer = new AtomicLong(-Long.MAX_VALUE);
-  private final DelayQueue<P_DelayedTask> m_delayedTaskQueue = new DelayQueue<>();
+
+  private final ReentrantLock m_lock = new ReentrantLock();
+  private final Condition m_changedCondition = m_lock.newCondition();
+  private final PriorityQueue<P_Bucket> m_bucketQueue = new PriorityQueue<>(Comparator.comparingLong(P_Bucket::getExpiration));
+  private final List<P_DelayedTask> m_expiredTasks = new ArrayList<>();
+  private final P_TimingWheel m_timingWheel;
 
   /**
    * @param executor
@@ -55,6 +82,7 @@ class DelayedExecutor {
   DelayedExecutor(final ExecutorService executor, final String threadName) {
     m_executor = executor;
     m_threadName = threadName;
+    m_timingWheel = new P_TimingWheel(TICK_MILLIS, System.currentTimeMillis());
     m_executor.execute(new P_DispatchLoop());
   }
 
@@ -69,10 +97,91 @@ class DelayedExecutor {
    *          the Runnable to be executed some time in the future.
    * @param fireTime
    *          the time the Runnable should commence execution. Must not be <code>null</code>.
+   * @return handle to cancel the execution of the Runnable, if not commenced yet.
    */
-  public void schedule(final Runnable runnable, final Date fireTime) {
+  public IRegistrationHandle schedule(final Runnable runnable, final Date fireTime) {
     Assertions.assertNotNull(fireTime, "FireTime must not be null");
-    m_delayedTaskQueue.put(new P_DelayedTask(runnable, fireTime));
+    final P_DelayedTask task = new P_DelayedTask(runnable, fireTime);
+
+    m_lock.lock();
+    try {
+      add(task);
+
+      // Wake up the dispatch loop if the task is to be run before all other tasks.
+      if (task.m_bucket == null || m_bucketQueue.peek() == task.m_bucket) {
+        m_changedCondition.signal();
+      }
+    }
+    finally {
+      m_lock.unlock();
+    }
+    return task;
+  }
+
+  /**
+   * Returns the number of Runnables which are scheduled and did not expire yet.
+   */
+  int size() {
+    m_lock.lock();
+    try {
+      int size = 0;
+      for (final P_Bucket bucket : m_bucketQueue) {
+        size += bucket.m_size;
+      }
+      return size;
+    }
+    finally {
+      m_lock.unlock();
+    }
+  }
+
+  /**
+   * Adds the given task to the timing wheel, or to the expired tasks if its fire time already elapsed. Must be invoked
+   * while holding the lock.
+   */
+  private void add(final P_DelayedTask task) {
+    if (!m_timingWheel.add(task)) {
+      m_expiredTasks.add(task);
+    }
+  }
+
+  /**
+   * Blocks until Runnables expired, and returns them ordered by their fire time.
+   */
+  private List<P_DelayedTask> awaitExpiredTasks() throws InterruptedException {
+    m_lock.lockInterruptibly();
+    try {
+      while (m_expiredTasks.isEmpty()) {
+        final P_Bucket nextBucket = m_bucketQueue.peek();
+        if (nextBucket == null) {
+          m_changedCondition.await();
+          continue;
+        }
+
+        final long now = System.currentTimeMillis();
+        final long delay = nextBucket.getExpiration() - now;
+        if (delay > 0) {
+          m_changedCondition.await(delay, TimeUnit.MILLISECONDS);
+          continue;
+        }
+
+        // Flush all expired buckets. Tasks of upper wheels are moved to the wheels below, or are expired.
+        P_Bucket bucket;
+        while ((bucket = m_bucketQueue.peek()) != null && bucket.getExpiration() <= now) {
+          m_bucketQueue.poll();
+          m_timingWheel.advanceClock(bucket.getExpiration());
+          bucket.flush();
+        }
+      }
+
+      final List<P_DelayedTask> expiredTasks = new ArrayList<>(m_expiredTasks);
+      m_expiredTasks.clear();
+      expiredTasks.sort(null);
+      return expiredTasks;
+    }
+    finally {
+      m_lock.unlock();
+    }
   }
 
   /**
@@ -80,7 +189,6 @@ class DelayedExecutor {
    * <code>value1</code> is greater than <code>value2</code>, or <code>0</code> if the two values are equals.
    */
   private int signum(final long value1, final long value2) {
-    // do not subtract because of potential overflow.
     // do not subtract because of potential overflow.
     return Long.compare(value1, value2);
   }
@@ -97,7 +205,9 @@ class DelayedExecutor {
       try {
         while (!m_executor.isShutdown()) {
           try {
-            m_delayedTaskQueue.take().run(); // 'DelayQueue#take' blocks until a Runnable's delay expired to be executed.
+            for (final P_DelayedTask task : awaitExpiredTasks()) { // blocks until a Runnable's delay expired to be executed.
+              runSafe(task);
+            }
           }
           catch (final InterruptedException e) {
             Thread.interrupted(); // ensure the interrupted status to be cleared.
@@ -111,20 +221,189 @@ class DelayedExecutor {
         ThreadInfo.CURRENT.get().reset();
       }
     }
+
+    private void runSafe(final P_DelayedTask task) {
+      if (task.m_disposed) {
+        return;
+      }
+
+      try {
+        task.run();
+      }
+      catch (final RuntimeException | Error t) { // NOSONAR
+        LOG.error("Unexpected exception while executing expired runnable.", t);
+      }
+    }
+  }
+
+  /**
+   * Wheel of {@link #WHEEL_SIZE} buckets, each spanning the time of one tick.
+   */
+  private class P_TimingWheel {
+
+    private final long m_tickMillis;
+    private final long m_interval;
+    private final P_Bucket[] m_buckets;
+    private long m_currentTime;
+    private P_TimingWheel m_overflowWheel;
+
+    P_TimingWheel(final long tickMillis, final long startTime) {
+      m_tickMillis = tickMillis;
+      m_interval = tickMillis * WHEEL_SIZE;
+      m_buckets = new P_Bucket[WHEEL_SIZE];
+      for (int i = 0; i < WHEEL_SIZE; i++) {
+        m_buckets[i] = new P_Bucket();
+      }
+      m_currentTime = startTime - (startTime % tickMillis);
+    }
+
+    /**
+     * Adds the given task to the bucket of its fire time in this or an upper wheel.
+     *
+     * @return <code>false</code> if the task is already expired.
+     */
+    boolean add(final P_DelayedTask task) {
+      long fireTime = task.m_fireTime;
+      if (fireTime < m_currentTime + m_tickMillis) {
+        return false;
+      }
+
+      if (fireTime - m_currentTime >= m_interval) {
+        if (m_interval <= Long.MAX_VALUE / WHEEL_SIZE) {
+          if (m_overflowWheel == null) {
+            m_overflowWheel = new P_TimingWheel(m_interval, m_currentTime);
+          }
+          return m_overflowWheel.add(task);
+        }
+
+        // The interval of an upper wheel would overflow, which is beyond two million years. Put into the last bucket.
+        fireTime = m_currentTime + m_interval - m_tickMillis;
+      }
+
+      final long virtualId = fireTime / m_tickMillis;
+      final P_Bucket bucket = m_buckets[(int) (virtualId % WHEEL_SIZE)];
+      bucket.add(task);
+      if (bucket.setExpiration(virtualId * m_tickMillis)) {
+        m_bucketQueue.offer(bucket);
+      }
+      return true;
+    }
+
+    /**
+     * Advances the clock of this and all upper wheels to the given time.
+     */
+    void advanceClock(final long time) {
+      if (time >= m_currentTime + m_tickMillis) {
+        m_currentTime = time - (time % m_tickMillis);
+        if (m_overflowWheel != null) {
+          m_overflowWheel.advanceClock(m_currentTime);
+        }
+      }
+    }
+  }
+
+  /**
+   * Bucket of a {@link P_TimingWheel} containing the tasks of one tick as doubly-linked list.
+   */
+  private class P_Bucket {
+
+    private P_DelayedTask m_head;
+    private P_DelayedTask m_tail;
+    private int m_size;
+    private long m_expiration = -1;
+
+    long getExpiration() {
+      return m_expiration;
+    }
+
+    /**
+     * @return <code>true</code> if the expiration changed, meaning that this bucket is to be queued.
+     */
+    boolean setExpiration(final long expiration) {
+      if (m_expiration == expiration) {
+        return false;
+      }
+      m_expiration = expiration;
+      return true;
+    }
+
+    void add(final P_DelayedTask task) {
+      task.m_bucket = this;
+      task.m_prev = m_tail;
+      task.m_next = null;
+      if (m_tail == null) {
+        m_head = task;
+      }
+      else {
+        m_tail.m_next = task;
+      }
+      m_tail = task;
+      m_size++;
+    }
+
+    void remove(final P_DelayedTask task) {
+      if (task.m_bucket != this) {
+        return;
+      }
+
+      if (task.m_prev == null) {
+        m_head = task.m_next;
+      }
+      else {
+        task.m_prev.m_next = task.m_next;
+      }
+      if (task.m_next == null) {
+        m_tail = task.m_prev;
+      }
+      else {
+        task.m_next.m_prev = task.m_prev;
+      }
+      task.m_bucket = null;
+      task.m_prev = null;
+      task.m_next = null;
+      m_size--;
+    }
+
+    /**
+     * Removes all tasks from this bucket, and adds them anew, so that they are moved to a lower wheel or expire.
+     */
+    void flush() {
+      P_DelayedTask task = m_head;
+      m_head = null;
+      m_tail = null;
+      m_size = 0;
+      m_expiration = -1;
+
+      while (task != null) {
+        final P_DelayedTask next = task.m_next;
+        task.m_bucket = null;
+        task.m_prev = null;
+        task.m_next = null;
+        DelayedExecutor.this.add(task);
+        task = next;
+      }
+    }
   }
 
   /**
    * Represents a task to be executed some time in the future.
    */
-  private class P_DelayedTask implements Delayed, Runnable {
+  private class P_DelayedTask implements Runnable, Comparable<P_DelayedTask>, IRegistrationHandle {
 
     private final Runnable m_runnable;
-    private final long m_executionTime;
+    private final long m_fireTime;
     private final long m_sequenceNumber;
 
+    // guarded by the lock of the DelayedExecutor
+    private P_Bucket m_bucket;
+    private P_DelayedTask m_prev;
+    private P_DelayedTask m_next;
+
+    private volatile boolean m_disposed;
+
     P_DelayedTask(final Runnable runnable, final Date fireTime) {
       m_runnable = runnable;
-      m_executionTime = fireTime.getTime();
+      m_fireTime = fireTime.getTime();
       m_sequenceNumber = m_sequencer.incrementAndGet();
     }
 
@@ -134,23 +413,32 @@ class DelayedExecutor {
     }
 
     @Override
-    public long getDelay(final TimeUnit unit) {
-      return unit.convert(m_executionTime - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    public void dispose() {
+      m_disposed = true;
+
+      m_lock.lock();
+      try {
+        if (m_bucket != null) {
+          m_bucket.remove(this);
+        }
+      }
+      finally {
+        m_lock.unlock();
+      }
     }
 
     @Override
-    public int compareTo(final Delayed other) {
+    public int compareTo(final P_DelayedTask other) {
       if (other == this) { // NOSONAR
         return 0;
       }
 
-      final P_DelayedTask otherDelayedTask = (P_DelayedTask) other;
-      final int signum = signum(m_executionTime, otherDelayedTask.m_executionTime);
+      final int signum = signum(m_fireTime, other.m_fireTime);
       if (signum != 0) {
         return signum;
       }
       else {
-        return signum(m_sequenceNumber, otherDelayedTask.m_sequenceNumber);
+        return signum(m_sequenceNumber, other.m_sequenceNumber);
       }
     }
   }
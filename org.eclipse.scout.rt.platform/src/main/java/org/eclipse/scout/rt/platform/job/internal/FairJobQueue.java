@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.job.IBlockingCondition;
+import org.eclipse.scout.rt.platform.job.JobInput;
+
+/**
+ * Bounded work queue of the job manager's {@link ThreadPoolExecutor} which orders the waiting jobs fairly by their
+ * execution hints (see {@link JobInput#getExecutionHints()}).
+ * <p>
+ * Jobs with the same execution hints form a group. Within a group, jobs are executed in the order they were queued,
+ * but the groups take turns: every job gets a tag one greater than the tag of the previous job of its group, but at
+ * least one greater than the tag of the job which was taken from the queue last. Jobs are taken in the order of their
+ * tags. Hence, a burst of similar jobs does not delay jobs of other groups which are queued afterwards.
+ * <p>
+ * If an executor is set ({@link #setExecutor(ThreadPoolExecutor)}), {@link #offer(Runnable)} returns <code>false</code>
+ * as long as no thread is idle and the executor has not reached its maximum pool size, so that the executor creates a
+ * new thread instead of queueing the job. The executor reports running jobs by {@link #beforeExecute()} and
+ * {@link #afterExecute()}. Otherwise, jobs waiting in the queue for a thread to become idle could block
+ * these threads, e.g. if they wait for the jobs by {@link IBlockingCondition}. Once the queue contains the given
+ * number of jobs, {@link #offer(Runnable)} returns <code>false</code> as well and the executor rejects the job. The
+ * capacity is not enforced atomically, concurrent offers may exceed it slightly.
+ *
+ * @since 24.1
+ */
+public class FairJobQueue extends PriorityBlockingQueue<Runnable> {
+  private static final long serialVersionUID = 1L;
+
+  private static final Object NO_HINTS = Collections.emptySet();
+  private static final int CLEANUP_THRESHOLD = 64;
+
+  private final int m_capacity;
+  private final Object m_tagLock = new Object();
+  private final Map<Object, Long> m_lastTags = new HashMap<>(); // group -> tag of its last queued job
+  private long m_virtualTime; // tag of the job taken last
+  private long m_sequence;
+  private final AtomicInteger m_activeCount = new AtomicInteger();
+  private transient volatile ThreadPoolExecutor m_executor;
+
+  public FairJobQueue(final int capacity) {
+    super(11, Comparator.comparingLong((Runnable entry) -> ((QueueEntry) entry).m_tag).thenComparingLong(entry -> ((QueueEntry) entry).m_sequence));
+    m_capacity = capacity;
+  }
+
+  public int getCapacity() {
+    return m_capacity;
+  }
+
+  /**
+   * @param executor
+   *          the executor using this queue, it creates new threads up to its maximum pool size before jobs are queued
+   */
+  public void setExecutor(final ThreadPoolExecutor executor) {
+    m_executor = executor;
+  }
+
+  public ThreadPoolExecutor getExecutor() {
+    return m_executor;
+  }
+
+  /**
+   * Invoked by the executor before a thread runs a job, see {@link ThreadPoolExecutor#beforeExecute(Thread, Runnable)}.
+   */
+  public void beforeExecute() {
+    m_activeCount.incrementAndGet();
+  }
+
+  /**
+   * Invoked by the executor after a thread ran a job, see {@link ThreadPoolExecutor#afterExecute(Runnable, Throwable)}.
+   */
+  public void afterExecute() {
+    m_activeCount.decrementAndGet();
+  }
+
+  /**
+   * @return the number of threads running a job, unlike {@link ThreadPoolExecutor#getActiveCount()} without acquiring
+   *         the lock of the executor
+   */
+  public int getActiveCount() {
+    return m_activeCount.get();
+  }
+
+  @Override
+  public boolean offer(final Runnable runnable) {
+    if (size() >= m_capacity) {
+      return false;
+    }
+    final ThreadPoolExecutor executor = m_executor;
+    if (executor != null) {
+      final int poolSize = executor.getPoolSize();
+      if (poolSize < executor.getMaximumPoolSize() && getActiveCount() + size() >= poolSize) {
+        // no idle thread, the executor creates a new one
+        return false;
+      }
+    }
+    return enqueue(runnable);
+  }
+
+  /**
+   * Queues the runnable even if the executor has not reached its maximum pool size. Used if the executor could not
+   * create a new thread after {@link #offer(Runnable)} returned <code>false</code>, because the maximum pool size was
+   * reached concurrently.
+   *
+   * @return <code>false</code> if the queue is full
+   */
+  public boolean force(final Runnable runnable) {
+    if (size() >= m_capacity) {
+      return false;
+    }
+    return enqueue(runnable);
+  }
+
+  protected boolean enqueue(final Runnable runnable) {
+    final Object group = getGroup(runnable);
+    final QueueEntry entry;
+    synchronized (m_tagLock) {
+      final long tag = Math.max(m_virtualTime, m_lastTags.getOrDefault(group, 0L)) + 1;
+      m_lastTags.put(group, tag);
+      entry = new QueueEntry(runnable, tag, ++m_sequence);
+      if (m_lastTags.size() > CLEANUP_THRESHOLD) {
+        // groups without queued jobs are equivalent to unknown groups
+        m_lastTags.values().removeIf(lastTag -> lastTag <= m_virtualTime);
+      }
+    }
+    return super.offer(entry);
+  }
+
+  @Override
+  public Runnable poll() {
+    return taken(super.poll());
+  }
+
+  @Override
+  public Runnable poll(final long timeout, final TimeUnit unit) throws InterruptedException {
+    return taken(super.poll(timeout, unit));
+  }
+
+  @Override
+  public Runnable take() throws InterruptedException {
+    return taken(super.take());
+  }
+
+  @Override
+  public int drainTo(final Collection<? super Runnable> c) {
+    return drainTo(c, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public int drainTo(final Collection<? super Runnable> c, final int maxElements) {
+    if (c == this) {
+      throw new IllegalArgumentException();
+    }
+    final List<Runnable> entries = new ArrayList<>();
+    final int count = super.drainTo(entries, maxElements);
+    for (final Runnable entry : entries) {
+      c.add(taken(entry));
+    }
+    return count;
+  }
+
+  @Override
+  public boolean remove(final Object o) {
+    // the executor removes the runnables it has given to the queue, not the entries
+    for (final Iterator<Runnable> it = iterator(); it.hasNext();) {
+      final QueueEntry entry = (QueueEntry) it.next();
+      if (entry == o || entry.m_runnable == o) {
+        return super.remove(entry);
+      }
+    }
+    return false;
+  }
+
+  protected Runnable taken(final Runnable entry) {
+    if (entry != null) {
+      synchronized (m_tagLock) {
+        m_virtualTime = Math.max(m_virtualTime, ((QueueEntry) entry).m_tag);
+      }
+    }
+    return entry;
+  }
+
+  /**
+   * @return the group of the given runnable, jobs of the same group are executed in the order they were queued
+   */
+  protected Object getGroup(final Runnable runnable) {
+    JobFutureTask<?> futureTask = null;
+    if (runnable instanceof JobFutureTask) {
+      futureTask = (JobFutureTask<?>) runnable;
+    }
+    else if (runnable instanceof FutureRunner) {
+      futureTask = ((FutureRunner<?>) runnable).getFutureTask();
+    }
+    if (futureTask == null || futureTask.getJobInput().getExecutionHints().isEmpty()) {
+      return NO_HINTS;
+    }
+    return Set.copyOf(futureTask.getJobInput().getExecutionHints());
+  }
+
+  /**
+   * Queued runnable, delegates rejection to the runnable if it is an {@link IRejectableRunnable}.
+   */
+  protected static final class QueueEntry implements IRejectableRunnable {
+    private final Runnable m_runnable;
+    private final long m_tag;
+    private final long m_sequence;
+
+    QueueEntry(final Runnable runnable, final long tag, final long sequence) {
+      m_runnable = runnable;
+      m_tag = tag;
+      m_sequence = sequence;
+    }
+
+    @Override
+    public void run() {
+      m_runnable.run();
+    }
+
+    @Override
+    public void reject() {
+      if (m_runnable instanceof IRejectableRunnable) {
+        ((IRejectableRunnable) m_runnable).reject();
+      }
+    }
+
+    @Override
+    public String toString() {
+      return m_runnable.toString();
+    }
+  }
+}
@@ -57,7 +57,7 @@ public class FutureRunner<RESULT> implements IRejectableRunnable {
     applyMisfire(m_futureTask.getCalendar(), m_trigger);
 
     // Schedule next execution.
-    m_jobManager.getDelayedExecutor().schedule(() -> m_jobManager.competeForPermitAndExecute(m_futureTask, FutureRunner.this), m_trigger.getNextFireTime());
+    m_futureTask.setDelayedExecutionHandle(m_jobManager.getDelayedExecutor().schedule(() -> m_jobManager.competeForPermitAndExecute(m_futureTask, FutureRunner.this), m_trigger.getNextFireTime()));
   }
 
   @Override
@@ -65,6 +65,10 @@ public class FutureRunner<RESULT> implements IRejectableRunnable {
     m_futureTask.reject();
   }
 
+  public JobFutureTask<RESULT> getFutureTask() {
+    return m_futureTask;
+  }
+
   /**
    * Applies the 'misfire' policy in case the next firing time already elapsed.
    */
@@ -10,9 +10,12 @@
 package org.eclipse.scout.rt.platform.job.internal;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -22,17 +25,26 @@ import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
 import java.util.function.Predicate;
 
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerCorePoolSizeProperty;
+import org.eclipse.scout.rt.platform.filter.AndFilter;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.IJobManager;
+import org.eclipse.scout.rt.platform.job.filter.future.FutureIndexKey;
+import org.eclipse.scout.rt.platform.job.filter.future.IFutureIndexKeyContributor;
+import org.eclipse.scout.rt.platform.job.filter.future.IIndexedFutureFilter;
 import org.eclipse.scout.rt.platform.job.listener.JobEvent;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
 
 /**
  * Thread-safe implementation of a {@link Set} to contain {@link IFuture}s.
+ * <p>
+ * Futures are additionally indexed by their execution hints, execution semaphore, state and the keys of all
+ * {@link IFutureIndexKeyContributor}s. Filters implementing {@link IIndexedFutureFilter}, or {@link AndFilter}s
+ * containing such a filter, only test the Futures found in the index instead of all Futures.
  *
  * @since 5.1
  */
@@ -40,6 +52,9 @@ import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
 public class FutureSet {
 
   private final Set<JobFutureTask<?>> m_futures;
+  private final Map<FutureIndexKey, Set<JobFutureTask<?>>> m_index;
+  private final Map<JobFutureTask<?>, Set<FutureIndexKey>> m_indexKeys;
+  private final List<IFutureIndexKeyContributor> m_indexKeyContributors;
 
   private final ReadLock m_readLock;
   private final WriteLock m_writeLock;
@@ -49,6 +64,9 @@ public class FutureSet {
 
   public FutureSet() {
     m_futures = new HashSet<>(CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class));
+    m_index = new HashMap<>();
+    m_indexKeys = new HashMap<>();
+    m_indexKeyContributors = BEANS.all(IFutureIndexKeyContributor.class);
 
     final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
     m_readLock = lock.readLock();
@@ -83,6 +101,8 @@ public class FutureSet {
     try {
       runningFutures = copyFutures();
       m_futures.clear();
+      m_index.clear();
+      m_indexKeys.clear();
       m_changedCondition.signalAll();
     }
     finally {
@@ -100,7 +120,11 @@ public class FutureSet {
   public void add(final JobFutureTask<?> future) {
     m_writeLock.lock();
     try {
-      m_futures.add(future);
+      if (m_futures.add(future)) {
+        for (final FutureIndexKey key : computeIndexKeys(future)) {
+          addIndexKey(future, key);
+        }
+      }
       m_changedCondition.signalAll();
     }
     finally {
@@ -114,7 +138,14 @@ public class FutureSet {
   public void remove(final JobFutureTask<?> future) {
     m_writeLock.lock();
     try {
-      m_futures.remove(future);
+      if (m_futures.remove(future)) {
+        final Set<FutureIndexKey> keys = m_indexKeys.remove(future);
+        if (keys != null) {
+          for (final FutureIndexKey key : keys) {
+            removeFromIndex(future, key);
+          }
+        }
+      }
       m_changedCondition.signalAll();
     }
     finally {
@@ -122,6 +153,74 @@ public class FutureSet {
     }
   }
 
+  /**
+   * Indexes the given Future by the given key, unless the Future is not contained in this {@link FutureSet}.
+   * <p>
+   * To not miss a Future in a concurrent lookup, the new key of a changing property must be added before the property
+   * is changed, and the old key removed thereafter.
+   */
+  public void addIndexKey(final JobFutureTask<?> future, final FutureIndexKey key) {
+    m_writeLock.lock();
+    try {
+      if (!m_futures.contains(future)) {
+        return;
+      }
+      if (m_indexKeys.computeIfAbsent(future, k -> new HashSet<>()).add(key)) {
+        m_index.computeIfAbsent(key, k -> new HashSet<>()).add(future);
+      }
+    }
+    finally {
+      m_writeLock.unlock();
+    }
+  }
+
+  /**
+   * Removes the given key from the index of the given Future.
+   *
+   * @see #addIndexKey(JobFutureTask, FutureIndexKey)
+   */
+  public void removeIndexKey(final JobFutureTask<?> future, final FutureIndexKey key) {
+    m_writeLock.lock();
+    try {
+      final Set<FutureIndexKey> keys = m_indexKeys.get(future);
+      if (keys != null && keys.remove(key)) {
+        removeFromIndex(future, key);
+      }
+    }
+    finally {
+      m_writeLock.unlock();
+    }
+  }
+
+  /**
+   * Replaces the given old key by the new key in the index of the given Future, unless the Future is not contained in
+   * this {@link FutureSet}. The given change of the indexed property is applied while holding the lock, so that a
+   * concurrent lookup finds the Future under the key matching the property.
+   *
+   * @param change
+   *          changes the property of the Future which the keys are computed from
+   * @see #addIndexKey(JobFutureTask, FutureIndexKey)
+   */
+  public void replaceIndexKey(final JobFutureTask<?> future, final FutureIndexKey oldKey, final FutureIndexKey newKey, final Runnable change) {
+    m_writeLock.lock();
+    try {
+      change.run();
+      final Set<FutureIndexKey> keys = m_indexKeys.get(future);
+      if (keys == null) {
+        return;
+      }
+      if (keys.remove(oldKey)) {
+        removeFromIndex(future, oldKey);
+      }
+      if (keys.add(newKey)) {
+        m_index.computeIfAbsent(newKey, k -> new HashSet<>()).add(future);
+      }
+    }
+    finally {
+      m_writeLock.unlock();
+    }
+  }
+
   /**
    * Returns <code>true</code>, if all Futures which are accepted by the given filter match the specified matcher.
    *
@@ -133,7 +232,7 @@ public class FutureSet {
    * @return <code>true</code> if all Futures accepted by the specified Filter are successfully matched.
    */
   public boolean matchesEvery(final Predicate<IFuture<?>> filter, final Predicate<JobFutureTask<?>> matcher) {
-    for (final JobFutureTask<?> future : copyFutures()) {
+    for (final JobFutureTask<?> future : copyFutures(filter)) {
       final boolean accepted = (filter == null || filter.test(future));
 
       if (accepted && !matcher.test(future)) {
@@ -147,7 +246,7 @@ public class FutureSet {
    * Returns <code>true</code>, if this {@link FutureSet} contains one Future matching the given filter at minimum.
    */
   public boolean containsSome(final Predicate<IFuture<?>> filter) {
-    for (final JobFutureTask<?> future : copyFutures()) {
+    for (final JobFutureTask<?> future : copyFutures(filter)) {
       if (filter == null || filter.test(future)) {
         return true;
       }
@@ -239,7 +338,7 @@ public class FutureSet {
    */
   public final Set<IFuture<?>> values(final Predicate<IFuture<?>> filter) {
     final Set<IFuture<?>> futures = new HashSet<>();
-    for (final IFuture<?> candidate : copyFutures()) {
+    for (final IFuture<?> candidate : copyFutures(filter)) {
       if (filter == null || filter.test(candidate)) {
         futures.add(candidate);
       }
@@ -268,15 +367,93 @@ public class FutureSet {
   }
 
   protected List<JobFutureTask<?>> copyFutures() {
+    return copyFutures(null);
+  }
+
+  /**
+   * Returns the Futures which possibly match the given filter, which are the Futures found in the index if the filter
+   * supports it, or all Futures otherwise. The returned Futures must still be tested against the filter.
+   */
+  protected List<JobFutureTask<?>> copyFutures(final Predicate<IFuture<?>> filter) {
     m_readLock.lock();
     try {
-      return new ArrayList<>(m_futures); // performance hint: creating an ArrayList has much better performance than creating a HashSet.
+      final Collection<JobFutureTask<?>> candidates = lookupIndex(filter);
+      return new ArrayList<>(candidates != null ? candidates : m_futures); // performance hint: creating an ArrayList has much better performance than creating a HashSet.
     }
     finally {
       m_readLock.unlock();
     }
   }
 
+  /**
+   * Looks up the Futures indexed by the keys of the given filter. For an {@link AndFilter}, the smallest result of its
+   * indexed filters is returned. Must be invoked while holding the lock.
+   *
+   * @return the indexed Futures, or <code>null</code> if the filter cannot be answered by the index.
+   */
+  protected Collection<JobFutureTask<?>> lookupIndex(final Predicate<IFuture<?>> filter) {
+    if (filter instanceof IIndexedFutureFilter) {
+      final Set<FutureIndexKey> keys = ((IIndexedFutureFilter) filter).getIndexKeys();
+      if (keys == null) {
+        return null;
+      }
+      if (keys.size() == 1) {
+        final Set<JobFutureTask<?>> futures = m_index.get(keys.iterator().next());
+        return futures != null ? futures : Collections.emptySet();
+      }
+
+      final Set<JobFutureTask<?>> futures = new HashSet<>();
+      for (final FutureIndexKey key : keys) {
+        final Set<JobFutureTask<?>> indexed = m_index.get(key);
+        if (indexed != null) {
+          futures.addAll(indexed);
+        }
+      }
+      return futures;
+    }
+
+    if (filter instanceof AndFilter) {
+      @SuppressWarnings("unchecked")
+      final AndFilter<IFuture<?>> andFilter = (AndFilter<IFuture<?>>) filter;
+
+      Collection<JobFutureTask<?>> smallest = null;
+      for (final Predicate<IFuture<?>> subFilter : andFilter.getFilters()) {
+        final Collection<JobFutureTask<?>> futures = lookupIndex(subFilter);
+        if (futures != null && (smallest == null || futures.size() < smallest.size())) {
+          smallest = futures;
+        }
+      }
+      return smallest;
+    }
+
+    return null;
+  }
+
+  /**
+   * Computes the keys under which the given Future is indexed when being added.
+   */
+  protected Set<FutureIndexKey> computeIndexKeys(final JobFutureTask<?> future) {
+    final Set<FutureIndexKey> keys = new HashSet<>();
+    keys.add(FutureIndexKey.state(future.getState()));
+    for (final String hint : future.m_executionHints) {
+      keys.add(FutureIndexKey.executionHint(hint));
+    }
+    if (future.getExecutionSemaphore() != null) {
+      keys.add(FutureIndexKey.executionSemaphore(future.getExecutionSemaphore()));
+    }
+    for (final IFutureIndexKeyContributor contributor : m_indexKeyContributors) {
+      contributor.contributeIndexKeys(future, keys);
+    }
+    return keys;
+  }
+
+  private void removeFromIndex(final JobFutureTask<?> future, final FutureIndexKey key) {
+    final Set<JobFutureTask<?>> futures = m_index.get(key);
+    if (futures != null && futures.remove(future) && futures.isEmpty()) {
+      m_index.remove(key);
+    }
+  }
+
   /**
    * Creates the filter to signal waiting threads upon a job event.
    */
@@ -45,6 +45,7 @@ import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.JobInput;
 import org.eclipse.scout.rt.platform.job.JobState;
+import org.eclipse.scout.rt.platform.job.filter.future.FutureIndexKey;
 import org.eclipse.scout.rt.platform.job.listener.IJobListener;
 import org.eclipse.scout.rt.platform.job.listener.JobEvent;
 import org.eclipse.scout.rt.platform.job.listener.JobEventData;
@@ -85,6 +86,7 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
   protected final Date m_firstFireTime;
   protected final boolean m_singleExecution;
   protected final boolean m_delayedExecution;
+  protected volatile IRegistrationHandle m_delayedExecutionHandle;
 
   protected final OperableTrigger m_trigger;
   protected final Calendar m_calendar;
@@ -195,6 +197,11 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
     changeState(JobState.DONE);
     m_listeners.clear();
 
+    final IRegistrationHandle delayedExecutionHandle = m_delayedExecutionHandle;
+    if (delayedExecutionHandle != null) {
+      delayedExecutionHandle.dispose(); // remove a pending execution from the DelayedExecutor
+    }
+
     m_runMonitor.unregisterCancellable(this);
     m_completionPromise.done();
     finishInternal();
@@ -202,6 +209,17 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
     // IMPORTANT: do not release permit here because also invoked upon cancellation.
   }
 
+  /**
+   * Sets the handle of the next execution pending in {@link DelayedExecutor}, which is disposed once this task enters
+   * done state, e.g. upon cancellation.
+   */
+  protected void setDelayedExecutionHandle(final IRegistrationHandle delayedExecutionHandle) {
+    m_delayedExecutionHandle = delayedExecutionHandle;
+    if (isDone()) {
+      delayedExecutionHandle.dispose();
+    }
+  }
+
   /**
    * Method invoked once this task gets cancelled, and is invoked only once.
    */
@@ -295,6 +313,7 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
   @Override
   public boolean addExecutionHint(final String hint) {
     try {
+      m_jobManager.m_futures.addIndexKey(this, FutureIndexKey.executionHint(hint)); // index before adding the hint to not miss this future in a concurrent lookup
       return m_executionHints.add(hint);
     }
     finally {
@@ -310,6 +329,7 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
       return m_executionHints.remove(hint);
     }
     finally {
+      m_jobManager.m_futures.removeIndexKey(this, FutureIndexKey.executionHint(hint));
       m_jobManager.fireEvent(new JobEvent(m_jobManager, JobEventType.JOB_EXECUTION_HINT_REMOVED, new JobEventData()
           .withFuture(this)
           .withExecutionHint(hint)));
@@ -588,7 +608,10 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
       return;
     }
 
-    m_state = eventData.getState();
+    // Change the state together with the index, so that this future is not missed in a concurrent lookup.
+    final JobState newState = eventData.getState();
+    m_jobManager.m_futures.replaceIndexKey(this, FutureIndexKey.state(m_state), FutureIndexKey.state(newState), () -> m_state = newState);
+
     m_jobManager.fireEvent(new JobEvent(m_jobManager, JobEventType.JOB_STATE_CHANGED, eventData));
   }
 
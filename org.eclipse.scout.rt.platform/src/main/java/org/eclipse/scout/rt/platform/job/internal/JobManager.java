@@ -30,9 +30,11 @@ import org.eclipse.scout.rt.platform.chain.callable.CallableChain;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerAllowCoreThreadTimeoutProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerCorePoolSizeProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerExecutorModeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerKeepAliveTimeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerMaximumPoolSizeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerPrestartCoreThreadsProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerQueueCapacityProperty;
 import org.eclipse.scout.rt.platform.context.RunContextRunner;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.job.IBlockingCondition;
@@ -45,7 +47,7 @@ import org.eclipse.scout.rt.platform.job.listener.IJobListener;
 import org.eclipse.scout.rt.platform.job.listener.JobEvent;
 import org.eclipse.scout.rt.platform.job.listener.JobEventData;
 import org.eclipse.scout.rt.platform.job.listener.JobEventType;
-import org.eclipse.scout.rt.platform.logger.DiagnosticContextValueProcessor;
+import org.eclipse.scout.rt.platform.logger.DiagnosticContextValueProcessorCache;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
@@ -126,7 +128,7 @@ public class JobManager implements IJobManager {
           futureTask.changeState(JobState.PENDING);
         }
 
-        m_delayedExecutor.schedule(() -> competeForPermitAndExecute(futureTask, new FutureRunner<>(JobManager.this, futureTask)), futureTask.getFirstFireTime());
+        futureTask.setDelayedExecutionHandle(m_delayedExecutor.schedule(() -> competeForPermitAndExecute(futureTask, new FutureRunner<>(JobManager.this, futureTask)), futureTask.getFirstFireTime()));
       }
     }
     catch (final RuntimeException | Error e) { // NOSONAR
@@ -251,12 +253,6 @@ public class JobManager implements IJobManager {
    * Creates the executor to run jobs.
    */
   protected ExecutorService createExecutor() {
-    final int corePoolSize = CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class);
-    final int maximumPoolSize = CONFIG.getPropertyValue(JobManagerMaximumPoolSizeProperty.class);
-    final long keepAliveTime = CONFIG.getPropertyValue(JobManagerKeepAliveTimeProperty.class);
-    final boolean allowCoreThreadTimeOut = CONFIG.getPropertyValue(JobManagerAllowCoreThreadTimeoutProperty.class);
-    final boolean prestartCoreThreads = CONFIG.getPropertyValue(JobManagerPrestartCoreThreadsProperty.class);
-
     // Create the rejection handler.
     final RejectedExecutionHandler rejectHandler = (runnable, executor) -> {
       if (isShutdown()) {
@@ -272,12 +268,81 @@ public class JobManager implements IJobManager {
       }
     };
 
+    final ExecutorMode executorMode = CONFIG.getPropertyValue(JobManagerExecutorModeProperty.class);
+    switch (executorMode) {
+      case QUEUED:
+        return createQueuedExecutor(rejectHandler);
+      case VIRTUAL_THREADS:
+        if (VirtualThreadFactory.isSupported()) {
+          return createVirtualThreadExecutor(rejectHandler);
+        }
+        LOG.warn("Virtual threads are not supported by this JVM, using {} instead of {}", ExecutorMode.THREAD_POOL, executorMode);
+        return createThreadPoolExecutor(rejectHandler);
+      default:
+        return createThreadPoolExecutor(rejectHandler);
+    }
+  }
+
+  /**
+   * Creates the executor for {@link ExecutorMode#THREAD_POOL}.
+   */
+  protected ExecutorService createThreadPoolExecutor(final RejectedExecutionHandler rejectHandler) {
+    final int corePoolSize = CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class);
+    final int maximumPoolSize = CONFIG.getPropertyValue(JobManagerMaximumPoolSizeProperty.class);
+    final long keepAliveTime = CONFIG.getPropertyValue(JobManagerKeepAliveTimeProperty.class);
+
     final ThreadPoolExecutor executor = new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, TimeUnit.SECONDS, new SynchronousQueue<>(), new NamedThreadFactory("scout-thread"), rejectHandler);
-    executor.allowCoreThreadTimeOut(allowCoreThreadTimeOut);
-    if (prestartCoreThreads) {
+    return initThreadPoolExecutor(executor);
+  }
+
+  /**
+   * Creates the executor for {@link ExecutorMode#QUEUED}.
+   */
+  protected ExecutorService createQueuedExecutor(final RejectedExecutionHandler rejectHandler) {
+    // The dispatch loop of the DelayedExecutor permanently occupies a thread, so at least one more thread is required to execute queued jobs.
+    final int corePoolSize = Math.max(2, CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class));
+    final int maximumPoolSize = Math.max(corePoolSize, CONFIG.getPropertyValue(JobManagerMaximumPoolSizeProperty.class));
+    final long keepAliveTime = CONFIG.getPropertyValue(JobManagerKeepAliveTimeProperty.class);
+    final int queueCapacity = CONFIG.getPropertyValue(JobManagerQueueCapacityProperty.class);
+
+    final FairJobQueue queue = new FairJobQueue(queueCapacity);
+    final RejectedExecutionHandler queueRejectHandler = (runnable, executor) -> {
+      // The queue declined the job to have a new thread created, but the maximum pool size was reached concurrently.
+      if (executor.isShutdown() || !queue.force(runnable)) {
+        rejectHandler.rejectedExecution(runnable, executor);
+      }
+    };
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, TimeUnit.SECONDS, queue, new NamedThreadFactory("scout-thread"), queueRejectHandler) {
+
+      @Override
+      protected void beforeExecute(final Thread thread, final Runnable runnable) {
+        queue.beforeExecute();
+        super.beforeExecute(thread, runnable);
+      }
+
+      @Override
+      protected void afterExecute(final Runnable runnable, final Throwable throwable) {
+        super.afterExecute(runnable, throwable);
+        queue.afterExecute();
+      }
+    };
+    queue.setExecutor(executor);
+    return initThreadPoolExecutor(executor);
+  }
+
+  /**
+   * Creates the executor for {@link ExecutorMode#VIRTUAL_THREADS}. Every job is run by a new virtual thread, which
+   * terminates once the job completes.
+   */
+  protected ExecutorService createVirtualThreadExecutor(final RejectedExecutionHandler rejectHandler) {
+    return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0L, TimeUnit.SECONDS, new SynchronousQueue<>(), new VirtualThreadFactory("scout-vthread"), rejectHandler);
+  }
+
+  protected ThreadPoolExecutor initThreadPoolExecutor(final ThreadPoolExecutor executor) {
+    executor.allowCoreThreadTimeOut(CONFIG.getPropertyValue(JobManagerAllowCoreThreadTimeoutProperty.class));
+    if (CONFIG.getPropertyValue(JobManagerPrestartCoreThreadsProperty.class)) {
       executor.prestartAllCoreThreads();
     }
-
     return executor;
   }
 
@@ -341,7 +406,7 @@ public class JobManager implements IJobManager {
         .add(new ThreadLocalProcessor<>(IFuture.CURRENT, future))
         .add(new ThreadLocalProcessor<>(RunMonitor.CURRENT, runMonitor))
         .add(BEANS.get(ThreadNameDecorator.class))
-        .add(new DiagnosticContextValueProcessor(BEANS.get(JobNameContextValueProvider.class)))
+        .add(BEANS.get(DiagnosticContextValueProcessorCache.class).get(JobNameContextValueProvider.class))
         .add(new RunContextRunner<>(input.getRunContext()))
         .add(new ExceptionProcessor<>(input)); // must follow RunContextRunner to handle exception in proper RunContext
   }
@@ -396,4 +461,23 @@ public class JobManager implements IJobManager {
       }
     }
   }
+
+  /**
+   * Specifies how jobs are executed, see {@link JobManagerExecutorModeProperty}.
+   */
+  public enum ExecutorMode {
+    /**
+     * Jobs are handed over to a pool thread directly, a new thread is created if none is idle.
+     */
+    THREAD_POOL,
+    /**
+     * Jobs wait in a bounded queue ({@link FairJobQueue}) once all threads are busy and the maximum pool size is
+     * reached. Note that jobs waiting for other jobs (e.g. via {@link IBlockingCondition}) keep occupying their thread.
+     */
+    QUEUED,
+    /**
+     * Every job runs in a new virtual thread.
+     */
+    VIRTUAL_THREADS
+  }
 }
@@ -75,6 +75,20 @@ public class NamedThreadFactory implements ThreadFactory, UncaughtExceptionHandl
     return thread;
   }
 
+  /**
+   * @return the name of the threads created by this factory (without sequence number)
+   */
+  protected String getThreadName() {
+    return m_threadName;
+  }
+
+  /**
+   * @return the sequence number of the next thread created by this factory
+   */
+  protected long nextSequence() {
+    return m_sequence.incrementAndGet();
+  }
+
   // === UncaughtExceptionHandler ===
 
   @Override
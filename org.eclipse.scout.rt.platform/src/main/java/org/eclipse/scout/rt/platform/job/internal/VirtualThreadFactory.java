@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.slf4j.MDC;
+
+/**
+ * Thread factory for named virtual threads, which handles uncaught exceptions like {@link NamedThreadFactory}.
+ * <p>
+ * Every thread is associated with a {@link ThreadInfo} while running, so that its name can be decorated with the
+ * currently executing job (see {@link ThreadNameDecorator}).
+ * <p>
+ * Virtual threads are available as of Java 21. Because the platform still supports older versions, they are created
+ * by reflection. Use {@link #isSupported()} to check whether the running JVM supports them.
+ *
+ * @since 24.1
+ */
+public class VirtualThreadFactory extends NamedThreadFactory {
+
+  private static final Method OF_VIRTUAL;
+  private static final Method UNSTARTED;
+
+  static {
+    Method ofVirtual = null;
+    Method unstarted = null;
+    try {
+      ofVirtual = Thread.class.getMethod("ofVirtual");
+      unstarted = Class.forName("java.lang.Thread$Builder").getMethod("unstarted", Runnable.class);
+    }
+    catch (NoSuchMethodException | ClassNotFoundException e) { // NOSONAR
+      LOG.debug("Virtual threads are not supported by this JVM", e);
+    }
+    OF_VIRTUAL = ofVirtual;
+    UNSTARTED = unstarted;
+  }
+
+  public VirtualThreadFactory(final String threadName) {
+    super(threadName);
+  }
+
+  /**
+   * @return <code>true</code> if the running JVM supports virtual threads
+   */
+  public static boolean isSupported() {
+    return OF_VIRTUAL != null && UNSTARTED != null;
+  }
+
+  @Override
+  public Thread newThread(final Runnable runnable) {
+    final AtomicReference<ThreadInfo> threadInfoRef = new AtomicReference<>();
+    final Thread thread = createVirtualThread(() -> {
+      // clear a potentially inherited Mapped Diagnostic Context (MDC), see NamedThreadFactory
+      MDC.clear();
+
+      ThreadInfo.CURRENT.set(threadInfoRef.get());
+      try {
+        runnable.run();
+      }
+      finally {
+        ThreadInfo.CURRENT.remove();
+      }
+    });
+    threadInfoRef.set(new ThreadInfo(thread, getThreadName(), nextSequence()));
+    thread.setUncaughtExceptionHandler(this);
+    return thread;
+  }
+
+  protected Thread createVirtualThread(final Runnable runnable) {
+    if (!isSupported()) {
+      throw new PlatformException("Virtual threads are not supported by this JVM");
+    }
+    try {
+      return (Thread) UNSTARTED.invoke(OF_VIRTUAL.invoke(null), runnable);
+    }
+    catch (IllegalAccessException | InvocationTargetException e) {
+      throw new PlatformException("Failed to create virtual thread", e);
+    }
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.logger;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.logger.DiagnosticContextValueProcessor.IDiagnosticContextValueProvider;
+
+/**
+ * Shares one {@link DiagnosticContextValueProcessor} per {@link IDiagnosticContextValueProvider} bean among all
+ * callable chains (e.g. of run contexts and jobs), so they are not created for every invocation.
+ *
+ * @since 24.1
+ */
+@ApplicationScoped
+public class DiagnosticContextValueProcessorCache {
+
+  private final Map<Class<? extends IDiagnosticContextValueProvider>, DiagnosticProcessorEntry> m_processors = new ConcurrentHashMap<>();
+
+  /**
+   * @return the shared {@link DiagnosticContextValueProcessor} for the given provider bean. Providers are application
+   *         scoped and compute their value upon each invocation, hence the processor can be reused as long as the bean
+   *         resolved for the provider class does not change (e.g. because a replacing bean is registered).
+   */
+  public DiagnosticContextValueProcessor get(Class<? extends IDiagnosticContextValueProvider> providerClass) {
+    IBean<? extends IDiagnosticContextValueProvider> bean = BEANS.getBeanManager().getBean(providerClass);
+    DiagnosticProcessorEntry entry = m_processors.get(providerClass);
+    if (entry == null || entry.getBean() != bean) {
+      entry = new DiagnosticProcessorEntry(bean, new DiagnosticContextValueProcessor(bean.getInstance()));
+      m_processors.put(providerClass, entry);
+    }
+    return entry.getProcessor();
+  }
+
+  protected static class DiagnosticProcessorEntry {
+    private final IBean<?> m_bean;
+    private final DiagnosticContextValueProcessor m_processor;
+
+    public DiagnosticProcessorEntry(IBean<?> bean, DiagnosticContextValueProcessor processor) {
+      m_bean = bean;
+      m_processor = processor;
+    }
+
+    public IBean<?> getBean() {
+      return m_bean;
+    }
+
+    public DiagnosticContextValueProcessor getProcessor() {
+      return m_processor;
+    }
+  }
+}
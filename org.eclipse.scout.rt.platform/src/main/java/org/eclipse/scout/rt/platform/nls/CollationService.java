@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.nls;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+
+/**
+ * Locale-dependent comparison of strings as used by {@link StringUtility#compare(int, Locale, String, String)}.
+ * <p>
+ * The {@link Collator}s are obtained from {@link CollatorProvider} once per thread, locale and strength, and are then
+ * reused by all comparisons of that thread. Hence, comparing strings does not create a new {@link Collator} for every
+ * comparison. To compare the same strings repeatedly, e.g. when sorting, use {@link #getCollationKey(int, Locale,
+ * String)} or {@link #sort(List, Function, int, Locale)}, which compute the collation key of every string only once.
+ * <p>
+ * Empty strings are treated like <code>null</code>, and <code>null</code> is ordered first.
+ *
+ * @since 24.1
+ */
+@ApplicationScoped
+public class CollationService {
+
+  private final ThreadLocal<Map<Locale, Collator[]>> m_collators = ThreadLocal.withInitial(HashMap::new);
+
+  /**
+   * Compares two strings using a locale-dependent {@link Collator} with the provided strength.
+   *
+   * @param strength
+   *          one of {@link Collator#PRIMARY}, {@link Collator#SECONDARY}, {@link Collator#TERTIARY} or
+   *          {@link Collator#IDENTICAL}.
+   */
+  public int compare(int strength, Locale locale, String a, String b) {
+    if (a != null && a.isEmpty()) {
+      a = null;
+    }
+    if (b != null && b.isEmpty()) {
+      b = null;
+    }
+    //
+    if (a == b) {
+      return 0;
+    }
+    if (a == null) {
+      return -1;
+    }
+    if (b == null) {
+      return 1;
+    }
+    return getCollator(strength, locale).compare(a, b);
+  }
+
+  /**
+   * Returns a {@link Comparator} which compares like {@link #compare(int, Locale, String, String)}. The comparator is
+   * immutable and may be used by multiple threads, as every thread compares with its own {@link Collator}.
+   */
+  public Comparator<String> getComparator(int strength, Locale locale) {
+    assertValidStrength(strength);
+    Assertions.assertNotNull(locale, "locale must not be null");
+    return (a, b) -> compare(strength, locale, a, b);
+  }
+
+  /**
+   * Returns the {@link CollationKey} of the given string. Collation keys created for the same strength and locale can
+   * be compared to each other much faster than the strings themselves.
+   *
+   * @return the collation key, or <code>null</code> if the string is <code>null</code> or empty.
+   */
+  public CollationKey getCollationKey(int strength, Locale locale, String s) {
+    if (s == null || s.isEmpty()) {
+      return null;
+    }
+    return getCollator(strength, locale).getCollationKey(s);
+  }
+
+  /**
+   * Sorts the given list by the text of its elements like {@link #compare(int, Locale, String, String)}, but computes
+   * the {@link CollationKey} of every element only once. The sort is stable.
+   *
+   * @param textFunction
+   *          function to get the text of an element, may return <code>null</code>.
+   */
+  public <T> void sort(List<T> list, Function<? super T, String> textFunction, int strength, Locale locale) {
+    if (list.size() < 2) {
+      return;
+    }
+
+    final Collator collator = getCollator(strength, locale);
+    @SuppressWarnings("unchecked")
+    final P_SortEntry<T>[] entries = new P_SortEntry[list.size()];
+    int i = 0;
+    for (T element : list) {
+      final String text = textFunction.apply(element);
+      entries[i++] = new P_SortEntry<>(element, text == null || text.isEmpty() ? null : collator.getCollationKey(text));
+    }
+
+    final Comparator<P_SortEntry<T>> comparator = Comparator.comparing(entry -> entry.m_key, Comparator.nullsFirst(Comparator.<CollationKey> naturalOrder()));
+    Arrays.sort(entries, comparator);
+
+    for (i = 0; i < entries.length; i++) {
+      list.set(i, entries[i].m_element);
+    }
+  }
+
+  /**
+   * Returns the {@link Collator} of the current thread for the given strength and locale. The collator must not be
+   * modified nor passed to another thread.
+   */
+  protected Collator getCollator(int strength, Locale locale) {
+    assertValidStrength(strength);
+    final Collator[] collators = m_collators.get().computeIfAbsent(locale, k -> new Collator[Collator.IDENTICAL + 1]);
+    Collator collator = collators[strength];
+    if (collator == null) {
+      collator = createCollator(strength, locale);
+      collators[strength] = collator;
+    }
+    return collator;
+  }
+
+  /**
+   * Creates a new {@link Collator} for the given strength and locale, which is only used by the current thread.
+   */
+  protected Collator createCollator(int strength, Locale locale) {
+    final Collator collator = BEANS.get(CollatorProvider.class).getInstance(locale);
+    collator.setStrength(strength);
+    return collator;
+  }
+
+  protected void assertValidStrength(int strength) {
+    Assertions.assertTrue(strength >= Collator.PRIMARY && strength <= Collator.IDENTICAL, "invalid collator strength [strength={}]", strength);
+  }
+
+  private static final class P_SortEntry<T> {
+
+    private final T m_element;
+    private final CollationKey m_key;
+
+    P_SortEntry(T element, CollationKey key) {
+      m_element = element;
+      m_key = key;
+    }
+  }
+}
@@ -153,7 +153,21 @@ public class DynamicNls {
     if (locale == null) {
       locale = getDefaultLocale();
     }
-    String text = getTextInternal(locale, key);
+    return formatText(locale, key, getTextInternal(locale, key), messageArguments);
+  }
+
+  /**
+   * Binds the message arguments to the given text resolved for the {@code key}, and applies all internally cached
+   * {@link ITextPostProcessor text post processors}, as done by {@link #getText(Locale, String, String...)}.
+   *
+   * @param locale
+   *          the locale of the text, not {@code null}
+   * @param key
+   *          nls text key
+   * @param text
+   *          the text of the key as contained in {@link #getTextMap(Locale)}
+   */
+  public String formatText(Locale locale, String key, String text, String... messageArguments) {
     text = NlsUtility.bindText(text, messageArguments);
     return NlsUtility.postProcessText(locale, key, text, getTextPostProcessors(), messageArguments);
   }
@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 
@@ -35,6 +36,7 @@ import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,6 +48,7 @@ public class NlsFileWatcher {
   private final Map<WatchKey, Path> m_watchKeys = new HashMap<>();
   private final ReentrantReadWriteLock m_watchReadWriteLock = new ReentrantReadWriteLock();
   private final Map<Path, List<NlsFileChangeHandler>> m_handlers = new HashMap<>();
+  private final List<Consumer<Path>> m_listeners = new CopyOnWriteArrayList<>();
 
   private WatchService m_watcher;
 
@@ -105,6 +108,19 @@ public class NlsFileWatcher {
     }
   }
 
+  /**
+   * Adds a listener which is called once any watched text file has changed, after the handlers of the resource bundle
+   * were called. Use this method to discard data derived from the texts of all resource bundles.
+   *
+   * @param listener
+   *          called with the path of the changed file.
+   * @return handle to remove the listener.
+   */
+  public IRegistrationHandle addListener(Consumer<Path> listener) {
+    m_listeners.add(listener);
+    return () -> m_listeners.remove(listener);
+  }
+
   protected synchronized void ensureStarted() throws IOException {
     if (m_watcher != null) {
       return;
@@ -169,5 +185,6 @@ public class NlsFileWatcher {
     finally {
       m_watchReadWriteLock.readLock().unlock();
     }
+    m_listeners.forEach(listener -> listener.accept(path));
   }
 }
@@ -9,13 +9,21 @@
  */
 package org.eclipse.scout.rt.platform.text;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.nls.DynamicNls;
+import org.eclipse.scout.rt.platform.nls.NlsFileWatcher;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
+import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
 
 /**
  * ScoutTexts provides support for text translations.
@@ -27,6 +35,12 @@ import org.eclipse.scout.rt.platform.BEANS;
  * This implementation caches all available {@link ITextProviderService}s for better performance (otherwise 2/3 of a
  * {@link #getText(String, String...)} invocation would be spend for collecting {@link ITextProviderService}s). Invoke
  * {@link #reloadTextProviders()} after modifying the set of text provider services.
+ * <p>
+ * The texts of all {@link AbstractDynamicNlsTextProviderService}s are compiled into one table per locale, which
+ * resolves the precedence of the providers and the locale fallback once. Other text providers are still asked for
+ * every text, but only if they have a higher precedence than the provider of the text found in the table. The tables
+ * are discarded if the text providers are reloaded or if a text file is changed (see {@link NlsFileWatcher}). Data
+ * derived from the texts may be discarded at the same time by {@link #addInvalidationListener(Runnable)}.
  *
  * @see TEXTS
  * @see ITextProviderService
@@ -39,12 +53,42 @@ public class ScoutTexts {
    */
   private volatile List<? extends ITextProviderService> m_textProviders;
 
+  /**
+   * Text tables compiled for {@link #m_textProviders}
+   */
+  private volatile P_CompiledTexts m_compiledTexts;
+
+  private final List<Runnable> m_invalidationListeners = new CopyOnWriteArrayList<>();
+
   public ScoutTexts() {
     reloadTextProviders();
+    BEANS.get(NlsFileWatcher.class).addListener(path -> invalidateTextTables());
   }
 
   public void reloadTextProviders() {
     m_textProviders = BEANS.all(ITextProviderService.class);
+    invalidateTextTables();
+  }
+
+  /**
+   * Discards the compiled text tables, so that they are compiled anew from the text providers upon next access.
+   */
+  public void invalidateTextTables() {
+    m_compiledTexts = null;
+    for (Runnable listener : m_invalidationListeners) {
+      listener.run();
+    }
+  }
+
+  /**
+   * Adds a listener which is called once the text tables are discarded, i.e. if the text providers are reloaded or if a
+   * text file is changed. Use this method to discard data derived from the texts.
+   *
+   * @return handle to remove the listener.
+   */
+  public IRegistrationHandle addInvalidationListener(Runnable listener) {
+    m_invalidationListeners.add(listener);
+    return () -> m_invalidationListeners.remove(listener);
   }
 
   public final String getText(@NlsKey String key, String... messageArguments) {
@@ -56,8 +100,16 @@ public class ScoutTexts {
   }
 
   public Map<String, String> getTextMap(Locale locale) {
+    P_CompiledTexts compiledTexts = getCompiledTexts();
+    if (compiledTexts.m_dynamicProviderIndexes.length == 0) {
+      TextTable table = compiledTexts.getTable(locale != null ? locale : NlsLocale.get());
+      Map<String, String> map = new HashMap<>(table.size() * 4 / 3 + 1);
+      table.forEach(map::put);
+      return map;
+    }
+
     Map<String, String> map = new HashMap<>();
-    List<? extends ITextProviderService> providers = getTextProviders();
+    List<? extends ITextProviderService> providers = compiledTexts.m_providers;
     for (int i = providers.size() - 1; i >= 0; i--) {
       map.putAll(providers.get(i).getTextMap(locale));
     }
@@ -69,6 +121,44 @@ public class ScoutTexts {
   }
 
   protected String getTextInternal(Locale locale, @NlsKey String key, String fallback, String... messageArguments) {
+    if (key == null) {
+      return getTextUncompiled(locale, key, fallback, messageArguments);
+    }
+
+    P_CompiledTexts compiledTexts = getCompiledTexts();
+    Locale textLocale = locale != null ? locale : NlsLocale.get();
+    TextTable table = compiledTexts.getTable(textLocale);
+    int slot = table.indexOf(key);
+    int providerIndex = slot < 0 ? Integer.MAX_VALUE : table.getProviderIndex(slot);
+
+    // ask the providers which are not compiled and have a higher precedence
+    List<? extends ITextProviderService> providers = compiledTexts.m_providers;
+    for (int dynamicProviderIndex : compiledTexts.m_dynamicProviderIndexes) {
+      if (dynamicProviderIndex > providerIndex) {
+        break;
+      }
+      String result = providers.get(dynamicProviderIndex).getText(locale, key, messageArguments);
+      if (result != null) {
+        return result;
+      }
+    }
+
+    if (slot < 0) {
+      return fallback;
+    }
+
+    DynamicNls dynamicNls = ((AbstractDynamicNlsTextProviderService) providers.get(providerIndex)).getDynamicNls();
+    String result = dynamicNls.formatText(textLocale, key, table.getText(slot), messageArguments);
+    if (result != null) {
+      return result;
+    }
+    return getTextUncompiled(locale, key, fallback, messageArguments);
+  }
+
+  /**
+   * Asks every text provider for the text, without using the compiled text tables.
+   */
+  protected String getTextUncompiled(Locale locale, @NlsKey String key, String fallback, String... messageArguments) {
     for (ITextProviderService provider : getTextProviders()) {
       String result = provider.getText(locale, key, messageArguments);
       if (result != null) {
@@ -85,4 +175,89 @@ public class ScoutTexts {
   public String getTextWithFallback(Locale locale, @NlsKey String key, String fallback, String... messageArguments) {
     return getTextInternal(locale, key, fallback, messageArguments);
   }
+
+  /**
+   * Returns <code>true</code> if the texts of the given provider can be compiled into the text tables, which is the
+   * case if the provider resolves its texts by an unmodified {@link DynamicNls}.
+   */
+  protected boolean isCompilable(ITextProviderService provider) {
+    if (!(provider instanceof AbstractDynamicNlsTextProviderService)) {
+      return false;
+    }
+    try {
+      Class<?> providerClass = provider.getClass();
+      return providerClass.getMethod("getText", Locale.class, String.class, String[].class).getDeclaringClass() == AbstractDynamicNlsTextProviderService.class
+          && providerClass.getMethod("getTextMap", Locale.class).getDeclaringClass() == AbstractDynamicNlsTextProviderService.class
+          && ((AbstractDynamicNlsTextProviderService) provider).getDynamicNls().getClass() == DynamicNls.class;
+    }
+    catch (NoSuchMethodException e) { // NOSONAR
+      return false;
+    }
+  }
+
+  /**
+   * Compiles the text table of the given locale from the compilable text providers.
+   */
+  protected TextTable compileTextTable(List<? extends ITextProviderService> providers, boolean[] compilable, Locale locale) {
+    List<Map<String, String>> textMaps = new ArrayList<>(providers.size());
+    int maxSize = 0;
+    for (int i = 0; i < providers.size(); i++) {
+      Map<String, String> textMap = compilable[i] ? providers.get(i).getTextMap(locale) : null;
+      textMaps.add(textMap);
+      maxSize += textMap != null ? textMap.size() : 0;
+    }
+
+    // providers are ordered by precedence, the first text of a key wins
+    TextTable table = new TextTable(maxSize);
+    for (int i = 0; i < textMaps.size(); i++) {
+      Map<String, String> textMap = textMaps.get(i);
+      if (textMap != null) {
+        int providerIndex = i;
+        textMap.forEach((key, text) -> table.put(key, text, providerIndex));
+      }
+    }
+    return table;
+  }
+
+  private P_CompiledTexts getCompiledTexts() {
+    List<? extends ITextProviderService> providers = getTextProviders();
+    P_CompiledTexts compiledTexts = m_compiledTexts;
+    if (compiledTexts == null || compiledTexts.m_providers != providers) {
+      compiledTexts = new P_CompiledTexts(providers);
+      m_compiledTexts = compiledTexts;
+    }
+    return compiledTexts;
+  }
+
+  /**
+   * Text tables per locale compiled for a list of text providers.
+   */
+  private final class P_CompiledTexts {
+
+    private final List<? extends ITextProviderService> m_providers;
+    private final boolean[] m_compilable;
+    private final int[] m_dynamicProviderIndexes;
+    private final ConcurrentMap<Locale, TextTable> m_tables = new ConcurrentHashMap<>();
+
+    P_CompiledTexts(List<? extends ITextProviderService> providers) {
+      m_providers = providers;
+      m_compilable = new boolean[providers.size()];
+      List<Integer> dynamicProviderIndexes = new ArrayList<>();
+      for (int i = 0; i < providers.size(); i++) {
+        m_compilable[i] = isCompilable(providers.get(i));
+        if (!m_compilable[i]) {
+          dynamicProviderIndexes.add(i);
+        }
+      }
+      m_dynamicProviderIndexes = dynamicProviderIndexes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    TextTable getTable(Locale locale) {
+      TextTable table = m_tables.get(locale);
+      if (table == null) {
+        table = m_tables.computeIfAbsent(locale, l -> compileTextTable(m_providers, m_compilable, l));
+      }
+      return table;
+    }
+  }
 }
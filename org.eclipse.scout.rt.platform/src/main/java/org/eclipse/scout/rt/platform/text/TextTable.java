@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.text;
+
+import java.util.function.BiConsumer;
+
+import org.eclipse.scout.rt.platform.util.StringUtility;
+
+/**
+ * Flat open-addressing hash table of the texts of one locale as compiled by {@link ScoutTexts}. For every key, the
+ * text and the index of the text provider defining it is stored. Texts are interned, as many of them are the same for
+ * several locales.
+ * <p>
+ * The table is filled by {@link #put(String, String, int)} before being published, and is read-only thereafter.
+ *
+ * @since 24.1
+ */
+final class TextTable {
+
+  private final String[] m_keys;
+  private final String[] m_texts;
+  private final int[] m_providerIndexes;
+  private final int m_mask;
+  private int m_size;
+
+  /**
+   * @param maxSize
+   *          the maximal number of keys to be put.
+   */
+  TextTable(int maxSize) {
+    // keep the load factor at 0.5 at most
+    int capacity = Integer.highestOneBit(Math.max(maxSize, 4) * 2 - 1) << 1;
+    m_keys = new String[capacity];
+    m_texts = new String[capacity];
+    m_providerIndexes = new int[capacity];
+    m_mask = capacity - 1;
+  }
+
+  /**
+   * Adds the given text unless the key is already contained.
+   */
+  void put(String key, String text, int providerIndex) {
+    int slot = hash(key) & m_mask;
+    while (m_keys[slot] != null) {
+      if (m_keys[slot].equals(key)) {
+        return;
+      }
+      slot = (slot + 1) & m_mask;
+    }
+    m_keys[slot] = key;
+    m_texts[slot] = StringUtility.intern(text);
+    m_providerIndexes[slot] = providerIndex;
+    m_size++;
+  }
+
+  /**
+   * @return the slot of the given key, or <code>-1</code> if not contained.
+   */
+  int indexOf(String key) {
+    int slot = hash(key) & m_mask;
+    String candidate;
+    while ((candidate = m_keys[slot]) != null) {
+      if (candidate.equals(key)) {
+        return slot;
+      }
+      slot = (slot + 1) & m_mask;
+    }
+    return -1;
+  }
+
+  String getText(int slot) {
+    return m_texts[slot];
+  }
+
+  int getProviderIndex(int slot) {
+    return m_providerIndexes[slot];
+  }
+
+  int size() {
+    return m_size;
+  }
+
+  void forEach(BiConsumer<String, String> consumer) {
+    for (int i = 0; i < m_keys.length; i++) {
+      if (m_keys[i] != null) {
+        consumer.accept(m_keys[i], m_texts[i]);
+      }
+    }
+  }
+
+  private static int hash(String key) {
+    int h = key.hashCode();
+    return h ^ (h >>> 16);
+  }
+}
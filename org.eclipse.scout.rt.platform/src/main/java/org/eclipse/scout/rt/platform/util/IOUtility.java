@@ -47,6 +47,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.regex.Pattern;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 import java.util.zip.ZipEntry;
@@ -275,6 +276,22 @@ public final class IOUtility {
     return buf.toByteArray();
   }
 
+  /**
+   * @param level
+   *          compression level, see {@link Deflater#setLevel(int)}
+   */
+  public static byte[] compressGzip(byte[] b, int level) throws IOException {
+    ByteArrayOutputStream buf = new ByteArrayOutputStream();
+    try (GZIPOutputStream out = new GZIPOutputStream(buf) {
+      {
+        def.setLevel(level);
+      }
+    }) {
+      out.write(b);
+    }
+    return buf.toByteArray();
+  }
+
   public static byte[] uncompressGzip(byte[] b) throws IOException {
     try (BufferedInputStream in = new BufferedInputStream(new GZIPInputStream(new ByteArrayInputStream(b)));
         ByteArrayOutputStream out = new ByteArrayOutputStream()) {
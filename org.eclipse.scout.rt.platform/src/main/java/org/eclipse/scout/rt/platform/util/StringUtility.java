@@ -32,6 +32,7 @@ import java.util.zip.Inflater;
 import java.util.zip.InflaterInputStream;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.nls.CollationService;
 import org.eclipse.scout.rt.platform.nls.CollatorProvider;
 import org.eclipse.scout.rt.platform.nls.NlsLocale;
 
@@ -1761,29 +1762,12 @@ public final class StringUtility {
   /**
    * compare two strings using a locale-dependent {@link Collator} with the provided strength.
    *
+   * @see CollationService
    * @see CollatorProvider
    * @see Collator#setStrength(int)
    */
   public static int compare(int strength, Locale locale, String a, String b) {
-    if (a != null && a.isEmpty()) {
-      a = null;
-    }
-    if (b != null && b.isEmpty()) {
-      b = null;
-    }
-    //
-    if (a == b) {
-      return 0;
-    }
-    if (a == null) {
-      return -1;
-    }
-    if (b == null) {
-      return 1;
-    }
-    Collator collator = BEANS.get(CollatorProvider.class).getInstance(locale);
-    collator.setStrength(strength);
-    return collator.compare(a, b);
+    return BEANS.get(CollationService.class).compare(strength, locale, a, b);
   }
 
   @SuppressWarnings({"squid:ClassVariableVisibilityCheck", "squid:S1444", "squid:S3008"})
@@ -268,6 +268,15 @@ public abstract class AbstractTransactionalMap<K, V> implements Map<K, V> {
       m_removesDirty = true;
     }
 
+    /**
+     * @return <code>true</code> if values were removed or inserts or removes of concurrent transactions were marked as
+     *         dirty within this transaction. This is the case if the transaction changed the source of the values, so
+     *         values it reads from the source might not be visible to other transactions yet.
+     */
+    public boolean hasRemovesOrDirtyMarks() {
+      return !m_removedMap.isEmpty() || m_insertsDirty || m_removesDirty;
+    }
+
     @Override
     public String getMemberId() {
       return m_transactionMemberId;
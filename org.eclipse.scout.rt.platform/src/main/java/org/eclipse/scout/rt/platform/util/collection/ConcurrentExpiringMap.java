@@ -35,6 +35,11 @@ import java.util.concurrent.locks.ReentrantLock;
  * is <em>not</em> enforced and is just a guidance value. In fact, the map grows up to <tt>overflowSize</tt> till it is
  * shrunk back to the targeted size.
  * <p>
+ * The {@link EvictionPolicy} defines how entries are chosen for eviction. {@link EvictionPolicy#LRU} (default) sorts
+ * all entries by their timestamp once the <tt>overflowSize</tt> is reached. {@link EvictionPolicy#SAMPLED_LRU} evicts
+ * entries as soon as the <tt>targetSize</tt> is exceeded and picks the oldest of a few sampled entries for each
+ * eviction. It has a bounded cost per write operation and is recommended for large maps.
+ * <p>
  * If the <tt>touchOnGet</tt> property is set, the {@link #get(Object)} operation does the same as
  * {@link #getAndTouch(Object)}.
  * <p>
@@ -61,6 +66,11 @@ import java.util.concurrent.locks.ReentrantLock;
  */
 @SuppressWarnings("squid:S2160")
 public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+  /**
+   * Number of entries compared for each eviction of {@link EvictionPolicy#SAMPLED_LRU}.
+   */
+  protected static final int SAMPLE_SIZE = 8;
+
   private final ConcurrentMap<K, ExpiringElement<V>> m_elementMap;
   private final long m_timeToLive;
   private final boolean m_touchOnGet;
@@ -68,8 +78,12 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
 
   private final int m_targetSize;
   private final int m_overflowSize;
+  private final EvictionPolicy m_evictionPolicy;
   private final Lock m_validateSizeLock = new ReentrantLock();
 
+  // guarded by m_validateSizeLock
+  private Iterator<Entry<K, ExpiringElement<V>>> m_evictionCursor;
+
   /**
    * Creates a new map with a default timeout of 60 seconds and no target size.
    */
@@ -122,7 +136,7 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
    *          unit of timeToLive
    */
   public ConcurrentExpiringMap(ConcurrentExpiringMap<K, V> map, long timeToLiveDuration, TimeUnit timeToLiveUnit) {
-    this(map.m_elementMap, timeToLiveUnit.toMillis(timeToLiveDuration), map.m_touchOnGet, map.m_touchOnIterate, map.m_targetSize, map.m_overflowSize);
+    this(map.m_elementMap, timeToLiveUnit.toMillis(timeToLiveDuration), map.m_touchOnGet, map.m_touchOnIterate, map.m_targetSize, map.m_overflowSize, map.m_evictionPolicy);
   }
 
   /**
@@ -137,7 +151,7 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
    *          if greater than zero, entries may be evicted at a put operation until the map reaches this size
    */
   public ConcurrentExpiringMap(ConcurrentExpiringMap<K, V> map, int targetSize) {
-    this(map.m_elementMap, map.m_timeToLive, map.m_touchOnGet, map.m_touchOnIterate, targetSize, sameRatioOverflowSize(targetSize, map.m_targetSize, map.m_overflowSize));
+    this(map.m_elementMap, map.m_timeToLive, map.m_touchOnGet, map.m_touchOnIterate, targetSize, sameRatioOverflowSize(targetSize, map.m_targetSize, map.m_overflowSize), map.m_evictionPolicy);
   }
 
   /**
@@ -154,6 +168,22 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     this(elementMap, timeToLiveDurationMillis, touchOnGet, false, targetSize, defaultOverflowSize(targetSize));
   }
 
+  /**
+   * @param elementMap
+   *          {@link ConcurrentMap} that contains {@link ExpiringElement}s
+   * @param timeToLiveDurationMillis
+   *          if greater than zero, entries expire after the given duration
+   * @param touchOnGet
+   *          if true, {@link #get(Object)} operation updates the timestamp of an entry
+   * @param targetSize
+   *          if greater than zero, entries may be evicted at a put operation until the map reaches this size
+   * @param evictionPolicy
+   *          policy used to choose the entries to evict if the size bound is exceeded
+   */
+  public ConcurrentExpiringMap(ConcurrentMap<K, ExpiringElement<V>> elementMap, long timeToLiveDurationMillis, boolean touchOnGet, int targetSize, EvictionPolicy evictionPolicy) {
+    this(elementMap, timeToLiveDurationMillis, touchOnGet, false, targetSize, defaultOverflowSize(targetSize), evictionPolicy);
+  }
+
   /**
    * @param elementMap
    *          {@link ConcurrentMap} that contains {@link ExpiringElement}s
@@ -172,6 +202,30 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
    *           if targetSize is greater than zero but overflow size is not greater than targetSize
    */
   public ConcurrentExpiringMap(ConcurrentMap<K, ExpiringElement<V>> elementMap, long timeToLiveDurationMillis, boolean touchOnGet, boolean touchOnIterate, int targetSize, int overflowSize) {
+    this(elementMap, timeToLiveDurationMillis, touchOnGet, touchOnIterate, targetSize, overflowSize, EvictionPolicy.LRU);
+  }
+
+  /**
+   * @param elementMap
+   *          {@link ConcurrentMap} that contains {@link ExpiringElement}s
+   * @param timeToLiveDurationMillis
+   *          if greater than zero, entries expire after the given duration
+   * @param touchOnGet
+   *          if true, {@link #get(Object)} operation updates the timestamp of an entry
+   * @param touchOnIterate
+   *          if true, iterating through the entries updates the timestamp of entries
+   * @param targetSize
+   *          if greater than zero, entries may be evicted at a put operation until the map reaches this size
+   * @param overflowSize
+   *          if greater than zero and the map is bigger than this size, oldest entries are evicted until targetSize is
+   *          reached (not used by {@link EvictionPolicy#SAMPLED_LRU})
+   * @param evictionPolicy
+   *          policy used to choose the entries to evict if the size bound is exceeded
+   * @throws IllegalArgumentException
+   *           if targetSize is greater than zero but overflow size is not greater than targetSize
+   */
+  public ConcurrentExpiringMap(ConcurrentMap<K, ExpiringElement<V>> elementMap, long timeToLiveDurationMillis, boolean touchOnGet, boolean touchOnIterate, int targetSize, int overflowSize,
+      EvictionPolicy evictionPolicy) {
     m_elementMap = elementMap;
     m_timeToLive = timeToLiveDurationMillis;
     m_touchOnGet = touchOnGet;
@@ -181,6 +235,7 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     }
     m_targetSize = targetSize;
     m_overflowSize = overflowSize;
+    m_evictionPolicy = evictionPolicy != null ? evictionPolicy : EvictionPolicy.LRU;
   }
 
   private static int defaultOverflowSize(int targetSize) {
@@ -228,6 +283,10 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     return m_overflowSize;
   }
 
+  public EvictionPolicy getEvictionPolicy() {
+    return m_evictionPolicy;
+  }
+
   /**
    * <b>Note:</b> The implementation of this method does not check if entries are expired, else it would have to iterate
    * though the whole map at each call. Therefore the following may be true: {@code size()==1 && isEmpty()}. Like the
@@ -430,6 +489,11 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
         if (m_targetSize == 0 && m_timeToLive > 0) {
           evictExpiredEntries();
         }
+        else if (m_targetSize > 0 && m_evictionPolicy == EvictionPolicy.SAMPLED_LRU) {
+          if (m_elementMap.size() > m_targetSize) {
+            evictSampledEntries();
+          }
+        }
         else if (m_targetSize > 0 && m_elementMap.size() >= m_overflowSize) {
           // note: in JRE 1.8 the performance of ConcurrentHashMap#size() is increased, however other ConcurrentMaps may be slower
           evictOldestEntries();
@@ -488,6 +552,56 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     }
   }
 
+  /**
+   * Evict entries until targetsize is reached. For each eviction, the oldest of {@link #SAMPLE_SIZE} entries is chosen.
+   * The entries are sampled by a cursor that continues where the previous eviction stopped, so every entry is sampled
+   * regularly and neither a copy nor a sort of the whole map is required.
+   */
+  protected void evictSampledEntries() {
+    int numberOfEntriesToEvict = m_elementMap.size() - m_targetSize;
+    int remainingAttempts = 2 * numberOfEntriesToEvict + 1; // concurrent updates may let removals fail, do not retry forever
+    while (numberOfEntriesToEvict > 0 && remainingAttempts-- > 0) {
+      Entry<K, ExpiringElement<V>> oldestEntry = null;
+      for (int i = 0; i < SAMPLE_SIZE; i++) {
+        Entry<K, ExpiringElement<V>> entry = nextEvictionCandidate();
+        if (entry == null) {
+          break;
+        }
+        if (oldestEntry == null || entry.getValue().getTimestamp() < oldestEntry.getValue().getTimestamp()) {
+          oldestEntry = entry;
+        }
+      }
+      if (oldestEntry == null) {
+        // map is empty
+        break;
+      }
+      K key = oldestEntry.getKey();
+      ExpiringElement<V> element = oldestEntry.getValue();
+      if (m_elementMap.remove(key, element)) {
+        numberOfEntriesToEvict--;
+        execEntryEvicted(key, element.getValue());
+      }
+      else {
+        // changed concurrently, recompute the remaining work
+        numberOfEntriesToEvict = Math.min(numberOfEntriesToEvict, m_elementMap.size() - m_targetSize);
+      }
+    }
+  }
+
+  private Entry<K, ExpiringElement<V>> nextEvictionCandidate() {
+    for (int attempt = 0; attempt < 2; attempt++) {
+      if (m_evictionCursor == null || !m_evictionCursor.hasNext()) {
+        // start a new round
+        m_evictionCursor = m_elementMap.entrySet().iterator();
+      }
+      if (m_evictionCursor.hasNext()) {
+        return m_evictionCursor.next();
+      }
+    }
+    m_evictionCursor = null;
+    return null;
+  }
+
   private static class StableTimestampComparator<K, V> implements Comparator<Entry<K, ExpiringElement<V>>>, Serializable {
     private static final long serialVersionUID = 1L;
 
@@ -632,6 +746,22 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     }
   }
 
+  /**
+   * Policy used to choose entries to evict if the size bound of a {@link ConcurrentExpiringMap} is exceeded.
+   */
+  public enum EvictionPolicy {
+    /**
+     * Exact least recently used: once the map reaches its overflow size, all entries are sorted by their timestamp
+     * and the oldest ones are evicted until the target size is reached.
+     */
+    LRU,
+    /**
+     * Approximated least recently used: as soon as the map exceeds its target size, the oldest of a small sample of
+     * entries is evicted. The cost is bounded per eviction and independent of the map size.
+     */
+    SAMPLED_LRU
+  }
+
   public static class ExpiringElement<V> {
     private final long m_timestamp;
     private final V m_value;
@@ -13,6 +13,7 @@ import java.util.Collection;
 import java.util.EventListener;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.platform.util.event.FastListenerList;
@@ -34,6 +35,14 @@ public class LRUCache<K, V> extends ConcurrentExpiringMap<K, V> {
     super(timeToLive, TimeUnit.MILLISECONDS, targetSize);
   }
 
+  /**
+   * @param evictionPolicy
+   *          policy used to choose the items to discard if the target size is exceeded
+   */
+  public LRUCache(int targetSize, long timeToLive, EvictionPolicy evictionPolicy) {
+    super(new ConcurrentHashMap<>(), timeToLive, true, targetSize, evictionPolicy);
+  }
+
   @Override
   public Set<K> keySet() {
     // old implementation did return an new independent set
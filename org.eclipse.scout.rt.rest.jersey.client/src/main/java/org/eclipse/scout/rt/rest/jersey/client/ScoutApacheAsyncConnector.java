@@ -0,0 +1,454 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.rest.jersey.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.core.Configuration;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityProducer;
+import org.apache.hc.core5.http.nio.support.AsyncRequestBuilder;
+import org.apache.hc.core5.http.nio.support.classic.AbstractClassicEntityProducer;
+import org.apache.hc.core5.http.nio.support.classic.ContentInputStream;
+import org.apache.hc.core5.http.nio.support.classic.SharedInputBuffer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
+import org.eclipse.scout.rt.platform.util.BooleanUtility;
+import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
+import org.eclipse.scout.rt.platform.util.concurrent.ICancellable;
+import org.eclipse.scout.rt.platform.util.concurrent.IRunnable;
+import org.eclipse.scout.rt.rest.client.RestClientProperties;
+import org.eclipse.scout.rt.shared.http.async.AbstractAsyncHttpClientManager;
+import org.eclipse.scout.rt.shared.http.async.DefaultAsyncHttpClientManager;
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.message.internal.HeaderUtils;
+import org.glassfish.jersey.message.internal.ReaderWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link ScoutApacheConnector} executing asynchronous invocations on the {@code CloseableHttpAsyncClient} of an
+ * {@link AbstractAsyncHttpClientManager} (see {@link RestClientProperties#ASYNC_HTTP_CLIENT_MANAGER}). Synchronous
+ * invocations are still executed by the blocking Apache HTTP client.
+ * <p>
+ * No thread is held while an asynchronous request is in flight: request entities are written by a job manager worker
+ * (or serialized up front if {@link RestClientProperties#DISABLE_CHUNKED_TRANSFER_ENCODING} is set), the response is
+ * handed over to Jersey as soon as its headers are received and its entity is streamed with back pressure while it is
+ * read. Jersey callbacks never run on I/O dispatch threads but on job manager workers, within the {@link RunContext}
+ * that was current when the invocation was built.
+ * <p>
+ * The asynchronous HTTP client is configured by its manager, therefore a client with
+ * {@link RestClientProperties#PROXY_URI} or {@link RestClientProperties#REQUEST_URI_ENCODER} falls back to the blocking
+ * connector. No {@code Connection: close} header is added as it is not allowed for HTTP/2 requests.
+ *
+ * @since 24.1
+ */
+public class ScoutApacheAsyncConnector extends ScoutApacheConnector {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ScoutApacheAsyncConnector.class);
+
+  /**
+   * Request property holding a copy of the {@link RunContext} the invocation was built in (set by
+   * {@link ScoutInvocationBuilderListener}).
+   */
+  public static final String RUN_CONTEXT = "scout.rest.client.async.runContext";
+
+  protected final AbstractAsyncHttpClientManager<?> m_asyncHttpClientManager;
+  protected final boolean m_asyncExecutionSupported;
+
+  public ScoutApacheAsyncConnector(Client client, Configuration config) {
+    super(client, config);
+    m_asyncHttpClientManager = resolveAsyncHttpClientManager(config.getProperty(RestClientProperties.ASYNC_HTTP_CLIENT_MANAGER));
+    m_asyncExecutionSupported = isAsyncExecutionSupported(config);
+  }
+
+  protected AbstractAsyncHttpClientManager<?> resolveAsyncHttpClientManager(Object manager) {
+    if (manager == null) {
+      return BEANS.get(DefaultAsyncHttpClientManager.class);
+    }
+    else if (manager instanceof AbstractAsyncHttpClientManager) {
+      return (AbstractAsyncHttpClientManager<?>) manager;
+    }
+    else if (manager instanceof Class) {
+      return Assertions.assertInstance(BEANS.get((Class<?>) manager), AbstractAsyncHttpClientManager.class);
+    }
+    else {
+      throw new AssertionException("The async HTTP client manager ('{0}') property MUST be an instance or a class of AbstractAsyncHttpClientManager", manager);
+    }
+  }
+
+  /**
+   * @return {@code false} if the given client configuration requires settings the asynchronous HTTP client cannot apply
+   *         per client. Asynchronous invocations of such clients are executed by the blocking connector.
+   */
+  protected boolean isAsyncExecutionSupported(Configuration config) {
+    return config.getProperty(RestClientProperties.PROXY_URI) == null
+        && config.getProperty(RestClientProperties.REQUEST_URI_ENCODER) == null;
+  }
+
+  /**
+   * Executor producing streamed request entities. Default runs every task as job.
+   */
+  protected Executor getExecutor() {
+    return runnable -> Jobs.schedule(runnable::run, Jobs.newInput()
+        .withName("Producing REST request entity"));
+  }
+
+  /**
+   * Initial size of the buffers used to stream request and response entities.
+   */
+  protected int getInitialBufferSize() {
+    return ReaderWriter.BUFFER_SIZE;
+  }
+
+  @Override
+  public Future<?> apply(final ClientRequest clientRequest, final AsyncConnectorCallback callback) {
+    if (!m_asyncExecutionSupported) {
+      return super.apply(clientRequest, callback);
+    }
+
+    ensureDefaultUserAgent(clientRequest);
+    return new P_AsyncExchange(clientRequest, callback, clientRequest.resolveProperty(RUN_CONTEXT, RunContext.class)).execute();
+  }
+
+  protected AsyncEntityProducer createAsyncEntityProducer(final ClientRequest clientRequest) {
+    if (clientRequest.getEntity() == null) {
+      return null; // no http payload
+    }
+
+    boolean bufferingEnabled = BooleanUtility.nvl(clientRequest.resolveProperty(RestClientProperties.DISABLE_CHUNKED_TRANSFER_ENCODING, Boolean.class));
+    if (bufferingEnabled) {
+      ByteArrayOutputStream buffer = new ByteArrayOutputStream(512);
+      try {
+        clientRequest.setStreamProvider(contentLength -> buffer);
+        clientRequest.writeEntity();
+      }
+      catch (IOException e) {
+        throw new ProcessingException("Error buffering entity", e);
+      }
+      return new BasicAsyncEntityProducer(buffer.toByteArray(), null);
+    }
+
+    return new AbstractClassicEntityProducer(getInitialBufferSize(), null, getExecutor()) {
+      @Override
+      protected void produceData(ContentType contentType, OutputStream outputStream) throws IOException {
+        clientRequest.setStreamProvider(contentLength -> outputStream);
+        clientRequest.writeEntity();
+      }
+    };
+  }
+
+  /**
+   * Runs the given Jersey callback as job within the given {@link RunContext} (if any). The job gets its own
+   * {@link RunMonitor}, so that the callback is run even if the invocation was cancelled.
+   */
+  protected void dispatchCallback(final RunContext runContext, final IRunnable runnable) {
+    Jobs.schedule(runnable, Jobs.newInput()
+        .withRunContext(runContext != null ? runContext.copy().withRunMonitor(BEANS.get(RunMonitor.class)) : null)
+        .withName("Dispatching REST client callback"));
+  }
+
+  /**
+   * Registers the given exchange as {@link ICancellable} with the {@link RunMonitor} the invocation was built in. If the
+   * client request provides its own {@link RestClientProperties#CANCELLABLE}, that one is registered instead.
+   */
+  protected IRegistrationHandle registerCancellable(ClientRequest clientRequest, RunContext runContext, ICancellable exchange) {
+    final RunMonitor runMonitor = getCallerRunMonitor(runContext);
+    if (runMonitor == null) {
+      return IRegistrationHandle.NULL_HANDLE;
+    }
+    ICancellable cancellable = exchange;
+    Object c = clientRequest.getProperty(RestClientProperties.CANCELLABLE);
+    if (c instanceof ICancellable) {
+      cancellable = (ICancellable) c;
+    }
+    else if (c != null) {
+      LOG.debug("non-null cancellable has unexpected type: " + c.getClass());
+    }
+    final ICancellable registeredCancellable = cancellable;
+    runMonitor.registerCancellable(registeredCancellable);
+    return () -> runMonitor.unregisterCancellable(registeredCancellable);
+  }
+
+  /**
+   * @return the {@link RunMonitor} of the caller, i.e. the parent of the monitor of a copied {@link RunContext}.
+   */
+  protected RunMonitor getCallerRunMonitor(RunContext runContext) {
+    if (runContext == null) {
+      return RunMonitor.CURRENT.get();
+    }
+    return runContext.getParentRunMonitor() != null ? runContext.getParentRunMonitor() : runContext.getRunMonitor();
+  }
+
+  /**
+   * A single asynchronous request/response exchange. Completes the Jersey callback exactly once.
+   */
+  protected class P_AsyncExchange implements ICancellable, FutureCallback<Void> {
+
+    protected final ClientRequest m_clientRequest;
+    protected final AsyncConnectorCallback m_callback;
+    protected final RunContext m_runContext;
+    protected final HttpClientContext m_context = HttpClientContext.create();
+    protected final AtomicBoolean m_callbackDispatched = new AtomicBoolean();
+    protected final AtomicBoolean m_cancelled = new AtomicBoolean();
+    protected volatile Future<Void> m_future;
+    protected volatile IRegistrationHandle m_cancellableHandle = IRegistrationHandle.NULL_HANDLE;
+
+    protected P_AsyncExchange(ClientRequest clientRequest, AsyncConnectorCallback callback, RunContext runContext) {
+      m_clientRequest = clientRequest;
+      m_callback = callback;
+      m_runContext = runContext;
+    }
+
+    protected Future<?> execute() {
+      try {
+        m_context.setRequestConfig(createRequestConfig(m_clientRequest));
+        if (m_cookieStore != null) {
+          m_context.setCookieStore(m_cookieStore);
+        }
+        AsyncEntityProducer entityProducer = createAsyncEntityProducer(m_clientRequest);
+        AsyncRequestBuilder requestBuilder = AsyncRequestBuilder.create(m_clientRequest.getMethod())
+            .setUri(m_clientRequest.getUri())
+            .setEntity(entityProducer);
+        Map<String, String> clientHeadersSnapshot = HeaderUtils.asStringHeadersSingleValue(m_clientRequest.getHeaders(), m_clientRequest.getConfiguration());
+        for (Map.Entry<String, String> e : clientHeadersSnapshot.entrySet()) {
+          requestBuilder.addHeader(e.getKey(), e.getValue());
+        }
+
+        m_cancellableHandle = registerCancellable(m_clientRequest, m_runContext, this);
+        Future<Void> future = m_asyncHttpClientManager.getClient().execute(requestBuilder.build(), new P_ResponseConsumer(clientHeadersSnapshot), m_context, this);
+        m_future = future;
+        if (m_cancelled.get()) {
+          future.cancel(true);
+        }
+        return future;
+      }
+      catch (RuntimeException e) {
+        m_cancellableHandle.dispose();
+        ProcessingException pe = new ProcessingException("Failed to execute request, message=" + e.getMessage(), e);
+        if (m_callbackDispatched.compareAndSet(false, true)) {
+          m_callback.failure(pe);
+        }
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        future.completeExceptionally(pe);
+        return future;
+      }
+    }
+
+    protected void dispatchResponse(ClientResponse response) {
+      if (m_callbackDispatched.compareAndSet(false, true)) {
+        dispatchCallback(m_runContext, () -> m_callback.response(response));
+      }
+    }
+
+    protected void dispatchFailure(Throwable t) {
+      if (m_callbackDispatched.compareAndSet(false, true)) {
+        dispatchCallback(m_runContext, () -> m_callback.failure(t));
+      }
+    }
+
+    @Override
+    public void completed(Void result) {
+      m_cancellableHandle.dispose();
+    }
+
+    @Override
+    public void failed(Exception ex) {
+      m_cancellableHandle.dispose();
+      dispatchFailure(new ProcessingException("Failed to execute request, message=" + ex.getMessage(), ex));
+    }
+
+    @Override
+    public void cancelled() {
+      m_cancellableHandle.dispose();
+      dispatchFailure(new ProcessingException("Request was cancelled"));
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return m_cancelled.get();
+    }
+
+    @Override
+    public boolean cancel(boolean interruptIfRunning) {
+      if (!m_cancelled.compareAndSet(false, true)) {
+        return false;
+      }
+      LOG.debug("Aborting asynchronous HTTP REST request");
+      Future<Void> future = m_future;
+      if (future != null) {
+        future.cancel(true);
+      }
+      return true;
+    }
+
+    /**
+     * Hands the response over to Jersey once its headers are received and streams the entity into a
+     * {@link SharedInputBuffer} which is read by the {@link ClientResponse}.
+     */
+    protected class P_ResponseConsumer implements AsyncResponseConsumer<Void> {
+
+      protected final Map<String, String> m_clientHeadersSnapshot;
+      protected final SharedInputBuffer m_buffer = new SharedInputBuffer(getInitialBufferSize());
+      protected volatile FutureCallback<Void> m_resultCallback;
+      protected volatile boolean m_streamEnded;
+      protected volatile Exception m_failure;
+
+      protected P_ResponseConsumer(Map<String, String> clientHeadersSnapshot) {
+        m_clientHeadersSnapshot = clientHeadersSnapshot;
+      }
+
+      @Override
+      public void consumeResponse(HttpResponse response, EntityDetails entityDetails, HttpContext context, FutureCallback<Void> resultCallback) {
+        m_resultCallback = resultCallback;
+        HeaderUtils.checkHeaderChanges(m_clientHeadersSnapshot, m_clientRequest.getHeaders(), ScoutApacheAsyncConnector.this.getClass().getName(), m_clientRequest.getConfiguration());
+
+        ClientResponse responseContext = createClientResponse(m_clientRequest, response, m_context);
+        if (entityDetails == null) {
+          m_streamEnded = true;
+          responseContext.setEntityStream(new ByteArrayInputStream(new byte[0]));
+          resultCallback.completed(null);
+        }
+        else {
+          MultivaluedMap<String, String> headers = responseContext.getHeaders();
+          if (headers.get(HttpHeaders.CONTENT_LENGTH) == null && entityDetails.getContentLength() >= 0) {
+            headers.add(HttpHeaders.CONTENT_LENGTH, String.valueOf(entityDetails.getContentLength()));
+          }
+          String contentEncoding = entityDetails.getContentEncoding();
+          if (headers.get(HttpHeaders.CONTENT_ENCODING) == null && contentEncoding != null) {
+            headers.add(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+          }
+          responseContext.setEntityStream(new P_ResponseInputStream(this));
+        }
+        dispatchResponse(responseContext);
+      }
+
+      @Override
+      public void informationResponse(HttpResponse response, HttpContext context) {
+        // nop
+      }
+
+      @Override
+      public void updateCapacity(CapacityChannel capacityChannel) throws IOException {
+        m_buffer.updateCapacity(capacityChannel);
+      }
+
+      @Override
+      public void consume(ByteBuffer src) {
+        m_buffer.fill(src);
+      }
+
+      @Override
+      public void streamEnd(List<? extends Header> trailers) {
+        m_streamEnded = true;
+        m_buffer.markEndStream();
+        FutureCallback<Void> resultCallback = m_resultCallback;
+        if (resultCallback != null) {
+          resultCallback.completed(null);
+        }
+      }
+
+      @Override
+      public void failed(Exception cause) {
+        m_failure = cause;
+        m_buffer.abort();
+      }
+
+      @Override
+      public void releaseResources() {
+        if (!m_streamEnded) {
+          // exchange was aborted before the entity was received completely: unblock the reader
+          if (m_failure == null) {
+            m_failure = new IOException("Exchange aborted");
+          }
+          m_buffer.abort();
+        }
+      }
+    }
+
+    /**
+     * Response entity stream reporting a failed exchange instead of a premature end of stream. Closing it before the
+     * entity was received completely aborts the exchange.
+     */
+    protected class P_ResponseInputStream extends FilterInputStream {
+
+      protected final P_ResponseConsumer m_consumer;
+
+      protected P_ResponseInputStream(P_ResponseConsumer consumer) {
+        super(new ContentInputStream(consumer.m_buffer));
+        m_consumer = consumer;
+      }
+
+      @Override
+      public int read() throws IOException {
+        return checkFailure(super.read());
+      }
+
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        return checkFailure(super.read(b, off, len));
+      }
+
+      protected int checkFailure(int n) throws IOException {
+        Exception failure = m_consumer.m_failure;
+        if (n < 0 && failure != null) {
+          throw new IOException("Failed to read response entity", failure);
+        }
+        return n;
+      }
+
+      @Override
+      public void close() throws IOException {
+        if (!m_consumer.m_streamEnded) {
+          cancel(true);
+          m_consumer.m_buffer.abort();
+        }
+        try {
+          super.close();
+        }
+        catch (IOException ex) { // NOSONAR squid:S1166
+          // Ignore
+        }
+      }
+    }
+  }
+}
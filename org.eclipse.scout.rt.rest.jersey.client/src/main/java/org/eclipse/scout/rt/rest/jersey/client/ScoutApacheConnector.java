@@ -65,6 +65,7 @@ import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.config.RegistryBuilder;
 import org.apache.hc.core5.http.impl.io.DefaultHttpRequestWriterFactory;
 import org.apache.hc.core5.http.io.HttpConnectionFactory;
@@ -333,27 +334,8 @@ public class ScoutApacheConnector implements Connector {
       response = m_client.executeOpen(target, request, context);
       HeaderUtils.checkHeaderChanges(clientHeadersSnapshot, clientRequest.getHeaders(), this.getClass().getName(), clientRequest.getConfiguration());
 
-      Response.StatusType status = response.getReasonPhrase() == null
-          ? Statuses.from(response.getCode())
-          : Statuses.from(response.getCode(), response.getReasonPhrase());
-
-      ClientResponse responseContext = new ClientResponse(status, clientRequest);
-      RedirectLocations redirectLocations = context.getRedirectLocations();
-      if (redirectLocations != null && redirectLocations.size() > 0) {
-        responseContext.setResolvedRequestUri(redirectLocations.get(redirectLocations.size() - 1));
-      }
-
-      Header[] respHeaders = response.getHeaders();
+      ClientResponse responseContext = createClientResponse(clientRequest, response, context);
       MultivaluedMap<String, String> headers = responseContext.getHeaders();
-      for (Header header : respHeaders) {
-        String headerName = header.getName();
-        List<String> list = headers.get(headerName);
-        if (list == null) {
-          list = new ArrayList<>();
-        }
-        list.add(header.getValue());
-        headers.put(headerName, list);
-      }
 
       HttpEntity entity = response.getEntity();
       if (entity != null) {
@@ -377,10 +359,53 @@ public class ScoutApacheConnector implements Connector {
     }
   }
 
+  /**
+   * Creates the {@link ClientResponse} with status, resolved request URI and headers of the given {@link HttpResponse}.
+   * The response entity is not set.
+   */
+  protected ClientResponse createClientResponse(ClientRequest clientRequest, HttpResponse response, HttpClientContext context) {
+    Response.StatusType status = response.getReasonPhrase() == null
+        ? Statuses.from(response.getCode())
+        : Statuses.from(response.getCode(), response.getReasonPhrase());
+
+    ClientResponse responseContext = new ClientResponse(status, clientRequest);
+    RedirectLocations redirectLocations = context.getRedirectLocations();
+    if (redirectLocations != null && redirectLocations.size() > 0) {
+      responseContext.setResolvedRequestUri(redirectLocations.get(redirectLocations.size() - 1));
+    }
+
+    Header[] respHeaders = response.getHeaders();
+    MultivaluedMap<String, String> headers = responseContext.getHeaders();
+    for (Header header : respHeaders) {
+      String headerName = header.getName();
+      List<String> list = headers.get(headerName);
+      if (list == null) {
+        list = new ArrayList<>();
+      }
+      list.add(header.getValue());
+      headers.put(headerName, list);
+    }
+    return responseContext;
+  }
+
   /**
    * Setup {@link HttpRequest} based on given {@link ClientRequest}.
    */
   protected HttpUriRequestBase getUriHttpRequest(final ClientRequest clientRequest) {
+    boolean bufferingEnabled = BooleanUtility.nvl(clientRequest.resolveProperty(RestClientProperties.DISABLE_CHUNKED_TRANSFER_ENCODING, Boolean.class));
+    HttpEntity entity = getHttpEntity(clientRequest, bufferingEnabled);
+
+    HttpUriRequestBase request = new HttpUriRequestBase(clientRequest.getMethod(), clientRequest.getUri());
+    request.setEntity(entity);
+    request.setConfig(createRequestConfig(clientRequest));
+    return request;
+  }
+
+  /**
+   * Creates the {@link RequestConfig} of a single request based on the default request config and the timeout and
+   * redirect properties of the given {@link ClientRequest}.
+   */
+  protected RequestConfig createRequestConfig(ClientRequest clientRequest) {
     RequestConfig.Builder requestConfigBuilder = RequestConfig.copy(m_requestConfig);
 
     initConnectTimeout(clientRequest, requestConfigBuilder);
@@ -388,14 +413,7 @@ public class ScoutApacheConnector implements Connector {
 
     boolean redirectsEnabled = BooleanUtility.nvl(clientRequest.resolveProperty(RestClientProperties.FOLLOW_REDIRECTS, m_requestConfig.isRedirectsEnabled()));
     requestConfigBuilder.setRedirectsEnabled(redirectsEnabled);
-
-    boolean bufferingEnabled = BooleanUtility.nvl(clientRequest.resolveProperty(RestClientProperties.DISABLE_CHUNKED_TRANSFER_ENCODING, Boolean.class));
-    HttpEntity entity = getHttpEntity(clientRequest, bufferingEnabled);
-
-    HttpUriRequestBase request = new HttpUriRequestBase(clientRequest.getMethod(), clientRequest.getUri());
-    request.setEntity(entity);
-    request.setConfig(requestConfigBuilder.build());
-    return request;
+    return requestConfigBuilder.build();
   }
 
   protected void initConnectTimeout(ClientRequest clientRequest, RequestConfig.Builder requestConfigBuilder) {
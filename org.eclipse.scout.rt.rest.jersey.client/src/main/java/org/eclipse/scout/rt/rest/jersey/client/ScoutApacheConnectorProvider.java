@@ -13,6 +13,7 @@ import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.core.Configuration;
 
 import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.rest.client.RestClientProperties;
 import org.glassfish.jersey.client.spi.Connector;
 import org.glassfish.jersey.client.spi.ConnectorProvider;
 
@@ -21,6 +22,9 @@ public class ScoutApacheConnectorProvider implements ConnectorProvider {
 
   @Override
   public Connector getConnector(Client client, Configuration runtimeConfig) {
+    if (runtimeConfig.getProperty(RestClientProperties.ASYNC_HTTP_CLIENT_MANAGER) != null) {
+      return new ScoutApacheAsyncConnector(client, runtimeConfig);
+    }
     return new ScoutApacheConnector(client, runtimeConfig);
   }
 }
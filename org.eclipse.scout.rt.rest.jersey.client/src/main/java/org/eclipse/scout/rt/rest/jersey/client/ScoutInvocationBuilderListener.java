@@ -11,10 +11,14 @@ package org.eclipse.scout.rt.rest.jersey.client;
 
 import jakarta.ws.rs.core.HttpHeaders;
 
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.rest.client.RestClientProperties;
 import org.glassfish.jersey.client.spi.InvocationBuilderListener;
 
 /**
- * {@link InvocationBuilderListener} implementation disabling the default Jersey user agent header.
+ * {@link InvocationBuilderListener} implementation disabling the default Jersey user agent header and capturing the
+ * current {@link RunContext} for clients using the {@link ScoutApacheAsyncConnector}.
  */
 public class ScoutInvocationBuilderListener implements InvocationBuilderListener {
 
@@ -23,5 +27,10 @@ public class ScoutInvocationBuilderListener implements InvocationBuilderListener
     // disable default user agent header by setting null as agent, see org.glassfish.jersey.client.JerseyInvocation.Builder.header(String, Object)
     // sets internal flag ClientRequest.ignoreUserAgent, which prevents Jersey from sending a user agent header like "Jersey/2.31"
     context.header(HttpHeaders.USER_AGENT, null);
+
+    // asynchronous invocations are processed on other threads: keep the caller's context for the Jersey callbacks
+    if (RunContext.CURRENT.get() != null && context.getConfiguration().getProperty(RestClientProperties.ASYNC_HTTP_CLIENT_MANAGER) != null) {
+      context.property(ScoutApacheAsyncConnector.RUN_CONTEXT, RunContexts.copyCurrent());
+    }
   }
 }
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.rest.jersey.client;
+
+import static org.eclipse.scout.rt.rest.jersey.EchoServletParameters.*;
+import static org.junit.Assert.*;
+
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.client.InvocationCallback;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+
+import org.eclipse.scout.rt.dataobject.DoEntityBuilder;
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
+import org.eclipse.scout.rt.platform.util.concurrent.ICancellable;
+import org.eclipse.scout.rt.rest.client.IRestClientConfigFactory;
+import org.eclipse.scout.rt.rest.client.RestClientProperties;
+import org.eclipse.scout.rt.rest.jersey.JerseyTestApplication;
+import org.eclipse.scout.rt.rest.jersey.JerseyTestRestClientHelper;
+import org.eclipse.scout.rt.rest.jersey.RequestSynchronizer;
+import org.eclipse.scout.rt.rest.jersey.RestClientTestEchoResponse;
+import org.eclipse.scout.rt.shared.http.async.DefaultAsyncHttpClientManager;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.util.BlockingCountDownLatch;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class ScoutApacheAsyncConnectorTest {
+
+  private WebTarget m_target;
+
+  @BeforeClass
+  public static void beforeClass() {
+    BEANS.get(JerseyTestApplication.class).ensureStarted();
+  }
+
+  @Before
+  public void before() {
+    Thread.interrupted();
+    m_target = new JerseyTestRestClientHelper() {
+      @Override
+      protected IRestClientConfigFactory getRestClientConfigFactory() {
+        return new JerseyClientConfigFactory(); // not replaced by TestingRestClientConfigFactory
+      }
+
+      @Override
+      protected void configureClientBuilder(ClientBuilder clientBuilder) {
+        super.configureClientBuilder(clientBuilder);
+        clientBuilder.property(RestClientProperties.ASYNC_HTTP_CLIENT_MANAGER, DefaultAsyncHttpClientManager.class);
+      }
+    }.rawClient().target(BEANS.get(JerseyTestRestClientHelper.class).getBaseUri()).path("echo");
+  }
+
+  @Test
+  public void testAsyncGet() throws Exception {
+    Response response = m_target
+        .queryParam(STATUS, Status.OK.getStatusCode())
+        .queryParam(LARGE_MESSAGE, true)
+        .request()
+        .accept(MediaType.APPLICATION_JSON)
+        .async()
+        .get()
+        .get(30, TimeUnit.SECONDS);
+
+    assertEquals(Status.OK.getStatusCode(), response.getStatus());
+    RestClientTestEchoResponse entity = response.readEntity(RestClientTestEchoResponse.class);
+    assertEquals(Integer.valueOf(Status.OK.getStatusCode()), entity.getEcho().getCode());
+    assertEquals(26 * 1001, entity.getEcho().getData().length());
+    response.close();
+  }
+
+  @Test
+  public void testAsyncPost() throws Exception {
+    assertAsyncPost(false);
+  }
+
+  @Test
+  public void testAsyncPostChunkedDisabled() throws Exception {
+    assertAsyncPost(true);
+  }
+
+  protected void assertAsyncPost(boolean chunkedDisabled) throws Exception {
+    String largeIntString = IntStream.range(1, 1000).mapToObj(Integer::toString).collect(Collectors.joining("#"));
+    IDoEntity payload = BEANS.get(DoEntityBuilder.class)
+        .put("attribute", "value")
+        .put("attributeLarge", largeIntString)
+        .build();
+
+    Response response = m_target
+        .queryParam(STATUS, Status.OK.getStatusCode())
+        .request()
+        .property(RestClientProperties.DISABLE_CHUNKED_TRANSFER_ENCODING, chunkedDisabled)
+        .accept(MediaType.APPLICATION_JSON)
+        .async()
+        .post(Entity.json(payload))
+        .get(30, TimeUnit.SECONDS);
+
+    assertEquals(Status.OK.getStatusCode(), response.getStatus());
+    RestClientTestEchoResponse entity = response.readEntity(RestClientTestEchoResponse.class);
+    assertEquals(payload, BEANS.get(IDataObjectMapper.class).readValueRaw(entity.getEcho().getBody()));
+    assertEquals(chunkedDisabled ? null : "chunked", entity.getReceivedHeaders().get("Transfer-Encoding"));
+    response.close();
+  }
+
+  @Test
+  public void testCallbackRunsInCallerRunContext() throws Exception {
+    BlockingCountDownLatch latch = new BlockingCountDownLatch(1);
+    AtomicReference<Locale> callbackLocale = new AtomicReference<>();
+    AtomicReference<Integer> callbackStatus = new AtomicReference<>();
+
+    RunContexts.copyCurrent()
+        .withLocale(Locale.ITALIAN)
+        .run(() -> m_target
+            .queryParam(STATUS, Status.OK.getStatusCode())
+            .request()
+            .accept(MediaType.APPLICATION_JSON)
+            .async()
+            .get(new InvocationCallback<Response>() {
+              @Override
+              public void completed(Response response) {
+                callbackLocale.set(NlsLocale.CURRENT.get());
+                callbackStatus.set(response.getStatus());
+                response.close();
+                latch.countDown();
+              }
+
+              @Override
+              public void failed(Throwable throwable) {
+                latch.countDown();
+              }
+            }));
+
+    assertTrue(latch.await());
+    assertEquals(Integer.valueOf(Status.OK.getStatusCode()), callbackStatus.get());
+    assertEquals(Locale.ITALIAN, callbackLocale.get());
+  }
+
+  @Test
+  public void testCancelByRunMonitor() throws Exception {
+    RequestSynchronizer requestSynchronizer = BEANS.get(RequestSynchronizer.class);
+    String requestId = requestSynchronizer.announceRequest();
+    RunMonitor runMonitor = BEANS.get(RunMonitor.class);
+
+    Future<Response> future = RunContexts.copyCurrent()
+        .withRunMonitor(runMonitor)
+        .call(() -> m_target
+            .queryParam(STATUS, Status.OK.getStatusCode())
+            .queryParam(SLEEP_SEC, 5)
+            .queryParam(REQUEST_ID, requestId)
+            .request()
+            .accept(MediaType.APPLICATION_JSON)
+            .async()
+            .get());
+
+    requestSynchronizer.awaitRequest(requestId, 5);
+    runMonitor.cancel(true);
+
+    ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(3, TimeUnit.SECONDS));
+    assertTrue(e.getCause() instanceof ProcessingException);
+  }
+
+  @Test
+  public void testCustomCancellable() throws Exception {
+    RequestSynchronizer requestSynchronizer = BEANS.get(RequestSynchronizer.class);
+    String requestId = requestSynchronizer.announceRequest();
+    RunMonitor runMonitor = BEANS.get(RunMonitor.class);
+    ICancellable cancellable = new ICancellable() {
+      private final AtomicBoolean m_cancelled = new AtomicBoolean();
+
+      @Override
+      public boolean isCancelled() {
+        return m_cancelled.get();
+      }
+
+      @Override
+      public boolean cancel(boolean interruptIfRunning) {
+        if (!m_cancelled.compareAndSet(false, true)) {
+          return false;
+        }
+        requestSynchronizer.cancelRequest(requestId);
+        return true;
+      }
+    };
+
+    Future<Response> future = RunContexts.copyCurrent()
+        .withRunMonitor(runMonitor)
+        .call(() -> m_target
+            .queryParam(STATUS, Status.OK.getStatusCode())
+            .queryParam(SLEEP_SEC, 5)
+            .queryParam(REQUEST_ID, requestId)
+            .request()
+            .property(RestClientProperties.CANCELLABLE, cancellable) // register custom cancellable
+            .accept(MediaType.APPLICATION_JSON)
+            .async()
+            .get());
+
+    requestSynchronizer.awaitRequest(requestId, 5);
+    runMonitor.cancel(true);
+    assertTrue(cancellable.isCancelled());
+
+    // the custom cancellable replaces aborting the exchange: the server answers the cancelled request
+    Response response = future.get(30, TimeUnit.SECONDS);
+    assertNotNull(response);
+    response.close();
+  }
+}
@@ -250,4 +250,22 @@ public final class RestClientProperties {
    * </p>
    */
   public static final String READ_TIMEOUT = "scout.rest.client.readTimeout";
+
+  /**
+   * Asynchronous HTTP client manager used by connectors that execute asynchronous invocations (e.g.
+   * {@code WebTarget.request().async()}) without blocking a thread for the whole round trip. This property is only
+   * supported on rest client level.
+   * <p>
+   * The value MUST be an instance or a bean class of
+   * {@code org.eclipse.scout.rt.shared.http.async.AbstractAsyncHttpClientManager}. Use
+   * {@code H2AsyncHttpClientManager} to multiplex concurrent requests to the same host over one HTTP/2 connection.
+   * </p>
+   * <p>
+   * The default value is {@code null}, meaning asynchronous invocations are executed by the blocking connector.
+   * </p>
+   * <p>
+   * The name of the configuration property is <tt>{@value}</tt>.
+   * </p>
+   */
+  public static final String ASYNC_HTTP_CLIENT_MANAGER = "scout.rest.client.asyncHttpClientManager";
 }
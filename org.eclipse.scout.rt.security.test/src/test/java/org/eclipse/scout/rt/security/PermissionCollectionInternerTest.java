@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.security;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.security.fixture.AFixturePermission;
+import org.eclipse.scout.rt.security.fixture.GFixturePermission;
+import org.eclipse.scout.rt.security.fixture.JFixturePermission;
+import org.eclipse.scout.rt.security.fixture.TestPermissionLevels;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class PermissionCollectionInternerTest {
+
+  private PermissionCollectionInterner m_interner;
+
+  @Before
+  public void before() {
+    m_interner = new PermissionCollectionInterner();
+  }
+
+  @After
+  public void after() {
+    m_interner.clear();
+  }
+
+  @Test
+  public void testInternEqualCollections() {
+    IPermissionCollection p1 = m_interner.intern(createCollection(false, TestPermissionLevels.GRANTED));
+    IPermissionCollection p2 = m_interner.intern(createCollection(true, TestPermissionLevels.GRANTED));
+    assertSame(p1, p2);
+    assertEquals(1, m_interner.size());
+  }
+
+  @Test
+  public void testInternDifferentCollections() {
+    IPermissionCollection p1 = m_interner.intern(createCollection(false, TestPermissionLevels.GRANTED));
+    IPermissionCollection p2 = m_interner.intern(createCollection(false, TestPermissionLevels.DENIED));
+    assertNotSame(p1, p2);
+
+    IPermissionCollection p3 = createCollection(false, TestPermissionLevels.GRANTED, "other value");
+    assertSame(p3, m_interner.intern(p3));
+    assertEquals(3, m_interner.size());
+  }
+
+  @Test
+  public void testInternNotInternable() {
+    // not read-only
+    IPermissionCollection writable = BEANS.get(DefaultPermissionCollection.class);
+    writable.add(new AFixturePermission(), PermissionLevel.ALL);
+    assertSame(writable, m_interner.intern(writable));
+
+    // equals does not cover the state of the permission
+    IPermissionCollection p1 = createCollectionWithStatefulPermission("a");
+    IPermissionCollection p2 = createCollectionWithStatefulPermission("b");
+    assertSame(p1, m_interner.intern(p1));
+    assertSame(p2, m_interner.intern(p2));
+
+    assertSame(BEANS.get(AllPermissionCollection.class), m_interner.intern(BEANS.get(AllPermissionCollection.class)));
+    assertEquals(0, m_interner.size());
+  }
+
+  @Test
+  public void testRelease() {
+    IPermissionCollection p1 = m_interner.intern(createCollection(false, TestPermissionLevels.GRANTED));
+    m_interner.release(p1);
+    assertEquals(0, m_interner.size());
+
+    IPermissionCollection p2 = m_interner.intern(createCollection(false, TestPermissionLevels.GRANTED));
+    assertNotSame(p1, p2);
+    assertSame(p2, m_interner.intern(createCollection(false, TestPermissionLevels.GRANTED)));
+  }
+
+  protected IPermissionCollection createCollection(boolean reverse, PermissionLevel level) {
+    return createCollection(reverse, level, "value");
+  }
+
+  protected IPermissionCollection createCollection(boolean reverse, PermissionLevel level, String value) {
+    IPermissionCollection permissions = BEANS.get(DefaultPermissionCollection.class);
+    if (reverse) {
+      permissions.add(new JFixturePermission());
+      permissions.add(new GFixturePermission(), level);
+      permissions.add(new AFixturePermission(), PermissionLevel.ALL);
+    }
+    else {
+      permissions.add(new AFixturePermission(), PermissionLevel.ALL);
+      permissions.add(new GFixturePermission(), level);
+      permissions.add(new JFixturePermission());
+    }
+    permissions.setValue(String.class, value);
+    permissions.setReadOnly();
+    return permissions;
+  }
+
+  protected IPermissionCollection createCollectionWithStatefulPermission(String state) {
+    IPermissionCollection permissions = BEANS.get(DefaultPermissionCollection.class);
+    permissions.add(new P_StatefulPermission(state), PermissionLevel.ALL);
+    permissions.setReadOnly();
+    return permissions;
+  }
+
+  private static class P_StatefulPermission extends AbstractPermission {
+    private static final long serialVersionUID = 1L;
+
+    private final String m_state;
+
+    P_StatefulPermission(String state) {
+      super("stateful");
+      m_state = state;
+    }
+
+    @Override
+    protected boolean evalPermission(IPermission p) {
+      return m_state.equals(((P_StatefulPermission) p).m_state);
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.security;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.util.ThreadAllocationUtility;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Measures {@link IPermissionCollection#implies(IPermission)} and
+ * {@link IPermissionCollection#getGrantedPermissionLevel(IPermission)} on a writable collection (uncompiled lookups)
+ * and on the same permissions in a read-only collection (compiled lookups), as done by {@link ACCESS}.
+ */
+@RunWith(PlatformTestRunner.class)
+public class PermissionCollectionPerfTest {
+
+  private static final int PERMISSION_COUNT = 500;
+  private static final int CHECK_COUNT = 2_000_000;
+
+  @Test
+  public void testCheck() {
+    IPermissionCollection uncompiled = createCollection();
+    IPermissionCollection compiled = createCollection();
+    compiled.setReadOnly();
+
+    List<IPermission> checked = new ArrayList<>();
+    for (int i = 0; i < PERMISSION_COUNT * 2; i++) { // half of the checked permissions are not granted
+      checked.add(new P_PerfPermission("perf." + i));
+    }
+
+    // warm up
+    runChecks(uncompiled, checked, CHECK_COUNT / 10);
+    runChecks(compiled, checked, CHECK_COUNT / 10);
+
+    long start = System.nanoTime();
+    int uncompiledGranted = runChecks(uncompiled, checked, CHECK_COUNT);
+    long uncompiledMillis = (System.nanoTime() - start) / 1_000_000;
+
+    long allocatedBefore = ThreadAllocationUtility.getAllocatedBytes();
+    start = System.nanoTime();
+    int compiledGranted = runChecks(compiled, checked, CHECK_COUNT);
+    long compiledMillis = (System.nanoTime() - start) / 1_000_000;
+    long compiledBytes = ThreadAllocationUtility.getAllocatedBytes() - allocatedBefore;
+
+    assertEquals(uncompiledGranted, compiledGranted);
+    assertEquals(CHECK_COUNT / 2, compiledGranted);
+
+    String message = String.format("%d checks: %d ms uncompiled, %d ms compiled", CHECK_COUNT, uncompiledMillis, compiledMillis);
+    if (allocatedBefore >= 0 && compiledBytes >= 0) {
+      // neither streams nor memoized levels are allocated per check
+      message += String.format(", %d bytes allocated compiled", compiledBytes);
+      assertTrue(message, compiledBytes < CHECK_COUNT);
+    }
+    assertTrue(message, uncompiledMillis < 30_000);
+    assertTrue(message, compiledMillis < 30_000);
+  }
+
+  protected int runChecks(IPermissionCollection permissions, List<IPermission> checked, int count) {
+    int granted = 0;
+    for (int i = 0; i < count; i++) {
+      IPermission p = checked.get(i % checked.size());
+      if (permissions.implies(p) && permissions.getGrantedPermissionLevel(p) == PermissionLevel.ALL) {
+        granted++;
+      }
+    }
+    return granted;
+  }
+
+  protected IPermissionCollection createCollection() {
+    IPermissionCollection permissions = BEANS.get(DefaultPermissionCollection.class);
+    for (int i = 0; i < PERMISSION_COUNT; i++) {
+      permissions.add(new P_PerfPermission("perf." + i), PermissionLevel.ALL);
+    }
+    return permissions;
+  }
+
+  private static class P_PerfPermission extends AbstractPermission {
+    private static final long serialVersionUID = 1L;
+
+    P_PerfPermission(String name) {
+      super(name);
+    }
+  }
+}
@@ -384,4 +384,50 @@ public class PermissionsTest {
     List<Permission> permissionList = Collections.list(((PermissionCollection) permissions).elements());
     Assert.assertThrows(AssertionException.class, () -> ((IPermission) permissionList.get(0)).setLevelInternal(PermissionLevel.ALL));
   }
+
+  @Test
+  public void testCompiledLookups() {
+    IPermissionCollection writable = prepareDefaultPermissionCollection();
+    IPermissionCollection sealed = createDefaultPermissionCollection();
+
+    List<IPermission> checked = CollectionUtility.arrayList(new AFixturePermission(), new GFixturePermission(), new DFixturePermission(), new NFixturePermission(), new UFixturePermission());
+    for (int i = 0; i < 2; i++) { // second round uses memoized levels
+      for (IPermission p : checked) {
+        assertEquals(p.toString(), writable.implies(p), sealed.implies(p));
+        assertSame(p.toString(), writable.getGrantedPermissionLevel(p), sealed.getGrantedPermissionLevel(p));
+      }
+    }
+    assertTrue(sealed.implies(new JFixturePermission()));
+    assertFalse(sealed.implies(new UJFixturePermission()));
+  }
+
+  @Test
+  public void testCompiledLookupsSameName() {
+    IPermissionCollection permissions = BEANS.get(DefaultPermissionCollection.class);
+    permissions.add(new P_StandardPermission(), PermissionLevel.ALL);
+    permissions.add(new P_OtherStandardPermission(), PermissionLevel.NONE);
+    permissions.setReadOnly();
+
+    assertTrue(permissions.implies(new P_StandardPermission()));
+    assertFalse(permissions.implies(new P_OtherStandardPermission()));
+    assertSame(PermissionLevel.ALL, permissions.getGrantedPermissionLevel(new P_StandardPermission()));
+    assertSame(PermissionLevel.NONE, permissions.getGrantedPermissionLevel(new P_OtherStandardPermission()));
+    assertSame(PermissionLevel.ALL, permissions.getGrantedPermissionLevel(new P_StandardPermission()));
+  }
+
+  private static class P_StandardPermission extends AbstractPermission {
+    private static final long serialVersionUID = 1L;
+
+    P_StandardPermission() {
+      super("S");
+    }
+  }
+
+  private static class P_OtherStandardPermission extends AbstractPermission {
+    private static final long serialVersionUID = 1L;
+
+    P_OtherStandardPermission() {
+      super("S");
+    }
+  }
 }
@@ -40,7 +40,8 @@ import org.eclipse.scout.rt.platform.context.RunContext;
  * <tt>'CustomAccessControlService'</tt> and <tt>'CustomServerAccessControlService'</tt>.
  * <p>
  * This class caches permission collections. As default, the cache is transactional and with a time to live duration of
- * one hour. To change any of these properties override {@link #createCacheBuilder()}.
+ * one hour. To change any of these properties override {@link #createCacheBuilder()}. Loaded collections with equal
+ * content are shared across cache keys, see {@link #internPermissions(IPermissionCollection)}.
  *
  * @param <K>
  *          the type of keys maintained the cache
@@ -116,7 +117,19 @@ public abstract class AbstractAccessControlService<K> implements IAccessControlS
   }
 
   protected ICacheValueResolver<K, IPermissionCollection> createCacheValueResolver() {
-    return this::execLoadPermissions;
+    return cacheKey -> internPermissions(execLoadPermissions(cacheKey));
+  }
+
+  /**
+   * Returns a shared instance for permission collections with equal content (e.g. of users having the same roles). The
+   * default implementation uses the {@link PermissionCollectionInterner}. Override and return {@code permissions} to
+   * keep one collection per cache key.
+   */
+  protected IPermissionCollection internPermissions(IPermissionCollection permissions) {
+    if (permissions == null) {
+      return null;
+    }
+    return BEANS.get(PermissionCollectionInterner.class).intern(permissions);
   }
 
   protected ICache<K, IPermissionCollection> getCache() {
@@ -169,6 +182,7 @@ public abstract class AbstractAccessControlService<K> implements IAccessControlS
 
   @Override
   public void clearCache() {
+    BEANS.get(PermissionCollectionInterner.class).clear();
     getCache().invalidate(new AllCacheEntryFilter<>(), true);
   }
 
@@ -185,6 +199,20 @@ public abstract class AbstractAccessControlService<K> implements IAccessControlS
     if (filter.getKeys().isEmpty()) {
       return;
     }
+    releaseInternedPermissions(filter.getKeys());
     getCache().invalidate(filter, true);
   }
+
+  /**
+   * Releases the interned collections of the given cache keys such that reloading them creates new collections.
+   */
+  protected void releaseInternedPermissions(Collection<? extends K> cacheKeys) {
+    PermissionCollectionInterner interner = BEANS.get(PermissionCollectionInterner.class);
+    for (K cacheKey : cacheKeys) {
+      IPermissionCollection permissions = getCache().getCachedValue(cacheKey);
+      if (permissions != null) {
+        interner.release(permissions);
+      }
+    }
+  }
 }
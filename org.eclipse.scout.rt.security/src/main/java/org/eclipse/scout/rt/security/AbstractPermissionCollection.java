@@ -11,6 +11,7 @@ package org.eclipse.scout.rt.security;
 
 import java.io.Serializable;
 import java.security.PermissionCollection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -35,6 +36,13 @@ public abstract class AbstractPermissionCollection extends PermissionCollection
     return valueType.cast(m_values.get(valueType));
   }
 
+  /**
+   * @return unmodifiable view of the custom values by their type
+   */
+  protected Map<Class<?>, Object> getValueMap() {
+    return Collections.unmodifiableMap(m_values);
+  }
+
   @Override
   public Stream<Object> getValues() {
     return m_values.values().stream();
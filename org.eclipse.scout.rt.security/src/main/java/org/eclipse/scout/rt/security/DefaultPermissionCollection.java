@@ -9,8 +9,11 @@
  */
 package org.eclipse.scout.rt.security;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.security.Permission;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -28,13 +31,56 @@ import org.eclipse.scout.rt.platform.util.EnumerationUtility;
  * <p>
  * Unlike other permission collections, this implementation utilize the fact than an {@link IPermission} can only be
  * implied by another {@link IPermission} with the same name.
+ * <p>
+ * Once read-only, lookups go through a compiled table of permission arrays by name. Names only granting permissions
+ * with the semantics of {@link AbstractPermission} (i.e. {@code implies}, {@code matches} and {@code evalPermission}
+ * are not overridden) are decided by comparing the class of the checked permission, and the result of
+ * {@link #getGrantedPermissionLevel(IPermission)} is memoized per name.
  */
 public class DefaultPermissionCollection extends AbstractPermissionCollection {
   private static final long serialVersionUID = 1L;
 
+  /**
+   * {@code true} if the semantics of {@link AbstractPermission#implies(IPermission)} and
+   * {@link AbstractPermission#matches(IPermission)} are not changed by a permission class.
+   */
+  private static final ClassValue<Boolean> STANDARD_SEMANTICS = new ClassValue<>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      return AbstractPermission.class.isAssignableFrom(type)
+          && getDeclaringClass(type, "implies", Permission.class) == AbstractPermission.class
+          && getDeclaringClass(type, "implies", IPermission.class) == AbstractPermission.class
+          && getDeclaringClass(type, "matches", IPermission.class) == AbstractPermission.class
+          && getDeclaringClass(type, "evalPermission", IPermission.class) == AbstractPermission.class;
+    }
+  };
+
+  /**
+   * {@code true} if all instance fields of a permission class are covered by its {@code equals} implementation, i.e.
+   * no subclass of the class declaring {@code equals} adds instance fields.
+   */
+  private static final ClassValue<Boolean> VALUE_SEMANTICS = new ClassValue<>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+        if (declaresMethod(c, "equals", Object.class)) {
+          return true;
+        }
+        for (Field field : c.getDeclaredFields()) {
+          if (!Modifier.isStatic(field.getModifiers())) {
+            return false;
+          }
+        }
+      }
+      return false;
+    }
+  };
+
   /** content is effective immutable and protected by {@link #isReadOnly()} */
   private final Map<String, List<IPermission>> m_permissions;
   private final List<Permission> m_javaPermissions;
+  /** lazily compiled once read-only (again after deserialization) */
+  private transient volatile P_CompiledPermissions m_compiledPermissions;
 
   public DefaultPermissionCollection() {
     m_permissions = new HashMap<>();
@@ -64,6 +110,7 @@ public class DefaultPermissionCollection extends AbstractPermissionCollection {
   public void setReadOnly() {
     super.setReadOnly();
     assignPermissionCollectionInternal();
+    m_compiledPermissions = new P_CompiledPermissions(m_permissions, m_javaPermissions);
   }
 
   protected void assignPermissionCollectionInternal() {
@@ -72,6 +119,18 @@ public class DefaultPermissionCollection extends AbstractPermissionCollection {
         .forEach(p -> p.assignPermissionCollection(this));
   }
 
+  /**
+   * @return the compiled lookup table or {@code null} if this collection is not read-only yet
+   */
+  protected P_CompiledPermissions getCompiledPermissions() {
+    P_CompiledPermissions compiledPermissions = m_compiledPermissions;
+    if (compiledPermissions == null && isReadOnly()) {
+      compiledPermissions = new P_CompiledPermissions(m_permissions, m_javaPermissions);
+      m_compiledPermissions = compiledPermissions;
+    }
+    return compiledPermissions;
+  }
+
   @Override
   public boolean implies(Permission permission) {
     if (permission == null) {
@@ -80,9 +139,16 @@ public class DefaultPermissionCollection extends AbstractPermissionCollection {
     else if (permission instanceof IPermission) {
       return implies((IPermission) permission);
     }
-    else {
-      return m_javaPermissions.stream().anyMatch(def -> def.implies(permission));
+    P_CompiledPermissions compiledPermissions = getCompiledPermissions();
+    if (compiledPermissions != null) {
+      for (Permission def : compiledPermissions.m_javaPermissions) {
+        if (def.implies(permission)) {
+          return true;
+        }
+      }
+      return false;
     }
+    return m_javaPermissions.stream().anyMatch(def -> def.implies(permission));
   }
 
   @Override
@@ -90,6 +156,11 @@ public class DefaultPermissionCollection extends AbstractPermissionCollection {
     if (permission == null) {
       return false;
     }
+    P_CompiledPermissions compiledPermissions = getCompiledPermissions();
+    if (compiledPermissions != null) {
+      P_PermissionEntry entry = compiledPermissions.m_entries.get(permission.getName());
+      return entry != null && entry.implies(permission);
+    }
     return m_permissions.getOrDefault(permission.getName(), Collections.emptyList()).stream().anyMatch(def -> def.implies(permission));
   }
 
@@ -98,8 +169,16 @@ public class DefaultPermissionCollection extends AbstractPermissionCollection {
     if (permission == null) {
       return PermissionLevel.UNDEFINED;
     }
+    P_CompiledPermissions compiledPermissions = getCompiledPermissions();
+    if (compiledPermissions != null) {
+      P_PermissionEntry entry = compiledPermissions.m_entries.get(permission.getName());
+      return entry == null ? PermissionLevel.NONE : entry.getGrantedPermissionLevel(permission);
+    }
+    return computeGrantedPermissionLevel(stream(permission));
+  }
 
-    Set<PermissionLevel> grantedLevels = stream(permission)
+  protected static PermissionLevel computeGrantedPermissionLevel(Stream<IPermission> matchingPermissions) {
+    Set<PermissionLevel> grantedLevels = matchingPermissions
         .map(IPermission::getLevel)
         .collect(Collectors.toSet());
 
@@ -132,4 +211,190 @@ public class DefaultPermissionCollection extends AbstractPermissionCollection {
     return EnumerationUtility.asEnumeration(
         Stream.concat(stream().map(Permission.class::cast), m_javaPermissions.stream()).iterator());
   }
+
+  /**
+   * @return {@code true} if this collection may be shared with other users having a collection with the same content
+   *         (see {@link PermissionCollectionInterner}). This is the case if it is read-only and if {@code equals} of
+   *         all its permissions covers their complete state.
+   */
+  protected boolean isInternable() {
+    if (getClass() != DefaultPermissionCollection.class || !isReadOnly()) {
+      return false; // subclasses may hold additional state
+    }
+    return stream().allMatch(p -> VALUE_SEMANTICS.get(p.getClass()))
+        && m_javaPermissions.stream().allMatch(p -> VALUE_SEMANTICS.get(p.getClass()));
+  }
+
+  /**
+   * Hash code of the content compared by {@link #contentEquals(DefaultPermissionCollection)}.
+   */
+  protected int contentHashCode() {
+    int h = getValueMap().hashCode();
+    for (List<IPermission> permissions : m_permissions.values()) {
+      for (IPermission p : permissions) {
+        h += p.hashCode();
+      }
+    }
+    for (Permission p : m_javaPermissions) {
+      h += p.hashCode();
+    }
+    return h;
+  }
+
+  /**
+   * @return {@code true} if the given collection holds equal values and, in any order, equal permissions
+   */
+  protected boolean contentEquals(DefaultPermissionCollection other) {
+    if (other == this) {
+      return true;
+    }
+    if (other == null || other.getClass() != getClass()
+        || !m_permissions.keySet().equals(other.m_permissions.keySet())
+        || !getValueMap().equals(other.getValueMap())
+        || !equalsIgnoringOrder(m_javaPermissions, other.m_javaPermissions)) {
+      return false;
+    }
+    for (Map.Entry<String, List<IPermission>> e : m_permissions.entrySet()) {
+      if (!equalsIgnoringOrder(e.getValue(), other.m_permissions.get(e.getKey()))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  protected static boolean equalsIgnoringOrder(List<?> a, List<?> b) {
+    if (a.size() != b.size()) {
+      return false;
+    }
+    Map<Object, Integer> counts = new HashMap<>();
+    for (Object o : a) {
+      counts.merge(o, 1, Integer::sum);
+    }
+    for (Object o : b) {
+      Integer count = counts.get(o);
+      if (count == null) {
+        return false;
+      }
+      if (count == 1) {
+        counts.remove(o);
+      }
+      else {
+        counts.put(o, count - 1);
+      }
+    }
+    return counts.isEmpty();
+  }
+
+  protected static Class<?> getDeclaringClass(Class<?> type, String methodName, Class<?>... parameterTypes) {
+    for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+      if (declaresMethod(c, methodName, parameterTypes)) {
+        return c;
+      }
+    }
+    return null;
+  }
+
+  protected static boolean declaresMethod(Class<?> type, String methodName, Class<?>... parameterTypes) {
+    try {
+      type.getDeclaredMethod(methodName, parameterTypes);
+      return true;
+    }
+    catch (NoSuchMethodException e) { // NOSONAR squid:S1166
+      return false;
+    }
+  }
+
+  /**
+   * Immutable lookup table compiled from a read-only {@link DefaultPermissionCollection}.
+   */
+  protected static final class P_CompiledPermissions {
+
+    private final Map<String, P_PermissionEntry> m_entries;
+    private final Permission[] m_javaPermissions;
+
+    private P_CompiledPermissions(Map<String, List<IPermission>> permissions, List<Permission> javaPermissions) {
+      m_entries = new HashMap<>(permissions.size() * 4 / 3 + 1);
+      for (Map.Entry<String, List<IPermission>> e : permissions.entrySet()) {
+        m_entries.put(e.getKey(), new P_PermissionEntry(e.getValue().toArray(new IPermission[0])));
+      }
+      m_javaPermissions = javaPermissions.toArray(new Permission[0]);
+    }
+  }
+
+  /**
+   * Permissions granted for one name.
+   */
+  protected static final class P_PermissionEntry {
+
+    private final IPermission[] m_permissions;
+    /**
+     * classes of the permissions implying a permission of the same class and name, {@code null} if a permission has
+     * custom semantics
+     */
+    private final Class<?>[] m_impliedClasses;
+    /** {@code true} if the matching permissions depend on the class of the checked permission only */
+    private final boolean m_standardMatches;
+    private volatile P_GrantedLevel m_grantedLevel;
+
+    private P_PermissionEntry(IPermission[] permissions) {
+      m_permissions = permissions;
+      boolean standard = true;
+      boolean standardMatches = true;
+      List<Class<?>> impliedClasses = new ArrayList<>(permissions.length);
+      for (IPermission p : permissions) {
+        standard &= STANDARD_SEMANTICS.get(p.getClass());
+        standardMatches &= p instanceof AbstractPermission && getDeclaringClass(p.getClass(), "matches", IPermission.class) == AbstractPermission.class;
+        if (p.getLevel() != PermissionLevel.NONE && !impliedClasses.contains(p.getClass())) {
+          impliedClasses.add(p.getClass());
+        }
+      }
+      m_impliedClasses = standard ? impliedClasses.toArray(new Class<?>[0]) : null;
+      m_standardMatches = standardMatches;
+    }
+
+    private boolean implies(IPermission permission) {
+      if (m_impliedClasses != null) {
+        // fast path: same name is given by the table, level NONE excluded on compilation
+        Class<?> type = permission.getClass();
+        for (Class<?> impliedClass : m_impliedClasses) {
+          if (impliedClass == type) {
+            return true;
+          }
+        }
+        return false;
+      }
+      for (IPermission def : m_permissions) {
+        if (def.implies(permission)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private PermissionLevel getGrantedPermissionLevel(IPermission permission) {
+      if (!m_standardMatches) {
+        return computeGrantedPermissionLevel(Arrays.stream(m_permissions).filter(def -> def.matches(permission)));
+      }
+      P_GrantedLevel grantedLevel = m_grantedLevel;
+      if (grantedLevel == null || grantedLevel.m_type != permission.getClass()) {
+        grantedLevel = new P_GrantedLevel(permission.getClass(), computeGrantedPermissionLevel(Arrays.stream(m_permissions).filter(def -> def.matches(permission))));
+        m_grantedLevel = grantedLevel;
+      }
+      return grantedLevel.m_level;
+    }
+  }
+
+  /**
+   * Memoized granted level for permissions of one class.
+   */
+  private static final class P_GrantedLevel {
+
+    private final Class<?> m_type;
+    private final PermissionLevel m_level;
+
+    private P_GrantedLevel(Class<?> type, PermissionLevel level) {
+      m_type = type;
+      m_level = level;
+    }
+  }
 }
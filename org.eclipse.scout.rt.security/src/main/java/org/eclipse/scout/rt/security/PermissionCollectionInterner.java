@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.security;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+
+/**
+ * Interns read-only {@link DefaultPermissionCollection}s: users with the same roles share one collection instance
+ * (including its compiled lookup table) instead of holding one equal copy each.
+ * <p>
+ * Only collections with {@link DefaultPermissionCollection#isInternable()} are interned, all others are returned as
+ * they are. Interned collections are referenced weakly, i.e. they are released as soon as no cache holds them anymore.
+ *
+ * @since 24.1
+ */
+@ApplicationScoped
+public class PermissionCollectionInterner {
+
+  private final ConcurrentMap<P_InternKey, P_InternKey> m_collections = new ConcurrentHashMap<>();
+  private final ReferenceQueue<DefaultPermissionCollection> m_queue = new ReferenceQueue<>();
+
+  /**
+   * @return an interned collection with the same content as the given collection, the given collection itself if it
+   *         is the first one with its content or cannot be interned
+   */
+  public IPermissionCollection intern(IPermissionCollection permissions) {
+    if (!(permissions instanceof DefaultPermissionCollection)) {
+      return permissions;
+    }
+    DefaultPermissionCollection collection = (DefaultPermissionCollection) permissions;
+    if (!collection.isInternable()) {
+      return collection;
+    }
+
+    expungeStaleEntries();
+    P_InternKey key = new P_InternKey(collection, m_queue);
+    while (true) {
+      P_InternKey existingKey = m_collections.putIfAbsent(key, key);
+      if (existingKey == null) {
+        return collection;
+      }
+      DefaultPermissionCollection existing = existingKey.get();
+      if (existing != null) {
+        return existing;
+      }
+      m_collections.remove(existingKey, existingKey); // cleared in the meantime
+    }
+  }
+
+  /**
+   * Removes the given collection from the interned collections. Collections with the same content interned later on
+   * are not shared with the given one anymore.
+   */
+  public void release(IPermissionCollection permissions) {
+    if (!(permissions instanceof DefaultPermissionCollection)) {
+      return;
+    }
+    DefaultPermissionCollection collection = (DefaultPermissionCollection) permissions;
+    if (!collection.isInternable()) {
+      return;
+    }
+    P_InternKey existingKey = m_collections.get(new P_InternKey(collection, null));
+    if (existingKey != null && existingKey.get() == collection) {
+      m_collections.remove(existingKey, existingKey);
+    }
+  }
+
+  /**
+   * @return number of currently interned collections
+   */
+  public int size() {
+    expungeStaleEntries();
+    return m_collections.size();
+  }
+
+  /**
+   * Removes all interned collections.
+   */
+  public void clear() {
+    m_collections.clear();
+  }
+
+  protected void expungeStaleEntries() {
+    Object ref;
+    while ((ref = m_queue.poll()) != null) {
+      m_collections.remove(ref, ref);
+    }
+  }
+
+  /**
+   * Weak key comparing the content of the referenced collections.
+   */
+  protected static final class P_InternKey extends WeakReference<DefaultPermissionCollection> {
+
+    private final int m_hash;
+
+    private P_InternKey(DefaultPermissionCollection collection, ReferenceQueue<DefaultPermissionCollection> queue) {
+      super(collection, queue);
+      m_hash = collection.contentHashCode();
+    }
+
+    @Override
+    public int hashCode() {
+      return m_hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof P_InternKey)) {
+        return false;
+      }
+      P_InternKey other = (P_InternKey) obj;
+      if (m_hash != other.m_hash) {
+        return false;
+      }
+      DefaultPermissionCollection collection = get();
+      return collection != null && collection.contentEquals(other.get());
+    }
+  }
+}
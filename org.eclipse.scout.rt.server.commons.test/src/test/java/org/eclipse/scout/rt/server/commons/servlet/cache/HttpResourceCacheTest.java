@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.commons.servlet.cache;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+
+import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.junit.Test;
+
+public class HttpResourceCacheTest {
+
+  private static final Set<String> CONTENT_TYPES = Collections.singleton("application/javascript");
+
+  @Test
+  public void testEvictLeastRecentlyUsed() {
+    HttpResourceCache cache = new HttpResourceCache();
+    cache.setMaxSize(300);
+    HttpCacheObject a = createCacheObject("a.js", 100);
+    HttpCacheObject b = createCacheObject("b.js", 100);
+    HttpCacheObject c = createCacheObject("c.js", 100);
+    assertTrue(cache.put(a));
+    assertTrue(cache.put(b));
+    assertTrue(cache.put(c));
+    assertEquals(300, cache.getSize());
+
+    // a is now the most recently used object -> b is evicted
+    assertSame(a, cache.get(a.getCacheKey()));
+    assertTrue(cache.put(createCacheObject("d.js", 100)));
+    assertEquals(300, cache.getSize());
+    assertNull(cache.get(b.getCacheKey()));
+    assertSame(a, cache.get(a.getCacheKey()));
+    assertSame(c, cache.get(c.getCacheKey()));
+
+    // replacing an object does not count twice
+    assertTrue(cache.put(createCacheObject("a.js", 50)));
+    assertEquals(250, cache.getSize());
+
+    // too large objects are not cached
+    assertFalse(cache.put(createCacheObject("e.js", 301)));
+    assertEquals(250, cache.getSize());
+
+    // d and c are evicted
+    cache.setMaxSize(100);
+    assertEquals(50, cache.getSize());
+    assertNotNull(cache.get(new HttpCacheKey("a.js")));
+
+    cache.remove(new HttpCacheKey("a.js"));
+    assertEquals(0, cache.getSize());
+  }
+
+  @Test
+  public void testGzipContent() throws IOException {
+    HttpCacheObject obj = createCacheObject("a.js", 1000);
+    assertNull(obj.getGzipContent());
+    assertEquals(1000, obj.getSize());
+
+    obj.createGzipContent(256, CONTENT_TYPES);
+    byte[] gzipContent = obj.getGzipContent();
+    assertNotNull(gzipContent);
+    assertTrue(gzipContent.length < 1000);
+    assertEquals(1000 + gzipContent.length, obj.getSize());
+    assertArrayEquals(obj.getResource().getContent(), IOUtility.uncompressGzip(gzipContent));
+  }
+
+  @Test
+  public void testGzipContentNotCreated() {
+    // too small
+    HttpCacheObject obj = createCacheObject("a.js", 100);
+    obj.createGzipContent(256, CONTENT_TYPES);
+    assertNull(obj.getGzipContent());
+
+    // content type not compressible
+    obj = new HttpCacheObject(new HttpCacheKey("a.png"), BinaryResources.create()
+        .withFilename("a.png")
+        .withContentType("image/png")
+        .withContent(new byte[1000])
+        .withCachingAllowed(true)
+        .build());
+    obj.createGzipContent(256, CONTENT_TYPES);
+    assertNull(obj.getGzipContent());
+  }
+
+  protected HttpCacheObject createCacheObject(String path, int size) {
+    return new HttpCacheObject(new HttpCacheKey(path), BinaryResources.create()
+        .withFilename(path)
+        .withContentType("application/javascript")
+        .withContent(StringUtility.repeat("x", size))
+        .withCachingAllowed(true)
+        .build());
+  }
+}
@@ -22,12 +22,14 @@ import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractMapConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringListConfigProperty;
 import org.eclipse.scout.rt.platform.config.ConfigUtility;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.PlatformDevModeProperty;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.server.commons.healthcheck.RemoteHealthChecker;
 import org.eclipse.scout.rt.server.commons.servlet.ContentSecurityPolicy;
+import org.eclipse.scout.rt.server.commons.servlet.cache.GlobalHttpResourceCache;
 
 public final class ServerCommonsConfigProperties {
 
@@ -161,4 +163,23 @@ public final class ServerCommonsConfigProperties {
       return "URIs to DER (Base64) encoded certificate files that should be trusted. The URI may refer to a local file or a resource on the classpath (use classpath: prefix). The default value is an empty list.";
     }
   }
+
+  public static class GlobalHttpResourceCacheMaxSizeProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.globalHttpResourceCacheMaxSize";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Maximum total size in bytes of the resources (including their compressed variants) held by the '%s'. "
+          + "If the size is exceeded, the least recently used resources are evicted. The default value is 256 MB.", GlobalHttpResourceCache.class.getSimpleName());
+    }
+
+    @Override
+    public Long getDefaultValue() {
+      return 256L * 1024 * 1024;
+    }
+  }
 }
@@ -9,24 +9,49 @@
  */
 package org.eclipse.scout.rt.server.commons.servlet.cache;
 
+import java.util.Collections;
+import java.util.Set;
+
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.IPlatform.State;
 import org.eclipse.scout.rt.platform.IPlatformListener;
 import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.PlatformEvent;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.server.commons.ServerCommonsConfigProperties.GlobalHttpResourceCacheMaxSizeProperty;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
 
 /**
  * A {@link HttpResourceCache} used for global resources. This class holds a single {@link HttpResourceCache} instance.
  * <br>
- * Resources added to this cache will never be removed until the Scout {@link Platform} stops.
+ * The cache is cleared when the Scout {@link Platform} stops. Before, resources are only evicted if the total size of
+ * the cache exceeds {@link GlobalHttpResourceCacheMaxSizeProperty}.
+ * <p>
+ * Compressible resources are stored along with their gzip compressed content (see
+ * {@link HttpCacheObject#getGzipContent()}), so they do not need to be compressed for each request.
  */
 @ApplicationScoped
 public class GlobalHttpResourceCache implements IPlatformListener, IHttpResourceCache {
+  /**
+   * Same minimum size as the default of {@link GzipServletFilter}
+   */
+  public static final int GZIP_MIN_SIZE = 256;
+
   private final HttpResourceCache m_resourceCache = BEANS.get(HttpResourceCache.class);
+  private final Set<String> m_gzipContentTypes = Collections.unmodifiableSet(CollectionUtility.hashSet(StringUtility.split(GzipServletFilter.CONTENT_TYPES, ",")));
+
+  public GlobalHttpResourceCache() {
+    m_resourceCache.setMaxSize(CONFIG.getPropertyValue(GlobalHttpResourceCacheMaxSizeProperty.class));
+  }
 
   @Override
   public boolean put(HttpCacheObject obj) {
+    if (obj.isCachingAllowed()) {
+      obj.createGzipContent(GZIP_MIN_SIZE, m_gzipContentTypes);
+    }
     return getResourceCache().put(obj);
   }
 
@@ -9,25 +9,32 @@
  */
 package org.eclipse.scout.rt.server.commons.servlet.cache;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.zip.Deflater;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Used in {@link HttpCacheControl} in order to decide caching strategy and set caching headers
  */
 public class HttpCacheObject implements Serializable {
   private static final long serialVersionUID = 1L;
+  private static final Logger LOG = LoggerFactory.getLogger(HttpCacheObject.class);
 
   private final HttpCacheKey m_cacheKey;
   private final BinaryResource m_resource;
   private final Set<IHttpResponseInterceptor> m_httpResponseInterceptors = new HashSet<>();
+  private transient volatile byte[] m_gzipContent;
 
   /**
    * @param cacheKey
@@ -56,6 +63,49 @@ public class HttpCacheObject implements Serializable {
     return m_resource;
   }
 
+  /**
+   * Compresses the content of the resource once with the best gzip compression level so that it can be sent to clients
+   * accepting gzip without compressing it again for every request (see {@link #getGzipContent()}).
+   * <p>
+   * Nothing is compressed if the content is smaller than <code>minSize</code>, if its content type is not one of
+   * <code>contentTypes</code> or if the compressed content would not be smaller.
+   */
+  public void createGzipContent(int minSize, Set<String> contentTypes) {
+    byte[] content = m_resource.getContent();
+    if (m_gzipContent != null || content == null || content.length < minSize) {
+      return;
+    }
+    String contentType = m_resource.getContentType();
+    if (contentType == null || !contentTypes.contains(contentType.split(";")[0])) {
+      return;
+    }
+    try {
+      byte[] gzipContent = IOUtility.compressGzip(content, Deflater.BEST_COMPRESSION);
+      if (gzipContent.length < content.length) {
+        m_gzipContent = gzipContent;
+      }
+    }
+    catch (IOException e) {
+      LOG.warn("Could not compress resource {}", m_cacheKey, e);
+    }
+  }
+
+  /**
+   * @return the gzip compressed content of the resource or <code>null</code> if
+   *         {@link #createGzipContent(int, Set)} did not compress it
+   */
+  public byte[] getGzipContent() {
+    return m_gzipContent;
+  }
+
+  /**
+   * @return the number of bytes held by this object, i.e. the length of the content and of the compressed content
+   */
+  public long getSize() {
+    byte[] gzipContent = m_gzipContent;
+    return Math.max(m_resource.getContentLength(), 0) + (gzipContent != null ? gzipContent.length : 0);
+  }
+
   /**
    * @return an ETAG if the resource's {@link BinaryResource#getContentLength()} and
    *         {@link BinaryResource#getFingerprint()} are both not -1
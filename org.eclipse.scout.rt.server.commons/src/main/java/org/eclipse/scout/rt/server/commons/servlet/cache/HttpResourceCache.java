@@ -9,44 +9,89 @@
  */
 package org.eclipse.scout.rt.server.commons.servlet.cache;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.util.Assertions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A server side cache use to store web resources like HTML, CSS and JS.
+ * <p>
+ * The cache is unbounded by default. If a maximum size is set (see {@link #setMaxSize(long)}), the least recently used
+ * objects are evicted as soon as the total size (see {@link HttpCacheObject#getSize()}) of all cached objects exceeds
+ * it.
  */
 @Bean
 public class HttpResourceCache implements IHttpResourceCache {
 
   private static final Logger LOG = LoggerFactory.getLogger(HttpResourceCache.class);
 
-  private final Map<HttpCacheKey, HttpCacheObject> m_cache = Collections.synchronizedMap(new HashMap<>());
+  // access ordered: each lookup modifies the map, hence the lock is used for reading too
+  private final ReentrantLock m_lock = new ReentrantLock();
+  private final Map<HttpCacheKey, Entry> m_cache = new LinkedHashMap<>(16, 0.75f, true);
+  private long m_maxSize = Long.MAX_VALUE;
+  private long m_size;
 
   @Override
   public boolean put(HttpCacheObject obj) {
     if (!obj.isCachingAllowed()) {
       return false;
     }
-    m_cache.put(obj.getCacheKey(), obj);
+    long size = obj.getSize();
+    m_lock.lock();
+    try {
+      if (size > m_maxSize) {
+        LOG.debug("Object too large for cache: {} size={}", obj.getCacheKey(), size);
+        return false;
+      }
+      Entry oldEntry = m_cache.put(obj.getCacheKey(), new Entry(obj, size));
+      if (oldEntry != null) {
+        m_size -= oldEntry.m_size;
+      }
+      m_size += size;
+      evict();
+    }
+    finally {
+      m_lock.unlock();
+    }
     LOG.debug("Stored object in cache: {}", obj.getCacheKey());
     return true;
   }
 
   @Override
   public HttpCacheObject get(HttpCacheKey cacheKey) {
-    HttpCacheObject obj = m_cache.get(cacheKey);
+    HttpCacheObject obj;
+    m_lock.lock();
+    try {
+      Entry entry = m_cache.get(cacheKey);
+      obj = entry != null ? entry.m_object : null;
+    }
+    finally {
+      m_lock.unlock();
+    }
     LOG.debug("Lookup object in cache: {} found={}", cacheKey, obj != null);
     return obj;
   }
 
   @Override
   public HttpCacheObject remove(HttpCacheKey cacheKey) {
-    HttpCacheObject obj = m_cache.remove(cacheKey);
+    HttpCacheObject obj = null;
+    m_lock.lock();
+    try {
+      Entry entry = m_cache.remove(cacheKey);
+      if (entry != null) {
+        m_size -= entry.m_size;
+        obj = entry.m_object;
+      }
+    }
+    finally {
+      m_lock.unlock();
+    }
     LOG.debug("Remove object in cache: {} removed={}", cacheKey, obj != null);
     return obj;
   }
@@ -54,6 +99,77 @@ public class HttpResourceCache implements IHttpResourceCache {
   @Override
   public void clear() {
     LOG.debug("Clear resource cache");
-    m_cache.clear();
+    m_lock.lock();
+    try {
+      m_cache.clear();
+      m_size = 0;
+    }
+    finally {
+      m_lock.unlock();
+    }
+  }
+
+  /**
+   * @return the maximum total size in bytes of the cached objects
+   */
+  public long getMaxSize() {
+    m_lock.lock();
+    try {
+      return m_maxSize;
+    }
+    finally {
+      m_lock.unlock();
+    }
+  }
+
+  /**
+   * Sets the maximum total size in bytes of the cached objects and evicts the least recently used objects if necessary.
+   */
+  public void setMaxSize(long maxSize) {
+    Assertions.assertTrue(maxSize >= 0, "maxSize must not be negative");
+    m_lock.lock();
+    try {
+      m_maxSize = maxSize;
+      evict();
+    }
+    finally {
+      m_lock.unlock();
+    }
+  }
+
+  /**
+   * @return the current total size in bytes of the cached objects
+   */
+  public long getSize() {
+    m_lock.lock();
+    try {
+      return m_size;
+    }
+    finally {
+      m_lock.unlock();
+    }
+  }
+
+  /**
+   * Must be called while holding the lock.
+   */
+  protected void evict() {
+    Iterator<Entry> it = m_cache.values().iterator();
+    while (m_size > m_maxSize && it.hasNext()) {
+      Entry entry = it.next();
+      it.remove();
+      m_size -= entry.m_size;
+      LOG.debug("Evicted object from cache: {}", entry.m_object.getCacheKey());
+    }
+  }
+
+  protected static final class Entry {
+    private final HttpCacheObject m_object;
+    private final long m_size;
+
+    Entry(HttpCacheObject object, long size) {
+      m_object = object;
+      m_size = size;
+    }
   }
 }
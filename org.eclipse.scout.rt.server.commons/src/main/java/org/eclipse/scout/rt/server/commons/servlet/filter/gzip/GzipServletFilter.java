@@ -46,6 +46,7 @@ public class GzipServletFilter implements Filter {
 
   public static final String ACCEPT_ENCODING = "Accept-Encoding";
   public static final String CONTENT_ENCODING = "Content-Encoding";
+  public static final String VARY = "Vary";
   public static final String GZIP = "gzip";
   public static final String CONTENT_TYPES = "text/html,text/css,text/xml,text/plain,application/json,application/javascript,image/svg+xml,text/vcard";
 
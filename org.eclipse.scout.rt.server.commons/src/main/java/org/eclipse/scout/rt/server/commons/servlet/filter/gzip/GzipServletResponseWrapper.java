@@ -90,12 +90,15 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
 
   @Override
   public void setContentLength(int len) {
-    // ignored: content length zipped content != content length unzipped content
+    // ignored unless already encoded: content length zipped content != content length unzipped content
+    if (isContentEncoded()) {
+      super.setContentLength(len);
+    }
   }
 
   @Override
   public void setHeader(String name, String value) {
-    if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+    if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) && !isContentEncoded()) {
       // see setContentLength
       return;
     }
@@ -104,13 +107,22 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
 
   @Override
   public void addHeader(String name, String value) {
-    if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+    if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) && !isContentEncoded()) {
       // see setContentLength
       return;
     }
     super.addHeader(name, value);
   }
 
+  /**
+   * @return <code>true</code> if the content encoding was already set before the output stream was created, e.g. when
+   *         a precompressed resource is written. Such content is neither compressed again nor is its content length
+   *         ignored.
+   */
+  protected boolean isContentEncoded() {
+    return m_outputStream == null && containsHeader(GzipServletFilter.CONTENT_ENCODING);
+  }
+
   @Override
   public void flushBuffer() throws IOException {
     if (m_writer != null) {
@@ -138,6 +150,10 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
     if (!UrlHints.isCompressHint(m_request)) {
       return false;
     }
+    if (containsHeader(GzipServletFilter.CONTENT_ENCODING)) {
+      // content is already encoded
+      return false;
+    }
     if (m_request.isAsyncStarted()) {
       // GzipServletOutputStream does not work with async responses unfortunately
       return false;
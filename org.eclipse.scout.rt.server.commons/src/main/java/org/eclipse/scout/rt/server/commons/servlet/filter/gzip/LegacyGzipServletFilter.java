@@ -114,6 +114,10 @@ public class LegacyGzipServletFilter implements Filter {
     if (!UrlHints.isCompressHint(req)) {
       return false;
     }
+    if (resp.containsHeader(CONTENT_ENCODING)) {
+      // content is already encoded
+      return false;
+    }
     String contentType = resp.getContentType();
     if (contentType == null) {
       return false;
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import static org.junit.Assert.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.scout.rt.server.TestJdbcServerSession;
+import org.eclipse.scout.rt.server.jdbc.ColumnarResultChunk.ColumnKind;
+import org.eclipse.scout.rt.server.jdbc.fixture.ResultSetMock;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.server.runner.RunWithServerSession;
+import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link ISqlService#selectColumnar(String, int, ISelectColumnarHandler, Object...)} and
+ * {@link ColumnarResultChunk}.
+ */
+@RunWith(ServerTestRunner.class)
+@RunWithServerSession(TestJdbcServerSession.class)
+@RunWithSubject("default")
+public class SelectColumnarTest {
+
+  private static final Object[][] DATA = new Object[][]{
+      new Object[]{1L, "abc"},
+      new Object[]{2L, "def"},
+      new Object[]{3L, "abc"},
+      new Object[]{4L, null},
+      new Object[]{5L, "def"},
+  };
+
+  @Test
+  public void testChunkTypedColumns() throws SQLException {
+    Object[][] data = new Object[][]{
+        new Object[]{1L, 1.5d, "abc", Boolean.TRUE},
+        new Object[]{null, null, null, null},
+        new Object[]{3L, 2.5d, "abc", Boolean.FALSE},
+    };
+    ResultSet rs = new ResultSetMock(new StringBuffer(), data, new int[]{Types.BIGINT, Types.DOUBLE, Types.VARCHAR, Types.OTHER}).getResultSet();
+    ResultSetMetaData meta = rs.getMetaData();
+    ColumnarResultChunk chunk = new ColumnarResultChunk(meta, 10);
+    assertEquals(4, chunk.getColumnCount());
+    assertEquals(ColumnKind.LONG, chunk.getColumnKind(0));
+    assertEquals(ColumnKind.DOUBLE, chunk.getColumnKind(1));
+    assertEquals(ColumnKind.STRING, chunk.getColumnKind(2));
+    assertEquals(ColumnKind.OBJECT, chunk.getColumnKind(3));
+
+    OracleSqlStyle style = new OracleSqlStyle();
+    while (rs.next()) {
+      chunk.appendRow(rs, meta, style);
+    }
+    assertEquals(3, chunk.getRowCount());
+    assertFalse(chunk.isFull());
+
+    assertEquals(1L, chunk.getLong(0, 0));
+    assertEquals(2.5d, chunk.getDouble(2, 1), 0d);
+    assertEquals("abc", chunk.getString(2, 2));
+    assertEquals(Boolean.TRUE, chunk.getObject(0, 3));
+    for (int c = 0; c < chunk.getColumnCount(); c++) {
+      assertFalse(chunk.isNull(0, c));
+      assertTrue(chunk.isNull(1, c));
+      assertNull(chunk.getObject(1, c));
+    }
+
+    // both "abc" values share one dictionary entry
+    assertEquals(Arrays.asList("abc"), chunk.getDictionary(2));
+    assertEquals(0, chunk.getStringCode(0, 2));
+    assertEquals(-1, chunk.getStringCode(1, 2));
+    assertEquals(0, chunk.getStringCode(2, 2));
+
+    chunk.clear();
+    assertEquals(0, chunk.getRowCount());
+    assertTrue(chunk.getDictionary(2).isEmpty());
+  }
+
+  @Test
+  public void testSelectColumnar() {
+    SqlServiceMock sql = new SqlServiceMock();
+    sql.setResultData(DATA);
+    P_CollectingHandler handler = new P_CollectingHandler();
+    sql.selectColumnar("SELECT A, B FROM T", 2, handler);
+
+    assertEquals(Arrays.asList(0, 2, 4), handler.m_firstRowIndexes);
+    assertEquals(Arrays.asList(2, 2, 1), handler.m_chunkSizes);
+    assertEquals(5, handler.m_finishedRowCount);
+    assertEquals(DATA.length, handler.m_rows.size());
+    for (int i = 0; i < DATA.length; i++) {
+      assertArrayEquals(DATA[i], handler.m_rows.get(i));
+    }
+  }
+
+  @Test
+  public void testSelectColumnarLimited() {
+    SqlServiceMock sql = new SqlServiceMock();
+    sql.setResultData(DATA);
+    P_CollectingHandler handler = new P_CollectingHandler();
+    sql.selectColumnarLimited("SELECT A, B FROM T", 2, handler, 3);
+
+    assertEquals(Arrays.asList(2, 1), handler.m_chunkSizes);
+    assertEquals(3, handler.m_finishedRowCount);
+    assertEquals(3, handler.m_rows.size());
+  }
+
+  private static class P_CollectingHandler implements ISelectColumnarHandler {
+    private final List<Integer> m_firstRowIndexes = new ArrayList<>();
+    private final List<Integer> m_chunkSizes = new ArrayList<>();
+    private final List<Object[]> m_rows = new ArrayList<>();
+    private int m_finishedRowCount = -1;
+
+    @Override
+    public void handleChunk(Connection con, PreparedStatement stm, ResultSet rs, int firstRowIndex, ColumnarResultChunk chunk) {
+      m_firstRowIndexes.add(firstRowIndex);
+      m_chunkSizes.add(chunk.getRowCount());
+      // the chunk is reused, values have to be copied
+      for (int r = 0; r < chunk.getRowCount(); r++) {
+        Object[] row = new Object[chunk.getColumnCount()];
+        for (int c = 0; c < row.length; c++) {
+          row[c] = chunk.getObject(r, c);
+        }
+        m_rows.add(row);
+      }
+    }
+
+    @Override
+    public void finished(Connection con, PreparedStatement stm, ResultSet rs, int rowCount) {
+      m_finishedRowCount = rowCount;
+    }
+  }
+}
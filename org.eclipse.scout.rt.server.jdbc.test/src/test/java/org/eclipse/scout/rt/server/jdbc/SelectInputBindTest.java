@@ -150,6 +150,46 @@ public class SelectInputBindTest {
     assertExpectedProtocol(sql);
   }
 
+  /**
+   * {@link TableFieldBeanData} sent to the database using a JDBC batch ({@link SqlServiceMock} with batch size 2).
+   */
+  @Test
+  public void testBatchUpdateFromTableFieldBeanDataUsingJdbcBatch() {
+    SqlServiceMock sql = new SqlServiceMock() {
+      @Override
+      protected int getConfiguredJdbcBatchSize() {
+        return 2;
+      }
+    };
+    TableFieldBeanData tableData = createTableFieldBeanData(true);
+    int rowCount = sql.update("UDPATE my_table SET a=:{active}, s=:{state} where n=:{name} ", tableData);
+    assertEquals(5, rowCount);
+    assertEquals("Connection.prepareStatement(UDPATE my_table SET a = ?, s = ? where n = ?)\n"
+        + "PreparedStatement.setObject(1, 0, 4)\n"
+        + "PreparedStatement.setObject(2, 6, 4)\n"
+        + "PreparedStatement.setObject(3, xxx, 12)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.setObject(1, 1, 4)\n"
+        + "PreparedStatement.setObject(2, 3, 4)\n"
+        + "PreparedStatement.setObject(3, lorem, 12)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.executeBatch()\n"
+        + "PreparedStatement.setObject(1, 0, 4)\n"
+        + "PreparedStatement.setObject(2, 8, 4)\n"
+        + "PreparedStatement.setObject(3, yyy, 12)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.setObject(1, 0, 4)\n"
+        + "PreparedStatement.setObject(2, 6, 4)\n"
+        + "PreparedStatement.setObject(3, ipsum, 12)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.executeBatch()\n"
+        + "PreparedStatement.setObject(1, 1, 4)\n"
+        + "PreparedStatement.setObject(2, 2, 4)\n"
+        + "PreparedStatement.setObject(3, zzz, 12)\n"
+        + "PreparedStatement.addBatch()\n"
+        + "PreparedStatement.executeBatch()\n", sql.getProtocol().toString());
+  }
+
   private TableFieldBeanData createTableFieldBeanData(boolean withAdditionalRows) {
     TableFieldBeanData tableBeanData = new TableFieldBeanData();
     if (withAdditionalRows) {
@@ -18,9 +18,20 @@ import java.sql.Types;
 public class ResultSetMetaDataMock implements InvocationHandler, ResultSetMetaData {
   private final ResultSetMetaData m_meta;
   private Object[][] m_resultData;
+  private int[] m_columnTypes;
 
   public ResultSetMetaDataMock(Object[][] resultData) {
+    this(resultData, null);
+  }
+
+  /**
+   * @param columnTypes
+   *          JDBC types of the columns (see {@link Types}), <code>null</code> to report {@link Types#OTHER} for all
+   *          columns
+   */
+  public ResultSetMetaDataMock(Object[][] resultData, int[] columnTypes) {
     m_resultData = resultData;
+    m_columnTypes = columnTypes;
     m_meta = (ResultSetMetaData) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ResultSetMetaData.class}, this);
   }
 
@@ -44,6 +55,9 @@ public class ResultSetMetaDataMock implements InvocationHandler, ResultSetMetaDa
 
   @Override
   public int getColumnType(int column) {
+    if (m_columnTypes != null) {
+      return m_columnTypes[column - 1];
+    }
     return Types.OTHER;
   }
 
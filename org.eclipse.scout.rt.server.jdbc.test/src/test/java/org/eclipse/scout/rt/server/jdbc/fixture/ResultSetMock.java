@@ -32,10 +32,14 @@ public class ResultSetMock extends VerboseMock implements InvocationHandler /*,
   }
 
   public ResultSetMock(StringBuffer protocol, Object[][] resultData) {
+    this(protocol, resultData, null);
+  }
+
+  public ResultSetMock(StringBuffer protocol, Object[][] resultData, int[] columnTypes) {
     super(protocol);
     m_resultData = resultData;
     m_rs = (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ResultSet.class}, this);
-    m_rsMeta = new ResultSetMetaDataMock(resultData).getResultSetMetaData();
+    m_rsMeta = new ResultSetMetaDataMock(resultData, columnTypes).getResultSetMetaData();
   }
 
   public ResultSet getResultSet() {
@@ -13,6 +13,7 @@ import java.sql.Connection;
 
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.ISelectColumnarHandler;
 import org.eclipse.scout.rt.server.jdbc.SQL;
 import org.eclipse.scout.rt.server.jdbc.internal.exec.PreparedStatementCache;
 import org.eclipse.scout.rt.server.jdbc.parsers.sql.SqlFormatter;
@@ -83,6 +84,16 @@ public class SqlServiceMock extends AbstractSqlService {
     createStatementProcessor(s, bindBases, 0).processSelectInto(getTransaction(), new PreparedStatementCache(1), null);
   }
 
+  @Override
+  public void selectColumnar(String s, int chunkSize, ISelectColumnarHandler handler, Object... bindBases) {
+    createStatementProcessor(s, bindBases, 0).processSelectColumnar(getTransaction(), new PreparedStatementCache(1), handler, chunkSize);
+  }
+
+  @Override
+  public void selectColumnarLimited(String s, int chunkSize, ISelectColumnarHandler handler, int maxRowCount, Object... bindBases) {
+    createStatementProcessor(s, bindBases, maxRowCount).processSelectColumnar(getTransaction(), new PreparedStatementCache(1), handler, chunkSize);
+  }
+
   @Override
   public int update(String s, Object... bindBases) {
     createPlainTextLog(s, bindBases);
@@ -11,6 +11,9 @@ package org.eclipse.scout.rt.server.jdbc.internal.exec;
 
 import static org.junit.Assert.*;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
@@ -36,6 +39,7 @@ import org.eclipse.scout.rt.testing.server.runner.RunWithServerSession;
 import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.Mockito;
 
 /**
  * Unit Test for {@link StatementProcessor}
@@ -297,6 +301,21 @@ public class StatementProcessorTest {
     }
   }
 
+  @Test
+  public void testExecuteBatchWithoutUpdateCounts() throws SQLException {
+    AbstractSqlService sqlService = new AbstractSqlService() {
+    };
+    BeanInstanceUtil.initializeBeanInstance(sqlService);
+    StatementProcessor sp = new StatementProcessor(sqlService, "UPDATE PERSON SET NAME = 'x'", new Object[0]);
+
+    PreparedStatement ps = Mockito.mock(PreparedStatement.class);
+    Mockito.when(ps.executeBatch()).thenReturn(new int[]{Statement.SUCCESS_NO_INFO, 2, Statement.SUCCESS_NO_INFO});
+    assertEquals(4, sp.executeBatch(ps, 3));
+
+    Mockito.when(ps.executeBatch()).thenReturn(new int[]{1, Statement.EXECUTE_FAILED});
+    assertThrows(ProcessingException.class, () -> sp.executeBatch(ps, 2));
+  }
+
   @Test
   public void testIgnoreInvalidDuplicateBinds() {
     AbstractSqlService sqlService = new AbstractSqlService() {
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link SqlConnectionPool}
+ */
+@RunWith(PlatformTestRunner.class)
+public class SqlConnectionPoolTest {
+
+  private static final int POOL_SIZE = 3;
+
+  private AtomicInteger m_createdConnections;
+  private SqlConnectionPool m_pool;
+  private AbstractSqlService m_service;
+
+  @Before
+  public void before() {
+    m_createdConnections = new AtomicInteger();
+    m_pool = new SqlConnectionPool() {
+      @Override
+      protected Connection createConnection(AbstractSqlService service) {
+        m_createdConnections.incrementAndGet();
+        return createConnectionMock();
+      }
+    };
+    m_pool.initialize("test", POOL_SIZE, TimeUnit.MINUTES.toMillis(5), TimeUnit.HOURS.toMillis(6));
+    m_service = new SqlServiceMock() {
+      @Override
+      protected void execTestConnection(Connection conn) {
+        // nop
+      }
+    };
+  }
+
+  @After
+  public void after() {
+    m_pool.destroy();
+  }
+
+  @Test
+  public void testReleasedConnectionIsReused() throws Exception {
+    Connection c1 = m_pool.leaseConnection(m_service);
+    m_pool.releaseConnection(c1);
+    Connection c2 = m_pool.leaseConnection(m_service);
+    m_pool.releaseConnection(c2);
+    assertSame(c1, c2);
+    assertEquals(1, m_createdConnections.get());
+  }
+
+  @Test
+  public void testDirtyConnectionIsReplaced() throws Exception {
+    Connection c1 = m_pool.leaseConnection(m_service);
+    c1.close();
+    m_pool.releaseConnection(c1);
+    Connection c2 = m_pool.leaseConnection(m_service);
+    m_pool.releaseConnection(c2);
+    assertNotSame(c1, c2);
+    assertEquals(2, m_createdConnections.get());
+  }
+
+  @Test
+  public void testConcurrentLeases() throws Exception {
+    final int threadCount = 16;
+    final int leasesPerThread = 500;
+    final AtomicInteger leased = new AtomicInteger();
+    final AtomicInteger maxLeased = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      List<Future<Void>> futures = new ArrayList<>();
+      for (int i = 0; i < threadCount; i++) {
+        futures.add(executor.submit((Callable<Void>) () -> {
+          for (int j = 0; j < leasesPerThread; j++) {
+            Connection conn = m_pool.leaseConnection(m_service);
+            maxLeased.accumulateAndGet(leased.incrementAndGet(), Math::max);
+            leased.decrementAndGet();
+            m_pool.releaseConnection(conn);
+          }
+          return null;
+        }));
+      }
+      for (Future<Void> future : futures) {
+        future.get(1, TimeUnit.MINUTES);
+      }
+    }
+    finally {
+      executor.shutdownNow();
+    }
+    assertTrue(maxLeased.get() <= POOL_SIZE);
+    assertTrue(m_createdConnections.get() <= POOL_SIZE);
+    assertTrue(m_pool.getInventory().startsWith("Total connections: " + m_createdConnections.get() + "\nBusy: 0\n"));
+  }
+
+  private static Connection createConnectionMock() {
+    final AtomicBoolean closed = new AtomicBoolean();
+    return (Connection) Proxy.newProxyInstance(SqlConnectionPoolTest.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "isClosed":
+          return closed.get();
+        case "close":
+          closed.set(true);
+          return null;
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "equals":
+          return proxy == args[0];
+        case "toString":
+          return "ConnectionMock@" + System.identityHashCode(proxy);
+        case "getWarnings":
+          return null;
+        default:
+          throw new SQLException("unsupported: " + method.getName());
+      }
+    });
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.parsers;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.scout.rt.server.jdbc.parsers.token.IToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueInputToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueOutputToken;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link ParsedStatementCache} and {@link ParsedStatement}
+ */
+@RunWith(PlatformTestRunner.class)
+public class ParsedStatementCacheTest {
+
+  private static final String SQL = "SELECT NAME FROM PERSON WHERE PERSON_NR = :{personNr} INTO :{name}";
+
+  @Test
+  public void testHitAndMiss() {
+    ParsedStatementCache cache = new ParsedStatementCache();
+    ParsedStatement p1 = cache.get(SQL);
+    ParsedStatement p2 = cache.get(SQL);
+    assertSame(p1, p2);
+    assertEquals(1, cache.getMissCount());
+    assertEquals(1, cache.getHitCount());
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void testModelsAreIndependentCopies() {
+    ParsedStatement parsedStatement = new ParsedStatementCache().get(SQL);
+    BindModel bindModel1 = parsedStatement.createBindModel();
+    BindModel bindModel2 = parsedStatement.createBindModel();
+    IToken[] ioTokens1 = bindModel1.getIOTokens();
+    IToken[] ioTokens2 = bindModel2.getIOTokens();
+    assertEquals(1, ioTokens1.length);
+    assertNotSame(ioTokens1[0], ioTokens2[0]);
+
+    ValueInputToken token1 = (ValueInputToken) ioTokens1[0];
+    assertTrue(token1.isBatch());
+    assertEquals("personNr", token1.getName());
+    assertEquals("PERSON_NR", token1.getParsedAttribute());
+    assertEquals("=", token1.getParsedOp());
+
+    token1.setReplaceToken("?");
+    assertEquals("?", token1.getReplaceToken());
+    assertEquals(":{personNr}", ioTokens2[0].getReplaceToken());
+    assertEquals(bindModel2.getFilteredStatement().replace(":{personNr}", "?"), bindModel1.getFilteredStatement());
+
+    IntoModel intoModel1 = parsedStatement.createIntoModel();
+    IntoModel intoModel2 = parsedStatement.createIntoModel();
+    ValueOutputToken out1 = intoModel1.getOutputTokens()[0];
+    assertNotSame(out1, intoModel2.getOutputTokens()[0]);
+    assertTrue(out1.isBatch());
+    assertTrue(out1.isSelectInto());
+    assertEquals("name", out1.getName());
+    assertEquals(intoModel1.getFilteredStatement(), intoModel2.getFilteredStatement());
+  }
+}
@@ -12,6 +12,7 @@ package org.eclipse.scout.rt.server.jdbc;
 import java.security.Permission;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -45,6 +46,7 @@ import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.security.ACCESS;
 import org.eclipse.scout.rt.security.IPermission;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlDirectJdbcConnectionProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcBatchSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcDriverNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcMappingNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionBusyTimeoutProperty;
@@ -90,6 +92,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   private final String m_defaultUser;
   private final String m_defaultPass;
   private final int m_queryCacheSize;
+  private final int m_jdbcBatchSize;
   private final int m_maxFetchMemorySize;
   private final ISqlStyle m_sqlStyle;
 
@@ -116,6 +119,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     m_jdbcDriverName = getPropertyValue(SqlJdbcDriverNameProperty.class, getConfiguredJdbcDriverName());
     m_jdbcProps = getPropertyValue(SqlJdbcPropertiesProperty.class, getConfiguredJdbcProperties());
     m_queryCacheSize = getPropertyValue(SqlJdbcStatementCacheSizeProperty.class, getConfiguredJdbcStatementCacheSize());
+    m_jdbcBatchSize = getPropertyValue(SqlJdbcBatchSizeProperty.class, getConfiguredJdbcBatchSize());
     m_jdbcPoolSize = getPropertyValue(SqlJdbcPoolSizeProperty.class, getConfiguredJdbcPoolSize());
     m_jdbcPoolConnectionBusyTimeout = getPropertyValue(SqlJdbcPoolConnectionBusyTimeoutProperty.class, getConfiguredJdbcPoolConnectionBusyTimeout());
     m_jdbcPoolConnectionLifetime = getPropertyValue(SqlJdbcPoolConnectionLifetimeProperty.class, getConfiguredJdbcPoolConnectionLifetime());
@@ -253,6 +257,17 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return 25;
   }
 
+  /**
+   * Maximum number of rows of an array or table bind that are collected with {@link PreparedStatement#addBatch()}
+   * before they are sent to the database with {@link PreparedStatement#executeBatch()}. A value &lt;= 1 disables
+   * batching. Batching is also skipped if {@link ISqlStyle#isBatchUpdateSupported()} returns <code>false</code>.
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(165)
+  protected int getConfiguredJdbcBatchSize() {
+    return 1;
+  }
+
   @ConfigProperty(ConfigProperty.STRING)
   @Order(170)
   protected String getConfiguredJndiName() {
@@ -436,6 +451,10 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return m_queryCacheSize;
   }
 
+  public int getJdbcBatchSize() {
+    return m_jdbcBatchSize;
+  }
+
   public String getJndiName() {
     return m_jndiName;
   }
@@ -548,13 +567,21 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     }
   }
 
-  protected synchronized SqlConnectionPool getSqlConnectionPool() {
+  protected SqlConnectionPool getSqlConnectionPool() {
     Assertions.assertFalse(isDestroyed(), "{} not available because the platform has been shut down.", getClass().getSimpleName());
-    if (m_pool == null) {
-      m_pool = BEANS.get(SqlConnectionPool.class);
-      m_pool.initialize(getClass().getName(), getJdbcPoolSize(), getJdbcPoolConnectionLifetime(), getJdbcPoolConnectionBusyTimeout());
+    SqlConnectionPool pool = m_pool;
+    if (pool != null) {
+      return pool;
+    }
+    synchronized (this) {
+      Assertions.assertFalse(isDestroyed(), "{} not available because the platform has been shut down.", getClass().getSimpleName());
+      if (m_pool == null) {
+        pool = BEANS.get(SqlConnectionPool.class);
+        pool.initialize(getClass().getName(), getJdbcPoolSize(), getJdbcPoolConnectionLifetime(), getJdbcPoolConnectionBusyTimeout());
+        m_pool = pool;
+      }
+      return m_pool;
     }
-    return m_pool;
   }
 
   /**
@@ -634,6 +661,16 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     createStatementProcessor(s, bindBases, maxRowCount).processSelectStreaming(getTransaction(), getStatementCache(), handler);
   }
 
+  @Override
+  public void selectColumnar(String s, int chunkSize, ISelectColumnarHandler handler, Object... bindBases) {
+    createStatementProcessor(s, bindBases, 0).processSelectColumnar(getTransaction(), getStatementCache(), handler, chunkSize);
+  }
+
+  @Override
+  public void selectColumnarLimited(String s, int chunkSize, ISelectColumnarHandler handler, int maxRowCount, Object... bindBases) {
+    createStatementProcessor(s, bindBases, maxRowCount).processSelectColumnar(getTransaction(), getStatementCache(), handler, chunkSize);
+  }
+
   @Override
   public int insert(String s, Object... bindBases) {
     return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), getStatementCache(), null);
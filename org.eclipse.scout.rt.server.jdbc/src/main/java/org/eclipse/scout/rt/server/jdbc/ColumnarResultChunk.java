@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
+
+/**
+ * A fixed-size chunk of a select result stored column by column.
+ * <p>
+ * Depending on the JDBC type of a column, the values are stored in a primitive array ({@link ColumnKind#LONG},
+ * {@link ColumnKind#DOUBLE}), dictionary encoded ({@link ColumnKind#STRING}: an <code>int</code> code per row and a
+ * dictionary of distinct values per chunk) or as objects read by {@link ISqlStyle#readBind} ({@link ColumnKind#OBJECT},
+ * e.g. decimals, dates and lobs). <code>null</code> values are tracked separately, see {@link #isNull(int, int)}.
+ * <p>
+ * The arrays are allocated once and reused for every chunk, therefore the memory used by a columnar select does not
+ * depend on the number of selected rows.
+ *
+ * @see ISelectColumnarHandler
+ */
+public class ColumnarResultChunk {
+
+  public enum ColumnKind {
+    LONG,
+    DOUBLE,
+    STRING,
+    OBJECT
+  }
+
+  private final int m_capacity;
+  private final int[] m_sqlTypes;
+  private final ColumnKind[] m_kinds;
+  private final long[][] m_longs;
+  private final double[][] m_doubles;
+  private final int[][] m_stringCodes;
+  private final List<List<String>> m_dictionaries;
+  private final List<Map<String, Integer>> m_dictionaryIndexes;
+  private final Object[][] m_objects;
+  private final BitSet[] m_nulls;
+  private int m_rowCount;
+
+  public ColumnarResultChunk(ResultSetMetaData meta, int capacity) throws SQLException {
+    Assertions.assertTrue(capacity > 0, "capacity must be > 0");
+    int columnCount = meta.getColumnCount();
+    m_capacity = capacity;
+    m_sqlTypes = new int[columnCount];
+    m_kinds = new ColumnKind[columnCount];
+    m_longs = new long[columnCount][];
+    m_doubles = new double[columnCount][];
+    m_stringCodes = new int[columnCount][];
+    m_dictionaries = new ArrayList<>(columnCount);
+    m_dictionaryIndexes = new ArrayList<>(columnCount);
+    m_objects = new Object[columnCount][];
+    m_nulls = new BitSet[columnCount];
+    for (int i = 0; i < columnCount; i++) {
+      m_sqlTypes[i] = meta.getColumnType(i + 1);
+      m_kinds[i] = toColumnKind(m_sqlTypes[i]);
+      m_nulls[i] = new BitSet(capacity);
+      switch (m_kinds[i]) {
+        case LONG:
+          m_longs[i] = new long[capacity];
+          break;
+        case DOUBLE:
+          m_doubles[i] = new double[capacity];
+          break;
+        case STRING:
+          m_stringCodes[i] = new int[capacity];
+          break;
+        default:
+          m_objects[i] = new Object[capacity];
+      }
+      m_dictionaries.add(m_kinds[i] == ColumnKind.STRING ? new ArrayList<>() : null);
+      m_dictionaryIndexes.add(m_kinds[i] == ColumnKind.STRING ? new HashMap<>() : null);
+    }
+  }
+
+  /**
+   * @return the kind of column vector used for the given JDBC type
+   */
+  protected ColumnKind toColumnKind(int sqlType) {
+    switch (sqlType) {
+      case Types.BIGINT:
+      case Types.INTEGER:
+      case Types.SMALLINT:
+      case Types.TINYINT:
+        return ColumnKind.LONG;
+      case Types.DOUBLE:
+      case Types.FLOAT:
+      case Types.REAL:
+        return ColumnKind.DOUBLE;
+      case Types.VARCHAR:
+      case Types.CHAR:
+      case Types.NVARCHAR:
+      case Types.NCHAR:
+        return ColumnKind.STRING;
+      default:
+        // decimals are converted by the SQL style, BIT may be a boolean (e.g. PostgreSQL)
+        return ColumnKind.OBJECT;
+    }
+  }
+
+  /**
+   * Reads the current row of the result set into this chunk.
+   */
+  public void appendRow(ResultSet rs, ResultSetMetaData meta, ISqlStyle sqlStyle) throws SQLException {
+    Assertions.assertFalse(isFull(), "chunk is full");
+    int row = m_rowCount;
+    for (int i = 0; i < m_kinds.length; i++) {
+      int jdbcIndex = i + 1;
+      switch (m_kinds[i]) {
+        case LONG: {
+          m_longs[i][row] = rs.getLong(jdbcIndex);
+          m_nulls[i].set(row, rs.wasNull());
+          break;
+        }
+        case DOUBLE: {
+          m_doubles[i][row] = rs.getDouble(jdbcIndex);
+          m_nulls[i].set(row, rs.wasNull());
+          break;
+        }
+        case STRING: {
+          String s = rs.getString(jdbcIndex);
+          if (s == null || rs.wasNull()) {
+            m_stringCodes[i][row] = -1;
+            m_nulls[i].set(row);
+          }
+          else {
+            m_stringCodes[i][row] = encode(i, s);
+            m_nulls[i].clear(row);
+          }
+          break;
+        }
+        default: {
+          Object o = sqlStyle.readBind(rs, meta, m_sqlTypes[i], jdbcIndex);
+          m_objects[i][row] = o;
+          m_nulls[i].set(row, o == null);
+        }
+      }
+    }
+    m_rowCount++;
+  }
+
+  private int encode(int column, String s) {
+    Map<String, Integer> index = m_dictionaryIndexes.get(column);
+    Integer code = index.get(s);
+    if (code == null) {
+      List<String> dictionary = m_dictionaries.get(column);
+      code = dictionary.size();
+      dictionary.add(s);
+      index.put(s, code);
+    }
+    return code;
+  }
+
+  /**
+   * Removes all rows so that the chunk can be filled again. The arrays are kept.
+   */
+  public void clear() {
+    for (int i = 0; i < m_kinds.length; i++) {
+      m_nulls[i].clear();
+      if (m_objects[i] != null) {
+        Arrays.fill(m_objects[i], 0, m_rowCount, null);
+      }
+      if (m_dictionaries.get(i) != null) {
+        m_dictionaries.get(i).clear();
+        m_dictionaryIndexes.get(i).clear();
+      }
+    }
+    m_rowCount = 0;
+  }
+
+  public boolean isFull() {
+    return m_rowCount >= m_capacity;
+  }
+
+  public int getCapacity() {
+    return m_capacity;
+  }
+
+  public int getRowCount() {
+    return m_rowCount;
+  }
+
+  public int getColumnCount() {
+    return m_kinds.length;
+  }
+
+  /**
+   * @return the JDBC type of the column, see {@link Types}
+   */
+  public int getSqlType(int column) {
+    return m_sqlTypes[column];
+  }
+
+  public ColumnKind getColumnKind(int column) {
+    return m_kinds[column];
+  }
+
+  public boolean isNull(int row, int column) {
+    return m_nulls[column].get(row);
+  }
+
+  /**
+   * @return the value of a {@link ColumnKind#LONG} column, 0 if the value is <code>null</code>
+   */
+  public long getLong(int row, int column) {
+    return m_longs[column][row];
+  }
+
+  /**
+   * @return the value of a {@link ColumnKind#DOUBLE} column, 0 if the value is <code>null</code>
+   */
+  public double getDouble(int row, int column) {
+    return m_doubles[column][row];
+  }
+
+  /**
+   * @return the value of a {@link ColumnKind#STRING} column
+   */
+  public String getString(int row, int column) {
+    int code = m_stringCodes[column][row];
+    return code < 0 ? null : m_dictionaries.get(column).get(code);
+  }
+
+  /**
+   * @return the dictionary code of a {@link ColumnKind#STRING} column (index into {@link #getDictionary(int)}) or -1
+   *         if the value is <code>null</code>
+   */
+  public int getStringCode(int row, int column) {
+    return m_stringCodes[column][row];
+  }
+
+  /**
+   * @return the distinct values of a {@link ColumnKind#STRING} column in this chunk
+   */
+  public List<String> getDictionary(int column) {
+    return Collections.unmodifiableList(m_dictionaries.get(column));
+  }
+
+  /**
+   * @return the value of any column, boxed. Prefer the typed getters for {@link ColumnKind#LONG},
+   *         {@link ColumnKind#DOUBLE} and {@link ColumnKind#STRING} columns.
+   */
+  public Object getObject(int row, int column) {
+    if (isNull(row, column)) {
+      return null;
+    }
+    switch (m_kinds[column]) {
+      case LONG:
+        return getLong(row, column);
+      case DOUBLE:
+        return getDouble(row, column);
+      case STRING:
+        return getString(row, column);
+      default:
+        return m_objects[column][row];
+    }
+  }
+
+  /**
+   * @return the backing array of a {@link ColumnKind#LONG} column (valid up to {@link #getRowCount()})
+   */
+  public long[] getLongColumn(int column) {
+    return m_longs[column];
+  }
+
+  /**
+   * @return the backing array of a {@link ColumnKind#DOUBLE} column (valid up to {@link #getRowCount()})
+   */
+  public double[] getDoubleColumn(int column) {
+    return m_doubles[column];
+  }
+
+  /**
+   * @return the backing array of dictionary codes of a {@link ColumnKind#STRING} column (valid up to
+   *         {@link #getRowCount()})
+   */
+  public int[] getStringCodeColumn(int column) {
+    return m_stringCodes[column];
+  }
+}
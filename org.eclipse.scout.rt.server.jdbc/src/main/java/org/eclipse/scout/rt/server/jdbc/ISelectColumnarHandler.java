@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * Callback for {@link ISqlService#selectColumnar(String, int, ISelectColumnarHandler, Object...)}. Rows are delivered
+ * in chunks of typed column vectors instead of one boxed row at a time (see {@link ISelectStreamHandler}).
+ */
+public interface ISelectColumnarHandler {
+
+  /**
+   * Called for every chunk of rows.
+   * <p>
+   * <b>Important:</b> the chunk and its column arrays are reused for the next chunk. Copy values that are needed after
+   * this method returned.
+   *
+   * @param firstRowIndex
+   *          index of the first row of the chunk within the whole result
+   */
+  void handleChunk(Connection con, PreparedStatement stm, ResultSet rs, int firstRowIndex, ColumnarResultChunk chunk);
+
+  void finished(Connection con, PreparedStatement stm, ResultSet rs, int rowCount);
+
+}
@@ -237,6 +237,36 @@ public interface ISqlService extends IService {
    */
   void selectStreamingLimited(String s, ISelectStreamHandler handler, int maxRowCount, Object... bindBases);
 
+  /**
+   * The callback receives the result in chunks of at most <code>chunkSize</code> rows stored in typed column vectors
+   * (see {@link ColumnarResultChunk}). The chunk is reused, so large results are processed with constant memory.
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @param chunkSize
+   *          maximum number of rows per chunk
+   * @param handler
+   *          callback to handle the chunks
+   * @see #selectStreaming(String, ISelectStreamHandler, Object...)
+   */
+  void selectColumnar(String s, int chunkSize, ISelectColumnarHandler handler, Object... bindBases);
+
+  /**
+   * The callback receives the result in chunks of at most <code>chunkSize</code> rows stored in typed column vectors
+   * (see {@link ColumnarResultChunk}). The chunk is reused, so large results are processed with constant memory.
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @param chunkSize
+   *          maximum number of rows per chunk
+   * @param handler
+   *          callback to handle the chunks
+   * @see #selectStreamingLimited(String, ISelectStreamHandler, int, Object...)
+   */
+  void selectColumnarLimited(String s, int chunkSize, ISelectColumnarHandler handler, int maxRowCount, Object... bindBases);
+
   /**
    * insert rows
    * <p>
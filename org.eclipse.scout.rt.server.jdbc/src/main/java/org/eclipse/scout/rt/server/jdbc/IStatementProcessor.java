@@ -19,6 +19,8 @@ public interface IStatementProcessor {
 
   void processSelectStreaming(Connection conn, IStatementCache cache, ISelectStreamHandler handler);
 
+  void processSelectColumnar(Connection conn, IStatementCache cache, ISelectColumnarHandler handler, int chunkSize);
+
   int processModification(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
 
   boolean processStoredProcedure(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
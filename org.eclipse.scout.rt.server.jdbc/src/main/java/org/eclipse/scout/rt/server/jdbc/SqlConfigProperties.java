@@ -204,6 +204,39 @@ public final class SqlConfigProperties {
     }
   }
 
+  public static class SqlJdbcBatchSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.batchSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of rows of an array or table bind that are sent to the database in one JDBC batch (insert, update, delete). "
+          + "A value of 1 disables batching and executes every row on its own. The default value is 1.";
+    }
+  }
+
+  public static class SqlParsedStatementCacheSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.parsedStatementCacheSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of parsed SQL statements (select into and bind tokens) that are kept in memory and shared by all SQL services. "
+          + "A value of 0 disables the cache. The default value is 1000.";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 1000;
+    }
+  }
+
   public static class SqlJdbcPoolSizeProperty extends AbstractPositiveIntegerConfigProperty {
 
     @Override
@@ -45,6 +45,8 @@ import org.eclipse.scout.rt.platform.util.TriState;
 import org.eclipse.scout.rt.server.IServerSession;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlTransactionMember;
+import org.eclipse.scout.rt.server.jdbc.ColumnarResultChunk;
+import org.eclipse.scout.rt.server.jdbc.ISelectColumnarHandler;
 import org.eclipse.scout.rt.server.jdbc.ISelectStreamHandler;
 import org.eclipse.scout.rt.server.jdbc.ISqlService;
 import org.eclipse.scout.rt.server.jdbc.IStatementCache;
@@ -53,9 +55,9 @@ import org.eclipse.scout.rt.server.jdbc.IStatementProcessorMonitor;
 import org.eclipse.scout.rt.server.jdbc.SqlBind;
 import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
 import org.eclipse.scout.rt.server.jdbc.parsers.BindModel;
-import org.eclipse.scout.rt.server.jdbc.parsers.BindParser;
 import org.eclipse.scout.rt.server.jdbc.parsers.IntoModel;
-import org.eclipse.scout.rt.server.jdbc.parsers.IntoParser;
+import org.eclipse.scout.rt.server.jdbc.parsers.ParsedStatement;
+import org.eclipse.scout.rt.server.jdbc.parsers.ParsedStatementCache;
 import org.eclipse.scout.rt.server.jdbc.parsers.sql.SqlFormatter;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.DatabaseSpecificToken;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.FunctionInputToken;
@@ -138,10 +140,10 @@ public class StatementProcessor implements IStatementProcessor {
       m_inputList = new ArrayList<>();
       m_outputList = new ArrayList<>();
       //
-      IntoModel intoModel = new IntoParser(m_originalStm).parse();
-      String stmWithoutSelectInto = intoModel.getFilteredStatement();
+      ParsedStatement parsedStatement = BEANS.get(ParsedStatementCache.class).get(m_originalStm);
+      IntoModel intoModel = parsedStatement.createIntoModel();
       //
-      m_bindModel = new BindParser(stmWithoutSelectInto).parse();
+      m_bindModel = parsedStatement.createBindModel();
       m_ioTokens = m_bindModel.getIOTokens();
       //
       int jdbcBindIndex = 1;
@@ -417,6 +419,67 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  @SuppressWarnings({"resource", "squid:S2095"})
+  @Override
+  public void processSelectColumnar(Connection conn, IStatementCache cache, ISelectColumnarHandler handler, int chunkSize) {
+    PreparedStatement ps = null;
+    ResultSet rs = null;
+    ISqlStyle sqlStyle = m_callerService.getSqlStyle();
+    try {
+      int rowCount = 0;
+      ColumnarResultChunk chunk = null;
+      while (hasNextInputBatch()) {
+        nextInputBatch();
+        prepareInputStatementAndBinds();
+        dump();
+        ps = cache.getPreparedStatement(conn, m_currentInputStm);
+        bindBatch(ps);
+        registerActiveStatement(ps);
+        try {
+          rs = ps.executeQuery();
+          rs.setFetchSize(chunkSize);
+
+          ResultSetMetaData meta = rs.getMetaData();
+          if (chunk == null || chunk.getColumnCount() != meta.getColumnCount()) {
+            chunk = new ColumnarResultChunk(meta, chunkSize);
+          }
+          while ((m_maxRowCount <= 0 || rowCount < m_maxRowCount) && rs.next()) {
+            chunk.appendRow(rs, meta, sqlStyle);
+            rowCount++;
+            if (chunk.isFull()) {
+              handler.handleChunk(conn, ps, rs, rowCount - chunk.getRowCount(), chunk);
+              chunk.clear();
+            }
+          }
+          if (chunk.getRowCount() > 0) {
+            handler.handleChunk(conn, ps, rs, rowCount - chunk.getRowCount(), chunk);
+            chunk.clear();
+          }
+        }
+        finally {
+          unregisterActiveStatement(ps);
+          /*
+           * The PreparedStatement and the ResultSet of the last input batch are not allowed to be closed
+           * yet because the handler could do finishing work.
+           * Closing the last PreparedStatement and its ResultSet is done in the outer finally block.
+           */
+          if (hasNextInputBatch()) {
+            releasePreparedStatementAndResultSet(ps, cache, rs);
+          }
+        }
+      }
+      finishOutputBatch();
+      handler.finished(conn, ps, rs, rowCount);
+    }
+    catch (SQLException | RuntimeException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+          .withContextInfo("statement", createSqlDump(true, false));
+    }
+    finally {
+      releasePreparedStatementAndResultSet(ps, cache, rs);
+    }
+  }
+
   /*
    * (non-Javadoc)
    * @seeorg.eclipse.scout.rt.server.services.common.sql.internal.exec.
@@ -427,6 +490,10 @@ public class StatementProcessor implements IStatementProcessor {
   @SuppressWarnings("resource")
   @Override
   public int processModification(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor) {
+    int batchSize = getBatchSize();
+    if (batchSize > 1 && hasBatchInput()) {
+      return processModificationBatched(conn, cache, batchSize);
+    }
     PreparedStatement ps = null;
     int rowCount = 0;
     try {
@@ -456,6 +523,108 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  /**
+   * Executes all input batches using {@link PreparedStatement#addBatch()} and sends them to the database in chunks of
+   * at most <code>batchSize</code> rows. A pending chunk is flushed as soon as the statement text changes (e.g. because
+   * of plain value or in-list binds) since a JDBC batch is bound to a single {@link PreparedStatement}.
+   *
+   * @return the sum of the update counts of all rows (see {@link #executeBatch(PreparedStatement, int)})
+   */
+  @SuppressWarnings("resource")
+  protected int processModificationBatched(Connection conn, IStatementCache cache, int batchSize) {
+    PreparedStatement ps = null;
+    String batchStm = null;
+    int pendingCount = 0;
+    int rowCount = 0;
+    try {
+      while (hasNextInputBatch()) {
+        nextInputBatch();
+        prepareInputStatementAndBinds();
+        dump();
+        if (ps != null && !m_currentInputStm.equals(batchStm)) {
+          rowCount += executeBatch(ps, pendingCount);
+          pendingCount = 0;
+          cache.releasePreparedStatement(ps);
+          ps = null;
+        }
+        if (ps == null) {
+          ps = cache.getPreparedStatement(conn, m_currentInputStm);
+          batchStm = m_currentInputStm;
+        }
+        bindBatch(ps);
+        ps.addBatch();
+        pendingCount++;
+        if (pendingCount >= batchSize) {
+          rowCount += executeBatch(ps, pendingCount);
+          pendingCount = 0;
+        }
+      }
+      if (pendingCount > 0) {
+        rowCount += executeBatch(ps, pendingCount);
+        pendingCount = 0;
+      }
+      return rowCount;
+    }
+    catch (SQLException | RuntimeException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+          .withContextInfo("statement", createSqlDump(true, false));
+    }
+    finally {
+      if (ps != null && pendingCount > 0) {
+        // do not leave pending rows on a cached statement
+        try {
+          ps.clearBatch();
+        }
+        catch (SQLException e) {
+          LOG.warn("Could not clear batch", e);
+        }
+      }
+      cache.releasePreparedStatement(ps);
+    }
+  }
+
+  /**
+   * @return the sum of the update counts reported by the driver for the executed batch. A row reported as
+   *         {@link Statement#SUCCESS_NO_INFO} was executed successfully, but its update count is unknown. It is counted
+   *         as one updated row. Use a {@link ISqlStyle} which does not support batch updates (see
+   *         {@link ISqlStyle#isBatchUpdateSupported()}) if exact update counts are required.
+   */
+  protected int executeBatch(PreparedStatement ps, int pendingCount) throws SQLException {
+    registerActiveStatement(ps);
+    try {
+      int[] updateCounts = ps.executeBatch();
+      int rowCount = 0;
+      for (int updateCount : updateCounts) {
+        if (updateCount >= 0) {
+          rowCount += updateCount;
+        }
+        else if (updateCount == Statement.SUCCESS_NO_INFO) {
+          rowCount++;
+        }
+        else {
+          throw new ProcessingException("batch execution failed for at least one of {} rows", pendingCount);
+        }
+      }
+      return rowCount;
+    }
+    finally {
+      unregisterActiveStatement(ps);
+    }
+  }
+
+  /**
+   * @return the maximum number of rows sent to the database in one JDBC batch by
+   *         {@link #processModification(Connection, IStatementCache, IStatementProcessorMonitor)}. Values &lt;= 1
+   *         disable batching.
+   */
+  protected int getBatchSize() {
+    ISqlStyle sqlStyle = m_callerService.getSqlStyle();
+    if (sqlStyle == null || !sqlStyle.isBatchUpdateSupported() || !(m_callerService instanceof AbstractSqlService)) {
+      return 1;
+    }
+    return ((AbstractSqlService) m_callerService).getJdbcBatchSize();
+  }
+
   /*
    * (non-Javadoc)
    * @seeorg.eclipse.scout.rt.server.services.common.sql.internal.exec.
@@ -569,6 +738,15 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  private boolean hasBatchInput() {
+    for (IBindInput input : m_inputList) {
+      if (input.isBatch()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private void resetInputBatch() {
     m_currentInputBatchIndex = -1;
     for (IBindInput in : m_inputList) {
@@ -10,11 +10,31 @@
 package org.eclipse.scout.rt.server.jdbc.internal.pool;
 
 import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @SuppressWarnings({"squid:S00116", "squid:ClassVariableVisibilityCheck"})
 class PoolEntry {
-  public Connection conn;
-  public long createTime;
-  public long leaseBegin;
-  public int leaseCount;
+  public volatile Connection conn;
+  public volatile long createTime;
+  public volatile long leaseBegin;
+  public volatile int leaseCount;
+  /**
+   * <code>true</code> while the entry is leased (or about to be closed), <code>false</code> while it is idle
+   */
+  public final AtomicBoolean busy = new AtomicBoolean();
+  /**
+   * <code>true</code> while the entry is contained in the idle stack of the pool
+   */
+  public final AtomicBoolean queued = new AtomicBoolean();
+  /**
+   * <code>true</code> while the lease permit acquired for this entry has not been given back to the pool
+   */
+  public final AtomicBoolean leasePermit = new AtomicBoolean();
+
+  /**
+   * @return <code>true</code> if this entry was idle and is now exclusively owned by the caller
+   */
+  public boolean tryLease() {
+    return conn != null && busy.compareAndSet(false, true);
+  }
 }
@@ -13,11 +13,12 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -27,8 +28,10 @@ import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.opentelemetry.IHistogramViewHintProvider;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.TimingUtility;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.shared.ISession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,6 +46,11 @@ import io.opentelemetry.api.metrics.ObservableLongMeasurement;
  * System-wide connection pool for pooling connections There is one pool for every ISqlService sub class type If
  * possible, every scout Session is provided with always the same connection it had in the last request this class is
  * thread-safe
+ * <p>
+ * Leasing and releasing a connection does not take a pool-wide lock: idle connections are kept in a concurrent LIFO
+ * stack and are claimed by a compare-and-set on their {@link PoolEntry}. The number of leased connections is bounded
+ * by a fair {@link Semaphore}, so waiting threads are served in arrival order. Housekeeping (expired idle connections,
+ * timed out busy connections) is done by a background job.
  */
 @Bean
 @SuppressWarnings("squid:S1166")
@@ -52,6 +60,7 @@ public class SqlConnectionPool {
   private static final AttributeKey<String> POOL_NAME = AttributeKey.stringKey("pool.name");
   private static final AttributeKey<String> CONNECTION_STATE = AttributeKey.stringKey("state");
   private static final String OTEL_METRIC_DB_CLIENT_CONNECTIONS_WAIT_TIME = "db.client.connections.wait_time";
+  private static final int SESSION_AFFINITY_TARGET_SIZE = 1000;
 
   private volatile boolean m_destroyed;
   private final String m_identity = UUID.randomUUID().toString();
@@ -59,9 +68,11 @@ public class SqlConnectionPool {
   /*
    * Instance
    */
-  private final Object m_poolLock = new Object();
-  private final Set<PoolEntry> m_idleEntries = new HashSet<>();
-  private final Set<PoolEntry> m_busyEntries = new HashSet<>();
+  private final Object m_destroyLock = new Object();
+  private final ConcurrentLinkedDeque<PoolEntry> m_idleEntries = new ConcurrentLinkedDeque<>();
+  private final Map<Connection, PoolEntry> m_entries = new ConcurrentHashMap<>();
+  private volatile Semaphore m_leasePermits;
+  private volatile Map<String, PoolEntry> m_sessionAffinity;
   private volatile String m_name;
   private volatile int m_poolSize;
   private volatile long m_connectionLifetime;
@@ -79,6 +90,8 @@ public class SqlConnectionPool {
     m_poolSize = poolSize;
     m_connectionLifetime = connectionLifetime;
     m_connectionBusyTimeout = connectionBusyTimeout;
+    m_leasePermits = new Semaphore(poolSize, true);
+    m_sessionAffinity = new ConcurrentExpiringMap<>(Math.max(connectionLifetime, 1L), TimeUnit.MILLISECONDS, SESSION_AFFINITY_TARGET_SIZE);
     startManagePool();
     initMetrics();
   }
@@ -121,8 +134,9 @@ public class SqlConnectionPool {
     Attributes usedConnectionsAttributes = m_defaultAttributes.toBuilder().put(CONNECTION_STATE, "used").build();
     //noinspection resource
     meter.batchCallback(() -> {
-      connectionsUsage.record(m_idleEntries.size(), idleConnectionsAttributes);
-      connectionsUsage.record(m_busyEntries.size(), usedConnectionsAttributes);
+      int busyCount = getBusyCount();
+      connectionsUsage.record(m_entries.size() - busyCount, idleConnectionsAttributes);
+      connectionsUsage.record(busyCount, usedConnectionsAttributes);
       maxConnections.record(m_poolSize, m_defaultAttributes);
     },
         connectionsUsage,
@@ -131,184 +145,271 @@ public class SqlConnectionPool {
 
   public Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
     final long startTime = System.nanoTime();
-    managePool();
-    synchronized (m_poolLock) {
+    Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+    acquireLeasePermit();
+    boolean leased = false;
+    try {
       Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
 
+      String affinityKey = getAffinityKey();
       PoolEntry candidate = null;
       while (candidate == null) {
         // get next available conn
-        for (PoolEntry m_idleEntry : m_idleEntries) {
-          candidate = m_idleEntry;
-          break;
-        }
-        if (candidate == null && m_idleEntries.size() + m_busyEntries.size() < m_poolSize) {
-          // create new connection
-          PoolEntry test = new PoolEntry();
-          test.conn = new SqlConnectionBuilder().createJdbcConnection(service);
-          LOG.info("created jdbc connection {}", test.conn);
-          service.callbackAfterConnectionCreated(test.conn);
-          test.createTime = System.currentTimeMillis();
-          m_idleEntries.add(test);
-          candidate = test;
-        }
+        candidate = pollIdleEntry(affinityKey);
         if (candidate == null) {
-          // wait
-          try {
-            m_poolLock.wait();
-          }
-          catch (InterruptedException ie) {
-            Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by catching {@link java.lang.InterruptedException}.
-            throw new ThreadInterruptedError("Interrupted while leasing database connection");
-          }
+          // create new connection, the lease permit guarantees that the pool size is not exceeded
+          candidate = createEntry(service);
+        }
+        else if (System.currentTimeMillis() - candidate.createTime > m_connectionLifetime) {
+          discardEntry(candidate, "expired idle connection");
+          candidate = null;
+          continue;
         }
         // test candidate connection
-        if (candidate != null) {
+        try {
+          service.callbackTestConnection(candidate.conn);
+        }
+        catch (Exception e) {
+          // remove candidate from pool and close it
+          LOG.warn("closing dirty connection: {}", candidate.conn, e);
+          m_entries.remove(candidate.conn, candidate);
           try {
-            service.callbackTestConnection(candidate.conn);
+            candidate.conn.close();
           }
-          catch (Exception e) {
-            // remove candidate from idle pool and close it
-            m_idleEntries.remove(candidate);
-            LOG.warn("closing dirty connection: {}", candidate.conn, e);
-            try {
-              candidate.conn.close();
-            }
-            catch (Exception fatal) {
-              LOG.warn("could not close candidate connection", fatal);
-            }
-            candidate = null;
+          catch (Exception fatal) {
+            LOG.warn("could not close candidate connection", fatal);
           }
+          candidate.conn = null;
+          candidate = null;
         }
-      }// end while
-       // move to busy pool
-      m_idleEntries.remove(candidate);
+      }
       candidate.leaseBegin = System.currentTimeMillis();
       candidate.leaseCount++;
-      m_busyEntries.add(candidate);
+      if (affinityKey != null) {
+        m_sessionAffinity.put(affinityKey, candidate);
+      }
+      candidate.leasePermit.set(true);
       LOG.debug("lease   {}", candidate.conn);
       double elapsedAcquired = TimingUtility.msElapsed(startTime);
       m_connectionWaitTime.record(elapsedAcquired, m_defaultAttributes);
+      leased = true;
       return candidate.conn;
     }
+    finally {
+      if (!leased) {
+        m_leasePermits.release();
+      }
+    }
+  }
+
+  private void acquireLeasePermit() {
+    try {
+      m_leasePermits.acquire();
+    }
+    catch (InterruptedException ie) {
+      Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by catching {@link java.lang.InterruptedException}.
+      throw new ThreadInterruptedError("Interrupted while leasing database connection");
+    }
+  }
+
+  /**
+   * @return the id of the current session which is used as hint to lease the same connection as in the last request
+   */
+  protected String getAffinityKey() {
+    ISession session = ISession.CURRENT.get();
+    return session != null ? session.getId() : null;
+  }
+
+  /**
+   * @return an idle entry that is now leased by the caller or <code>null</code> if there is no idle entry
+   */
+  private PoolEntry pollIdleEntry(String affinityKey) {
+    if (affinityKey != null) {
+      PoolEntry preferred = m_sessionAffinity.get(affinityKey);
+      // the preferred entry stays in the idle stack and is skipped there as long as it is busy
+      if (preferred != null && preferred.tryLease()) {
+        return preferred;
+      }
+    }
+    PoolEntry entry;
+    while ((entry = m_idleEntries.pollFirst()) != null) {
+      // reset the queued flag before claiming the entry, so that a concurrent release re-queues it if the claim fails
+      entry.queued.set(false);
+      if (entry.tryLease()) {
+        return entry;
+      }
+    }
+    return null;
+  }
+
+  private PoolEntry createEntry(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    PoolEntry entry = new PoolEntry();
+    entry.conn = createConnection(service);
+    LOG.info("created jdbc connection {}", entry.conn);
+    entry.busy.set(true);
+    entry.createTime = System.currentTimeMillis();
+    m_entries.put(entry.conn, entry);
+    try {
+      service.callbackAfterConnectionCreated(entry.conn);
+    }
+    catch (RuntimeException e) {
+      m_entries.remove(entry.conn, entry);
+      closeConnectionAsync(entry.conn, "failed to initialize new connection");
+      throw e;
+    }
+    return entry;
+  }
+
+  protected Connection createConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    return new SqlConnectionBuilder().createJdbcConnection(service);
+  }
+
+  /**
+   * Removes an entry owned by the caller from the pool and closes its connection asynchronously.
+   */
+  private void discardEntry(PoolEntry entry, String reason) {
+    Connection conn = entry.conn;
+    if (conn != null && m_entries.remove(conn, entry)) {
+      closeConnectionAsync(conn, reason);
+    }
+    entry.conn = null;
   }
 
   public void releaseConnection(Connection conn) {
     LOG.debug("release {}", conn);
-    synchronized (m_poolLock) {
-      Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+    Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
 
-      PoolEntry candidate = null;
-      for (Iterator it = m_busyEntries.iterator(); it.hasNext();) {
-        PoolEntry e = (PoolEntry) it.next();
-        if (e.conn == conn) {
-          candidate = e;
-          it.remove();
-          break;
-        }
-      }
-      // check close status of connection
-      if (candidate != null) {
-        try {
-          if (candidate.conn.isClosed()) {
-            candidate = null;
-          }
-        }
-        catch (Exception e) {
-          // ignore
-          candidate = null;
+    PoolEntry candidate = m_entries.get(conn);
+    if (candidate == null || !candidate.leasePermit.compareAndSet(true, false)) {
+      // unknown connection or already closed by the pool (e.g. busy timeout)
+      closeDirtyConnection(conn);
+      return;
+    }
+    boolean dirty = false;
+    // check close status of connection
+    try {
+      dirty = conn.isClosed();
+    }
+    catch (Exception e) {
+      // ignore
+      dirty = true;
+    }
+    // check error status of connection
+    if (!dirty) {
+      try {
+        if (conn.getWarnings() != null) {
+          /*
+           * connection is normally valid again after clearing the warnings.
+           * Since oracle is not supporting warnings, the subsequent call has no effect!
+           */
+          conn.clearWarnings();
         }
       }
-      // check error status of connection
-      if (candidate != null) {
-        try {
-          if (candidate.conn.getWarnings() != null) {
-            /*
-             * connection is normally valid again after clearing the warnings.
-             * Since oracle is not supporting warnings, the subsequent call has no effect!
-             */
-            candidate.conn.clearWarnings();
-          }
-        }
-        catch (Exception e) {
-          // ignore
-          candidate = null;
-        }
+      catch (Exception e) {
+        // ignore
+        dirty = true;
       }
-      // all checks passed, candidate is either non-null or null, in the latter
-      // case conn is a dirty connection
-      // back to idle pool
-      if (candidate != null) {
-        // move to idle pool
-        candidate.leaseBegin = 0;
-        m_idleEntries.add(candidate);
+    }
+    if (dirty) {
+      m_entries.remove(conn, candidate);
+      candidate.conn = null;
+      closeDirtyConnection(conn);
+    }
+    else {
+      // move to idle pool
+      candidate.leaseBegin = 0;
+      candidate.busy.set(false);
+      if (candidate.queued.compareAndSet(false, true)) {
+        m_idleEntries.offerFirst(candidate);
       }
-      else {
-        LOG.warn("closing dirty connection: {}", conn);
-        try {
-          conn.close();
-        }
-        catch (SQLException e) {
-          // ignored
-        }
+    }
+    m_leasePermits.release();
+  }
+
+  private void closeDirtyConnection(Connection conn) {
+    LOG.warn("closing dirty connection: {}", conn);
+    try {
+      conn.close();
+    }
+    catch (SQLException e) {
+      // ignored
+    }
+  }
+
+  private int getBusyCount() {
+    int busyCount = 0;
+    for (PoolEntry e : m_entries.values()) {
+      if (e.busy.get()) {
+        busyCount++;
       }
-      m_poolLock.notifyAll();
     }
-    managePool();
+    return busyCount;
   }
 
   public String getInventory() {
-    StringBuilder buf = new StringBuilder();
+    StringBuilder busyBuf = new StringBuilder();
+    StringBuilder idleBuf = new StringBuilder();
+    int busyCount = 0;
+    int idleCount = 0;
     SimpleDateFormat fmt = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss.SSSS");
-    synchronized (m_poolLock) {
-      buf.append("Total connections: ").append(m_busyEntries.size() + m_idleEntries.size());
-      buf.append("\n");
-      buf.append("Busy: ").append(m_busyEntries.size());
-      buf.append("\n");
-      for (PoolEntry e : m_busyEntries) {
-        buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount).append(", leaseBegin=")
+    for (PoolEntry e : m_entries.values()) {
+      Connection conn = e.conn;
+      if (conn == null) {
+        continue;
+      }
+      if (e.busy.get()) {
+        busyCount++;
+        busyBuf.append("  class=").append(conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount).append(", leaseBegin=")
             .append(fmt.format(new Date(e.leaseBegin)));
-        buf.append("\n");
+        busyBuf.append("\n");
       }
-      buf.append("Idle: ").append(m_idleEntries.size());
-      buf.append("\n");
-      for (PoolEntry e : m_idleEntries) {
-        buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount);
-        buf.append("\n");
+      else {
+        idleCount++;
+        idleBuf.append("  class=").append(conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount);
+        idleBuf.append("\n");
       }
     }
+    StringBuilder buf = new StringBuilder();
+    buf.append("Total connections: ").append(busyCount + idleCount);
+    buf.append("\n");
+    buf.append("Busy: ").append(busyCount);
+    buf.append("\n");
+    buf.append(busyBuf);
+    buf.append("Idle: ").append(idleCount);
+    buf.append("\n");
+    buf.append(idleBuf);
     return buf.toString();
   }
 
   /**
-   * Thread worker to manage pool
+   * Thread worker to manage pool (background validator). Closes expired idle connections and timed out busy
+   * connections.
    */
   private void managePool() {
     try {
-      synchronized (m_poolLock) {
-        if (isDestroyed()) {
-          return;
-        }
-
-        // close old idle connections
-        for (Iterator it = m_idleEntries.iterator(); it.hasNext();) {
-          PoolEntry e = (PoolEntry) it.next();
-          if (System.currentTimeMillis() - e.createTime > m_connectionLifetime) {
-            closeConnectionAsync(e.conn, "expired idle connection");
+      if (isDestroyed()) {
+        return;
+      }
+      long now = System.currentTimeMillis();
+      for (PoolEntry e : m_entries.values()) {
+        if (e.busy.get()) {
+          // close timed out busy connections
+          if (e.leaseBegin > 0 && now - e.leaseBegin > m_connectionBusyTimeout && e.leasePermit.compareAndSet(true, false)) {
+            Connection conn = e.conn;
+            m_entries.remove(conn, e);
+            closeConnectionAsync(conn, "timed out busy connection");
             e.conn = null;
-            it.remove();
+            // the lease is lost, make room for a new connection
+            m_leasePermits.release();
           }
         }
-        // close timed out busy connections
-        for (Iterator it = m_busyEntries.iterator(); it.hasNext();) {
-          PoolEntry e = (PoolEntry) it.next();
-          if (System.currentTimeMillis() - e.leaseBegin > m_connectionBusyTimeout) {
-            closeConnectionAsync(e.conn, "timed out busy connection");
-            e.conn = null;
-            it.remove();
-          }
+        else if (now - e.createTime > m_connectionLifetime && e.tryLease()) {
+          // close old idle connections
+          discardEntry(e, "expired idle connection");
         }
       }
+      // drop discarded entries from the idle stack
+      m_idleEntries.removeIf(e -> e.conn == null && e.queued.compareAndSet(true, false));
     }
     catch (Exception t) {
       LOG.warn("Unexpected Problem while managing SQL connection pool", t);
@@ -330,7 +431,7 @@ public class SqlConnectionPool {
       return;
     }
 
-    synchronized (m_poolLock) {
+    synchronized (m_destroyLock) {
       if (isDestroyed()) {
         return; // double-checked locking
       }
@@ -341,15 +442,17 @@ public class SqlConnectionPool {
           .andMatchExecutionHint(m_identity)
           .toFilter(), true);
 
-      for (final PoolEntry idleEntry : m_idleEntries) {
-        closeConnectionAsync(idleEntry.conn, "destroying SQL connection pool");
+      for (final PoolEntry entry : m_entries.values()) {
+        closeConnectionAsync(entry.conn, "destroying SQL connection pool");
       }
+      m_entries.clear();
       m_idleEntries.clear();
 
-      for (final PoolEntry busyEntry : m_busyEntries) {
-        closeConnectionAsync(busyEntry.conn, "destroying SQL connection pool");
+      // wake up waiting threads, they fail because the pool is destroyed
+      Semaphore leasePermits = m_leasePermits;
+      if (leasePermits != null) {
+        leasePermits.release(Math.max(m_poolSize, 1));
       }
-      m_busyEntries.clear();
     }
   }
 
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.parsers;
+
+import org.eclipse.scout.rt.server.jdbc.parsers.token.IToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueOutputToken;
+
+/**
+ * Immutable result of {@link IntoParser} and {@link BindParser} for a statement text. The tokens held by this instance
+ * are templates and never handed out directly since tokens carry per-execution state (replace tokens, plain value
+ * flags). Use {@link #createIntoModel()} and {@link #createBindModel()} to get models with fresh token copies.
+ *
+ * @see ParsedStatementCache
+ */
+public class ParsedStatement {
+  private final String m_statement;
+  private final String m_stmWithoutSelectInto;
+  private final ValueOutputToken[] m_intoTokens;
+  private final IToken[] m_bindTokens;
+
+  public ParsedStatement(String stm) {
+    m_statement = stm;
+    IntoModel intoModel = new IntoParser(stm).parse();
+    m_stmWithoutSelectInto = intoModel.getFilteredStatement();
+    m_intoTokens = intoModel.getOutputTokens();
+    m_bindTokens = new BindParser(m_stmWithoutSelectInto).parse().getAllTokens();
+  }
+
+  public String getStatement() {
+    return m_statement;
+  }
+
+  public IntoModel createIntoModel() {
+    ValueOutputToken[] intoTokens = new ValueOutputToken[m_intoTokens.length];
+    for (int i = 0; i < intoTokens.length; i++) {
+      intoTokens[i] = (ValueOutputToken) m_intoTokens[i].copy();
+    }
+    return new IntoModel(m_stmWithoutSelectInto, intoTokens);
+  }
+
+  public BindModel createBindModel() {
+    IToken[] bindTokens = new IToken[m_bindTokens.length];
+    for (int i = 0; i < bindTokens.length; i++) {
+      bindTokens[i] = m_bindTokens[i].copy();
+    }
+    return new BindModel(bindTokens);
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.parsers;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.annotation.PostConstruct;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlParsedStatementCacheSizeProperty;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+
+/**
+ * Bounded, thread-safe cache of {@link ParsedStatement}s keyed by the original statement text. Avoids running
+ * {@link IntoParser} and {@link BindParser} again for statements that are executed repeatedly.
+ * <p>
+ * The size of the cache is configured with {@link SqlParsedStatementCacheSizeProperty}. A size of 0 disables caching.
+ */
+@ApplicationScoped
+public class ParsedStatementCache {
+
+  private static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
+  private static final Attributes HIT_ATTRIBUTES = Attributes.of(RESULT, "hit");
+  private static final Attributes MISS_ATTRIBUTES = Attributes.of(RESULT, "miss");
+
+  private final int m_cacheSize;
+  private final ConcurrentExpiringMap<String, ParsedStatement> m_cache;
+  private final AtomicLong m_hitCount = new AtomicLong();
+  private final AtomicLong m_missCount = new AtomicLong();
+  private LongCounter m_lookups;
+
+  public ParsedStatementCache() {
+    m_cacheSize = CONFIG.getPropertyValue(SqlParsedStatementCacheSizeProperty.class);
+    m_cache = new ConcurrentExpiringMap<>(1L, TimeUnit.HOURS, Math.max(m_cacheSize, 1));
+  }
+
+  @PostConstruct
+  protected void initMetrics() {
+    Meter meter = GlobalOpenTelemetry.get().getMeter(getClass().getName());
+    m_lookups = meter.counterBuilder("scout.sql.parsed_statement_cache.lookups")
+        .setDescription("The number of parsed statement cache lookups, differentiated by hit and miss.")
+        .setUnit("{lookup}")
+        .build();
+  }
+
+  /**
+   * @return the cached {@link ParsedStatement} for the given statement text. The statement is parsed if it is not yet
+   *         cached.
+   */
+  public ParsedStatement get(String stm) {
+    if (m_cacheSize <= 0) {
+      return new ParsedStatement(stm);
+    }
+    ParsedStatement parsedStatement = m_cache.get(stm);
+    if (parsedStatement != null) {
+      recordLookup(true);
+      return parsedStatement;
+    }
+    recordLookup(false);
+    // parse outside of any lock; concurrent misses for the same text produce equal results
+    parsedStatement = new ParsedStatement(stm);
+    ParsedStatement existing = m_cache.putIfAbsent(stm, parsedStatement);
+    return existing != null ? existing : parsedStatement;
+  }
+
+  protected void recordLookup(boolean hit) {
+    if (hit) {
+      m_hitCount.incrementAndGet();
+    }
+    else {
+      m_missCount.incrementAndGet();
+    }
+    if (m_lookups != null) {
+      m_lookups.add(1, hit ? HIT_ATTRIBUTES : MISS_ATTRIBUTES);
+    }
+  }
+
+  public long getHitCount() {
+    return m_hitCount.get();
+  }
+
+  public long getMissCount() {
+    return m_missCount.get();
+  }
+
+  public int size() {
+    return m_cache.size();
+  }
+
+  public void clear() {
+    m_cache.clear();
+  }
+}
@@ -20,4 +20,10 @@ public interface IToken {
   boolean isInput();
 
   boolean isOutput();
+
+  /**
+   * @return a new token with the same parsed content and the same current state. Used to create independent copies
+   *         of cached parse results.
+   */
+  IToken copy();
 }
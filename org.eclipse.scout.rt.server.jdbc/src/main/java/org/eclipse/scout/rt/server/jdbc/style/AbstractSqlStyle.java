@@ -1069,6 +1069,11 @@ public abstract class AbstractSqlStyle implements ISqlStyle {
     return adaptBindName(bindName);
   }
 
+  @Override
+  public boolean isBatchUpdateSupported() {
+    return true;
+  }
+
   @Override
   public void commit() {
   }
@@ -177,6 +177,17 @@ public interface ISqlStyle extends Serializable {
    */
   boolean isLargeString(String s);
 
+  /**
+   * flag signaling whether rows of array and table binds may be sent to the database using
+   * {@link PreparedStatement#addBatch()} and {@link PreparedStatement#executeBatch()}<br />
+   * Note: rows for which the JDBC driver does not report an update count ({@link java.sql.Statement#SUCCESS_NO_INFO})
+   * are counted as one updated row. Return <code>false</code> if exact update counts are required; such statements are
+   * then executed row by row. Defaults to <code>false</code>.
+   */
+  default boolean isBatchUpdateSupported() {
+    return false;
+  }
+
   /*
    * Attribute filters Aggregate SQL code transforming the template code to
    * specific database sql the following methods display an example of an
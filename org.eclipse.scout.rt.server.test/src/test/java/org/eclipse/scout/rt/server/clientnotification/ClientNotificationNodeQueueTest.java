@@ -13,6 +13,7 @@ import static org.junit.Assert.*;
 
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.scout.rt.dataobject.id.NodeId;
 import org.eclipse.scout.rt.platform.context.RunContexts;
@@ -73,6 +74,46 @@ public class ClientNotificationNodeQueueTest {
     assertEquals("test1", notifications.get(0).getNotification());
   }
 
+  @Test
+  public void testAvailableNotificationsAreReturnedWithoutWaiting() {
+    ClientNotificationNodeQueue queue = new ClientNotificationNodeQueue(MAX_TEST_CAPACITY, TimeUnit.SECONDS.toMillis(10));
+    queue.setNodeId(NodeId.of("testNodeId"));
+    queue.put(new ClientNotificationMessage(ClientNotificationAddress.createAllNodesAddress(), "test", true, "cid"));
+    long start = System.nanoTime();
+    List<ClientNotificationMessage> notifications = queue.getNotifications(10, 10, TimeUnit.SECONDS);
+    assertEquals(1, notifications.size());
+    assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+  }
+
+  /**
+   * A steady trickle of notifications must not keep the consumer waiting: the linger time applies once per batch.
+   */
+  @Test
+  public void testLingerOncePerBatch() {
+    ClientNotificationNodeQueue queue = new ClientNotificationNodeQueue(1000, 200);
+    queue.setNodeId(NodeId.of("testNodeId"));
+    AtomicBoolean stop = new AtomicBoolean();
+    IFuture<Void> producer = Jobs.schedule(() -> {
+      ClientNotificationAddress allNodes = ClientNotificationAddress.createAllNodesAddress();
+      for (int i = 0; i < 500 && !stop.get(); i++) {
+        queue.put(new ClientNotificationMessage(allNodes, "test" + i, true, "cid"));
+        Thread.sleep(10);
+      }
+    }, Jobs.newInput()
+        .withRunContext(RunContexts.copyCurrent()));
+    try {
+      long start = System.nanoTime();
+      List<ClientNotificationMessage> notifications = queue.getNotifications(1000, 1, TimeUnit.SECONDS);
+      long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+      assertFalse(notifications.isEmpty());
+      assertTrue("consume took " + durationMillis + "ms", durationMillis < 1000 + 200 + 500);
+    }
+    finally {
+      stop.set(true);
+      producer.awaitDone();
+    }
+  }
+
   private void putTestNotifications(int count) {
     ClientNotificationAddress allNodes = ClientNotificationAddress.createAllNodesAddress();
     for (int i = 0; i < count; i++) {
@@ -11,9 +11,16 @@ package org.eclipse.scout.rt.server.clientnotification;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.scout.rt.dataobject.id.NodeId;
 import org.eclipse.scout.rt.platform.BeanMetaData;
@@ -137,6 +144,53 @@ public class ClientNotificationRegistryTest {
     }
   }
 
+  /**
+   * Measures the end-to-end latency (publish to consume) of notifications for 1k UI nodes.
+   */
+  @Test
+  public void testLatencyForManyNodes() throws InterruptedException {
+    final int nodeCount = 1000;
+    final int notificationCount = 10;
+    ClientNotificationRegistry reg = new ClientNotificationRegistry(TEST_QUEUE_EXPIRE_TIMEOUT);
+    for (int i = 0; i < nodeCount; i++) {
+      reg.registerNode(NodeId.of("node" + i));
+    }
+
+    // consumers wait for the first notification, all nodes are consumed in parallel
+    ExecutorService executor = Executors.newFixedThreadPool(50);
+    try {
+      List<Future<Long>> latencies = new ArrayList<>();
+      AtomicLong publishTime = new AtomicLong();
+      for (int i = 0; i < nodeCount; i++) {
+        NodeId nodeId = NodeId.of("node" + i);
+        latencies.add(executor.submit(() -> {
+          List<ClientNotificationMessage> notifications = new ArrayList<>();
+          while (notifications.size() < notificationCount) {
+            notifications.addAll(reg.consume(nodeId, 100, 10, TimeUnit.SECONDS));
+          }
+          return System.nanoTime() - publishTime.get();
+        }));
+      }
+      publishTime.set(System.nanoTime());
+      for (int i = 0; i < notificationCount; i++) {
+        reg.putForAllNodes(TEST_NOTIFICATION + i, false);
+      }
+
+      long maxLatencyNanos = 0;
+      for (Future<Long> latency : latencies) {
+        maxLatencyNanos = Math.max(maxLatencyNanos, latency.get(30, TimeUnit.SECONDS));
+      }
+      long maxLatencyMillis = TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos);
+      assertTrue("Max. notification latency for " + nodeCount + " nodes was " + maxLatencyMillis + "ms", maxLatencyMillis < 10000);
+    }
+    catch (ExecutionException | TimeoutException e) {
+      throw new AssertionError(e);
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
   @Test
   public void registeredNodeAvailable() {
     ClientNotificationRegistry reg = new ClientNotificationRegistry(TEST_QUEUE_EXPIRE_TIMEOUT);
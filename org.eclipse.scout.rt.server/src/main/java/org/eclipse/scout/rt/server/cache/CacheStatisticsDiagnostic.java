@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IPlatform.State;
+import org.eclipse.scout.rt.platform.IPlatformListener;
+import org.eclipse.scout.rt.platform.PlatformEvent;
+import org.eclipse.scout.rt.platform.cache.CacheStatistics;
+import org.eclipse.scout.rt.platform.cache.ICache;
+import org.eclipse.scout.rt.platform.cache.ICacheRegistryService;
+import org.eclipse.scout.rt.server.admin.diagnostic.DiagnosticFactory;
+import org.eclipse.scout.rt.server.admin.diagnostic.IDiagnostic;
+
+/**
+ * Summarizes the {@link CacheStatistics} of all registered caches in the server admin diagnostics.
+ *
+ * @since 24.1
+ */
+@ApplicationScoped
+public class CacheStatisticsDiagnostic implements IDiagnostic {
+
+  @Override
+  public void addDiagnosticItemToList(List<List<String>> result) {
+    List<CacheStatistics> statisticsList = new ArrayList<>();
+    for (ICache<?, ?> cache : BEANS.get(ICacheRegistryService.class).getAll()) {
+      CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+      if (statistics != null) {
+        statisticsList.add(statistics);
+      }
+    }
+    if (statisticsList.isEmpty()) {
+      return;
+    }
+    statisticsList.sort(Comparator.comparing(CacheStatistics::getCacheId));
+
+    DiagnosticFactory.addDiagnosticItemToList(result, "Cache Statistics", "", DiagnosticFactory.STATUS_TITLE);
+    for (CacheStatistics statistics : statisticsList) {
+      ICache<?, ?> cache = BEANS.get(ICacheRegistryService.class).opt(statistics.getCacheId());
+      int size = cache != null ? cache.getUnmodifiableMap().size() : 0;
+      DiagnosticFactory.addDiagnosticItemToList(result, statistics.getCacheId(), formatStatistics(statistics, size), DiagnosticFactory.STATUS_INFO);
+    }
+  }
+
+  protected String formatStatistics(CacheStatistics statistics, int size) {
+    return String.format("size: %d, hit ratio: %.1f%% (%d hits, %d misses), resolves: %d (failed: %d, avg: %.2f ms), evictions: %d, invalidations: %d local / %d cluster",
+        size,
+        statistics.getHitRatio() * 100d,
+        statistics.getHitCount(),
+        statistics.getMissCount(),
+        statistics.getResolveCount(),
+        statistics.getResolveFailureCount(),
+        statistics.getAverageResolveMillis(),
+        statistics.getEvictionCount(),
+        statistics.getLocalInvalidationCount(),
+        statistics.getClusterInvalidationCount());
+  }
+
+  @Override
+  public String[] getPossibleActions() {
+    return null;
+  }
+
+  @Override
+  public void addSubmitButtonsHTML(List<List<String>> result) {
+    // provides no diagnostics actions
+  }
+
+  @Override
+  public void call(String action, Object[] values) {
+    // provides no diagnostics actions
+  }
+
+  /**
+   * {@link IPlatformListener} to add the cache statistics to the diagnostics upon platform start.
+   */
+  public static class PlatformListener implements IPlatformListener {
+
+    @Override
+    public void stateChanged(PlatformEvent event) {
+      if (event.getState() == State.PlatformStarted) {
+        DiagnosticFactory.addDiagnosticStatusProvider(BEANS.get(CacheStatisticsDiagnostic.class));
+      }
+      else if (event.getState() == State.PlatformStopping) {
+        DiagnosticFactory.removeDiagnosticStatusProvider(BEANS.get(CacheStatisticsDiagnostic.class));
+      }
+    }
+  }
+}
@@ -14,7 +14,6 @@ import static java.util.stream.Collectors.toList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.concurrent.BlockingDeque;
@@ -32,6 +31,7 @@ import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.FinalValue;
 import org.eclipse.scout.rt.platform.util.date.DateUtility;
 import org.eclipse.scout.rt.server.clientnotification.ClientNotificationProperties.NodeQueueCapacity;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationProperties.NotificationBatchLingerTime;
 import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
 import org.eclipse.scout.rt.shared.clientnotification.IClientNotificationAddress;
 import org.slf4j.Logger;
@@ -47,6 +47,7 @@ public class ClientNotificationNodeQueue {
   private final FinalValue<NodeId> m_nodeId = new FinalValue<>();
 
   private final int m_capacity;
+  private final long m_lingerTime;
   private final BlockingDeque<ClientNotificationMessage> m_notifications;
   private final AtomicLong m_lastConsumeAccess;
 
@@ -55,7 +56,16 @@ public class ClientNotificationNodeQueue {
   }
 
   public ClientNotificationNodeQueue(int capacity) {
+    this(capacity, CONFIG.getPropertyValue(NotificationBatchLingerTime.class));
+  }
+
+  /**
+   * @param lingerTime
+   *          time in milliseconds to wait for further notifications once the first one of a batch arrived
+   */
+  public ClientNotificationNodeQueue(int capacity, long lingerTime) {
     m_capacity = capacity;
+    m_lingerTime = lingerTime;
     m_notifications = new LinkedBlockingDeque<>(capacity);
     m_lastConsumeAccess = new AtomicLong(System.currentTimeMillis());
   }
@@ -75,6 +85,13 @@ public class ClientNotificationNodeQueue {
     return m_capacity;
   }
 
+  /**
+   * @return time in milliseconds a consumer waits for further notifications once the first one of a batch arrived
+   */
+  public long getLingerTime() {
+    return m_lingerTime;
+  }
+
   public void put(ClientNotificationMessage notification) {
     put(CollectionUtility.arrayList(notification));
   }
@@ -143,23 +160,39 @@ public class ClientNotificationNodeQueue {
     return result;
   }
 
+  /**
+   * Returns the available notifications without waiting. If there are none, waits at most the given time for the first
+   * notification and then at most the linger time (see {@link #getLingerTime()}) for further notifications of the same
+   * batch.
+   */
   protected List<ClientNotificationMessage> getNotifications(int maxAmount, long maxWaitTime, TimeUnit unit) {
-    List<ClientNotificationMessage> collected = new LinkedList<>();
+    List<ClientNotificationMessage> collected = new ArrayList<>();
+    m_notifications.drainTo(collected, maxAmount);
+    if (!collected.isEmpty()) {
+      return collected;
+    }
     try {
       //blocking wait to get first message
-      ClientNotificationMessage next = m_notifications.poll(maxWaitTime, unit);
-      if (next != null) {
-        collected.add(next);
+      ClientNotificationMessage first = m_notifications.poll(maxWaitTime, unit);
+      if (first == null) {
+        return collected;
       }
-
-      //add more available notifications
-      //with short wait timeout to not go back with one notification when some are about to pop up.
-      int timeout = 234; // 0 for no reschedule
-      while (next != null && collected.size() < maxAmount) {
-        next = m_notifications.poll(timeout, TimeUnit.MILLISECONDS);
-        if (next != null) {
-          collected.add(next);
+      collected.add(first);
+      m_notifications.drainTo(collected, maxAmount - collected.size());
+
+      //linger once per batch to not go back with one notification when some are about to pop up
+      long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(m_lingerTime);
+      while (collected.size() < maxAmount) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+          break;
+        }
+        ClientNotificationMessage next = m_notifications.poll(remaining, TimeUnit.NANOSECONDS);
+        if (next == null) {
+          break;
         }
+        collected.add(next);
+        m_notifications.drainTo(collected, maxAmount - collected.size());
       }
     }
     catch (InterruptedException e) {
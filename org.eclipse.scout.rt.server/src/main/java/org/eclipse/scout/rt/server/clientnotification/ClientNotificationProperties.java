@@ -92,4 +92,23 @@ public final class ClientNotificationProperties {
       return "scout.clientnotification.notificationQueueExpireTime";
     }
   }
+
+  public static class NotificationBatchLingerTime extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 50;
+    }
+
+    @Override
+    public String description() {
+      return "Once a consumer received a first notification after waiting, it waits at most this number of milliseconds for further notifications before it returns the batch.\n"
+          + "The window is applied once per batch, not per notification. 0 returns the available notifications immediately. The default value is 50 milliseconds.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.clientnotification.batchLingerTime";
+    }
+  }
 }
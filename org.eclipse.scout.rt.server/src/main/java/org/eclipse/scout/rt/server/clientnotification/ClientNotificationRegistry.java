@@ -12,13 +12,12 @@ package org.eclipse.scout.rt.server.clientnotification;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.dataobject.id.NodeId;
@@ -46,7 +45,7 @@ import org.slf4j.LoggerFactory;
 @ApplicationScoped
 public class ClientNotificationRegistry {
   private static final Logger LOG = LoggerFactory.getLogger(ClientNotificationRegistry.class);
-  private final Map<NodeId, ClientNotificationNodeQueue> m_notificationQueues = new HashMap<>();
+  private final ConcurrentMap<NodeId, ClientNotificationNodeQueue> m_notificationQueues = new ConcurrentHashMap<>();
 
   /**
    * If no message is consumed for a certain amount of time [ms], queues are removed to avoid overflows. This may
@@ -73,10 +72,8 @@ public class ClientNotificationRegistry {
    * This method should only be accessed from {@link ClientNotificationService}
    */
   protected void unregisterNode(NodeId nodeId) {
-    synchronized (m_notificationQueues) {
-      LOG.info("Removing queue of unregistered node [clientNodeId={}]", nodeId);
-      m_notificationQueues.remove(nodeId);
-    }
+    LOG.info("Removing queue of unregistered node [clientNodeId={}]", nodeId);
+    m_notificationQueues.remove(nodeId);
   }
 
   /**
@@ -96,9 +93,11 @@ public class ClientNotificationRegistry {
 
   protected ClientNotificationNodeQueue getOrCreateQueue(NodeId nodeId) {
     Assertions.assertNotNull(nodeId);
-    synchronized (m_notificationQueues) {
-      return m_notificationQueues.computeIfAbsent(nodeId, this::createNewQueue);
+    ClientNotificationNodeQueue queue = m_notificationQueues.get(nodeId);
+    if (queue != null) {
+      return queue;
     }
+    return m_notificationQueues.computeIfAbsent(nodeId, this::createNewQueue);
   }
 
   protected ClientNotificationNodeQueue createNewQueue(NodeId nodeId) {
@@ -111,9 +110,7 @@ public class ClientNotificationRegistry {
    * Nodes that have been registered with {@link #registerNode(NodeId)}
    */
   public Set<NodeId> getRegisteredNodeIds() {
-    synchronized (m_notificationQueues) {
-      return new HashSet<>(m_notificationQueues.keySet());
-    }
+    return new HashSet<>(m_notificationQueues.keySet());
   }
 
   // put methods
@@ -216,21 +213,19 @@ public class ClientNotificationRegistry {
 
   /**
    * Publish without triggering cluster notification
+   * <p>
+   * Publishing does not block other publishers or consumers: the queues are iterated without a global lock, each queue
+   * synchronizes on its own.
    *
    * @param excludedUiNodeId
    *          may be <code>null</code>
    */
   public void publishWithoutClusterNotification(Collection<? extends ClientNotificationMessage> messages, NodeId excludedUiNodeId) {
-    synchronized (m_notificationQueues) {
-      Iterator<ClientNotificationNodeQueue> iter = m_notificationQueues.values().iterator();
-      while (iter.hasNext()) {
-        ClientNotificationNodeQueue queue = iter.next();
-        if (!queue.getNodeId().equals(excludedUiNodeId)) {
-          queue.put(messages);
-          if (isQueueExpired(queue)) {
-            LOG.info("Removing expired queue [clientNodeId={}, lastConsumeAccess={}]", queue.getNodeId(), queue.getLastConsumeAccessFormatted());
-            iter.remove();
-          }
+    for (ClientNotificationNodeQueue queue : m_notificationQueues.values()) {
+      if (!queue.getNodeId().equals(excludedUiNodeId)) {
+        queue.put(messages);
+        if (isQueueExpired(queue) && m_notificationQueues.remove(queue.getNodeId(), queue)) {
+          LOG.info("Removing expired queue [clientNodeId={}, lastConsumeAccess={}]", queue.getNodeId(), queue.getLastConsumeAccessFormatted());
         }
       }
     }
@@ -21,8 +21,8 @@ import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.chain.callable.CallableChain;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
-import org.eclipse.scout.rt.platform.logger.DiagnosticContextValueProcessor;
 import org.eclipse.scout.rt.platform.logger.DiagnosticContextValueProcessor.IDiagnosticContextValueProvider;
+import org.eclipse.scout.rt.platform.logger.DiagnosticContextValueProcessorCache;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.platform.transaction.ITransactionMember;
 import org.eclipse.scout.rt.platform.transaction.TransactionScope;
@@ -60,10 +60,11 @@ public class ServerRunContext extends RunContext {
 
   @Override
   protected <RESULT> void interceptCallableChain(final CallableChain<RESULT> callableChain) {
+    final DiagnosticContextValueProcessorCache diagnosticProcessors = BEANS.get(DiagnosticContextValueProcessorCache.class);
     callableChain
         .add(new ThreadLocalProcessor<>(ISession.CURRENT, m_session))
-        .add(new DiagnosticContextValueProcessor(BEANS.get(UserIdContextValueProvider.class)))
-        .add(new DiagnosticContextValueProcessor(BEANS.get(ScoutSessionIdContextValueProvider.class)))
+        .add(diagnosticProcessors.get(UserIdContextValueProvider.class))
+        .add(diagnosticProcessors.get(ScoutSessionIdContextValueProvider.class))
         .add(new ThreadLocalProcessor<>(UserAgent.CURRENT, m_userAgent))
         .add(new ThreadLocalProcessor<>(IClientNodeId.CURRENT, m_clientNodeId))
         .add(new ThreadLocalProcessor<>(ClientNotificationCollector.CURRENT, m_clientNotificationCollector));
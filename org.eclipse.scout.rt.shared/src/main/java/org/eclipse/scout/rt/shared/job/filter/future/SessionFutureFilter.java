@@ -9,10 +9,13 @@
  */
 package org.eclipse.scout.rt.shared.job.filter.future;
 
-import java.util.function.Predicate;
+import java.util.Collections;
+import java.util.Set;
 
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.filter.future.FutureIndexKey;
+import org.eclipse.scout.rt.platform.job.filter.future.IIndexedFutureFilter;
 import org.eclipse.scout.rt.platform.util.IAdaptable;
 import org.eclipse.scout.rt.shared.ISession;
 
@@ -21,7 +24,7 @@ import org.eclipse.scout.rt.shared.ISession;
  *
  * @since 5.2
  */
-public class SessionFutureFilter implements Predicate<IFuture<?>>, IAdaptable {
+public class SessionFutureFilter implements IIndexedFutureFilter, IAdaptable {
 
   private final ISession m_session;
 
@@ -44,6 +47,11 @@ public class SessionFutureFilter implements Predicate<IFuture<?>>, IAdaptable {
     return m_session == session;
   }
 
+  @Override
+  public Set<FutureIndexKey> getIndexKeys() {
+    return Collections.singleton(SessionFutureIndexKeyContributor.indexKey(m_session));
+  }
+
   @SuppressWarnings("unchecked")
   @Override
   public <T> T getAdapter(final Class<T> type) {
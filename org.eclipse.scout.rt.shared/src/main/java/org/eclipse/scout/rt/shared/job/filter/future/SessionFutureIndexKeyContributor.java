@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.job.filter.future;
+
+import java.util.Collection;
+
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.filter.future.FutureIndexKey;
+import org.eclipse.scout.rt.platform.job.filter.future.IFutureIndexKeyContributor;
+import org.eclipse.scout.rt.shared.ISession;
+
+/**
+ * Indexes Futures by the {@link ISession} set in their running context, so that {@link SessionFutureFilter} does not
+ * need to scan all Futures.
+ *
+ * @since 24.1
+ */
+public class SessionFutureIndexKeyContributor implements IFutureIndexKeyContributor {
+
+  @Override
+  public void contributeIndexKeys(final IFuture<?> future, final Collection<FutureIndexKey> keys) {
+    final RunContext runContext = future.getJobInput().getRunContext();
+    if (runContext == null) {
+      return;
+    }
+
+    final ISession session = runContext.getAdapter(ISession.class);
+    if (session != null) {
+      keys.add(indexKey(session));
+    }
+  }
+
+  /**
+   * @return the key under which Futures running on behalf of the given session are indexed.
+   */
+  public static FutureIndexKey indexKey(final ISession session) {
+    return FutureIndexKey.of(ISession.class, session);
+  }
+}
@@ -9,14 +9,21 @@
  */
 package org.eclipse.scout.rt.ui.html;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
+import org.eclipse.scout.rt.ui.html.json.JsonResponse;
+import org.eclipse.scout.rt.ui.html.json.SerializedJsonObject;
+import org.json.JSONArray;
 import org.json.JSONObject;
 import org.junit.Test;
 
@@ -150,4 +157,80 @@ public class ResponseHistoryTest {
     history.registerResponse(1L, new JSONObject(), 2L);
     history.registerResponse(1L, new JSONObject(), 3L); // response sequence no. already registered
   }
+
+  @Test
+  public void testCompression() {
+    ResponseHistory history = new ResponseHistory().withCompressionEnabled(true);
+    history.registerResponse(7L, createResponse("a", 100), 1L);
+    history.registerResponse(8L, createResponse("b", 100), 2L);
+    assertEquals(2, history.size());
+    assertTrue(history.getCompressedSize() > 0);
+
+    JSONObject resp = history.getResponseForRequest(1L);
+    assertNotNull(resp);
+    assertEquals(100, resp.getJSONArray(JsonResponse.PROP_EVENTS).length());
+    assertEquals("a0", resp.getJSONArray(JsonResponse.PROP_EVENTS).getJSONObject(0).getString("target"));
+
+    JSONObject syncResponse = history.toSyncResponse();
+    assertEquals(200, syncResponse.getJSONArray(JsonResponse.PROP_EVENTS).length());
+    assertEquals(2, syncResponse.getJSONObject(JsonResponse.PROP_ADAPTER_DATA).length());
+
+    history.confirmResponseProcessed(8L);
+    assertEquals(0, history.size());
+    assertEquals(0, history.getCompressedSize());
+  }
+
+  @Test
+  public void testMaxCompressedSize() {
+    ResponseHistory history = new ResponseHistory().withCompressionEnabled(true);
+    history.registerResponse(1L, createResponse("a", 1000), null);
+    long size = history.getCompressedSize();
+    history.withMaxCompressedSize(size * 2);
+
+    history.registerResponse(2L, createResponse("a", 1000), null);
+    assertEquals(2, history.size());
+
+    // oldest response is dropped
+    history.registerResponse(3L, createResponse("a", 1000), null);
+    assertEquals(2, history.size());
+    assertNull(history.getResponse(1L));
+    assertNotNull(history.getResponse(3L));
+
+    // most recent response is always kept
+    history.withMaxCompressedSize(1);
+    history.registerResponse(4L, createResponse("a", 1000), null);
+    assertEquals(1, history.size());
+    assertNotNull(history.getResponse(4L));
+  }
+
+  @Test
+  public void testCompressionReturnsSerializedResponse() {
+    ResponseHistory history = new ResponseHistory();
+    JSONObject resp1 = createResponse("a", 10);
+    assertSame(resp1, history.registerResponse(1L, resp1, null));
+
+    history = new ResponseHistory().withCompressionEnabled(true);
+    JSONObject resp2 = createResponse("b", 10);
+    JSONObject responseToSend = history.registerResponse(1L, resp2, null);
+    assertTrue(responseToSend instanceof SerializedJsonObject);
+    assertArrayEquals(resp2.toString().getBytes(StandardCharsets.UTF_8), ((SerializedJsonObject) responseToSend).getUtf8());
+    assertEquals(resp2.toString(), responseToSend.toString());
+    assertSame(resp2.get(JsonResponse.PROP_EVENTS), responseToSend.get(JsonResponse.PROP_EVENTS));
+  }
+
+  protected JSONObject createResponse(String adapterId, int eventCount) {
+    JSONArray events = new JSONArray();
+    for (int i = 0; i < eventCount; i++) {
+      JSONObject event = new JSONObject();
+      event.put("target", adapterId + i);
+      event.put("type", "property");
+      events.put(event);
+    }
+    JSONObject adapterData = new JSONObject();
+    adapterData.put(adapterId, new JSONObject().put("objectType", "Table"));
+    JSONObject response = new JSONObject();
+    response.put(JsonResponse.PROP_EVENTS, events);
+    response.put(JsonResponse.PROP_ADAPTER_DATA, adapterData);
+    return response;
+  }
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.server.commons.BufferedServletOutputStream;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JsonResponseWriter}.
+ */
+public class JsonResponseWriterTest {
+
+  private HttpServletResponse m_response;
+  private BufferedServletOutputStream m_out;
+
+  @Before
+  public void before() throws IOException {
+    m_out = new BufferedServletOutputStream();
+    m_response = mock(HttpServletResponse.class);
+    when(m_response.getOutputStream()).thenReturn(m_out);
+  }
+
+  @Test
+  public void testSmallResponseHasContentLength() throws IOException {
+    JSONObject json = new JSONObject().put("text", "Gr\u00fcezi \u20ac \ud83d\ude00");
+    JsonResponseWriter writer = new JsonResponseWriter(m_response, new byte[1024], false, 0);
+    json.write(writer);
+    writer.close();
+
+    byte[] expected = json.toString().getBytes(StandardCharsets.UTF_8);
+    assertArrayEquals(expected, m_out.getContent());
+    verify(m_response).setContentLength(expected.length);
+  }
+
+  @Test
+  public void testLargeResponseIsStreamed() throws IOException {
+    JSONObject json = createLargeJson();
+    JsonResponseWriter writer = new JsonResponseWriter(m_response, new byte[64], false, 0);
+    json.write(writer);
+    writer.close();
+
+    assertEquals(json.toString(), new String(m_out.getContent(), StandardCharsets.UTF_8));
+    verify(m_response, never()).setContentLength(anyInt());
+    verify(m_response, never()).setHeader(eq(GzipServletFilter.VARY), anyString());
+  }
+
+  @Test
+  public void testFirstBufferIsNotCommitted() throws IOException {
+    JsonResponseWriter writer = new JsonResponseWriter(m_response, new byte[256], true, 100);
+    new JSONObject().put("pong", true).write(writer);
+    writer.flush();
+
+    verify(m_response, never()).getOutputStream();
+    verify(m_response, never()).setHeader(anyString(), anyString());
+    verify(m_response, never()).setContentLength(anyInt());
+  }
+
+  @Test
+  public void testEncodingErrorDoesNotCommitResponse() throws IOException {
+    JSONArray rows = createLargeJson().getJSONArray("rows");
+    rows.put(new Object() {
+      @Override
+      public String toString() {
+        throw new IllegalStateException("not serializable");
+      }
+    });
+    JSONObject json = new JSONObject().put("rows", rows);
+    JsonResponseWriter writer = new JsonResponseWriter(m_response, new byte[64 * 1024], false, 0);
+    assertThrows(IllegalStateException.class, () -> json.write(writer));
+
+    verify(m_response, never()).getOutputStream();
+    verify(m_response, never()).setContentLength(anyInt());
+    assertEquals(0, m_out.getContent().length);
+  }
+
+  @Test
+  public void testGzip() throws IOException {
+    JSONObject json = createLargeJson();
+    JsonResponseWriter writer = new JsonResponseWriter(m_response, new byte[256], true, 100);
+    json.write(writer);
+    writer.close();
+
+    assertTrue(writer.isGzipped());
+    verify(m_response).setHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+    verify(m_response).setHeader(GzipServletFilter.VARY, GzipServletFilter.ACCEPT_ENCODING);
+    verify(m_response, never()).setContentLength(anyInt());
+    byte[] uncompressed = IOUtility.readBytes(new GZIPInputStream(new ByteArrayInputStream(m_out.getContent())));
+    assertEquals(json.toString(), new String(uncompressed, StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testGzipBelowMinSize() throws IOException {
+    JSONObject json = new JSONObject().put("pong", true);
+    JsonResponseWriter writer = new JsonResponseWriter(m_response, new byte[256], true, 100);
+    json.write(writer);
+    writer.close();
+
+    assertFalse(writer.isGzipped());
+    verify(m_response, never()).setHeader(eq(GzipServletFilter.CONTENT_ENCODING), anyString());
+    verify(m_response).setHeader(GzipServletFilter.VARY, GzipServletFilter.ACCEPT_ENCODING);
+    assertEquals(json.toString(), new String(m_out.getContent(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testSerializedJsonObject() throws IOException {
+    JSONObject json = createLargeJson();
+    byte[] utf8 = json.toString().getBytes(StandardCharsets.UTF_8);
+    JsonResponseWriter writer = new JsonResponseWriter(m_response, new byte[64], false, 0);
+    new SerializedJsonObject(json, utf8).write(writer);
+    writer.close();
+
+    assertArrayEquals(utf8, m_out.getContent());
+    verify(m_response, never()).setContentLength(anyInt());
+  }
+
+  protected JSONObject createLargeJson() {
+    JSONArray rows = new JSONArray();
+    for (int i = 0; i < 200; i++) {
+      rows.put(new JSONObject().put("id", i).put("text", "Zeile " + i + " \u00e4\u00f6\u00fc \ud83d\ude00"));
+    }
+    return new JSONObject().put("rows", rows);
+  }
+}
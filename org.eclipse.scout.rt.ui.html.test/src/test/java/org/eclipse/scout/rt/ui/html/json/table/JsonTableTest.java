@@ -29,14 +29,19 @@ import org.eclipse.scout.rt.client.ui.basic.table.TableEvent;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
 import org.eclipse.scout.rt.client.ui.basic.table.userfilter.UserTableRowFilter;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
 import org.eclipse.scout.rt.shared.services.lookup.LookupRow;
 import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
 import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
 import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
 import org.eclipse.scout.rt.testing.shared.TestingUtility;
 import org.eclipse.scout.rt.ui.html.UiException;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.TableLazyRowTransferThresholdProperty;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.TableLazyRowTransferWindowSizeProperty;
 import org.eclipse.scout.rt.ui.html.UiSessionTestUtility;
 import org.eclipse.scout.rt.ui.html.json.IJsonAdapter;
 import org.eclipse.scout.rt.ui.html.json.JsonEvent;
@@ -1621,6 +1626,99 @@ public class JsonTableTest {
         .anyMatch(p -> "columnStructureChanged".equals(p.getType())));
   }
 
+  /**
+   * Rows beyond the window are sent as placeholders and their cells are sent when the UI requests them.
+   */
+  @Test
+  public void testLazyRowTransfer() throws JSONException {
+    BeanTestingHelper testingHelper = BEANS.get(BeanTestingHelper.class);
+    List<IBean<?>> mocked = new ArrayList<>();
+    mocked.add(testingHelper.mockConfigProperty(TableLazyRowTransferThresholdProperty.class, 10));
+    mocked.add(testingHelper.mockConfigProperty(TableLazyRowTransferWindowSizeProperty.class, 3));
+    try {
+      Table table = createTableFixture(20);
+      JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+      JSONArray jsonRows = jsonTable.toJson().getJSONArray(JsonTable.PROP_ROWS);
+      assertEquals(20, jsonRows.length());
+      for (int i = 0; i < jsonRows.length(); i++) {
+        JSONObject jsonRow = jsonRows.getJSONObject(i);
+        assertEquals(jsonTable.getTableRowId(table.getRow(i)), jsonRow.getString("id"));
+        assertEquals(i >= 3, jsonRow.optBoolean("lazy"));
+        assertEquals(i < 3, jsonRow.has("cells"));
+      }
+
+      // cells are only sent for placeholder rows
+      JSONArray rowIds = new JSONArray();
+      rowIds.put(jsonTable.getTableRowId(table.getRow(0)));
+      rowIds.put(jsonTable.getTableRowId(table.getRow(5)));
+      rowIds.put(jsonTable.getTableRowId(table.getRow(6)));
+      JSONObject data = new JSONObject();
+      data.put(JsonTable.PROP_ROW_IDS, rowIds);
+      jsonTable.handleUiEvent(new JsonEvent(jsonTable.getId(), JsonTable.EVENT_ROWS_REQUESTED, data));
+
+      List<JsonEvent> responseEvents = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_UPDATED);
+      assertEquals(1, responseEvents.size());
+      JSONArray updatedRows = responseEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROWS);
+      assertEquals(2, updatedRows.length());
+      assertEquals(jsonTable.getTableRowId(table.getRow(5)), updatedRows.getJSONObject(0).getString("id"));
+      assertTrue(updatedRows.getJSONObject(0).has("cells"));
+      assertFalse(updatedRows.getJSONObject(0).has("lazy"));
+
+      // rows already sent are not sent again
+      JsonTestUtility.endRequest(m_uiSession);
+      jsonTable.handleUiEvent(new JsonEvent(jsonTable.getId(), JsonTable.EVENT_ROWS_REQUESTED, data));
+      assertEquals(0, JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_UPDATED).size());
+    }
+    finally {
+      testingHelper.unregisterBeans(mocked);
+    }
+  }
+
+  /**
+   * The threshold applies to the total number of rows of the table, not to the number of inserted rows.
+   */
+  @Test
+  public void testLazyRowTransferOnInsert() throws JSONException {
+    BeanTestingHelper testingHelper = BEANS.get(BeanTestingHelper.class);
+    List<IBean<?>> mocked = new ArrayList<>();
+    mocked.add(testingHelper.mockConfigProperty(TableLazyRowTransferThresholdProperty.class, 10));
+    mocked.add(testingHelper.mockConfigProperty(TableLazyRowTransferWindowSizeProperty.class, 3));
+    try {
+      Table table = createTableFixture(8);
+      JsonTable<ITable> jsonTable = UiSessionTestUtility.newJsonAdapter(m_uiSession, table);
+      JsonTestUtility.endRequest(m_uiSession);
+
+      List<ITableRow> rows = new ArrayList<>();
+      for (int i = 0; i < 5; i++) {
+        rows.add(table.createRow(new Object[]{"newrow" + i}));
+      }
+      table.addRows(rows);
+
+      JsonResponse response = m_uiSession.currentJsonResponse();
+      response.fireProcessBufferedEvents();
+      List<JsonEvent> responseEvents = JsonTestUtility.extractEventsFromResponse(response, JsonTable.EVENT_ROWS_INSERTED);
+      assertEquals(1, responseEvents.size());
+      JSONArray jsonRows = responseEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROWS);
+      assertEquals(5, jsonRows.length());
+      for (int i = 0; i < jsonRows.length(); i++) {
+        assertEquals(i >= 3, jsonRows.getJSONObject(i).optBoolean("lazy"));
+      }
+    }
+    finally {
+      testingHelper.unregisterBeans(mocked);
+    }
+  }
+
+  @Test
+  public void testLazyRowTransferDisabledByDefault() throws JSONException {
+    Table table = createTableFixture(20);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    JSONArray jsonRows = jsonTable.toJson().getJSONArray(JsonTable.PROP_ROWS);
+    for (int i = 0; i < jsonRows.length(); i++) {
+      assertTrue(jsonRows.getJSONObject(i).has("cells"));
+    }
+  }
+
   public static Table createTableFixture(int numRows) {
     Table table = new Table();
     table.fill(numRows);
@@ -9,17 +9,32 @@
  */
 package org.eclipse.scout.rt.ui.html;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
 
 import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.ResponseHistoryCompressionEnabledProperty;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.ResponseHistoryMaxSizeProperty;
 import org.eclipse.scout.rt.ui.html.json.JsonResponse;
+import org.eclipse.scout.rt.ui.html.json.SerializedJsonObject;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.slf4j.Logger;
@@ -29,6 +44,13 @@ import org.slf4j.LoggerFactory;
  * Collects JSON responses and their corresponding <i>request sequence number</i> and <i>response sequence number</i>
  * until they are acknowledged by the client. A maximum of 10 responses is stored in the history.
  * <p>
+ * If compression is enabled (see {@link ResponseHistoryCompressionEnabledProperty}), each response is serialized and
+ * compressed once when it is registered, and the history holds the compressed bytes instead of the JSON object tree.
+ * The serialized bytes are returned as {@link SerializedJsonObject} and sent to the client without encoding the
+ * response again.
+ * The total size of the compressed responses is limited (see {@link ResponseHistoryMaxSizeProperty}). The JSON objects
+ * are only restored if a response has to be sent again.
+ * <p>
  * This class is thread-safe.
  */
 @Bean
@@ -41,9 +63,12 @@ public class ResponseHistory {
 
   private final Map<Long, Long> m_requestToResponseMap = new HashMap<>(); // RequestSequenceNo -> ResponseSequenceNo
   private final Map<Long, Long> m_responseToRequestMap = new HashMap<>(); // ResponseSequenceNo -> RequestSequenceNo
-  private final SortedMap<Long, JSONObject> m_responses = new TreeMap<>(); // ResponseSequenceNo -> Response
+  private final SortedMap<Long, Object> m_responses = new TreeMap<>(); // ResponseSequenceNo -> Response (JSONObject or compressed byte[])
 
   private UiSession m_uiSession;
+  private boolean m_compressionEnabled;
+  private long m_maxCompressedSize = Long.MAX_VALUE;
+  private long m_compressedSize;
 
   public UiSession getUiSession() {
     return m_uiSession;
@@ -54,6 +79,30 @@ public class ResponseHistory {
     return this;
   }
 
+  /**
+   * @param compressionEnabled
+   *          <code>true</code> to store the responses compressed instead of as JSON objects
+   */
+  public ResponseHistory withCompressionEnabled(boolean compressionEnabled) {
+    synchronized (m_mutex) {
+      Assertions.assertTrue(m_responses.isEmpty(), "Compression cannot be changed after responses were registered");
+      m_compressionEnabled = compressionEnabled;
+    }
+    return this;
+  }
+
+  /**
+   * @param maxCompressedSize
+   *          maximum number of bytes of all compressed responses. The oldest responses are dropped if the size is
+   *          exceeded, the most recent response is always kept.
+   */
+  public ResponseHistory withMaxCompressedSize(long maxCompressedSize) {
+    synchronized (m_mutex) {
+      m_maxCompressedSize = maxCompressedSize;
+    }
+    return this;
+  }
+
   protected String getUiSessionId() {
     return (m_uiSession == null ? null : m_uiSession.getUiSessionId());
   }
@@ -71,10 +120,12 @@ public class ResponseHistory {
    *          The <u>response</u> to remember <i>(mandatory)</i>
    * @param requestSequenceNo
    *          The sequence number of the <u>request</u> that caused the response <i>(optional)</i>
+   * @return the response to send to the client. If compression is enabled, this is a {@link SerializedJsonObject}
+   *         which shares the serialized bytes with the history, otherwise the given response.
    * @throws AssertionException
    *           if mandatory arguments are <code>null</code>
    */
-  public void registerResponse(Long responseSequenceNo, JSONObject response, Long requestSequenceNo) {
+  public JSONObject registerResponse(Long responseSequenceNo, JSONObject response, Long requestSequenceNo) {
     Assertions.assertNotNull(responseSequenceNo);
     Assertions.assertNotNull(response);
 
@@ -85,7 +136,17 @@ public class ResponseHistory {
         Assertions.assertFalse(m_responseToRequestMap.containsKey(responseSequenceNo), "ResponseSequenceNo #{} already registered", responseSequenceNo);
       }
 
-      m_responses.put(responseSequenceNo, response);
+      JSONObject responseToSend = response;
+      if (m_compressionEnabled) {
+        byte[] serializedResponse = serialize(response);
+        byte[] compressedResponse = compress(serializedResponse);
+        m_responses.put(responseSequenceNo, compressedResponse);
+        m_compressedSize += compressedResponse.length;
+        responseToSend = new SerializedJsonObject(response, serializedResponse);
+      }
+      else {
+        m_responses.put(responseSequenceNo, response);
+      }
       if (requestSequenceNo != null) { // optional
         m_requestToResponseMap.put(requestSequenceNo, responseSequenceNo);
         m_responseToRequestMap.put(responseSequenceNo, requestSequenceNo);
@@ -95,9 +156,15 @@ public class ResponseHistory {
         // Remove oldest entry to free up memory (protection against malicious clients that send no or wrong #ACKs)
         Long oldestSeqNo = m_responses.firstKey();
         LOG.warn("Max. response history size exceeded for UI session {}, dropping oldest response #{}", getUiSessionId(), oldestSeqNo);
-        m_responses.remove(oldestSeqNo);
+        removeResponse(oldestSeqNo);
+      }
+      while (m_compressedSize > m_maxCompressedSize && m_responses.size() > 1) {
+        Long oldestSeqNo = m_responses.firstKey();
+        LOG.warn("Max. compressed response history size exceeded for UI session {}, dropping oldest response #{}", getUiSessionId(), oldestSeqNo);
+        removeResponse(oldestSeqNo);
       }
       LOG.debug("Added response #{} to history {} for UI session {}", responseSequenceNo, m_responses.keySet(), getUiSessionId());
+      return responseToSend;
     }
   }
 
@@ -114,12 +181,14 @@ public class ResponseHistory {
 
     synchronized (m_mutex) {
       int removeCount = 0;
-      for (Iterator<Long> it = m_responses.keySet().iterator(); it.hasNext();) {
-        Long responseSequenceNo = it.next();
+      for (Iterator<Entry<Long, Object>> it = m_responses.entrySet().iterator(); it.hasNext();) {
+        Entry<Long, Object> entry = it.next();
+        Long responseSequenceNo = entry.getKey();
         if (responseSequenceNo <= confirmedResponseSequenceNo) {
           Long requestSequenceNo = m_responseToRequestMap.get(responseSequenceNo);
           m_requestToResponseMap.remove(requestSequenceNo);
           m_responseToRequestMap.remove(responseSequenceNo);
+          m_compressedSize -= getCompressedSize(entry.getValue());
           it.remove();
           removeCount++;
         }
@@ -141,7 +210,8 @@ public class ResponseHistory {
       Long lastSentSequenceNo = m_responses.lastKey();
       JSONObject combinedAdapterData = new JSONObject();
       JSONArray combinedEvents = new JSONArray();
-      for (JSONObject response : m_responses.values()) {
+      for (Object storedResponse : m_responses.values()) {
+        JSONObject response = toJson(storedResponse);
         // combine adapterData
         JSONObject adapterData = response.optJSONObject(JsonResponse.PROP_ADAPTER_DATA);
         if (adapterData != null) {
@@ -203,7 +273,7 @@ public class ResponseHistory {
       return null;
     }
     synchronized (m_mutex) {
-      return m_responses.get(responseSequenceNo);
+      return toJson(m_responses.get(responseSequenceNo));
     }
   }
 
@@ -217,6 +287,61 @@ public class ResponseHistory {
     }
   }
 
+  /**
+   * @return the number of bytes of the compressed responses in the history
+   */
+  public long getCompressedSize() {
+    synchronized (m_mutex) {
+      return m_compressedSize;
+    }
+  }
+
+  /**
+   * Must be called while holding the mutex.
+   */
+  protected void removeResponse(Long responseSequenceNo) {
+    m_compressedSize -= getCompressedSize(m_responses.remove(responseSequenceNo));
+  }
+
+  protected long getCompressedSize(Object storedResponse) {
+    return storedResponse instanceof byte[] ? ((byte[]) storedResponse).length : 0;
+  }
+
+  protected byte[] serialize(JSONObject response) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+      response.write(writer);
+    }
+    catch (IOException e) {
+      throw new PlatformException("Unable to serialize response", e);
+    }
+    return out.toByteArray();
+  }
+
+  protected byte[] compress(byte[] serializedResponse) {
+    try {
+      return IOUtility.compressGzip(serializedResponse, Deflater.BEST_SPEED);
+    }
+    catch (IOException e) {
+      throw new PlatformException("Unable to compress response", e);
+    }
+  }
+
+  /**
+   * @return the JSON object of a response stored by {@link #registerResponse(Long, JSONObject, Long)}
+   */
+  protected JSONObject toJson(Object storedResponse) {
+    if (!(storedResponse instanceof byte[])) {
+      return (JSONObject) storedResponse;
+    }
+    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream((byte[]) storedResponse))) {
+      return new JSONObject(IOUtility.readStringUTF8(in));
+    }
+    catch (IOException e) {
+      throw new PlatformException("Unable to decompress response", e);
+    }
+  }
+
   /**
    * @return the number of responses in the history
    */
@@ -22,6 +22,7 @@ import java.util.concurrent.TimeUnit;
 import jakarta.servlet.MultipartConfigElement;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
@@ -185,6 +186,125 @@ public final class UiHtmlConfigProperties {
     }
   }
 
+  public static class MaxJsonRequestLengthProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public Long getDefaultValue() {
+      return 50L * 1024 * 1024;
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of characters of a JSON request sent by the UI. Larger requests are rejected while they are parsed.\n"
+          + "By default this property is set to 50 MB.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.maxJsonRequestLength";
+    }
+  }
+
+  public static class JsonResponseGzipEnabledProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public String description() {
+      return "Specifies if JSON responses of the UI servlet are compressed while they are written, if the client accepts gzip encoding.\n"
+          + "Enable this property only if the responses are not already compressed by a servlet filter (e.g. GzipServletFilter).\n"
+          + "By default this property is set to false.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.jsonResponseGzipEnabled";
+    }
+  }
+
+  public static class TableLazyRowTransferThresholdProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 0;
+    }
+
+    @Override
+    public String description() {
+      return "Minimal number of rows of a table for which only the rows around the viewport are sent to the UI with all their cells. "
+          + "The other rows are sent as placeholders and loaded when the UI renders them. "
+          + "While a table contains placeholders, it is sorted by the server.\n"
+          + "By default this property is set to 0 which disables the lazy transfer of rows.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.table.lazyRowTransferThreshold";
+    }
+  }
+
+  public static class TableLazyRowTransferWindowSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 200;
+    }
+
+    @Override
+    public String description() {
+      return String.format("Number of rows sent to the UI with all their cells when rows are transferred lazily (see '%s').\n"
+          + "By default this property is set to 200.", BEANS.get(TableLazyRowTransferThresholdProperty.class).getKey());
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.table.lazyRowTransferWindowSize";
+    }
+  }
+
+  public static class ResponseHistoryCompressionEnabledProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public String description() {
+      return "Specifies if the responses kept by a UI session until the UI confirms them are stored serialized and compressed instead of as JSON objects. "
+          + "This reduces the memory used by each UI session. Responses which have to be sent again, e.g. after a connection loss, are parsed again.\n"
+          + "By default this property is set to false.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.responseHistoryCompressionEnabled";
+    }
+  }
+
+  public static class ResponseHistoryMaxSizeProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public Long getDefaultValue() {
+      return 1024L * 1024;
+    }
+
+    @Override
+    public String description() {
+      return String.format("Maximum number of bytes of the compressed responses kept by a UI session (see '%s'). "
+          + "If the size is exceeded, the oldest responses are dropped. The most recent response is always kept.\n"
+          + "By default this property is set to 1 MB.", BEANS.get(ResponseHistoryCompressionEnabledProperty.class).getKey());
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.responseHistoryMaxSize";
+    }
+  }
+
   /**
    * {@link MultipartConfigElement} for {@link UiServlet}.
    */
@@ -78,6 +78,8 @@ import org.eclipse.scout.rt.shared.ui.UiSystem;
 import org.eclipse.scout.rt.shared.ui.UserAgent;
 import org.eclipse.scout.rt.shared.ui.UserAgents;
 import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.BackgroundPollingIntervalProperty;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.ResponseHistoryCompressionEnabledProperty;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.ResponseHistoryMaxSizeProperty;
 import org.eclipse.scout.rt.ui.html.json.AbstractJsonAdapter;
 import org.eclipse.scout.rt.ui.html.json.IJsonAdapter;
 import org.eclipse.scout.rt.ui.html.json.JsonAdapterRegistry;
@@ -128,7 +130,10 @@ public class UiSession implements IUiSession {
   private final AtomicLong m_jsonAdapterSeq = new AtomicLong(ROOT_ID);
   private final AtomicLong m_responseSequenceNo = new AtomicLong(1);
   private final RequestHistory m_requestHistory = BEANS.get(RequestHistory.class).withUiSession(this);
-  private final ResponseHistory m_responseHistory = BEANS.get(ResponseHistory.class).withUiSession(this);
+  private final ResponseHistory m_responseHistory = BEANS.get(ResponseHistory.class)
+      .withUiSession(this)
+      .withCompressionEnabled(CONFIG.getPropertyValue(ResponseHistoryCompressionEnabledProperty.class))
+      .withMaxCompressedSize(CONFIG.getPropertyValue(ResponseHistoryMaxSizeProperty.class));
   private final ReentrantLock m_uiSessionLock = new ReentrantLock();
   private final HttpContext m_httpContext = new HttpContext();
   private final BlockingQueue<Object> m_pollerQueue = new ArrayBlockingQueue<>(1, true);
@@ -853,12 +858,12 @@ public class UiSession implements IUiSession {
    */
   protected JSONObject responseToJsonInternal() {
     // Convert response to JSON (must be done in model thread due to potential model access inside the toJson() method).
-    final JSONObject json = m_currentJsonResponse.toJson();
+    JSONObject json = m_currentJsonResponse.toJson();
 
-    // Remember response in history
+    // Remember response in history (the returned JSON may hold the bytes serialized by the history)
     if (m_currentJsonResponse.getSequenceNo() != null) {
       Long currentRequestSequenceNo = (m_currentJsonRequest == null ? null : m_currentJsonRequest.getSequenceNo()); // optional, e.g. when uploading files
-      m_responseHistory.registerResponse(m_currentJsonResponse.getSequenceNo(), json, currentRequestSequenceNo);
+      json = m_responseHistory.registerResponse(m_currentJsonResponse.getSequenceNo(), json, currentRequestSequenceNo);
     }
 
     return json;
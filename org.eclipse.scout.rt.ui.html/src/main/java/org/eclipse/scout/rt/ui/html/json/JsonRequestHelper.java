@@ -11,24 +11,38 @@ package org.eclipse.scout.rt.ui.html.json;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
+import jakarta.servlet.ServletResponseWrapper;
+import jakarta.servlet.http.HttpServletRequest;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.ConnectionErrorDetector;
 import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruption;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruption.IRestorer;
+import org.eclipse.scout.rt.server.commons.servlet.IHttpServletRoundtrip;
+import org.eclipse.scout.rt.server.commons.servlet.UrlHints;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletResponseWrapper;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.LegacyGzipServletResponseWrapper;
 import org.eclipse.scout.rt.ui.html.UiException;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.JsonResponseGzipEnabledProperty;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.MaxJsonRequestLengthProperty;
 import org.json.JSONArray;
 import org.json.JSONObject;
+import org.json.JSONStreamTokener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,6 +55,12 @@ public class JsonRequestHelper {
 
   private static final Logger LOG = LoggerFactory.getLogger(JsonRequestHelper.class);
 
+  protected static final int RESPONSE_BUFFER_SIZE = 16 * 1024;
+  protected static final int RESPONSE_BUFFER_POOL_SIZE = 32;
+  protected static final int GZIP_MIN_SIZE = 256;
+
+  private final BlockingQueue<byte[]> m_responseBufferPool = new ArrayBlockingQueue<>(RESPONSE_BUFFER_POOL_SIZE);
+
   /**
    * @return {@link JSONObject} to indicate that an unrecoverable failure occurred.
    */
@@ -144,11 +164,12 @@ public class JsonRequestHelper {
 
   /**
    * Writes the given {@link JSONObject} into the given {@link ServletResponse}.
+   * <p>
+   * The JSON is encoded directly into the output stream of the response using a pooled buffer (see
+   * {@link JsonResponseWriter}). Small responses are sent with a content length, larger ones without (i.e. chunked).
+   * If {@link JsonResponseGzipEnabledProperty} is set, larger responses are compressed on the fly.
    */
   public void writeResponse(final ServletResponse servletResponse, final JSONObject jsonResponse) throws IOException {
-    String jsonText = jsonResponse.toString();
-    final byte[] data = jsonText.getBytes(StandardCharsets.UTF_8);
-    servletResponse.setContentLength(data.length);
     if (servletResponse.getContentType() == null) {
       servletResponse.setContentType("application/json");
     }
@@ -157,8 +178,11 @@ public class JsonRequestHelper {
     // Clear the current thread's interruption status before writing the response to the output stream.
     // Otherwise, the stream gets silently corrupted, which makes the client to loose the connection.
     IRestorer interruption = ThreadInterruption.clear();
+    byte[] buffer = acquireResponseBuffer();
     try {
-      servletResponse.getOutputStream().write(data);
+      JsonResponseWriter writer = new JsonResponseWriter(servletResponse, buffer, isGzipResponse(servletResponse), GZIP_MIN_SIZE);
+      jsonResponse.write(writer);
+      writer.close();
     }
     catch (final Exception e) {
       if (BEANS.get(ConnectionErrorDetector.class).isConnectionError(e)) {
@@ -169,28 +193,79 @@ public class JsonRequestHelper {
       throw e;
     }
     finally {
+      releaseResponseBuffer(buffer);
       interruption.restore();
     }
     if (LOG.isTraceEnabled()) {
-      LOG.trace("Returned: {}", formatJsonForLogging(jsonText));
+      LOG.trace("Returned: {}", formatJsonForLogging(jsonResponse.toString()));
     }
     else if (LOG.isDebugEnabled()) {
       LOG.debug("Returned: {}", formatJsonResponseForLogging(jsonResponse));
     }
   }
 
+  /**
+   * @return <code>true</code> if the response may be compressed by {@link JsonResponseWriter}
+   */
+  protected boolean isGzipResponse(ServletResponse servletResponse) {
+    if (!CONFIG.getPropertyValue(JsonResponseGzipEnabledProperty.class)) {
+      return false;
+    }
+    HttpServletRequest req = IHttpServletRoundtrip.CURRENT_HTTP_SERVLET_REQUEST.get();
+    if (req == null || !UrlHints.isCompressHint(req)) {
+      return false;
+    }
+    String acceptEncoding = req.getHeader(GzipServletFilter.ACCEPT_ENCODING);
+    if (acceptEncoding == null || !acceptEncoding.contains(GzipServletFilter.GZIP)) {
+      return false;
+    }
+    // do not compress twice
+    ServletResponse resp = servletResponse;
+    while (resp instanceof ServletResponseWrapper) {
+      if (resp instanceof GzipServletResponseWrapper || resp instanceof LegacyGzipServletResponseWrapper) {
+        return false;
+      }
+      resp = ((ServletResponseWrapper) resp).getResponse();
+    }
+    return true;
+  }
+
+  /**
+   * @return a buffer of {@link #RESPONSE_BUFFER_SIZE} bytes, either from the pool or newly created
+   */
+  protected byte[] acquireResponseBuffer() {
+    byte[] buffer = m_responseBufferPool.poll();
+    return buffer != null ? buffer : new byte[RESPONSE_BUFFER_SIZE];
+  }
+
+  /**
+   * Returns the given buffer to the pool (discarded if the pool is full).
+   */
+  protected void releaseResponseBuffer(byte[] buffer) {
+    m_responseBufferPool.offer(buffer);
+  }
+
   /**
    * Reads the content of {@link ServletRequest} into a {@link JSONObject}.
+   * <p>
+   * The content is parsed directly from the reader of the request (see {@link JSONStreamTokener}), limited by
+   * {@link MaxJsonRequestLengthProperty}. Only if trace logging is enabled, the content is read into a string first.
    */
   public JSONObject readJsonRequest(final ServletRequest servletRequest) {
     try (Reader in = servletRequest.getReader()) {
-      final String jsonData = IOUtility.readString(in);
-      if (LOG.isTraceEnabled()) { // log before json parsing (in case parsing fails)
+      long maxLength = CONFIG.getPropertyValue(MaxJsonRequestLengthProperty.class);
+      JSONObject jsonRequest;
+      if (LOG.isTraceEnabled()) {
+        final String jsonData = IOUtility.readString(in);
+        // log before json parsing (in case parsing fails)
         LOG.trace("Received: {}", formatJsonForLogging(jsonData));
+        jsonRequest = new JSONStreamTokener(new StringReader(jsonData), maxLength).nextObject();
       }
-      JSONObject jsonRequest = (jsonData == null ? new JSONObject() : new JSONObject(jsonData));
-      if (LOG.isDebugEnabled() && !LOG.isTraceEnabled()) {
-        LOG.debug("Received: {}", formatJsonRequestForLogging(jsonRequest));
+      else {
+        jsonRequest = new JSONStreamTokener(in, maxLength).nextObject();
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("Received: {}", formatJsonRequestForLogging(jsonRequest));
+        }
       }
       return jsonRequest;
     }
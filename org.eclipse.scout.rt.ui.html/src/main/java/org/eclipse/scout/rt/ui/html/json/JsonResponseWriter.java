@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
+
+/**
+ * {@link Writer} encoding characters as UTF-8 into a fixed byte buffer which is written to the output stream of a
+ * {@link ServletResponse} whenever it is full.
+ * <p>
+ * The response is not committed before the buffer is full for the first time, so an encoding error within the first
+ * buffer still allows to send a proper error response. If the whole response fits into the buffer, the content length
+ * is set upon {@link #close()}. Otherwise, the response is sent without content length (i.e. chunked). If gzip is
+ * enabled, the response is compressed once it exceeds the given minimal size, and the header
+ * <tt>Vary: Accept-Encoding</tt> is set.
+ * <p>
+ * The buffer is provided by the caller (see {@link JsonRequestHelper}) and may be reused after {@link #close()}.
+ * Instances of this class are not thread safe.
+ *
+ * @since 24.1
+ */
+public class JsonResponseWriter extends Writer {
+
+  private final ServletResponse m_response;
+  private final byte[] m_buffer;
+  private final boolean m_gzipEnabled;
+  private final int m_gzipMinSize;
+
+  private int m_count;
+  private char m_highSurrogate;
+  private OutputStream m_out;
+  private GZIPOutputStream m_gzipOut;
+  private boolean m_closed;
+
+  /**
+   * @param buffer
+   *          buffer used to encode the characters, must be at least 16 bytes long
+   * @param gzipEnabled
+   *          <code>true</code> if the response may be compressed (the client must accept gzip encoding). The response
+   *          varies by the header <tt>Accept-Encoding</tt> in this case.
+   * @param gzipMinSize
+   *          minimal size in bytes for the response to be compressed
+   */
+  public JsonResponseWriter(ServletResponse response, byte[] buffer, boolean gzipEnabled, int gzipMinSize) {
+    m_response = Assertions.assertNotNull(response);
+    m_buffer = Assertions.assertNotNull(buffer);
+    Assertions.assertTrue(buffer.length >= 16, "buffer too small");
+    m_gzipEnabled = gzipEnabled && response instanceof HttpServletResponse;
+    m_gzipMinSize = gzipMinSize;
+  }
+
+  @Override
+  public void write(int c) throws IOException {
+    ensureOpen();
+    encode((char) c);
+  }
+
+  @Override
+  public void write(char[] cbuf, int off, int len) throws IOException {
+    ensureOpen();
+    for (int i = off, end = off + len; i < end; i++) {
+      encode(cbuf[i]);
+    }
+  }
+
+  @Override
+  public void write(String str, int off, int len) throws IOException {
+    ensureOpen();
+    for (int i = off, end = off + len; i < end; i++) {
+      encode(str.charAt(i));
+    }
+  }
+
+  /**
+   * Writes bytes which are already encoded as UTF-8 (see {@link SerializedJsonObject}).
+   */
+  public void writeEncoded(byte[] b, int off, int len) throws IOException {
+    ensureOpen();
+    Assertions.assertTrue(m_highSurrogate == 0, "pending high surrogate");
+    while (len > 0) {
+      if (m_count == m_buffer.length) {
+        writeBuffer();
+      }
+      int n = Math.min(len, m_buffer.length - m_count);
+      System.arraycopy(b, off, m_buffer, m_count, n);
+      m_count += n;
+      off += n;
+      len -= n;
+    }
+  }
+
+  protected void encode(char c) throws IOException {
+    if (m_count + 4 > m_buffer.length) {
+      writeBuffer();
+    }
+    byte[] b = m_buffer;
+    if (m_highSurrogate != 0) {
+      char high = m_highSurrogate;
+      m_highSurrogate = 0;
+      if (Character.isLowSurrogate(c)) {
+        int codePoint = Character.toCodePoint(high, c);
+        b[m_count++] = (byte) (0xF0 | (codePoint >> 18));
+        b[m_count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+        b[m_count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        b[m_count++] = (byte) (0x80 | (codePoint & 0x3F));
+        return;
+      }
+      // unpaired surrogate: replace it the same way String.getBytes(UTF_8) does
+      b[m_count++] = '?';
+      encode(c);
+      return;
+    }
+    if (c < 0x80) {
+      b[m_count++] = (byte) c;
+    }
+    else if (c < 0x800) {
+      b[m_count++] = (byte) (0xC0 | (c >> 6));
+      b[m_count++] = (byte) (0x80 | (c & 0x3F));
+    }
+    else if (Character.isHighSurrogate(c)) {
+      m_highSurrogate = c;
+    }
+    else if (Character.isLowSurrogate(c)) {
+      b[m_count++] = '?';
+    }
+    else {
+      b[m_count++] = (byte) (0xE0 | (c >> 12));
+      b[m_count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+      b[m_count++] = (byte) (0x80 | (c & 0x3F));
+    }
+  }
+
+  /**
+   * Writes the buffered bytes to the response. The first call commits the response (and decides about the
+   * compression), hence the content length can no longer be set afterwards.
+   */
+  protected void writeBuffer() throws IOException {
+    if (m_out == null) {
+      if (m_gzipEnabled) {
+        ((HttpServletResponse) m_response).setHeader(GzipServletFilter.VARY, GzipServletFilter.ACCEPT_ENCODING);
+      }
+      m_out = m_response.getOutputStream();
+      if (m_gzipEnabled && m_count >= m_gzipMinSize) {
+        ((HttpServletResponse) m_response).setHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+        m_gzipOut = new GZIPOutputStream(m_out, m_buffer.length);
+        m_out = m_gzipOut;
+      }
+    }
+    if (m_count > 0) {
+      m_out.write(m_buffer, 0, m_count);
+      m_count = 0;
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the response is compressed (only known after the first write to the response)
+   */
+  public boolean isGzipped() {
+    return m_gzipOut != null;
+  }
+
+  /**
+   * Flushes the response only if it is already committed. Otherwise, the bytes stay in the buffer, so the content
+   * length can still be set.
+   */
+  @Override
+  public void flush() throws IOException {
+    ensureOpen();
+    if (m_out != null) {
+      writeBuffer();
+      m_out.flush();
+    }
+  }
+
+  /**
+   * Writes the remaining bytes and finishes the compression. The underlying output stream of the response is not
+   * closed.
+   */
+  @Override
+  public void close() throws IOException {
+    if (m_closed) {
+      return;
+    }
+    m_closed = true;
+    if (m_highSurrogate != 0) {
+      m_highSurrogate = 0;
+      if (m_count == m_buffer.length) {
+        writeBuffer();
+      }
+      m_buffer[m_count++] = '?';
+    }
+    if (m_out == null && !(m_gzipEnabled && m_count >= m_gzipMinSize)) {
+      // nothing written yet: the whole response is in the buffer
+      m_response.setContentLength(m_count);
+    }
+    writeBuffer();
+    if (m_gzipOut != null) {
+      m_gzipOut.finish();
+    }
+  }
+
+  protected void ensureOpen() throws IOException {
+    if (m_closed) {
+      throw new IOException("Writer closed");
+    }
+  }
+}
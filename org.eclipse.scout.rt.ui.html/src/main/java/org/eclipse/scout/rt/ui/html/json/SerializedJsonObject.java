@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.json.JSONObject;
+
+/**
+ * {@link JSONObject} which was already encoded as UTF-8 (e.g. to store it in the response history, see
+ * {@link org.eclipse.scout.rt.ui.html.ResponseHistory}). The encoded bytes are written by {@link #write(Writer)} and
+ * returned by {@link #toString()}, so the JSON is not encoded a second time when it is sent to the client.
+ * <p>
+ * The object holds a shallow copy of the top-level entries of the original object, which must not be modified anymore.
+ * Modifications are not reflected in the encoded bytes.
+ *
+ * @since 24.1
+ */
+public class SerializedJsonObject extends JSONObject {
+
+  private final byte[] m_utf8;
+
+  /**
+   * @param json
+   *          the encoded JSON object
+   * @param utf8
+   *          the result of {@link JSONObject#write(Writer)} for <code>json</code>, encoded as UTF-8
+   */
+  public SerializedJsonObject(JSONObject json, byte[] utf8) {
+    super(Assertions.assertNotNull(json), json.keySet().toArray(new String[0]));
+    m_utf8 = Assertions.assertNotNull(utf8);
+  }
+
+  /**
+   * @return the JSON encoded as UTF-8 (the array must not be modified)
+   */
+  public byte[] getUtf8() {
+    return m_utf8;
+  }
+
+  @Override
+  public void write(Writer writer) throws IOException {
+    if (writer instanceof JsonResponseWriter) {
+      ((JsonResponseWriter) writer).writeEncoded(m_utf8, 0, m_utf8.length);
+    }
+    else {
+      writer.write(toString());
+    }
+  }
+
+  @Override
+  public String toString() {
+    return new String(m_utf8, StandardCharsets.UTF_8);
+  }
+}
@@ -32,11 +32,22 @@ public class JsonOutlineTable<T extends ITable> extends JsonTable<T> {
   @Override
   protected JSONObject tableRowToJson(ITableRow row) {
     JSONObject json = super.tableRowToJson(row);
+    putNodeId(json, row);
+    return json;
+  }
+
+  @Override
+  protected JSONObject lazyTableRowToJson(ITableRow row) {
+    JSONObject json = super.lazyTableRowToJson(row);
+    putNodeId(json, row);
+    return json;
+  }
+
+  protected void putNodeId(JSONObject json, ITableRow row) {
     ITreeNode treeNode = m_page.getTreeNodeFor(row);
     JsonOutline<IOutline> jsonOutline = getGlobalAdapter(m_page.getOutline());
     String nodeId = jsonOutline.getOrCreateNodeId(treeNode);
     putProperty(json, "nodeId", nodeId);
-    return json;
   }
 
 }
@@ -50,6 +50,7 @@ import org.eclipse.scout.rt.client.ui.dnd.TextTransferObject;
 import org.eclipse.scout.rt.client.ui.dnd.TransferObject;
 import org.eclipse.scout.rt.client.ui.form.fields.IFormField;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.platform.status.IStatus;
@@ -61,6 +62,8 @@ import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
 import org.eclipse.scout.rt.shared.security.CopyToClipboardPermission;
 import org.eclipse.scout.rt.ui.html.IUiSession;
 import org.eclipse.scout.rt.ui.html.UiException;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.TableLazyRowTransferThresholdProperty;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.TableLazyRowTransferWindowSizeProperty;
 import org.eclipse.scout.rt.ui.html.json.AbstractJsonWidget;
 import org.eclipse.scout.rt.ui.html.json.FilteredJsonAdapterIds;
 import org.eclipse.scout.rt.ui.html.json.IJsonAdapter;
@@ -127,6 +130,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   public static final String EVENT_FILTER_REMOVED = "filterRemoved";
   public static final String EVENT_FILTERS_CHANGED = "filtersChanged";
   public static final String EVENT_FILTER = "filter";
+  public static final String EVENT_ROWS_REQUESTED = "rowsRequested";
 
   public static final String PROP_ROWS = "rows";
   public static final String PROP_ROW_IDS = "rowIds";
@@ -143,6 +147,10 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   private TableListener m_tableListener;
   private final Map<String, ITableRow> m_tableRows;
   private final Map<ITableRow, String> m_tableRowIds;
+  /**
+   * Rows sent to the UI as placeholders whose cells have not been requested yet.
+   */
+  private final Set<ITableRow> m_lazyRows;
   private final Map<String, IColumn<?>> m_columns;
   private final TableEventFilter m_tableEventFilter;
   private final Map<IColumn<?>, JsonColumn<?>> m_jsonColumns;
@@ -155,6 +163,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     super(model, uiSession, id, parent);
     m_tableRows = new HashMap<>();
     m_tableRowIds = new HashMap<>();
+    m_lazyRows = new HashSet<>();
     m_columns = new HashMap<>();
     m_tableEventFilter = new TableEventFilter(this);
     m_jsonColumns = new HashMap<>();
@@ -509,12 +518,14 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   protected void disposeAllRows() {
     m_tableRowIds.clear();
     m_tableRows.clear();
+    m_lazyRows.clear();
   }
 
   protected void disposeRow(ITableRow row) {
     String rowId = m_tableRowIds.get(row);
     m_tableRowIds.remove(row);
     m_tableRows.remove(rowId);
+    m_lazyRows.remove(row);
   }
 
   protected void disposeRows(Collection<ITableRow> rows) {
@@ -567,7 +578,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     JSONObject json = super.toJson();
     json.put(PROP_COLUMNS, columnsToJson(getColumnsInViewOrder()));
     json.put(PROP_COLUMN_ADDABLE, getModel().getTableOrganizer().isColumnAddable());
-    json.put(PROP_ROWS, tableRowsToJson(getModel().getRows()));
+    json.put(PROP_ROWS, tableRowsToJsonLazily(getModel().getRows(), new HashSet<>()));
     json.put(PROP_MENUS, getJsonContextMenu().childActionsToJson());
     json.put(PROP_SELECTED_ROWS, rowIdsToJson(getModel().getSelectedRows()));
     if (getModel().getUserFilterManager() != null) {
@@ -592,6 +603,42 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     return jsonRows;
   }
 
+  /**
+   * Like {@link #tableRowsToJson(Collection, Set)}, but if the table contains at least
+   * {@link TableLazyRowTransferThresholdProperty} rows (including the given ones, e.g. after an insert), only the first
+   * {@link TableLazyRowTransferWindowSizeProperty} accepted rows are converted with all their cells. The other rows are sent as placeholders (see
+   * {@link #lazyTableRowToJson(ITableRow)}) and converted when the UI requests them (see
+   * {@link #handleUiRowsRequested(JsonEvent)}).
+   */
+  protected JSONArray tableRowsToJsonLazily(Collection<ITableRow> rows, Set<ITableRow> acceptedRows) {
+    if (!isLazyRowTransfer(getModel().getRowCount())) {
+      return tableRowsToJson(rows, acceptedRows);
+    }
+    int windowSize = CONFIG.getPropertyValue(TableLazyRowTransferWindowSizeProperty.class);
+    JSONArray jsonRows = new JSONArray();
+    for (ITableRow row : rows) {
+      if (isRowAccepted(row)) {
+        if (jsonRows.length() < windowSize) {
+          jsonRows.put(tableRowToJson(row));
+        }
+        else {
+          jsonRows.put(lazyTableRowToJson(row));
+          m_lazyRows.add(row);
+        }
+        acceptedRows.add(row);
+      }
+    }
+    return jsonRows;
+  }
+
+  /**
+   * @return <code>true</code> if rows of a table with the given total number of rows are sent to the UI lazily
+   */
+  protected boolean isLazyRowTransfer(int rowCount) {
+    int threshold = CONFIG.getPropertyValue(TableLazyRowTransferThresholdProperty.class);
+    return threshold > 0 && rowCount >= threshold;
+  }
+
   @Override
   public void handleUiEvent(JsonEvent event) {
     if (EVENT_ROW_CLICK.equals(event.getType())) {
@@ -660,6 +707,9 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     else if (EVENT_COLUMN_ORGANIZE_ACTION.equals(event.getType())) {
       handleUiColumnOrganizeAction(event);
     }
+    else if (EVENT_ROWS_REQUESTED.equals(event.getType())) {
+      handleUiRowsRequested(event);
+    }
     else {
       super.handleUiEvent(event);
     }
@@ -773,6 +823,25 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     getModel().getUIFacade().setSelectedRowsFromUI(tableRows);
   }
 
+  /**
+   * Sends the cells of rows which were sent as placeholders. Rows which are unknown or already sent are ignored.
+   */
+  protected void handleUiRowsRequested(JsonEvent event) {
+    List<ITableRow> rows = new ArrayList<>();
+    for (ITableRow row : extractTableRows(event.getData())) {
+      if (m_lazyRows.remove(row)) {
+        rows.add(row);
+      }
+    }
+    JSONArray jsonRows = tableRowsToJson(rows);
+    if (jsonRows.length() == 0) {
+      return;
+    }
+    JSONObject jsonEvent = new JSONObject();
+    putProperty(jsonEvent, PROP_ROWS, jsonRows);
+    addActionEvent(EVENT_ROWS_UPDATED, jsonEvent);
+  }
+
   protected void handleUiReload(JsonEvent event) {
     String reloadReason = event.getData().optString("reloadReason", IReloadReason.UNSPECIFIED);
     getModel().getUIFacade().fireTableReloadFromUI(reloadReason);
@@ -1037,6 +1106,29 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     return jsonRow;
   }
 
+  /**
+   * @return the placeholder of a row which is sent lazily. It contains the state needed to show the row in the UI
+   *         but no cells.
+   */
+  protected JSONObject lazyTableRowToJson(ITableRow row) {
+    JSONObject jsonRow = new JSONObject();
+    putProperty(jsonRow, "id", getOrCreateRowId(row));
+    putProperty(jsonRow, "parentRow", getOrCreateRowId(getModel().findParentRow(row)));
+    putProperty(jsonRow, "lazy", true);
+    putProperty(jsonRow, "checked", row.isChecked());
+    putProperty(jsonRow, "enabled", row.isEnabled());
+    putProperty(jsonRow, "expanded", row.isExpanded());
+    JsonObjectUtility.filterDefaultValues(jsonRow, "TableRow");
+    return jsonRow;
+  }
+
+  /**
+   * @return <code>true</code> if the row was sent as placeholder and its cells have not been requested yet
+   */
+  protected boolean isLazyRow(ITableRow row) {
+    return m_lazyRows.contains(row);
+  }
+
   protected Object cellToJson(final ITableRow row, final IColumn<?> column) {
     ICell cell = row.getCell(column);
     JsonColumn<?> jsonColumn = m_jsonColumns.get(column);
@@ -1431,7 +1523,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
 
   protected void handleModelRowsInserted(Collection<ITableRow> modelRows) {
     Set<ITableRow> acceptedRows = new HashSet<>();
-    JSONArray jsonRows = tableRowsToJson(modelRows, acceptedRows);
+    JSONArray jsonRows = tableRowsToJsonLazily(modelRows, acceptedRows);
     if (jsonRows.length() == 0) {
       return;
     }
@@ -1442,7 +1534,10 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void handleModelRowsUpdated(Collection<ITableRow> modelRows) {
-    JSONArray jsonRows = tableRowsToJson(modelRows);
+    // placeholders stay as they are, the UI requests the current cells when the rows are rendered
+    JSONArray jsonRows = tableRowsToJson(modelRows.stream()
+        .filter(row -> !isLazyRow(row))
+        .collect(Collectors.toList()));
     if (jsonRows.length() == 0) {
       return;
     }
@@ -27,6 +27,7 @@ import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
 import org.eclipse.scout.rt.server.commons.servlet.cache.IHttpResourceCache;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
 import org.eclipse.scout.rt.ui.html.AbstractUiServletRequestHandler;
 import org.eclipse.scout.rt.ui.html.UiServlet;
 import org.eclipse.scout.rt.ui.html.res.loader.IResourceLoader;
@@ -79,14 +80,33 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
 
   protected void writeResourceToResponse(HttpServletRequest req, HttpServletResponse resp, HttpCacheObject cachedObject) throws IOException {
     BinaryResource binaryResource = cachedObject.getResource();
+    // Use the precompressed content if available, the gzip filter does not compress encoded content again
+    byte[] gzipContent = acceptsGzipContent(req) ? cachedObject.getGzipContent() : null;
+    if (gzipContent != null) {
+      resp.setHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+    }
     setHttpResponseHeaders(resp, binaryResource);
+    if (gzipContent != null) {
+      resp.setContentLength(gzipContent.length);
+    }
 
     // Apply response interceptors
     cachedObject.applyHttpResponseInterceptors(req, resp);
 
     if (!"HEAD".equals(req.getMethod())) {
-      resp.getOutputStream().write(binaryResource.getContent());
+      resp.getOutputStream().write(gzipContent != null ? gzipContent : binaryResource.getContent());
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the gzip compressed content of a resource may be sent to the client
+   */
+  protected boolean acceptsGzipContent(HttpServletRequest req) {
+    if (!UrlHints.isCompressHint(req)) {
+      return false;
     }
+    String h = req.getHeader(GzipServletFilter.ACCEPT_ENCODING);
+    return h != null && h.contains(GzipServletFilter.GZIP);
   }
 
   /**
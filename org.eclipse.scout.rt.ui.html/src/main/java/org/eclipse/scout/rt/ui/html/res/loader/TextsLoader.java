@@ -45,32 +45,11 @@ public class TextsLoader extends AbstractResourceLoader {
     List<Locale> languageLocales = getLanguageLocales();
     JSONObject jsonTexts = new JSONObject();
 
-    // Gather all texts and group them by language tags
-    Map<Locale, Map<String, String>> textsByLanguageTag = new LinkedHashMap<>();
-    for (AbstractDynamicNlsTextProviderService textService : BEANS.all(AbstractDynamicNlsTextProviderService.class)) {
-      for (Locale locale : languageLocales) {
-        NlsResourceBundle bundle = getResourceBundle(textService, locale);
-        if (bundle == null) {
-          continue;
-        }
-
-        Map<String, String> map = textsByLanguageTag.computeIfAbsent(locale, k -> new TreeMap<>());
-        for (Entry<String, String> entry : bundle.getTextMap().entrySet()) {
-          if (acceptEntry(entry)) {
-            map.putIfAbsent(entry.getKey(), entry.getValue());
-          }
-        }
-      }
-    }
-
-    // Convert the texts into json
-    for (Entry<Locale, Map<String, String>> entry : textsByLanguageTag.entrySet()) {
-      Locale locale = entry.getKey();
-      String languageTag = (locale == null || locale == Locale.ROOT) ? "default" : locale.toLanguageTag();
-
-      JSONObject jsonTextMap = textsToJson(languageTag, entry.getValue());
+    // Texts without an entry filter are the same for every request, hence computed only once per locale
+    for (Locale locale : languageLocales) {
+      JSONObject jsonTextMap = m_entryFilter == null ? BEANS.get(UiTextsCache.class).getTexts(locale, this::loadTextsJson) : loadTextsJson(locale);
       if (jsonTextMap.length() > 0) {
-        jsonTexts.put(languageTag, jsonTextMap);
+        jsonTexts.put(getLanguageTag(locale), jsonTextMap);
       }
     }
 
@@ -85,6 +64,30 @@ public class TextsLoader extends AbstractResourceLoader {
         .build();
   }
 
+  /**
+   * Gathers the texts of the given locale from all text providers and converts them into json.
+   */
+  protected JSONObject loadTextsJson(Locale locale) {
+    Map<String, String> texts = new TreeMap<>();
+    for (AbstractDynamicNlsTextProviderService textService : BEANS.all(AbstractDynamicNlsTextProviderService.class)) {
+      NlsResourceBundle bundle = getResourceBundle(textService, locale);
+      if (bundle == null) {
+        continue;
+      }
+
+      for (Entry<String, String> entry : bundle.getTextMap().entrySet()) {
+        if (acceptEntry(entry)) {
+          texts.putIfAbsent(entry.getKey(), entry.getValue());
+        }
+      }
+    }
+    return textsToJson(getLanguageTag(locale), texts);
+  }
+
+  protected String getLanguageTag(Locale locale) {
+    return (locale == null || locale == Locale.ROOT) ? "default" : locale.toLanguageTag();
+  }
+
   protected boolean acceptEntry(Entry<String, String> entry) {
     if (m_entryFilter == null) {
       return true;
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.res.loader;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.text.ScoutTexts;
+import org.json.JSONObject;
+
+/**
+ * Cache for the texts sent to the browser by {@link TextsLoader}, so that they are computed only once per locale. The
+ * cache is cleared together with the text tables of {@link ScoutTexts}, i.e. if the text providers are reloaded or if a
+ * text file is changed.
+ *
+ * @since 24.1
+ */
+@ApplicationScoped
+public class UiTextsCache {
+
+  private final ConcurrentMap<Locale, JSONObject> m_texts = new ConcurrentHashMap<>();
+
+  public UiTextsCache() {
+    BEANS.get(ScoutTexts.class).addInvalidationListener(this::clear);
+  }
+
+  /**
+   * @return the cached texts of the given locale, computed by the given function if not cached yet. The returned
+   *         {@link JSONObject} must not be modified.
+   */
+  public JSONObject getTexts(Locale locale, Function<Locale, JSONObject> loader) {
+    JSONObject texts = m_texts.get(locale);
+    if (texts == null) {
+      texts = m_texts.computeIfAbsent(locale, loader);
+    }
+    return texts;
+  }
+
+  public void clear() {
+    m_texts.clear();
+  }
+}
@@ -16,13 +16,30 @@ import org.eclipse.scout.rt.api.data.uinotification.UiNotificationDo;
 public class UiNotificationAddedEvent extends EventObject {
   private static final long serialVersionUID = 1L;
   private UiNotificationDo m_notification;
+  private String m_user;
 
   public UiNotificationAddedEvent(Object source, UiNotificationDo notification) {
+    this(source, notification, null);
+  }
+
+  /**
+   * @param user
+   *     the user the notification is addressed to, <code>null</code> if it is addressed to every user.
+   */
+  public UiNotificationAddedEvent(Object source, UiNotificationDo notification, String user) {
     super(source);
     m_notification = notification;
+    m_user = user;
   }
 
   public UiNotificationDo getNotification() {
     return m_notification;
   }
+
+  /**
+   * @return the user the notification is addressed to, <code>null</code> if it is addressed to every user.
+   */
+  public String getUser() {
+    return m_user;
+  }
 }
@@ -16,10 +16,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -55,18 +56,23 @@ public class UiNotificationRegistry {
   public static final String SUBSCRIPTION_START_ID = "-1";
 
   private IdGenerator m_idGenerator = new IdGenerator();
-  private ReadWriteLock m_lock = new ReentrantReadWriteLock();
   /**
-   * Contains all notifications per topic including notifications that are created by other cluster nodes.
+   * Contains a log of all notifications per topic including notifications that are created by other cluster nodes.
    * <p>
-   * The order is not relevant for the implementation, however, notifications created this registry are actually
-   * ordered by {@link UiNotificationDo#creationTime()} because only one notification can be inserted at a time, and it will be added to the end of the list.
-   * Notifications received from other cluster nodes are also added at the end of the list, but they may not arrive in the same order as inserted in the registry of the other cluster node.
+   * The order is not relevant for the implementation, however, notifications created by this registry are actually
+   * ordered by {@link UiNotificationDo#creationTime()} because they are added to the end of the log.
+   * Notifications received from other cluster nodes are also added at the end of the log, but they may not arrive in the same order as inserted in the registry of the other cluster node.
    * <p>
-   * The list will be cleaned up regularly by {@link #m_cleanupJob}.
+   * The logs will be cleaned up regularly by {@link #m_cleanupJob}.
    */
-  private Map<String, List<UiNotificationMessageDo>> m_notifications = new HashMap<>();
+  private final ConcurrentMap<String, UiNotificationTopicLog> m_topicLogs = new ConcurrentHashMap<>();
+  /**
+   * Sequence numbers of the notifications in the topic logs, see {@link UiNotificationTopicLog}.
+   */
+  private final AtomicLong m_sequence = new AtomicLong();
   private final Map<String, FastListenerList<UiNotificationListener>> m_listeners = new HashMap<>();
+  private final Object m_creationTimeLock = new Object();
+  private final Object m_cleanupJobLock = new Object();
   private IFuture<Void> m_cleanupJob;
   private long m_cleanupJobInterval = CONFIG.getPropertyValue(RegistryCleanupJobIntervalProperty.class);
   private IUiNotificationClusterService m_clusterService;
@@ -95,15 +101,25 @@ public class UiNotificationRegistry {
    * It will also complete with an empty list of notifications if the given timeout expires.
    */
   public CompletableFuture<List<UiNotificationDo>> getOrWait(List<TopicDo> topics, String user, long timeout) {
+    // Notifications appended later than this sequence number have not been seen by the following get
+    long sequence = m_sequence.get();
     List<UiNotificationDo> notifications = get(topics, user);
     if (!notifications.isEmpty() || timeout <= 0) {
       LOG.info("Returning {} notifications for topics {} and user {} without waiting.", notifications.size(), topics, user);
       return CompletableFuture.completedFuture(notifications);
     }
 
+    // Only the notifications appended after the sequence number need to be checked when a new notification is put
+    List<TopicCursor> cursors = topics.stream()
+        .map(topic -> new TopicCursor(topic.getName(), sequence, createLastKnownNotificationsByNode(topic.getLastNotifications())))
+        .collect(Collectors.toList());
     CompletableFuture<List<UiNotificationDo>> future = new CompletableFuture<>();
     final UiNotificationListener listener = event -> {
-      List<UiNotificationDo> newNotifications = get(topics, user);
+      if (event.getUser() != null && !event.getUser().equals(user)) {
+        // Notification is addressed to another user
+        return;
+      }
+      List<UiNotificationDo> newNotifications = get(cursors, user);
       if (!newNotifications.isEmpty()) {
         LOG.info("New notifications received for topics {} and user {}.", topics, user);
         future.complete(newNotifications);
@@ -112,6 +128,12 @@ public class UiNotificationRegistry {
     List<String> topicNames = topics.stream().map(topic -> topic.getName()).collect(Collectors.toList());
     addListeners(topicNames, listener);
 
+    // Notifications put before the listeners were added did not trigger them
+    List<UiNotificationDo> newNotifications = get(cursors, user);
+    if (!newNotifications.isEmpty()) {
+      future.complete(newNotifications);
+    }
+
     LOG.debug("Waiting for new notifications for topics {} and user {}.", topics, user);
 
     return future.thenApply(uiNotificationDos -> {
@@ -141,45 +163,69 @@ public class UiNotificationRegistry {
   }
 
   protected List<UiNotificationDo> get(String topic, String user, final List<UiNotificationDo> lastKnownNotifications) {
-    m_lock.readLock().lock();
-    try {
-      Stream<UiNotificationDo> notificationStream = getNotifications().getOrDefault(topic, new ArrayList<>()).stream()
-          .filter(elem -> {
-            // If element contains a user it must match the given user
-            if (elem.getUser() != null) {
-              return elem.getUser().equals(user);
-            }
-            return true;
-          })
-          .map(elem -> elem.getNotification());
-
-      // Return notifications that just act as subscription start markers
-      if (lastKnownNotifications.isEmpty()) {
-        return createSubscriptionStartNotifications(topic, notificationStream);
-      }
+    // Notifications for the given user and notifications without user
+    List<UiNotificationDo> notifications = getTopicNotifications(topic, user, 0);
 
-      // If the last element is SUBSCRIPTION_START_ID, return all elements
-      if (lastKnownNotifications.size() == 1 && SUBSCRIPTION_START_ID.equals(lastKnownNotifications.get(0).getId())) {
-        return notificationStream.collect(Collectors.toList());
-      }
+    // Return notifications that just act as subscription start markers
+    if (lastKnownNotifications.isEmpty()) {
+      return createSubscriptionStartNotifications(topic, notifications.stream());
+    }
+    return filterNotifications(notifications, createLastKnownNotificationsByNode(lastKnownNotifications));
+  }
+
+  /**
+   * @return the notifications for the given topics which were put after the sequence number of the cursors and since the
+   * {@link UiNotificationDo#creationTime()} of the last known notifications of the cursors.
+   */
+  protected List<UiNotificationDo> get(List<TopicCursor> cursors, String user) {
+    List<UiNotificationDo> notifications = new ArrayList<>();
+    for (TopicCursor cursor : cursors) {
+      notifications.addAll(filterNotifications(getTopicNotifications(cursor.getTopic(), user, cursor.getSequence()), cursor.getLastKnownNotificationsByNode()));
+    }
+    return notifications;
+  }
 
-      // Group last known notifications by nodeId
-      Map<String, UiNotificationDo> lastKnownNotificationsByNode = lastKnownNotifications.stream()
-          .collect(Collectors.toMap(UiNotificationDo::getNodeId, Function.identity()));
+  /**
+   * @return the notifications of the topic for the given user (including the ones without user) which were put after
+   * the given sequence number.
+   */
+  protected List<UiNotificationDo> getTopicNotifications(String topic, String user, long afterSequence) {
+    UiNotificationTopicLog topicLog = m_topicLogs.get(topic);
+    if (topicLog == null) {
+      return new ArrayList<>();
+    }
+    return topicLog.getNotifications(user, afterSequence);
+  }
 
-      // Return all elements that were created after the last known notifications
-      return notificationStream
-          .filter(notification -> {
-            UiNotificationDo lastKnownNotification = lastKnownNotificationsByNode.get(notification.getNodeId());
-            long creationTime = notification.getCreationTime().getTime();
-            long lastKnownNotificationTime = lastKnownNotification == null ? 0 : lastKnownNotification.getCreationTime().getTime();
-            return creationTime > lastKnownNotificationTime;
-          })
-          .collect(Collectors.toList());
+  /**
+   * @return the last known notifications grouped by node id or <code>null</code> if all notifications are requested.
+   */
+  protected Map<String, UiNotificationDo> createLastKnownNotificationsByNode(List<UiNotificationDo> lastKnownNotifications) {
+    // If the last element is SUBSCRIPTION_START_ID, all elements are requested
+    if (lastKnownNotifications.isEmpty() || (lastKnownNotifications.size() == 1 && SUBSCRIPTION_START_ID.equals(lastKnownNotifications.get(0).getId()))) {
+      return null;
     }
-    finally {
-      m_lock.readLock().unlock();
+    return lastKnownNotifications.stream()
+        .collect(Collectors.toMap(UiNotificationDo::getNodeId, Function.identity()));
+  }
+
+  /**
+   * @param lastKnownNotificationsByNode
+   *     see {@link #createLastKnownNotificationsByNode(List)}
+   * @return all notifications that were created after the last known notifications
+   */
+  protected List<UiNotificationDo> filterNotifications(List<UiNotificationDo> notifications, Map<String, UiNotificationDo> lastKnownNotificationsByNode) {
+    if (lastKnownNotificationsByNode == null || notifications.isEmpty()) {
+      return notifications;
     }
+    return notifications.stream()
+        .filter(notification -> {
+          UiNotificationDo lastKnownNotification = lastKnownNotificationsByNode.get(notification.getNodeId());
+          long creationTime = notification.getCreationTime().getTime();
+          long lastKnownNotificationTime = lastKnownNotification == null ? 0 : lastKnownNotification.getCreationTime().getTime();
+          return creationTime > lastKnownNotificationTime;
+        })
+        .collect(Collectors.toList());
   }
 
   /**
@@ -320,20 +366,23 @@ public class UiNotificationRegistry {
   protected void putInternal(UiNotificationMessageDo message, boolean publishOverCluster) {
     UiNotificationDo notification = message.getNotification();
     String topic = notification.getTopic();
-    m_lock.writeLock().lock();
-    try {
-      updateNotificationCreationTime(notification);
 
-      List<UiNotificationMessageDo> uiNotifications = getNotifications().computeIfAbsent(topic, key -> new ArrayList<>());
-      uiNotifications.add(message);
-      LOG.info("Added new ui notification {} for topic {}. New size: {}", notification, topic, uiNotifications.size());
-
-      triggerEvent(topic, notification);
-      startCleanupJob(); // inside lock to ensure cleanup job will be started only once
-    }
-    finally {
-      m_lock.writeLock().unlock();
+    UiNotificationTopicLog topicLog = m_topicLogs.computeIfAbsent(topic, this::createTopicLog);
+    // The creation time is assigned under the lock of the log. Otherwise, a notification with a later creation time
+    // could be appended first and a client knowing it would skip the other one (see filterNotifications).
+    while (!topicLog.append(message, msg -> {
+      synchronized (m_creationTimeLock) {
+        updateNotificationCreationTime(msg.getNotification());
+      }
+    })) {
+      // A log which has been emptied by the cleanup job is closed, remove it (unless already replaced) and retry with a new one
+      m_topicLogs.remove(topic, topicLog);
+      topicLog = m_topicLogs.computeIfAbsent(topic, this::createTopicLog);
     }
+    LOG.info("Added new ui notification {} for topic {}. New size: {}", notification, topic, topicLog.size());
+
+    triggerEvent(topic, notification, message.getUser());
+    startCleanupJob();
     if (publishOverCluster) {
       publishOverCluster(message);
     }
@@ -344,10 +393,10 @@ public class UiNotificationRegistry {
       // Ignore notifications created by other nodes
       return;
     }
-    // Ensure creation time is unique per node
+    // Ensure creation time is unique and increasing per node
     notification.withCreationTime(new Date());
-    if (notification.getCreationTime().equals(m_lastCreationTime)) {
-      notification.withCreationTime(DateUtility.addMilliseconds(notification.getCreationTime(), 1));
+    if (m_lastCreationTime != null && !notification.getCreationTime().after(m_lastCreationTime)) {
+      notification.withCreationTime(DateUtility.addMilliseconds(m_lastCreationTime, 1));
     }
     m_lastCreationTime = notification.getCreationTime();
   }
@@ -385,12 +434,21 @@ public class UiNotificationRegistry {
   }
 
   protected void triggerEvent(String topic, UiNotificationDo notification) {
+    triggerEvent(topic, notification, null);
+  }
+
+  /**
+   * @param user
+   *     the user the notification is addressed to, <code>null</code> if it is addressed to every user.
+   */
+  protected void triggerEvent(String topic, UiNotificationDo notification, String user) {
     FastListenerList<UiNotificationListener> listeners = getListeners(topic);
     if (listeners == null) {
       return;
     }
+    UiNotificationAddedEvent event = new UiNotificationAddedEvent(this, notification, user);
     for (UiNotificationListener listener : listeners.list()) {
-      listener.notificationAdded(new UiNotificationAddedEvent(this, notification));
+      listener.notificationAdded(event);
     }
   }
 
@@ -400,30 +458,47 @@ public class UiNotificationRegistry {
     }
   }
 
+  /**
+   * @return a snapshot of all notifications per topic.
+   */
   protected final Map<String, List<UiNotificationMessageDo>> getNotifications() {
-    return m_notifications;
+    Map<String, List<UiNotificationMessageDo>> notifications = new HashMap<>();
+    for (UiNotificationTopicLog topicLog : m_topicLogs.values()) {
+      List<UiNotificationMessageDo> messages = topicLog.getMessages();
+      if (!messages.isEmpty()) {
+        notifications.put(topicLog.getTopic(), messages);
+      }
+    }
+    return notifications;
+  }
+
+  protected UiNotificationTopicLog createTopicLog(String topic) {
+    return new UiNotificationTopicLog(topic, m_sequence);
   }
 
   public void startCleanupJob() {
-    if (m_cleanupJob != null || getCleanupJobInterval() == 0) {
-      // Already started
-      return;
+    synchronized (m_cleanupJobLock) {
+      if (m_cleanupJob != null || getCleanupJobInterval() == 0) {
+        // Already started
+        return;
+      }
+      LOG.info("Starting cleanup job");
+      m_cleanupJob = scheduleCleanupJob();
     }
-    LOG.info("Starting cleanup job");
-    m_cleanupJob = Jobs.schedule(() -> {
+  }
+
+  protected IFuture<Void> scheduleCleanupJob() {
+    return Jobs.schedule(() -> {
       BEANS.get(UiNotificationRegistry.class).cleanup();
 
-      m_lock.readLock().lock();
-      try {
-        if (getNotifications().isEmpty()) {
+      // Notifications put after this check will start a new job
+      synchronized (m_cleanupJobLock) {
+        if (m_topicLogs.isEmpty()) {
           m_cleanupJob.cancel(false);
           m_cleanupJob = null;
           LOG.info("Cleanup job stopped.");
         }
       }
-      finally {
-        m_lock.readLock().unlock();
-      }
     }, Jobs.newInput()
         .withName("UI Notification registry cleanup")
         .withExceptionHandling(new ExceptionHandler() {
@@ -443,30 +518,24 @@ public class UiNotificationRegistry {
    * @see UiNotificationMessageDo#getTimeout(), {@link UiNotificationDo#creationTime()}
    */
   public void cleanup() {
-    m_lock.writeLock().lock();
-    try {
-      if (getNotifications().isEmpty()) {
-        return;
-      }
-      LOG.debug("Cleaning up expired ui notifications. Topic count: {}.", getNotifications().size());
-
-      long now = new Date().getTime();
-      for (Entry<String, List<UiNotificationMessageDo>> entry : getNotifications().entrySet()) {
-        List<UiNotificationMessageDo> notifications = entry.getValue();
-        int oldSize = notifications.size();
-        if (notifications.removeIf(elem -> elem.getNotification().getCreationTime().getTime() + elem.getTimeout() < now)) {
-          int newSize = notifications.size();
-          LOG.info("Removed {} expired notifications for topic {}. New size: {}.", oldSize - newSize, entry.getKey(), newSize);
-        }
+    if (m_topicLogs.isEmpty()) {
+      return;
+    }
+    LOG.debug("Cleaning up expired ui notifications. Topic count: {}.", m_topicLogs.size());
+
+    long now = new Date().getTime();
+    for (UiNotificationTopicLog topicLog : m_topicLogs.values()) {
+      int removedCount = topicLog.removeIf(elem -> elem.getNotification().getCreationTime().getTime() + elem.getTimeout() < now);
+      if (removedCount > 0) {
+        LOG.info("Removed {} expired notifications for topic {}. New size: {}.", removedCount, topicLog.getTopic(), topicLog.size());
       }
 
       // Remove topic if there are no notifications left
-      getNotifications().entrySet().removeIf(entry -> entry.getValue().isEmpty());
-      LOG.debug("Clean up finished. New topic count: {}.", getNotifications().size());
-    }
-    finally {
-      m_lock.writeLock().unlock();
+      if (topicLog.isClosed()) {
+        m_topicLogs.remove(topicLog.getTopic(), topicLog);
+      }
     }
+    LOG.debug("Clean up finished. New topic count: {}.", m_topicLogs.size());
   }
 
   /**
@@ -498,4 +567,35 @@ public class UiNotificationRegistry {
   public String currentNodeId() {
     return Base64Utility.encode(SecurityUtility.hash(NodeId.current().toString().getBytes()));
   }
+
+  /**
+   * Position of a waiting request in a topic: the sequence number of the last notification already checked and the
+   * last known notifications grouped by node.
+   */
+  protected static class TopicCursor {
+    private final String m_topic;
+    private final long m_sequence;
+    private final Map<String, UiNotificationDo> m_lastKnownNotificationsByNode;
+
+    public TopicCursor(String topic, long sequence, Map<String, UiNotificationDo> lastKnownNotificationsByNode) {
+      m_topic = topic;
+      m_sequence = sequence;
+      m_lastKnownNotificationsByNode = lastKnownNotificationsByNode;
+    }
+
+    public String getTopic() {
+      return m_topic;
+    }
+
+    public long getSequence() {
+      return m_sequence;
+    }
+
+    /**
+     * @return the last known notifications grouped by node id or <code>null</code> if all notifications are requested.
+     */
+    public Map<String, UiNotificationDo> getLastKnownNotificationsByNode() {
+      return m_lastKnownNotificationsByNode;
+    }
+  }
 }
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.api.uinotification;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.eclipse.scout.rt.api.data.uinotification.UiNotificationDo;
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * Append-only log containing the {@link UiNotificationMessageDo}s of one topic.
+ * <p>
+ * Every message gets a sequence number when it is appended. The sequence numbers are drawn from a counter shared by all
+ * logs of a {@link UiNotificationRegistry}, hence they are increasing within a log and a sequence number read before a
+ * message was appended is always smaller than the one of that message.
+ * <p>
+ * Messages are additionally indexed by user, so reading the notifications of a user does not visit the user specific
+ * notifications of other users, and reading the notifications appended after a given sequence number uses a binary
+ * search instead of a scan.
+ * <p>
+ * Each log is guarded by its own lock so that topics do not block each other. Once all messages have been removed by
+ * {@link #removeIf(Predicate)}, the log is closed and does not accept new messages anymore. The registry then creates
+ * a new log for the topic.
+ */
+public class UiNotificationTopicLog {
+
+  private final String m_topic;
+  private final AtomicLong m_sequence;
+  private final ReadWriteLock m_lock = new ReentrantReadWriteLock();
+  private final List<Entry> m_entries = new ArrayList<>();
+  private final List<Entry> m_entriesWithoutUser = new ArrayList<>();
+  private final Map<String, List<Entry>> m_entriesByUser = new HashMap<>();
+  private boolean m_closed;
+
+  /**
+   * @param sequence
+   *     counter used to assign the sequence numbers
+   */
+  public UiNotificationTopicLog(String topic, AtomicLong sequence) {
+    m_topic = Assertions.assertNotNull(topic);
+    m_sequence = Assertions.assertNotNull(sequence);
+  }
+
+  public String getTopic() {
+    return m_topic;
+  }
+
+  /**
+   * Appends the message to the end of the log.
+   *
+   * @return <code>false</code> if the log is closed and the message was not appended
+   */
+  public boolean append(UiNotificationMessageDo message) {
+    return append(message, null);
+  }
+
+  /**
+   * Appends the message to the end of the log.
+   *
+   * @param beforeAppend
+   *     if not <code>null</code>, called with the message right before it is appended while holding the lock of the log.
+   *     Used to assign the creation time, so the order of the creation times matches the order of the sequence numbers.
+   * @return <code>false</code> if the log is closed and the message was not appended
+   */
+  public boolean append(UiNotificationMessageDo message, Consumer<UiNotificationMessageDo> beforeAppend) {
+    m_lock.writeLock().lock();
+    try {
+      if (m_closed) {
+        return false;
+      }
+      if (beforeAppend != null) {
+        beforeAppend.accept(message);
+      }
+      Entry entry = new Entry(m_sequence.incrementAndGet(), message);
+      m_entries.add(entry);
+      if (message.getUser() == null) {
+        m_entriesWithoutUser.add(entry);
+      }
+      else {
+        m_entriesByUser.computeIfAbsent(message.getUser(), k -> new ArrayList<>()).add(entry);
+      }
+      return true;
+    }
+    finally {
+      m_lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * @return the notifications visible to the given user which were appended after the given sequence number, in the
+   * order they were appended. Notifications without user are visible to everyone, notifications with a user only to
+   * this user.
+   */
+  public List<UiNotificationDo> getNotifications(String user, long afterSequence) {
+    m_lock.readLock().lock();
+    try {
+      List<Entry> common = m_entriesWithoutUser;
+      List<Entry> own = user == null ? Collections.emptyList() : m_entriesByUser.getOrDefault(user, Collections.emptyList());
+      int i = indexAfter(common, afterSequence);
+      int j = indexAfter(own, afterSequence);
+      List<UiNotificationDo> notifications = new ArrayList<>(common.size() - i + own.size() - j);
+      // merge both indexes by sequence number
+      while (i < common.size() || j < own.size()) {
+        Entry entry;
+        if (j >= own.size() || (i < common.size() && common.get(i).m_sequence < own.get(j).m_sequence)) {
+          entry = common.get(i++);
+        }
+        else {
+          entry = own.get(j++);
+        }
+        notifications.add(entry.m_message.getNotification());
+      }
+      return notifications;
+    }
+    finally {
+      m_lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * @return index of the first entry with a sequence number greater than the given one
+   */
+  protected static int indexAfter(List<Entry> entries, long sequence) {
+    int low = 0;
+    int high = entries.size();
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (entries.get(mid).m_sequence <= sequence) {
+        low = mid + 1;
+      }
+      else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * @return all messages of the log in the order they were appended
+   */
+  public List<UiNotificationMessageDo> getMessages() {
+    m_lock.readLock().lock();
+    try {
+      List<UiNotificationMessageDo> messages = new ArrayList<>(m_entries.size());
+      for (Entry entry : m_entries) {
+        messages.add(entry.m_message);
+      }
+      return messages;
+    }
+    finally {
+      m_lock.readLock().unlock();
+    }
+  }
+
+  public int size() {
+    m_lock.readLock().lock();
+    try {
+      return m_entries.size();
+    }
+    finally {
+      m_lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Removes the messages matching the given filter. If no messages are left, the log is closed.
+   *
+   * @return the number of removed messages
+   */
+  public int removeIf(Predicate<UiNotificationMessageDo> filter) {
+    m_lock.writeLock().lock();
+    try {
+      int oldSize = m_entries.size();
+      boolean removed = m_entries.removeIf(entry -> {
+        entry.m_removed = filter.test(entry.m_message);
+        return entry.m_removed;
+      });
+      if (!removed) {
+        return 0;
+      }
+      m_entriesWithoutUser.removeIf(entry -> entry.m_removed);
+      m_entriesByUser.values().removeIf(entries -> {
+        entries.removeIf(entry -> entry.m_removed);
+        return entries.isEmpty();
+      });
+      if (m_entries.isEmpty()) {
+        m_closed = true;
+      }
+      return oldSize - m_entries.size();
+    }
+    finally {
+      m_lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the log does not accept new messages anymore
+   */
+  public boolean isClosed() {
+    m_lock.readLock().lock();
+    try {
+      return m_closed;
+    }
+    finally {
+      m_lock.readLock().unlock();
+    }
+  }
+
+  protected static final class Entry {
+    private final long m_sequence;
+    private final UiNotificationMessageDo m_message;
+    private boolean m_removed;
+
+    Entry(long sequence, UiNotificationMessageDo message) {
+      m_sequence = sequence;
+      m_message = message;
+    }
+  }
+}
@@ -16,7 +16,9 @@ import static org.junit.Assert.*;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -425,6 +427,106 @@ public class UiNotificationRegistryTest {
     assertEquals(true, completed.getValue());
   }
 
+  @Test
+  public void testGetOrWaitNotificationForOtherUser() {
+    CompletableFuture<List<UiNotificationDo>> future = m_registry.getOrWait(Arrays.asList(createGetAllTopic("topic")), "otto");
+    assertEquals(1, m_registry.getListeners("topic").list().size());
+
+    // Notification for another user must not complete the future
+    m_registry.put("topic", "max", createMessage(), noTransaction());
+    assertFalse(future.isDone());
+    assertEquals(1, m_registry.getListeners("topic").list().size());
+
+    m_registry.put("topic", "otto", createMessage(), noTransaction());
+    assertTrue(future.isDone());
+    assertEquals(Arrays.asList(getNewestNotification("topic")), future.join());
+    assertNull(m_registry.getListeners("topic"));
+  }
+
+  @Test
+  public void testGetOrWaitWithLastNotification() {
+    m_registry.put("topic", createMessage("a"), noTransaction());
+    m_registry.put("topic", createMessage("b"), noTransaction());
+    UiNotificationDo lastNotification = getNewestNotification("topic");
+
+    CompletableFuture<List<UiNotificationDo>> future = m_registry.getOrWait(Arrays.asList(createTopic("topic", lastNotification)), null);
+    assertFalse(future.isDone());
+
+    // Only the notification put while waiting is returned
+    m_registry.put("topic", createMessage("c"), noTransaction());
+    assertTrue(future.isDone());
+    assertEquals(Arrays.asList(getNewestNotification("topic")), future.join());
+  }
+
+  @Test
+  public void testGetOrWaitManySubscribers() throws InterruptedException {
+    final int subscriberCount = 5000;
+    final int backlogCount = 1000;
+    for (int i = 0; i < backlogCount; i++) {
+      m_registry.put("topic", "user" + (i % subscriberCount), createMessage(), noTransaction());
+    }
+    UiNotificationDo lastNotification = getNewestNotification("topic");
+    TopicDo topic = createTopic("topic", lastNotification);
+    Thread.sleep(10);
+    List<CompletableFuture<List<UiNotificationDo>>> futures = new ArrayList<>();
+    for (int i = 0; i < subscriberCount; i++) {
+      futures.add(m_registry.getOrWait(Arrays.asList(topic), "user" + i));
+    }
+    assertEquals(subscriberCount, m_registry.getListeners("topic").list().size());
+
+    // User specific notifications only complete the subscription of that user
+    long start = System.nanoTime();
+    for (int i = 0; i < 100; i++) {
+      m_registry.put("topic", "user" + i, createMessage(), noTransaction());
+    }
+    long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    assertEquals(subscriberCount - 100, m_registry.getListeners("topic").list().size());
+    for (int i = 0; i < 100; i++) {
+      assertEquals(1, futures.get(i).join().size());
+    }
+    assertTrue("Putting 100 notifications for " + subscriberCount + " subscribers took " + durationMillis + "ms", durationMillis < 5000);
+
+    // A notification for every user completes all remaining subscriptions
+    m_registry.put("topic", createMessage(), noTransaction());
+    assertNull(m_registry.getListeners("topic"));
+    assertEquals(Arrays.asList(getNewestNotification("topic")), futures.get(subscriberCount - 1).join());
+  }
+
+  @Test
+  public void testConcurrentPut() throws InterruptedException {
+    final int threadCount = 8;
+    final int putCount = 500;
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < threadCount; i++) {
+      threads.add(new Thread(() -> {
+        for (int j = 0; j < putCount; j++) {
+          m_registry.put("topic", createMessage(), noTransaction());
+        }
+      }));
+    }
+
+    // Polls like a client: the last received notification is sent as last known notification of the next request
+    Set<String> receivedIds = new HashSet<>();
+    UiNotificationDo lastNotification = createInitialNotification("topic");
+    threads.forEach(Thread::start);
+    boolean running = true;
+    while (running) {
+      running = threads.stream().anyMatch(Thread::isAlive);
+      List<UiNotificationDo> notifications = m_registry.get(Arrays.asList(createTopic("topic", lastNotification)), null);
+      for (UiNotificationDo notification : notifications) {
+        assertTrue("Notification " + notification.getId() + " received twice", receivedIds.add(notification.getId()));
+        assertTrue(notification.getCreationTime().after(lastNotification.getCreationTime()));
+        lastNotification = notification;
+      }
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    // No notification was skipped
+    assertEquals(threadCount * putCount, receivedIds.size());
+  }
+
   @Test
   public void testCleanup() throws InterruptedException {
     assertTrue(m_registry.getNotifications().isEmpty());
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.api.uinotification;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.scout.rt.api.data.uinotification.UiNotificationDo;
+import org.junit.Before;
+import org.junit.Test;
+
+public class UiNotificationTopicLogTest {
+  private AtomicLong m_sequence;
+  private UiNotificationTopicLog m_log;
+
+  @Before
+  public void before() {
+    m_sequence = new AtomicLong();
+    m_log = new UiNotificationTopicLog("topic", m_sequence);
+  }
+
+  @Test
+  public void testGetNotifications() {
+    UiNotificationMessageDo message1 = append("1", null);
+    UiNotificationMessageDo message2 = append("2", "otto");
+    UiNotificationMessageDo message3 = append("3", "max");
+    UiNotificationMessageDo message4 = append("4", null);
+    UiNotificationMessageDo message5 = append("5", "otto");
+
+    assertEquals(5, m_log.size());
+    assertEquals(Arrays.asList(message1, message2, message3, message4, message5), m_log.getMessages());
+    assertEquals(notifications(message1, message4), m_log.getNotifications(null, 0));
+    assertEquals(notifications(message1, message2, message4, message5), m_log.getNotifications("otto", 0));
+    assertEquals(notifications(message1, message3, message4), m_log.getNotifications("max", 0));
+    assertEquals(notifications(message1, message4), m_log.getNotifications("moritz", 0));
+  }
+
+  @Test
+  public void testGetNotificationsAfterSequence() {
+    append("1", null);
+    append("2", "otto");
+    long sequence = m_sequence.get();
+    UiNotificationMessageDo message3 = append("3", "otto");
+    UiNotificationMessageDo message4 = append("4", null);
+
+    assertEquals(notifications(message3, message4), m_log.getNotifications("otto", sequence));
+    assertEquals(notifications(message4), m_log.getNotifications(null, sequence));
+    assertEquals(new ArrayList<>(), m_log.getNotifications("otto", m_sequence.get()));
+  }
+
+  @Test
+  public void testRemoveIf() {
+    UiNotificationMessageDo message1 = append("1", null);
+    UiNotificationMessageDo message2 = append("2", "otto");
+    UiNotificationMessageDo message3 = append("3", "otto");
+
+    assertEquals(0, m_log.removeIf(message -> false));
+    assertEquals(1, m_log.removeIf(message -> message == message2));
+    assertEquals(Arrays.asList(message1, message3), m_log.getMessages());
+    assertEquals(notifications(message1, message3), m_log.getNotifications("otto", 0));
+    assertFalse(m_log.isClosed());
+
+    // Empty log is closed and does not accept new messages
+    assertEquals(2, m_log.removeIf(message -> true));
+    assertTrue(m_log.isClosed());
+    assertFalse(m_log.append(createMessage("4", null)));
+    assertEquals(0, m_log.size());
+  }
+
+  protected UiNotificationMessageDo append(String id, String user) {
+    UiNotificationMessageDo message = createMessage(id, user);
+    assertTrue(m_log.append(message));
+    return message;
+  }
+
+  protected UiNotificationMessageDo createMessage(String id, String user) {
+    return new UiNotificationMessageDo()
+        .withNotification(new UiNotificationDo().withId(id).withTopic("topic"))
+        .withUser(user);
+  }
+
+  protected List<UiNotificationDo> notifications(UiNotificationMessageDo... messages) {
+    List<UiNotificationDo> notifications = new ArrayList<>();
+    for (UiNotificationMessageDo message : messages) {
+      notifications.add(message.getNotification());
+    }
+    return notifications;
+  }
+}